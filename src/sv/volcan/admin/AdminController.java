@@ -9,12 +9,14 @@ import sv.volcan.core.AAACertified;
 import sv.volcan.core.VolcanLogger;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * RESPONSIBILITY: Administrative Data Bridge (Control Plane).
  * WHY: We need peripheral servers (HTTP/WebSocket) to read unformatted telemetry data without ever touching or blocking the Kernel.
- * TECHNIQUE: Maintains the latest state snapshot "pre-baked" by the AdminConsumer in an AtomicReference. Separates String formatting logic from the Main Kernel.
+ * TECHNIQUE: Maintains, per kernel, the latest state snapshot "pre-baked" by the AdminConsumer in an AtomicReference. Separates String formatting logic from the Main Kernel.
  * GUARANTEES: Non-blocking reads. Single writer principle. Zero-Garbage JSON construction via pre-allocated StringBuilder.
  * 
  * <p>Metrics: Non-blocking reads
@@ -35,35 +37,38 @@ public final class AdminController {
     private static final byte[] DEFAULT_SNAPSHOT = "{\"status\":\"waiting_for_kernel\"}"
             .getBytes(StandardCharsets.UTF_8);
 
-    // Atomic reference for thread-safe reading
-    private static final AtomicReference<byte[]> latestSnapshot = new AtomicReference<>(DEFAULT_SNAPSHOT);
+    // One snapshot per kernel: hosted worlds never overwrite each other's state
+    private static final Map<sv.volcan.kernel.EngineKernel, AtomicReference<byte[]>> latestSnapshots = new ConcurrentHashMap<>();
 
-    // Zero-GC Hot-Path variables
-    private static Thread adminConsumerThread = null;
+    // One AdminConsumer per kernel: every world of a multi-world JVM has its own admin bus
+    private static final Map<sv.volcan.kernel.EngineKernel, Thread> adminConsumers = new ConcurrentHashMap<>();
 
     private AdminController() {
     } // Utility Class
 
     /**
-     * Gets the latest snapshot of raw bytes.
-     * Trivial cost operation (reference read).
+     * Gets the latest snapshot of raw bytes of one kernel.
+     * Trivial cost operation (map lookup + reference read).
      *
+     * @param kernel World whose snapshot is requested
      * @return byte[] ready to write to socket
      */
-    public static byte[] getLatestSnapshot() {
-        return latestSnapshot.get();
+    public static byte[] getLatestSnapshot(sv.volcan.kernel.EngineKernel kernel) {
+        AtomicReference<byte[]> snapshot = latestSnapshots.get(kernel);
+        return snapshot != null ? snapshot.get() : DEFAULT_SNAPSHOT;
     }
 
     /**
-     * Updates the snapshot with new pre-formatted data.
-     * Called only by AdminConsumer (Single writer principle recommended,
+     * Updates the snapshot of one kernel with new pre-formatted data.
+     * Called only by that kernel's AdminConsumer (Single writer principle recommended,
      * although AtomicReference supports concurrency).
      *
+     * @param kernel        World the snapshot belongs to
      * @param snapshotBytes JSON already converted to bytes
      */
-    public static void updateSnapshot(byte[] snapshotBytes) {
+    public static void updateSnapshot(sv.volcan.kernel.EngineKernel kernel, byte[] snapshotBytes) {
         if (snapshotBytes != null) {
-            latestSnapshot.set(snapshotBytes);
+            latestSnapshots.computeIfAbsent(kernel, k -> new AtomicReference<>(DEFAULT_SNAPSHOT)).set(snapshotBytes);
         }
     }
 
@@ -77,18 +82,33 @@ public final class AdminController {
         try {
             VolcanLogger.info("Admin", "Iniciando plano de control (Metricas)");
             // Start AdminConsumer (Zero-Garbage Translator for Metrics Logging)
-            adminConsumerThread = new Thread(() -> runAdminLoop(kernel), "AdminConsumer");
+            String name = kernel.ownsProcess() ? "AdminConsumer" : "AdminConsumer-" + kernel.getWorldId();
+            Thread adminConsumerThread = new Thread(() -> runAdminLoop(kernel), name);
             adminConsumerThread.setDaemon(true);
-            adminConsumerThread.start();
+            if (adminConsumers.putIfAbsent(kernel, adminConsumerThread) == null) {
+                adminConsumerThread.start();
+            }
         } catch (Exception e) {
             VolcanLogger.error("Admin", "Failed to start Control Plane: " + e.getMessage());
         }
     }
 
     /**
-     * Stops the admin consumer cleanly.
+     * Stops every admin consumer cleanly and drops every snapshot.
      */
     public static void stopControlPlane() {
+        for (sv.volcan.kernel.EngineKernel kernel : adminConsumers.keySet()) {
+            stopControlPlane(kernel);
+        }
+        latestSnapshots.clear();
+    }
+
+    /**
+     * Stops the admin consumer of one kernel and drops its snapshot; the other worlds keep theirs.
+     */
+    public static void stopControlPlane(sv.volcan.kernel.EngineKernel kernel) {
+        latestSnapshots.remove(kernel);
+        Thread adminConsumerThread = adminConsumers.remove(kernel);
         if (adminConsumerThread != null) {
             try {
                 // Wait for the Poison Pill to finish processing
@@ -96,7 +116,6 @@ public final class AdminController {
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
             }
-            adminConsumerThread = null;
         }
     }
 
@@ -106,6 +125,8 @@ public final class AdminController {
      */
     private static void runAdminLoop(sv.volcan.kernel.EngineKernel kernel) {
         var adminBus = kernel.getAdminMetricsBus();
+        // Off the kernel's core and L3 when a placement policy is configured
+        sv.volcan.kernel.CpuPlacement.pinSelf(sv.volcan.kernel.CpuPlacement.fromConfig().housekeepingCore());
 
         while (true) {
             try {
@@ -125,6 +146,31 @@ public final class AdminController {
                         // Note: VolcanLogger should eventually become completely Zero-GC too.
                         VolcanLogger.info("METRICS", String.format("Frame: %d | Time: %dus | FPS: %d (Target: %d) | Headroom: %.2fms", 
                                         frameCount, timeMicros, actualFps, targetFps, headroomNs / 1_000_000.0));
+                    } else if (metricType == sv.volcan.kernel.MetricsPacker.TYPE_SYSTEM_PROFILE) {
+                        int index = sv.volcan.kernel.MetricsPacker.unpackProfileIndex(metric);
+                        var profiler = kernel.getSystemRegistry().getProfiler();
+                        String name = profiler != null ? profiler.getSystemName(index) : "#" + index;
+                        VolcanLogger.info("PROFILE", String.format("System: %s | p50: %dus | p99: %dus | Queue wait p99: %dus",
+                                        name,
+                                        sv.volcan.kernel.MetricsPacker.unpackSystemP50Micros(metric),
+                                        sv.volcan.kernel.MetricsPacker.unpackSystemP99Micros(metric),
+                                        sv.volcan.kernel.MetricsPacker.unpackSystemWaitP99Micros(metric)));
+                    } else if (metricType == sv.volcan.kernel.MetricsPacker.TYPE_WORKER_PROFILE) {
+                        int slot = sv.volcan.kernel.MetricsPacker.unpackProfileIndex(metric);
+                        VolcanLogger.info("PROFILE", String.format("Worker: %s | Utilisation: %.1f%% | Busy: %dus",
+                                        slot == 0 ? "kernel" : String.valueOf(slot - 1),
+                                        sv.volcan.kernel.MetricsPacker.unpackWorkerUtilPermille(metric) / 10.0,
+                                        sv.volcan.kernel.MetricsPacker.unpackWorkerBusyMicros(metric)));
+                    } else if (metricType == sv.volcan.kernel.MetricsPacker.TYPE_DEFERRED_WORK) {
+                        int index = sv.volcan.kernel.MetricsPacker.unpackProfileIndex(metric);
+                        VolcanLogger.warning("BUDGET", String.format("Cursor: %s | Deferred items: %d | Passes deferred: %d",
+                                        kernel.getFrameBudget().getCursorName(index),
+                                        sv.volcan.kernel.MetricsPacker.unpackDeferredItems(metric),
+                                        sv.volcan.kernel.MetricsPacker.unpackFramesDeferred(metric)));
+                    } else if (metricType == sv.volcan.kernel.MetricsPacker.TYPE_STATE_HASH) {
+                        VolcanLogger.info("STATE", String.format("Frame: %d (mod 65536) | Hash: %011x",
+                                        sv.volcan.kernel.MetricsPacker.unpackStateHashFrame(metric),
+                                        sv.volcan.kernel.MetricsPacker.unpackStateHashBits(metric)));
                     } else {
                         // Not a frame stat, possibly a packed command ID
                         int commandId = sv.volcan.bus.VolcanSignalPacker.unpackCommandId(metric);
@@ -133,8 +179,11 @@ public final class AdminController {
                         } else if (commandId == sv.volcan.bus.VolcanSignalCommands.SYS_ENGINE_ROLLBACK) {
                             VolcanLogger.info("KERNEL", "Rollback / Time Travel Executed");
                         } else if (commandId == sv.volcan.bus.VolcanSignalCommands.SYS_TERMINATE_LOG_SIGNAL) {
-                            VolcanLogger.info("Admin", "Poison Pill Received. Terminating logger.");
-                            VolcanLogger.flushAndClose();
+                            // The logger is process-wide: only the kernel that owns the JVM closes it
+                            if (kernel.ownsProcess()) {
+                                VolcanLogger.info("Admin", "Poison Pill Received. Terminating logger.");
+                                VolcanLogger.flushAndClose();
+                            }
                             break;
                         }
                     }
@@ -0,0 +1,91 @@
+package sv.volcan.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import sv.volcan.bus.VolcanEventDispatcher;
+import sv.volcan.bus.VolcanSignalCommands;
+import sv.volcan.bus.VolcanSignalPacker;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.EngineKernel;
+import sv.volcan.memory.SectorMemoryVault;
+import sv.volcan.state.VolcanStateLayout;
+import sv.volcan.state.WorldStateFrame;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of EngineKernel.rollbackTo: restore the snapshot {@code frames} back and resimulate
+ * every frame to the present with the journaled inputs. The system steers 128 particles
+ * {@code iterations} times per step, so one step costs a real simulation step rather than
+ * bookkeeping. Target: 8 frames within a 16 ms frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+public class RollbackBenchmark {
+
+    private static final float DT = 1f / 60f;
+    private static final int PARTICLES = 128;
+    private static final long PARTICLE_BASE = 2048; // Slots 512+: unused by VolcanStateLayout
+
+    @Param({"1", "8", "30"})
+    public int frames;
+
+    @Param({"400"})
+    public int iterations;
+
+    private VolcanEventDispatcher bus;
+    private EngineKernel kernel;
+    private long target;
+
+    private static final class ParticleSystem implements GameSystem {
+        private final int iterations;
+
+        ParticleSystem(int iterations) {
+            this.iterations = iterations;
+        }
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            float pull = state.readInt(VolcanStateLayout.INPUT_LAST_SIGNAL) * 0.01f;
+            float targetX = state.readInt(VolcanStateLayout.INPUT_MOUSE_X);
+            for (int it = 0; it < iterations; it++) {
+                for (int p = 0; p < PARTICLES; p++) {
+                    long base = PARTICLE_BASE + p * 16L;
+                    float x = state.readFloat(base);
+                    float v = state.readFloat(base + 4);
+                    v += ((targetX - x) * 0.001f + pull - v * 0.01f) * deltaTime;
+                    state.writeFloat(base, x + v * deltaTime);
+                    state.writeFloat(base + 4, v);
+                }
+            }
+        }
+
+        @Override public String getName() { return "Particles"; }
+    }
+
+    @Setup
+    public void setup() {
+        bus = VolcanEventDispatcher.createDefault(10);
+        kernel = EngineKernel.createBatchKernel(bus, new SectorMemoryVault(16));
+        kernel.getSystemRegistry().registerGameSystem(new ParticleSystem(iterations));
+        for (int f = 0; f < 200; f++) {
+            if (f % 7 == 0) bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_KEY_DOWN, f % 13));
+            if (f % 11 == 0) bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_MOUSE_MOVE, (f * 3) << 16 | f));
+            kernel.step(DT);
+        }
+        target = kernel.getHistoryFrameCount() - frames;
+    }
+
+    @TearDown
+    public void tearDown() {
+        kernel.closeBatch();
+    }
+
+    @Benchmark
+    public int rollbackTo() {
+        return kernel.rollbackTo(target);
+    }
+}
@@ -0,0 +1,141 @@
+package sv.volcan.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import sv.volcan.core.SectorIntMap;
+import sv.volcan.core.SectorLongMap;
+import sv.volcan.core.SectorMap;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup cost of the primitive off-heap maps (SectorLongMap / SectorIntMap, SIMD group
+ * probing) against SectorMap (Object[] values) and HashMap<Long, Long> (boxed keys and values).
+ * Each invocation looks up every key once, in random order; half the probes of the miss
+ * benchmarks ask for absent keys. Sizes go from L1-resident to well past L2.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+public class SectorMapBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    public int entries;
+
+    private long[] keys;
+    private long[] mixed; // Half present, half absent
+    private long[] longOut;
+    private int[] intOut;
+
+    private SectorLongMap longMap;
+    private SectorIntMap intMap;
+    private SectorMap<Long> sectorMap;
+    private HashMap<Long, Long> hashMap;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        keys = new long[entries];
+        mixed = new long[entries];
+        longOut = new long[entries];
+        intOut = new int[entries];
+
+        longMap = new SectorLongMap(entries);
+        intMap = new SectorIntMap(entries);
+        sectorMap = new SectorMap<>(entries * 2);
+        hashMap = new HashMap<>(entries * 2);
+        for (int i = 0; i < entries; i++) {
+            long key = random.nextLong() & Long.MAX_VALUE;
+            keys[i] = key;
+            longMap.put(key, i);
+            intMap.put(key, i);
+            sectorMap.putIfAbsent(key, (long) i);
+            hashMap.put(key, (long) i);
+            mixed[i] = (i & 1) == 0 ? key : key ^ Long.MIN_VALUE; // Negative keys are never inserted
+        }
+        // Random probe order (no help from the prefetcher)
+        for (int i = entries - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long t = keys[i]; keys[i] = keys[j]; keys[j] = t;
+            t = mixed[i]; mixed[i] = mixed[j]; mixed[j] = t;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        longMap.close();
+        intMap.close();
+    }
+
+    @Benchmark
+    public long sectorLongMapGet() {
+        long sum = 0;
+        for (long key : keys) sum += longMap.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long sectorIntMapGet() {
+        long sum = 0;
+        for (long key : keys) sum += intMap.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public void sectorLongMapGetAll(Blackhole bh) {
+        longMap.getAll(keys, longOut, entries, SectorLongMap.NO_VALUE);
+        bh.consume(longOut);
+    }
+
+    @Benchmark
+    public void sectorIntMapGetAll(Blackhole bh) {
+        intMap.getAll(keys, intOut, entries, SectorIntMap.NO_VALUE);
+        bh.consume(intOut);
+    }
+
+    @Benchmark
+    public long sectorMapGet() {
+        long sum = 0;
+        for (long key : keys) sum += sectorMap.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long hashMapGet() {
+        long sum = 0;
+        for (long key : keys) sum += hashMap.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long sectorLongMapMixed() {
+        long sum = 0;
+        for (long key : mixed) sum += longMap.get(key);
+        return sum;
+    }
+
+    @Benchmark
+    public long sectorMapMixed() {
+        long sum = 0;
+        for (long key : mixed) {
+            Long value = sectorMap.get(key);
+            if (value != null) sum += value;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long hashMapMixed() {
+        long sum = 0;
+        for (long key : mixed) {
+            Long value = hashMap.get(key);
+            if (value != null) sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,107 @@
+package sv.volcan.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.ForkJoinSystemExecutor;
+import sv.volcan.kernel.ParallelSystemExecutor;
+import sv.volcan.kernel.SystemDependencyGraph;
+import sv.volcan.kernel.VolcanTaskDispatcher;
+import sv.volcan.kernel.VolcanTaskGraph;
+import sv.volcan.state.WorldStateFrame;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frame time of the three parallel executors over the same layered graph:
+ * ParallelSystemExecutor (spin barrier per layer), ForkJoinSystemExecutor (layers chained by
+ * CountedCompleter completion) and VolcanTaskDispatcher (per-node DAG).
+ * 4 layers, each system depends on its twin in the previous layer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+public class SystemExecutorBenchmark {
+
+    private static final int LAYERS = 4;
+
+    @Param({"4", "16", "64", "256"})
+    public int systems;
+
+    // Simulated work per system (ns): 0 measures pure scheduling overhead
+    @Param({"0", "2000"})
+    public long workNs;
+
+    private ParallelSystemExecutor layerExecutor;
+    private ForkJoinSystemExecutor forkJoinExecutor;
+    private VolcanTaskDispatcher dagDispatcher;
+
+    private static final class SpinSystem implements GameSystem {
+        private final String name;
+        private final String[] deps;
+        private final long busyNs;
+
+        SpinSystem(String name, long busyNs, String... deps) {
+            this.name = name;
+            this.busyNs = busyNs;
+            this.deps = deps;
+        }
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            long end = System.nanoTime() + busyNs;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        }
+
+        @Override public String getName() { return name; }
+        @Override public String[] getDependencies() { return deps; }
+    }
+
+    @Setup
+    public void setup() {
+        SystemDependencyGraph graph = new SystemDependencyGraph();
+        int width = systems / LAYERS;
+        for (int layer = 0; layer < LAYERS; layer++) {
+            for (int i = 0; i < width; i++) {
+                String name = "S" + layer + "_" + i;
+                SpinSystem system = layer == 0
+                        ? new SpinSystem(name, workNs)
+                        : new SpinSystem(name, workNs, "S" + (layer - 1) + "_" + i);
+                graph.addSystem(system, system.getDependencies());
+            }
+        }
+        graph.validate();
+
+        layerExecutor = new ParallelSystemExecutor(graph.getExecutionLayers());
+        forkJoinExecutor = new ForkJoinSystemExecutor(graph.getExecutionLayers());
+        VolcanTaskGraph taskGraph = new VolcanTaskGraph();
+        taskGraph.compile(graph);
+        dagDispatcher = new VolcanTaskDispatcher(taskGraph);
+    }
+
+    @Benchmark
+    public void layerBarrier() {
+        layerExecutor.execute(null, 1f / 60f);
+    }
+
+    @Benchmark
+    public void forkJoinCompleter() {
+        forkJoinExecutor.execute(null, 1f / 60f);
+    }
+
+    @Benchmark
+    public void dagDispatcher() {
+        dagDispatcher.execute(null, 1f / 60f);
+    }
+
+    @TearDown
+    public void teardown() {
+        layerExecutor.shutdown();
+        forkJoinExecutor.shutdown();
+        dagDispatcher.shutdown();
+    }
+}
@@ -118,6 +118,9 @@ public final class VolcanSignalCommands {
     /** Terminate logging asynchronously (Poison Pill). */
     public static final int SYS_TERMINATE_LOG_SIGNAL = 0x3104;
 
+    /** Dump the kernel trace rings as Chrome trace-event JSON (payload: 0). */
+    public static final int SYS_TRACE_DUMP = 0x3105;
+
     // -------------------------------------------------------------------------
     // Audio Commands (0x4000 - 0x4FFF)
     // -------------------------------------------------------------------------
@@ -201,10 +204,10 @@ public final class VolcanSignalCommands {
     /** Align memory to 4KB page boundary (payload: pointer ID). */
     public static final int MEMORY_ALIGN_PAGE_4KB = 0x8010;
 
-    /** Align memory to 2MB huge-page boundary (payload: pointer ID). */
+    /** Align memory to 2MB huge-page boundary (payload: pointer ID). Served at allocation by HugePageArena (volcan.memory.huge.pages). */
     public static final int MEMORY_ALIGN_PAGE_2MB = 0x8011;
 
-    /** Enable hardware prefetching for buffer (payload: buffer ID). */
+    /** Enable hardware prefetching for buffer (payload: buffer ID). Page pre-fault at allocation: volcan.memory.prefault. */
     public static final int MEMORY_PREFETCH_ENABLE = 0x8020;
 
     /** Disable hardware prefetching for buffer (payload: buffer ID). */
@@ -92,6 +92,30 @@ public final class VolcanEngineConfig {
     public static final int KERNEL_THREAD_CORE;
     public static final String KERNEL_ENGINE_MODE;
     public static final int KERNEL_DEBUG_FPS_LOCK;
+    public static final boolean KERNEL_PROFILING_ENABLED;
+    public static final boolean KERNEL_TRACE_ENABLED;
+    public static final int KERNEL_TRACE_RING_EVENTS;
+    public static final double KERNEL_TRACE_SPIKE_MS;
+    public static final String KERNEL_TRACE_DIR;
+    public static final int KERNEL_WORKER_SPIN_US;
+    public static final int KERNEL_WORKER_YIELD_US;
+    public static final boolean KERNEL_WORKER_ADAPTIVE;
+    public static final int KERNEL_WORKER_ADAPTIVE_WINDOW;
+    public static final int KERNEL_WORKER_ADAPTIVE_MIN;
+    public static final String KERNEL_PLACEMENT_POLICY;
+    public static final int KERNEL_PLACEMENT_HOUSEKEEPING_CORE;
+    public static final long KERNEL_FRAME_BUDGET_MS;
+    public static final long KERNEL_SYSTEM_SLICE_MS;
+    public static final int KERNEL_FIXED_STEP_HZ;
+    public static final int KERNEL_FIXED_STEP_MAX_SUBSTEPS;
+    public static final int KERNEL_DETERMINISTIC_RANGE;
+    public static final boolean KERNEL_ACCESS_TRACKING;
+    public static final boolean KERNEL_ALLOC_AUDIT;
+    public static final long KERNEL_ALLOC_BUDGET_BYTES;
+    public static final int KERNEL_ALLOC_WARMUP_FRAMES;
+    public static final int KERNEL_STATE_HASH_INTERVAL;
+    public static final boolean KERNEL_STATE_DOUBLE_BUFFER;
+    public static final int KERNEL_HISTORY_DELTA_PERCENT;
 
     // ==========================================================================
     // MEMORY CONFIGURATION
@@ -99,6 +123,10 @@ public final class VolcanEngineConfig {
 
     public static final long MEMORY_VAULT_SIZE;
     public static final int MEMORY_ALIGNMENT;
+    public static final boolean MEMORY_DIRTY_TRACKING;
+    public static final int MEMORY_DIRTY_GRANULARITY;
+    public static final boolean MEMORY_HUGE_PAGES;
+    public static final boolean MEMORY_PREFAULT;
 
     // ==========================================================================
     // PERFORMANCE CONFIGURATION
@@ -171,12 +199,76 @@ public final class VolcanEngineConfig {
         KERNEL_THREAD_CORE = Integer.parseInt(props.getProperty("volcan.kernel.thread.core", "1"));
         KERNEL_ENGINE_MODE = props.getProperty("volcan.kernel.engine.mode", "GAMING_CVT");
         KERNEL_DEBUG_FPS_LOCK = Integer.parseInt(props.getProperty("volcan.kernel.debug.fps.lock", "60"));
+        KERNEL_PROFILING_ENABLED = Boolean.parseBoolean(props.getProperty("volcan.kernel.profiling.enabled", "true"));
+        // Trace recorder: -D overrides the profile file so a capture can be taken without editing config
+        KERNEL_TRACE_ENABLED = Boolean.parseBoolean(System.getProperty("volcan.kernel.trace.enabled",
+                props.getProperty("volcan.kernel.trace.enabled", "false")));
+        KERNEL_TRACE_RING_EVENTS = Integer.parseInt(props.getProperty("volcan.kernel.trace.ring.events", "16384"));
+        KERNEL_TRACE_SPIKE_MS = Double.parseDouble(System.getProperty("volcan.kernel.trace.spike.ms",
+                props.getProperty("volcan.kernel.trace.spike.ms", "0")));
+        KERNEL_TRACE_DIR = System.getProperty("volcan.kernel.trace.dir",
+                props.getProperty("volcan.kernel.trace.dir", "traces"));
+        // DAG worker idle policy (-1 = default of the engine mode)
+        KERNEL_WORKER_SPIN_US = Integer.parseInt(props.getProperty("volcan.kernel.worker.spin.us", "-1"));
+        KERNEL_WORKER_YIELD_US = Integer.parseInt(props.getProperty("volcan.kernel.worker.yield.us", "-1"));
+        // Adaptive worker count (see WorkerScaler): frames per measurement window, floor of active workers
+        KERNEL_WORKER_ADAPTIVE = Boolean.parseBoolean(System.getProperty("volcan.kernel.worker.adaptive",
+                props.getProperty("volcan.kernel.worker.adaptive", "false")));
+        KERNEL_WORKER_ADAPTIVE_WINDOW = Integer.parseInt(props.getProperty("volcan.kernel.worker.adaptive.window", "120"));
+        KERNEL_WORKER_ADAPTIVE_MIN = Integer.parseInt(props.getProperty("volcan.kernel.worker.adaptive.min", "1"));
+        // Worker / housekeeping thread placement (NONE | COMPACT | SPREAD), see CpuPlacement
+        KERNEL_PLACEMENT_POLICY = System.getProperty("volcan.kernel.placement.policy",
+                props.getProperty("volcan.kernel.placement.policy", "NONE"));
+        KERNEL_PLACEMENT_HOUSEKEEPING_CORE = Integer.parseInt(props.getProperty("volcan.kernel.placement.housekeeping.core", "-1"));
+        // Frame-budget watchdog (see FrameBudget): absolute deadline per frame, default slice per cursor
+        KERNEL_FRAME_BUDGET_MS = Long.parseLong(props.getProperty("volcan.kernel.frame.budget.ms", "15"));
+        KERNEL_SYSTEM_SLICE_MS = Long.parseLong(props.getProperty("volcan.kernel.system.slice.ms", "12"));
+        // Fixed-step simulation (0 = off: systems get the pacing lane's deltaTime), see TimeKeeper
+        KERNEL_FIXED_STEP_HZ = Integer.parseInt(System.getProperty("volcan.kernel.fixed.step.hz",
+                props.getProperty("volcan.kernel.fixed.step.hz", "0")));
+        KERNEL_FIXED_STEP_MAX_SUBSTEPS = Integer.parseInt(System.getProperty("volcan.kernel.fixed.step.max.substeps",
+                props.getProperty("volcan.kernel.fixed.step.max.substeps", "5")));
+        // Deterministic mode: entities per range of a PartitionedSystem (fixed, never derived from the core count)
+        KERNEL_DETERMINISTIC_RANGE = Integer.parseInt(props.getProperty("volcan.kernel.deterministic.range", "4096"));
+        // Debug write tracker (see StateAccessTracker): -D so a lockstep desync can be chased without a rebuild
+        KERNEL_ACCESS_TRACKING = Boolean.parseBoolean(System.getProperty("volcan.kernel.access.tracking",
+                props.getProperty("volcan.kernel.access.tracking", "false")));
+        // Allocation audit (see AllocationAuditor): bytes each phase / DAG node may allocate per frame,
+        // frames ignored while the JIT has not yet compiled (and escape-analysed) the hot path
+        KERNEL_ALLOC_AUDIT = Boolean.parseBoolean(System.getProperty("volcan.kernel.alloc.audit",
+                props.getProperty("volcan.kernel.alloc.audit", "false")));
+        KERNEL_ALLOC_BUDGET_BYTES = Long.parseLong(props.getProperty("volcan.kernel.alloc.budget.bytes", "0"));
+        KERNEL_ALLOC_WARMUP_FRAMES = Integer.parseInt(System.getProperty("volcan.kernel.alloc.warmup.frames",
+                props.getProperty("volcan.kernel.alloc.warmup.frames", "10000")));
+        // Frame hash (see StateDigest) published on the admin bus every N frames for lockstep desync
+        // checks; 0 = off. -D so peers can be compared without a rebuild
+        KERNEL_STATE_HASH_INTERVAL = Integer.parseInt(System.getProperty("volcan.kernel.state.hash.interval",
+                props.getProperty("volcan.kernel.state.hash.interval", "0")));
+        // Systems read the previous tick and write the next one (see WorldStateFrame.publish), so
+        // read-after-write dependencies between systems can be dropped from the DAG
+        KERNEL_STATE_DOUBLE_BUFFER = Boolean.parseBoolean(System.getProperty("volcan.kernel.state.double.buffer",
+                props.getProperty("volcan.kernel.state.double.buffer", "false")));
+        // Rollback history ring: average delta per frame it is sized for, in percent of the frame
+        // (see VolcanTimeControlUnit.historyBytes); 100 = room for a full copy per frame
+        KERNEL_HISTORY_DELTA_PERCENT = Integer.parseInt(System.getProperty("volcan.kernel.history.delta.percent",
+                props.getProperty("volcan.kernel.history.delta.percent", "25")));
 
     // ==========================================================================
         // MEMORY
     // ==========================================================================
         MEMORY_VAULT_SIZE = Long.parseLong(props.getProperty("volcan.memory.vault.size", "1048576"));
         MEMORY_ALIGNMENT = Integer.parseInt(props.getProperty("volcan.memory.alignment", "64"));
+        // Dirty-region write barrier (see DirtyRegionTracker): incremental snapshots / rollback capture.
+        // Granularity in bytes, power of two: 64 = cache line, 4096 = page
+        MEMORY_DIRTY_TRACKING = Boolean.parseBoolean(System.getProperty("volcan.memory.dirty.tracking",
+                props.getProperty("volcan.memory.dirty.tracking", "false")));
+        MEMORY_DIRTY_GRANULARITY = Integer.parseInt(props.getProperty("volcan.memory.dirty.granularity", "64"));
+        // Opt-in: big arenas (vault, SoA columns, rollback history) on 2 MB-aligned huge pages (see HugePageArena),
+        // optionally pre-faulted at allocation so the first frames take no page faults
+        MEMORY_HUGE_PAGES = Boolean.parseBoolean(System.getProperty("volcan.memory.huge.pages",
+                props.getProperty("volcan.memory.huge.pages", "false")));
+        MEMORY_PREFAULT = Boolean.parseBoolean(System.getProperty("volcan.memory.prefault",
+                props.getProperty("volcan.memory.prefault", "false")));
 
     // ==========================================================================
         // PERFORMANCE
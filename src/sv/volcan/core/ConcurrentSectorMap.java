@@ -0,0 +1,445 @@
+// Reading Order: 11011100
+//  220
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * RESPONSIBILITY: Concurrent primitive hash map (long -> Object) whose reads never lock.
+ * WHY: SectorMap serialises every write behind one StampedLock and sends readers to the read
+ * lock whenever a write overlaps them. VolcanSectorManager is called from many DAG workers at
+ * once, so a single sector creation stalls every lookup.
+ * TECHNIQUE: Linear probing over primitive long[] keys, like SectorMap.
+ * - Insert: claims an EMPTY slot with a CAS on the key, then publishes the value. Concurrent
+ *   inserts never lock each other out.
+ * - Remove: backward shift, no tombstones left behind. It runs exclusively against inserts and
+ *   writes one slot word per step: the hole is a REMOVED slot (skipped, but not the end of a
+ *   probe) until the shift ends, and a moved entry is copied before its old slot is cleared, so
+ *   every state between two steps answers every probe correctly. The removal sequence is bumped
+ *   after each step.
+ * - Read: no lock, no shared write. Acquire loads, validated against the removal sequence; a probe
+ *   that spanned a step is re-run (only because the remover made progress). Inserts and resizes
+ *   never invalidate a read.
+ * - Resize: the table doubles cooperatively. Starting it takes a short exclusive section; then
+ *   every insert migrates one chunk of {@value #TRANSFER_CHUNK} slots. A migrated entry is
+ *   copied to the new table before its old value becomes MOVED, so readers follow it there.
+ * GUARANTEES: Zero allocation outside resizes. get() takes no lock and never waits for a
+ * writer: a remover descheduled mid-shift leaves a state readers answer from in one probe.
+ * Writers still serialise (inserts against removals). Keys are unique at all times.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 200,
+    minThroughput = 5_000_000,
+    alignment     = 0,
+    lockFree      = false,
+    offHeap       = false,
+    notes         = "CAS-claimed linear probing, lock-free validated reads, stepwise backward-shift remove, cooperative incremental resize."
+)
+public final class ConcurrentSectorMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final float LOAD_FACTOR = 0.7f;
+    private static final long EMPTY_KEY = Long.MIN_VALUE; // Empty sentinel (reserved, as in SectorMap)
+    private static final int TRANSFER_CHUNK = 64;
+
+    // Value of an old-table slot whose entry now lives in the next table
+    private static final Object MOVED = new Object();
+
+    // Value of the hole a backward shift is filling: probes skip it and go on
+    private static final Object REMOVED = new Object();
+
+    private static final VarHandle KEYS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle TABLE;
+    private static final VarHandle REMOVE_SEQ;
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            TABLE = lookup.findVarHandle(ConcurrentSectorMap.class, "table", Table.class);
+            REMOVE_SEQ = lookup.findVarHandle(ConcurrentSectorMap.class, "removeSeq", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** One generation of the table. Old generations keep {@code next} for late readers. */
+    private static final class Table {
+        final long[] keys;
+        final Object[] values;
+        final int mask;
+        final int threshold;
+        volatile Table next;
+        final AtomicInteger transferIndex = new AtomicInteger(); // Next chunk to claim
+        final AtomicInteger transferred = new AtomicInteger();   // Slots migrated
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+            Arrays.fill(keys, EMPTY_KEY);
+        }
+    }
+
+    private volatile Table table;
+    private volatile long removeSeq; // Bumped after every slot write of a removal
+    private final AtomicInteger size = new AtomicInteger();
+
+    // Writers only: inserts share it, removals and resize starts take it exclusively
+    private final StampedLock writers = new StampedLock();
+
+    // Runs after every step of a removal (tests park a remover mid-shift here); null otherwise
+    private Runnable shiftObserver;
+
+    public ConcurrentSectorMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentSectorMap(int initialCapacity) {
+        this.table = new Table(tableSizeFor(Math.max(initialCapacity, 2)));
+    }
+
+    // ========================================================================================================================================================
+    // READ OPERATIONS (Lock-Free)
+    // ========================================================================================================================================================
+
+    /**
+     * Retrieves the value associated with a primitive key (Hot-Path).
+     *
+     * MECHANICS:
+     * - Reads the removal sequence, probes (following MOVED entries and EMPTY ends into the
+     *   next table while a resize runs), re-reads the sequence.
+     * - Same sequence: the probe saw at most one step of a removal, and every state between
+     *   steps is consistent, so its answer stands (also while a remover is parked mid-shift).
+     * - Changed sequence: the probe may have mixed two steps; probes again.
+     *
+     * @param key Primitive key (long)
+     * @return Associated value or null if it doesn't exist
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == EMPTY_KEY) {
+            return null;
+        }
+        while (true) {
+            long seq = (long) REMOVE_SEQ.getAcquire(this);
+            Object value = find(table, key);
+            VarHandle.loadLoadFence();
+            if ((long) REMOVE_SEQ.getAcquire(this) == seq) {
+                return (V) value;
+            }
+            // The remover completed a step during the probe: probe again
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    // Probes t and its successors. Null if absent (or not yet published).
+    private static Object find(Table t, long key) {
+        while (t != null) {
+            long[] keys = t.keys;
+            int mask = t.mask;
+            int index = hash(key) & mask;
+            Table next = null;
+            for (int attempts = 0; attempts <= mask; attempts++) {
+                long currentKey = (long) KEYS.getAcquire(keys, index);
+                if (currentKey == key) {
+                    Object value = VALUES.getAcquire(t.values, index);
+                    if (value == MOVED) {
+                        next = t.next; // Migrated: only the next table has it now
+                        break;
+                    }
+                    if (value != REMOVED) {
+                        return value;
+                    }
+                    // Removed, or a copy a shift has not filled in yet: the key may sit further on
+                }
+                if (currentKey == EMPTY_KEY) {
+                    next = t.next; // Inserted after the resize started, if at all
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+            t = next;
+        }
+        return null;
+    }
+
+    // ========================================================================================================================================================
+    // WRITE OPERATIONS
+    // ========================================================================================================================================================
+
+    /**
+     * Atomically inserts a value if the key does not exist.
+     *
+     * MECHANICS:
+     * - Shared writer section: any number of inserts run together, claiming slots by CAS.
+     * - While a resize runs, migrates one chunk first, then inserts into the new table (after
+     *   checking the old one still holding the key).
+     *
+     * @param key   Primitive key
+     * @param value Value to insert (Not null)
+     * @return The existing value if there was a conflict, or null if successfully inserted
+     */
+    @SuppressWarnings("unchecked")
+    public V putIfAbsent(long key, V value) {
+        if (key == EMPTY_KEY)
+            throw new IllegalArgumentException("Invalid Key: Reserved Sentinel");
+        if (value == null)
+            throw new IllegalArgumentException("Value cannot be null");
+
+        Table target;
+        long stamp = writers.readLock();
+        try {
+            Table t = table;
+            if (t.next != null) {
+                transferChunk(t);
+                t = table;
+            }
+            target = t;
+            Table next = t.next;
+            if (next != null) {
+                Object existing = find(t, key);
+                if (existing != null) {
+                    return (V) existing;
+                }
+                target = next;
+            }
+            Object existing = insert(target, key, value);
+            if (existing != null) {
+                return (V) existing;
+            }
+        } finally {
+            writers.unlockRead(stamp);
+        }
+
+        if (size.incrementAndGet() >= target.threshold && target.next == null) {
+            startResize(target);
+        }
+        return null;
+    }
+
+    /**
+     * Atomically removes an entry from the map.
+     *
+     * TECHNIQUE:
+     * - Exclusive writer section: finishes a pending resize, then backward-shift removal as in
+     *   SectorMap, one slot word per step (see removeAndShift).
+     *
+     * @param key Key to remove
+     * @return The removed value, or null if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == EMPTY_KEY) {
+            return null;
+        }
+        long stamp = writers.writeLock();
+        try {
+            Table t = table;
+            while (t.next != null) {
+                while (transferChunk(t)) {
+                    // Nobody else is migrating: finish alone
+                }
+                t = table;
+            }
+
+            long[] keys = t.keys;
+            int mask = t.mask;
+            int index = hash(key) & mask;
+            for (int attempts = 0; attempts <= mask; attempts++) {
+                long currentKey = keys[index];
+                if (currentKey == key) {
+                    Object value = t.values[index];
+                    removeAndShift(t, index);
+                    size.decrementAndGet();
+                    return (V) value;
+                }
+                if (currentKey == EMPTY_KEY) {
+                    return null;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        } finally {
+            writers.unlockWrite(stamp);
+        }
+    }
+
+    // ========================================================================================================================================================
+    // INTERNAL MECHANICS (Private Implementation Details)
+    // ========================================================================================================================================================
+
+    // CAS insert into t. Existing value on conflict, null on success.
+    private static Object insert(Table t, long key, Object value) {
+        long[] keys = t.keys;
+        int mask = t.mask;
+        int index = hash(key) & mask;
+        while (true) {
+            long currentKey = (long) KEYS.getAcquire(keys, index);
+            if (currentKey == key) {
+                Object existing;
+                while ((existing = VALUES.getAcquire(t.values, index)) == null) {
+                    Thread.onSpinWait(); // The winner is publishing its value
+                }
+                return existing;
+            }
+            if (currentKey == EMPTY_KEY) {
+                if (KEYS.compareAndSet(keys, index, EMPTY_KEY, key)) {
+                    VALUES.setRelease(t.values, index, value);
+                    return null;
+                }
+                continue; // Lost the slot: look at who took it
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Backward shift (SectorMap.removeAndShift), one release store per step, each followed by a
+     * sequence bump. Between two steps the table stays consistent for readers:
+     * - The removed slot turns REMOVED first (the key is gone, the cluster is not cut).
+     * - A moved entry takes the hole's key (still REMOVED), then its value, and only then is
+     *   its old slot marked REMOVED: for a while it is in both slots.
+     * - The last hole becomes EMPTY only when no entry after it needs to move.
+     */
+    private void removeAndShift(Table t, int slotToRemove) {
+        long[] keys = t.keys;
+        Object[] values = t.values;
+        int mask = t.mask;
+        int hole = slotToRemove;
+
+        VALUES.setRelease(values, hole, REMOVED);
+        shiftStep();
+
+        int next = (hole + 1) & mask;
+        while (keys[next] != EMPTY_KEY) {
+            long keyToShift = keys[next];
+            int idealSlot = hash(keyToShift) & mask;
+            if (isInBetween(idealSlot, hole, next)) {
+                KEYS.setRelease(keys, hole, keyToShift);
+                shiftStep();
+                VALUES.setRelease(values, hole, values[next]);
+                shiftStep();
+                VALUES.setRelease(values, next, REMOVED);
+                shiftStep();
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+
+        KEYS.setRelease(keys, hole, EMPTY_KEY);
+        shiftStep();
+        VALUES.setRelease(values, hole, null); // Inserts expect null behind an EMPTY key
+        shiftStep();
+    }
+
+    // Publishes one removal step to readers (inside the exclusive writer section)
+    private void shiftStep() {
+        REMOVE_SEQ.setRelease(this, removeSeq + 1);
+        Runnable observer = shiftObserver;
+        if (observer != null) observer.run();
+    }
+
+    // Circular range validation
+    private static boolean isInBetween(int start, int hole, int end) {
+        if (start <= end) {
+            return start <= hole && hole < end;
+        } else {
+            return hole >= start || hole < end;
+        }
+    }
+
+    /**
+     * Publishes the doubled table. Exclusive so no insert is still probing the old one; the
+     * copy itself is left to the inserts that follow.
+     */
+    private void startResize(Table t) {
+        long stamp = writers.writeLock();
+        try {
+            if (table == t && t.next == null && size.get() >= t.threshold) {
+                t.next = new Table((t.mask + 1) << 1);
+            }
+        } finally {
+            writers.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Migrates one unclaimed chunk of t into t.next; the thread finishing the last chunk
+     * retires t. Runs inside a writer section (shared or exclusive).
+     *
+     * @return False if every chunk was already claimed.
+     */
+    private boolean transferChunk(Table t) {
+        int capacity = t.mask + 1;
+        int start = t.transferIndex.getAndAdd(TRANSFER_CHUNK);
+        if (start >= capacity) {
+            return false;
+        }
+        Table next = t.next;
+        int end = Math.min(start + TRANSFER_CHUNK, capacity);
+        for (int i = start; i < end; i++) {
+            long key = t.keys[i];
+            if (key != EMPTY_KEY) {
+                insert(next, key, t.values[i]);
+                VALUES.setRelease(t.values, i, MOVED); // After the copy: readers follow it
+            }
+        }
+        if (t.transferred.addAndGet(end - start) == capacity) {
+            TABLE.compareAndSet(this, t, next);
+        }
+        return true;
+    }
+
+    // ========================================================================================================================================================
+    // MATH & HASHING (Avalanche Optimization)
+    // ========================================================================================================================================================
+
+    // MurmurHash3 finalizer (same mixer as SectorMap)
+    private static int hash(long key) {
+        key ^= (key >>> 33);
+        key *= 0xff51afd7ed558ccdL;
+        key ^= (key >>> 33);
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= (key >>> 33);
+        return (int) key;
+    }
+
+    private static int tableSizeFor(int cap) {
+        int n = cap - 1;
+        n |= n >>> 1;
+        n |= n >>> 2;
+        n |= n >>> 4;
+        n |= n >>> 8;
+        n |= n >>> 16;
+        return (n < 0) ? 1 : (n >= 1 << 30) ? 1 << 30 : n + 1;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /** Slots of the current table (grows while a resize is being completed). */
+    public int capacity() {
+        return table.mask + 1;
+    }
+
+    /** True while entries are being migrated to a bigger table. */
+    public boolean isResizing() {
+        return table.next != null;
+    }
+}
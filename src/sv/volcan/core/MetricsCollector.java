@@ -64,6 +64,12 @@ public class MetricsCollector {
         // Memoria JVM (Zero-Allocation Track)
         public long jvmTotalMemoryMb = 0;
         public long jvmFreeMemoryMb = 0;
+
+        // Per-kernel collection state: several worlds in one JVM each own a FrameMetrics,
+        // so neither the 1 Hz throttle nor the I/O scratch buffer can be shared.
+        public int worldId = 0;
+        long lastCollectMs = 0;
+        final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(1024);
         
         // Se elimina toString() para evitar String.format (Genera Garbage Collection)
     }
@@ -71,8 +77,7 @@ public class MetricsCollector {
     // =========================================================================
     // TELEMETRY I/O (ZERO-ALLOCATION)
     // =========================================================================
-    private static FileChannel telemetryChannel;
-    private static final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(1024);
+    private static FileChannel telemetryChannel; // Shared: APPEND writes of one line each
     
     static {
         try {
@@ -137,9 +142,15 @@ public class MetricsCollector {
     private static void flushToDisk(FrameMetrics metrics) {
         if (telemetryChannel == null) return;
         
+        ByteBuffer writeBuffer = metrics.writeBuffer;
         writeBuffer.clear();
         
         // Fast manual byte appending para evitar String.valueOf()
+        if (metrics.worldId != 0) {
+            appendAscii(writeBuffer, "World[");
+            appendNumber(writeBuffer, metrics.worldId);
+            appendAscii(writeBuffer, "] ");
+        }
         appendAscii(writeBuffer, "Frame[");
         appendNumber(writeBuffer, metrics.frameNumber);
         appendAscii(writeBuffer, "] JVM Mem (MB): ");
@@ -194,7 +205,11 @@ public class MetricsCollector {
 
     /**
      * Checks if metrics should be collected (limited to 1 time per second for Unbounded FPS).
+     *
+     * @deprecated Process-wide throttle: with several kernels in one JVM only one of them would
+     * collect each second. Use {@link #shouldCollectMetrics(FrameMetrics)}.
      */
+    @Deprecated
     public static boolean shouldCollectMetrics(long frameNumber) {
         long now = System.currentTimeMillis();
         if (now - lastMetricsTime >= 1000) {
@@ -203,4 +218,16 @@ public class MetricsCollector {
         }
         return false;
     }
+
+    /**
+     * Per-kernel variant: 1 collection per second for the kernel owning {@code metrics}.
+     */
+    public static boolean shouldCollectMetrics(FrameMetrics metrics) {
+        long now = System.currentTimeMillis();
+        if (now - metrics.lastCollectMs >= 1000) {
+            metrics.lastCollectMs = now;
+            return true;
+        }
+        return false;
+    }
 }
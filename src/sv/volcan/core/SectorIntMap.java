@@ -0,0 +1,111 @@
+// Reading Order: 11100000
+//  224
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.core;
+
+import java.lang.foreign.ValueLayout;
+
+/**
+ * RESPONSIBILITY: Primitive hash map long -> int, off-heap (SectorMap specialisation).
+ * WHY: Entity id -> slot style lookups: 64-bit ids, 32-bit dense indices, no object per value.
+ * TECHNIQUE: SectorPrimitiveTable groups with 4-byte values: [4 keys | 4 values | 16 B
+ * padding] = 64 bytes, so a hit never touches a second line. Bulk getAll/putAll as in
+ * SectorLongMap.
+ * GUARANTEES: Zero allocation outside resizes. Not thread-safe: one owner.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 50,
+    minThroughput = 20_000_000,
+    alignment     = 64,
+    lockFree      = false,
+    offHeap       = true,
+    notes         = "long -> int off-heap map, SIMD group probing, bulk get/put."
+)
+public final class SectorIntMap extends SectorPrimitiveTable {
+
+    /** Returned by get/put/remove when the key has no value (values of -1 are still storable). */
+    public static final int NO_VALUE = -1;
+
+    public SectorIntMap() {
+        this(1024);
+    }
+
+    /** @param expectedEntries Entries the map holds without resizing. */
+    public SectorIntMap(int expectedEntries) {
+        super(expectedEntries, Integer.BYTES);
+    }
+
+    /** @return The value of {@code key}, or {@link #NO_VALUE}. */
+    public int get(long key) {
+        return getOrDefault(key, NO_VALUE);
+    }
+
+    public int getOrDefault(long key, int defaultValue) {
+        if (key == EMPTY_KEY) {
+            return defaultValue;
+        }
+        int slot = find(key);
+        return slot >= 0 ? table.get(ValueLayout.JAVA_INT, valueOffset(slot)) : defaultValue;
+    }
+
+    /** @return The previous value, or {@link #NO_VALUE} if the key was absent. */
+    public int put(long key, int value) {
+        int slot = findOrInsert(key);
+        if (slot < 0) {
+            table.set(ValueLayout.JAVA_INT, valueOffset(-slot - 1), value);
+            return NO_VALUE;
+        }
+        long offset = valueOffset(slot);
+        int previous = table.get(ValueLayout.JAVA_INT, offset);
+        table.set(ValueLayout.JAVA_INT, offset, value);
+        return previous;
+    }
+
+    /** @return The existing value (map unchanged), or {@link #NO_VALUE} if inserted. */
+    public int putIfAbsent(long key, int value) {
+        int slot = findOrInsert(key);
+        if (slot < 0) {
+            table.set(ValueLayout.JAVA_INT, valueOffset(-slot - 1), value);
+            return NO_VALUE;
+        }
+        return table.get(ValueLayout.JAVA_INT, valueOffset(slot));
+    }
+
+    /** @return The removed value, or {@link #NO_VALUE} if the key was absent. */
+    public int remove(long key) {
+        if (key == EMPTY_KEY) {
+            return NO_VALUE;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return NO_VALUE;
+        }
+        int value = table.get(ValueLayout.JAVA_INT, valueOffset(slot));
+        removeSlot(slot);
+        return value;
+    }
+
+    // ========================================================================================================================================================
+    // BULK OPERATIONS
+    // ========================================================================================================================================================
+
+    /** values[i] = getOrDefault(keys[i], defaultValue) for i in [0, count). */
+    public void getAll(long[] keys, int[] values, int count, int defaultValue) {
+        for (int i = 0; i < count; i++) {
+            values[i] = getOrDefault(keys[i], defaultValue);
+        }
+    }
+
+    /** put(keys[i], values[i]) for i in [0, count); sized once up front, never mid-batch. */
+    public void putAll(long[] keys, int[] values, int count) {
+        ensureCapacity(size() + count);
+        for (int i = 0; i < count; i++) {
+            put(keys[i], values[i]);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+// Reading Order: 11011111
+//  223
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.core;
+
+import java.lang.foreign.ValueLayout;
+
+/**
+ * RESPONSIBILITY: Primitive hash map long -> long, off-heap (SectorMap specialisation).
+ * WHY: Sector key -> sector index style lookups need no object per value: the value lives in
+ * the key's cache line, with no pointer chase, cast or boxing.
+ * TECHNIQUE: SectorPrimitiveTable groups with 8-byte values: [4 keys | 4 values] = 64 bytes,
+ * probed one group per 256-bit compare. Bulk getAll/putAll run whole batches in one call.
+ * GUARANTEES: Zero allocation outside resizes. Not thread-safe: one owner.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 50,
+    minThroughput = 20_000_000,
+    alignment     = 64,
+    lockFree      = false,
+    offHeap       = true,
+    notes         = "long -> long off-heap map, SIMD group probing, bulk get/put."
+)
+public final class SectorLongMap extends SectorPrimitiveTable {
+
+    /** Returned by get/put/remove when the key has no value (values of -1 are still storable). */
+    public static final long NO_VALUE = -1L;
+
+    public SectorLongMap() {
+        this(1024);
+    }
+
+    /** @param expectedEntries Entries the map holds without resizing. */
+    public SectorLongMap(int expectedEntries) {
+        super(expectedEntries, Long.BYTES);
+    }
+
+    /** @return The value of {@code key}, or {@link #NO_VALUE}. */
+    public long get(long key) {
+        return getOrDefault(key, NO_VALUE);
+    }
+
+    public long getOrDefault(long key, long defaultValue) {
+        if (key == EMPTY_KEY) {
+            return defaultValue;
+        }
+        int slot = find(key);
+        return slot >= 0 ? table.get(ValueLayout.JAVA_LONG, valueOffset(slot)) : defaultValue;
+    }
+
+    /** @return The previous value, or {@link #NO_VALUE} if the key was absent. */
+    public long put(long key, long value) {
+        int slot = findOrInsert(key);
+        if (slot < 0) {
+            table.set(ValueLayout.JAVA_LONG, valueOffset(-slot - 1), value);
+            return NO_VALUE;
+        }
+        long offset = valueOffset(slot);
+        long previous = table.get(ValueLayout.JAVA_LONG, offset);
+        table.set(ValueLayout.JAVA_LONG, offset, value);
+        return previous;
+    }
+
+    /** @return The existing value (map unchanged), or {@link #NO_VALUE} if inserted. */
+    public long putIfAbsent(long key, long value) {
+        int slot = findOrInsert(key);
+        if (slot < 0) {
+            table.set(ValueLayout.JAVA_LONG, valueOffset(-slot - 1), value);
+            return NO_VALUE;
+        }
+        return table.get(ValueLayout.JAVA_LONG, valueOffset(slot));
+    }
+
+    /** @return The removed value, or {@link #NO_VALUE} if the key was absent. */
+    public long remove(long key) {
+        if (key == EMPTY_KEY) {
+            return NO_VALUE;
+        }
+        int slot = find(key);
+        if (slot < 0) {
+            return NO_VALUE;
+        }
+        long value = table.get(ValueLayout.JAVA_LONG, valueOffset(slot));
+        removeSlot(slot);
+        return value;
+    }
+
+    // ========================================================================================================================================================
+    // BULK OPERATIONS
+    // ========================================================================================================================================================
+
+    /**
+     * values[i] = getOrDefault(keys[i], defaultValue) for i in [0, count). The probes are
+     * independent, so the CPU overlaps their cache misses.
+     */
+    public void getAll(long[] keys, long[] values, int count, long defaultValue) {
+        for (int i = 0; i < count; i++) {
+            values[i] = getOrDefault(keys[i], defaultValue);
+        }
+    }
+
+    /** put(keys[i], values[i]) for i in [0, count); sized once up front, never mid-batch. */
+    public void putAll(long[] keys, long[] values, int count) {
+        ensureCapacity(size() + count);
+        for (int i = 0; i < count; i++) {
+            put(keys[i], values[i]);
+        }
+    }
+}
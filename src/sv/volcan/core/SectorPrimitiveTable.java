@@ -0,0 +1,271 @@
+// Reading Order: 11011110
+//  222
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.core;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/**
+ * RESPONSIBILITY: Off-heap open-addressing table shared by SectorLongMap and SectorIntMap:
+ * layout, SIMD group probing, backward-shift removal and resize. Values are the subclass's.
+ * WHY: SectorMap keeps values in an Object[], so every hit is a second, unrelated cache miss
+ * plus a cast. Primitive values can sit next to their keys.
+ * TECHNIQUE: The table is a sequence of 64-byte groups, one cache line each:
+ * [key0..key3 (32 B) | value0..value3 (4 x valueBytes) | padding]. A key's home is the first
+ * slot of group hash(key) & groupMask; probing is linear over slots, one group per step, and
+ * one 256-bit compare tests the four keys of a group at once (an EMPTY lane ends the search).
+ * Keys are stored XOR Long.MIN_VALUE, so zeroed memory is an empty table and the reserved
+ * sentinel stays Long.MIN_VALUE, as in SectorMap.
+ * GUARANTEES: One cache line per lookup at normal load; zero allocation outside resizes.
+ * Not thread-safe: one owner (use ConcurrentSectorMap for shared maps).
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 50,
+    minThroughput = 20_000_000,
+    alignment     = 64,
+    lockFree      = false,
+    offHeap       = true,
+    notes         = "Off-heap key/value groups (one cache line), 256-bit group probing."
+)
+abstract class SectorPrimitiveTable implements AutoCloseable {
+
+    static final long EMPTY_KEY = Long.MIN_VALUE; // Reserved sentinel
+    static final int GROUP_SLOTS = 4;
+    static final long GROUP_BYTES = 64;
+    static final long VALUES_OFFSET = 32;
+    private static final float LOAD_FACTOR = 0.7f;
+
+    private static final VectorSpecies<Long> GROUP = LongVector.SPECIES_256;
+    private static final ByteOrder ORDER = ByteOrder.nativeOrder();
+
+    /** True if groups are probed with one vector compare (256-bit vectors available). */
+    public static final boolean VECTORIZED = LongVector.SPECIES_PREFERRED.vectorBitSize() >= 256;
+
+    final int valueBytes;
+    MemorySegment table;
+    private Arena arena;
+    private int groupMask;
+    private int size;
+    private int threshold;
+
+    SectorPrimitiveTable(int expectedEntries, int valueBytes) {
+        this.valueBytes = valueBytes;
+        int groups = tableSizeFor((int) Math.min(1 << 28, (long) (Math.max(expectedEntries, 1) / LOAD_FACTOR) / GROUP_SLOTS + 1));
+        allocate(Math.max(groups, 2));
+    }
+
+    private void allocate(int groups) {
+        this.arena = Arena.ofShared(); // Created on one thread, used by the owning system's worker
+        this.table = arena.allocate(groups * GROUP_BYTES, GROUP_BYTES); // Zeroed: all EMPTY
+        this.groupMask = groups - 1;
+        this.threshold = (int) (groups * GROUP_SLOTS * LOAD_FACTOR);
+    }
+
+    // ========================================================================================================================================================
+    // SLOTS (slot = group * 4 + lane)
+    // ========================================================================================================================================================
+
+    static long keyOffset(int slot) {
+        return (slot >>> 2) * GROUP_BYTES + (slot & 3) * 8L;
+    }
+
+    final long valueOffset(int slot) {
+        return (slot >>> 2) * GROUP_BYTES + VALUES_OFFSET + (long) (slot & 3) * valueBytes;
+    }
+
+    /**
+     * Slot holding {@code key}, or -1.
+     *
+     * MECHANICS: Compares the four keys of each group against the key and against EMPTY (0);
+     * a match ends the search, an EMPTY lane proves absence (backward shift leaves no hole
+     * between a key's home and its slot).
+     */
+    final int find(long key) {
+        long stored = key ^ EMPTY_KEY;
+        int group = hash(key) & groupMask;
+        for (int probes = 0; probes <= groupMask; probes++) {
+            long base = group * GROUP_BYTES;
+            if (VECTORIZED) {
+                LongVector keys = LongVector.fromMemorySegment(GROUP, table, base, ORDER);
+                int lane = keys.eq(stored).firstTrue();
+                if (lane < GROUP_SLOTS) {
+                    return (group << 2) | lane;
+                }
+                if (keys.eq(0L).anyTrue()) {
+                    return -1;
+                }
+            } else {
+                for (int lane = 0; lane < GROUP_SLOTS; lane++) {
+                    long current = table.get(ValueLayout.JAVA_LONG, base + lane * 8L);
+                    if (current == stored) {
+                        return (group << 2) | lane;
+                    }
+                    if (current == 0) {
+                        return -1;
+                    }
+                }
+            }
+            group = (group + 1) & groupMask;
+        }
+        return -1;
+    }
+
+    /**
+     * Slot holding {@code key}, inserting it if absent.
+     *
+     * @return The slot if the key was present, -(slot + 1) if it was just inserted (value unset).
+     */
+    final int findOrInsert(long key) {
+        if (key == EMPTY_KEY) {
+            throw new IllegalArgumentException("Invalid Key: Reserved Sentinel");
+        }
+        int slot = find(key);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size >= threshold) {
+            resize();
+        }
+        slot = freeSlot(key);
+        table.set(ValueLayout.JAVA_LONG, keyOffset(slot), key ^ EMPTY_KEY);
+        size++;
+        return -(slot + 1);
+    }
+
+    /** Grows (before any insert) until {@code entries} fit under the load factor. */
+    final void ensureCapacity(int entries) {
+        while (entries > threshold) {
+            resize();
+        }
+    }
+
+    // First EMPTY slot of key's probe sequence (key known absent)
+    private int freeSlot(long key) {
+        int slotMask = (groupMask << 2) | 3;
+        int slot = (hash(key) & groupMask) << 2;
+        while (table.get(ValueLayout.JAVA_LONG, keyOffset(slot)) != 0) {
+            slot = (slot + 1) & slotMask;
+        }
+        return slot;
+    }
+
+    /**
+     * Empties {@code slot} and closes the gap (Backward Shift Removal, as SectorMap): later
+     * entries of the cluster move back, keys and values together.
+     */
+    final void removeSlot(int slot) {
+        int slotMask = (groupMask << 2) | 3;
+        int curr = slot;
+        table.set(ValueLayout.JAVA_LONG, keyOffset(curr), 0L);
+
+        int next = (curr + 1) & slotMask;
+        long stored;
+        while ((stored = table.get(ValueLayout.JAVA_LONG, keyOffset(next))) != 0) {
+            int idealSlot = (hash(stored ^ EMPTY_KEY) & groupMask) << 2;
+            if (isInBetween(idealSlot, curr, next)) {
+                table.set(ValueLayout.JAVA_LONG, keyOffset(curr), stored);
+                MemorySegment.copy(table, valueOffset(next), table, valueOffset(curr), valueBytes);
+                table.set(ValueLayout.JAVA_LONG, keyOffset(next), 0L);
+                curr = next;
+            }
+            next = (next + 1) & slotMask;
+        }
+        size--;
+    }
+
+    // Circular range validation
+    private static boolean isInBetween(int start, int hole, int end) {
+        if (start <= end) {
+            return start <= hole && hole < end;
+        } else {
+            return hole >= start || hole < end;
+        }
+    }
+
+    /**
+     * Doubles the table (Stop-The-World, like SectorMap): every entry is rehashed into a new
+     * segment and the old arena is released.
+     */
+    private void resize() {
+        MemorySegment oldTable = table;
+        Arena oldArena = arena;
+        int oldSlots = (groupMask + 1) << 2;
+        allocate((groupMask + 1) << 1);
+
+        for (int slot = 0; slot < oldSlots; slot++) {
+            long stored = oldTable.get(ValueLayout.JAVA_LONG, keyOffset(slot));
+            if (stored != 0) {
+                int target = freeSlot(stored ^ EMPTY_KEY);
+                table.set(ValueLayout.JAVA_LONG, keyOffset(target), stored);
+                MemorySegment.copy(oldTable, valueOffset(slot), table, valueOffset(target), valueBytes);
+            }
+        }
+        oldArena.close();
+    }
+
+    // ========================================================================================================================================================
+    // MATH & HASHING (Avalanche Optimization)
+    // ========================================================================================================================================================
+
+    // MurmurHash3 finalizer (same mixer as SectorMap)
+    static int hash(long key) {
+        key ^= (key >>> 33);
+        key *= 0xff51afd7ed558ccdL;
+        key ^= (key >>> 33);
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= (key >>> 33);
+        return (int) key;
+    }
+
+    private static int tableSizeFor(int cap) {
+        int n = cap - 1;
+        n |= n >>> 1;
+        n |= n >>> 2;
+        n |= n >>> 4;
+        n |= n >>> 8;
+        n |= n >>> 16;
+        return (n < 0) ? 1 : (n >= 1 << 30) ? 1 << 30 : n + 1;
+    }
+
+    // ========================================================================================================================================================
+    // LIFECYCLE
+    // ========================================================================================================================================================
+
+    public final boolean containsKey(long key) {
+        return key != EMPTY_KEY && find(key) >= 0;
+    }
+
+    public final int size() {
+        return size;
+    }
+
+    /** Slots of the table (entries it can hold before the next resize: 70%). */
+    public final int capacity() {
+        return (groupMask + 1) << 2;
+    }
+
+    /** Removes every entry (keeps the memory). */
+    public final void clear() {
+        table.fill((byte) 0);
+        size = 0;
+    }
+
+    /** Releases the off-heap table. */
+    @Override
+    public final void close() {
+        if (arena.scope().isAlive()) {
+            arena.close();
+        }
+    }
+}
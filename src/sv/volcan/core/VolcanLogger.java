@@ -5,9 +5,15 @@
 package sv.volcan.core;
 
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Unified Telemetry Framework (AAA+ Logger).
@@ -23,7 +29,9 @@ public final class VolcanLogger {
     private static final String METRICS_FILE = LOG_DIR + File.separator + "volcanengine_metrics.log";
     private static final String ERRORS_FILE = LOG_DIR + File.separator + "volcanengine_errors.log";
     
-    private static PrintWriter metricsWriter;
+    private static FileOutputStream metricsOut;   // Log lines: encoded bytes, one write per line
+    private static FileOutputStream errorsOut;
+    private static PrintWriter metricsWriter;      // Banners and stack traces (same files)
     private static PrintWriter errorsWriter;
     private static int errorCount = 0;
 
@@ -34,8 +42,10 @@ public final class VolcanLogger {
                 dir.mkdirs();
             }
             // Overwrite mode for clean runs
-            metricsWriter = new PrintWriter(new FileWriter(METRICS_FILE, false), true);
-            errorsWriter = new PrintWriter(new FileWriter(ERRORS_FILE, false), true);
+            metricsOut = new FileOutputStream(METRICS_FILE, false);
+            errorsOut = new FileOutputStream(ERRORS_FILE, false);
+            metricsWriter = new PrintWriter(new OutputStreamWriter(metricsOut, StandardCharsets.UTF_8), true);
+            errorsWriter = new PrintWriter(new OutputStreamWriter(errorsOut, StandardCharsets.UTF_8), true);
             
             metricsWriter.println("========================================================");
             metricsWriter.println(" VOLCAN ENGINE METRICS SUBSYSTEM INITIALIZED");
@@ -49,46 +59,97 @@ public final class VolcanLogger {
         }
     }
 
-    private static final ThreadLocal<StringBuilder> threadLocalBuilder = ThreadLocal.withInitial(() -> new StringBuilder(128));
+    private static final String LINE_SEPARATOR = System.lineSeparator();
 
-    private static String formatMessage(String level, String component, String message) {
-        StringBuilder sb = threadLocalBuilder.get();
+    /**
+     * Per-thread line assembly, reused across lines: the builder, the char[] it is copied into and
+     * a UTF-8 encoder into a byte[] of 3 bytes per char (never overflows).
+     * WHY not PrintWriter: its encoder wraps every write in a new CharBuffer.
+     */
+    private static final class LineBuffer {
+        final StringBuilder builder = new StringBuilder(128);
+        final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        char[] chars;
+        CharBuffer charView;
+        byte[] bytes;
+        ByteBuffer byteView;
+
+        LineBuffer() {
+            grow(256);
+        }
+
+        void grow(int length) {
+            chars = new char[length];
+            charView = CharBuffer.wrap(chars);
+            bytes = new byte[length * 3];
+            byteView = ByteBuffer.wrap(bytes);
+        }
+    }
+
+    private static final ThreadLocal<LineBuffer> threadLocalLine = ThreadLocal.withInitial(LineBuffer::new);
+
+    /**
+     * Writes one line without building a String: the line is assembled in the thread's builder,
+     * encoded into its byte[] and written in a single call (lines of two threads never interleave).
+     * // [ZERO_GC_GUARANTEED] once the thread's buffers have grown to the longest line.
+     */
+    private static void writeLine(FileOutputStream out, String level, String component, CharSequence message) {
+        if (out == null) return;
+        LineBuffer line = threadLocalLine.get();
+        StringBuilder sb = line.builder;
         sb.setLength(0);
-        sb.append('[').append(level).append("] [").append(component).append("] ").append(message);
-        return sb.toString();
+        sb.append('[').append(level).append("] [").append(component).append("] ").append(message).append(LINE_SEPARATOR);
+        int length = sb.length();
+        if (line.chars.length < length) {
+            line.grow(Math.max(length, line.chars.length * 2));
+        }
+        sb.getChars(0, length, line.chars, 0);
+        CharBuffer chars = line.charView;
+        chars.clear().limit(length);
+        ByteBuffer bytes = line.byteView;
+        bytes.clear();
+        line.encoder.reset();
+        line.encoder.encode(chars, bytes, true);
+        line.encoder.flush(bytes);
+        try {
+            synchronized (out) {
+                out.write(line.bytes, 0, bytes.position());
+            }
+        } catch (IOException e) {
+            // Closed during shutdown: the line is dropped, never the caller
+        }
     }
 
     /**
      * Standard telemetry. Written ONLY to metrics log.
+     * Accepts a reused StringBuilder, so periodic telemetry does not need a String per line.
      */
-    public static void info(String component, String message) {
-        String formatted = formatMessage("INFO", component, message);
-        if (metricsWriter != null) metricsWriter.println(formatted);
+    public static void info(String component, CharSequence message) {
+        writeLine(metricsOut, "INFO", component, message);
     }
 
     /**
      * Diagnostic data. Written ONLY to metrics log.
      */
-    public static void debug(String component, String message) {
-        String formatted = formatMessage("DEBUG", component, message);
-        if (metricsWriter != null) metricsWriter.println(formatted);
+    public static void debug(String component, CharSequence message) {
+        writeLine(metricsOut, "DEBUG", component, message);
     }
 
     /**
      * Warning events. Written to errors log.
      */
-    public static void warning(String component, String message) {
-        String formatted = formatMessage("WARN", component, message);
-        if (errorsWriter != null) errorsWriter.println(formatted);
+    public static void warning(String component, CharSequence message) {
+        writeLine(errorsOut, "WARN", component, message);
         errorCount++;
     }
 
     /**
      * Critical errors. Written ONLY to errors log to maintain terminal silence.
      */
-    public static void error(String component, String message) {
-        String formatted = formatMessage("ERROR", component, message);
-        if (errorsWriter != null) errorsWriter.println(formatted);
+    public static void error(String component, CharSequence message) {
+        writeLine(errorsOut, "ERROR", component, message);
         errorCount++;
     }
 
@@ -96,12 +157,10 @@ public final class VolcanLogger {
      * Fatal crashes. Dumps stack trace to errors log.
      */
     public static void fatal(String component, String message, Throwable t) {
-        String formatted = formatMessage("FATAL", component, message);
-        if (errorsWriter != null) {
-            errorsWriter.println(formatted);
-            if (t != null) {
-                t.printStackTrace(errorsWriter);
-            }
+        writeLine(errorsOut, "FATAL", component, message);
+        if (errorsWriter != null && t != null) {
+            t.printStackTrace(errorsWriter);
+            errorsWriter.flush();
         }
         errorCount++;
         System.exit(1);
@@ -121,6 +180,8 @@ public final class VolcanLogger {
      * Prevents metric loss during asynchronous shutdown.
      */
     public static void flushAndClose() {
+        metricsOut = null; // Later lines are dropped instead of written to a closed stream
+        errorsOut = null;
         if (metricsWriter != null) {
             metricsWriter.flush();
             metricsWriter.close();
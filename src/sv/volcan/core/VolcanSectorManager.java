@@ -4,6 +4,9 @@
 // SPDX-License-Identifier: LGPL-3.0-or-later
 package sv.volcan.core;
 
+import java.lang.foreign.MemorySegment;
+
+import sv.volcan.memory.SectorAllocator;
 import sv.volcan.state.WorldStateFrame;
 
 /**
@@ -19,10 +22,25 @@ import sv.volcan.state.WorldStateFrame;
 public final class VolcanSectorManager {
 
     // [DATA ARCHITECTURE]:
-    // Replacement of ConcurrentHashMap with SectorMap (Long2Object).
-    // Removed Long Boxing.
+    // Replacement of ConcurrentHashMap with ConcurrentSectorMap (Long2Object).
+    // Removed Long Boxing; lookups from DAG workers never lock.
     // Zero-Allocation guaranteed in location update operations.
-    private final SectorMap<VolcanSector> sectores = new SectorMap<>(1024);
+    private final ConcurrentSectorMap<VolcanSector> sectores = new ConcurrentSectorMap<>(1024);
+
+    // Memory of new sectors (null: sectors are created without memory)
+    private final SectorAllocator allocator;
+
+    public VolcanSectorManager() {
+        this(null);
+    }
+
+    /**
+     * @param allocator Gives every new sector one vault sector as its memory (null once the
+     *                  vault is exhausted).
+     */
+    public VolcanSectorManager(SectorAllocator allocator) {
+        this.allocator = allocator;
+    }
 
     /**
      * Relocates the entity using its current sector signature to avoid global searches.
@@ -58,7 +76,7 @@ public final class VolcanSectorManager {
      * 
      * <p>AAA+ OPTIMIZATION:
      * <ul>
-     *   <li>Use of primitive longs in SectorMap.</li>
+     *   <li>Use of primitive longs in ConcurrentSectorMap (lookups take no lock).</li>
      *   <li>No boxing, no lambdas, no garbage iterators.</li>
      * </ul>
      */
@@ -74,11 +92,14 @@ public final class VolcanSectorManager {
 
         // Lazy Initialization
         if (newSector == null) {
-            // Note: null is passed as MemorySegment temporarily.
-            // Actual memory mapping is done in the Boot phase of SectorMemoryVault.
-            VolcanSector freshSector = new VolcanSector(toKey, null, 1024);
+            // One vault sector per spatial sector (cold path: first entry only)
+            MemorySegment memory = allocator != null ? allocator.allocateSector() : null;
+            VolcanSector freshSector = new VolcanSector(toKey, memory, 1024);
             // putIfAbsent returns the existing value (if race condition) or null (if won)
             VolcanSector existing = sectores.putIfAbsent(toKey, freshSector);
+            if (existing != null && memory != null) {
+                allocator.free(memory); // Lost the race: give the sector back
+            }
             newSector = (existing != null) ? existing : freshSector;
         }
 
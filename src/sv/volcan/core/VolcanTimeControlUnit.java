@@ -5,90 +5,511 @@
 package sv.volcan.core;
 
 import sv.volcan.core.AAACertified;
+import sv.volcan.memory.DirtyRegionTracker;
 
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 
 /**
  * Time Control and Rewind System (Time Travel).
- * 
- * <p>Manages a circular buffer of native memory snapshots. Allows
- * instantly rewinding the world state for network prediction or
- * debugging.
- * 
- * <p>Metrics: Zero-GC Snapshot, O(1) Rollback
- * 
+ *
+ * <p>Keeps a history of world-state frames so the world can be rewound for network prediction
+ * or debugging. Frames are numbered from 0 in capture order.
+ *
+ * <p>Metrics: Zero-GC capture, rollback = one keyframe copy + one delta.
+ *
  * @author Marvin Alexander Flores Canales
  * @since 1.0
  */
 /**
- * RESPONSIBILITY: Core component.
- * WHY: Critical for VolcanEngine deterministic execution.
- * TECHNIQUE: Low-latency focused implementation.
- * GUARANTEES: Lock-free execution where applicable.
+ * RESPONSIBILITY: Delta-compressed history of the world state (rollback netcode, replay, debugging).
+ * WHY: A full copy per frame costs the whole segment in memory AND bandwidth: 5 s at 240 Hz of
+ * a 10 MB world is 12 GB, and each capture streams 10 MB through the caches. Most cache lines
+ * do not change between frames.
+ * TECHNIQUE: One off-heap ring of 64-byte aligned records. Every keyframeInterval frames the
+ * state is stored whole (keyframe record). The other frames store state XOR their keyframe,
+ * only for the 64-byte lines that differ: MemorySegment.mismatch (a SIMD intrinsic in the JDK)
+ * skips unchanged stretches at memcmp speed, consecutive changed lines form one run [startLine, lineCount, XOR payload]. Restoring any
+ * frame = copy its keyframe + XOR one record; no chain of deltas to replay. A delta larger
+ * than half the frame, or one that would overwrite its own keyframe, becomes a keyframe.
+ * With a DirtyRegionTracker the scan is limited to the lines written since the previous capture
+ * plus the lines of the previous delta (a line differs from the keyframe now only if it did
+ * before or was written since): O(modified memory) instead of O(frame).
+ * GUARANTEES: No heap allocation per capture. A frame is restorable while its table entry and
+ * the ring bytes from its keyframe on have not been reused (see isAvailable). Kernel thread only.
  */
 @AAACertified(
-    date = "2026-06-11",
+    date = "2026-10-19",
     maxLatencyNs = 0,
     minThroughput = 0,
-    alignment = 0,
+    alignment = 64,
     lockFree = false,
-    offHeap = false,
-    notes = "Automatically AAA Certified during Core Audit"
+    offHeap = true,
+    notes = "Keyframe + per-cache-line XOR/RLE delta history, vectorized mismatch scan"
 )
 public final class VolcanTimeControlUnit {
 
-    private final MemorySegment timeSlab; // Single contiguous block of native memory (Off-Heap)
+    private static final int LINE_BYTES = 64;
+
+    /**
+     * Record header (one line): [int runCount][int tailBytes]; runCount = KEYFRAME for a full copy,
+     * whose payload starts at the next line. Run header: [int startLine][int lineCount].
+     */
+    private static final int RECORD_HEADER = LINE_BYTES;
+    private static final int RUN_HEADER = 8;
+    private static final int KEYFRAME = -1;
+    private static final int MIN_DELTA_RECORD = RECORD_HEADER + 2 * LINE_BYTES; // Header + one run of one line
+
+    /** Frames between two keyframes when the caller does not choose. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 30;
+
     private final long frameSize;
+    private final int lines;        // Whole 64-byte lines
+    private final int tailBytes;    // frameSize % 64, always stored
     private final int maxFrames;
-    private int writeIndex = 0;
+    private final int keyframeInterval;
+    private final long maxRecordBytes;
+    private final long promoteBytes;
+
+    private final MemorySegment ring;
+    private final long capacity;
+
+    // Frame table (ring of maxFrames, indexed frame % maxFrames). Positions are absolute ring offsets.
+    private final long[] frameRecord;     // Record of the frame
+    private final long[] frameKeyRecord;  // Record of its keyframe (== frameRecord for a keyframe)
+    private final long[] frameKeyFrame;   // Frame number of its keyframe
+
+    private long capturedFrames;          // Next frame number
+    private long writePos;                // Next absolute ring position
+    private long keyRecord = -1;          // Keyframe new deltas are relative to (-1 = none)
+    private long keyFrame;
+    private long framesSinceKeyframe;
+
+    // High-water marks: what was ever written, even by frames discardFrom() dropped since.
+    // A table entry or ring byte is intact only if nothing newer reused it.
+    private long frameHighWater;
+    private long ringHighWater;
+
+    private long lastCaptureBytes;
+    private long totalCaptureBytes;
+    private long lastScannedBytes;
+
+    // Encoder cursor of the record being written
+    private long encodeOut;
+    private int encodeRuns;
+
+    /** Average delta budget per frame of the default ring, in percent of the frame. */
+    public static final int DEFAULT_DELTA_PERCENT = 25;
 
     /**
-     * @param arena     Confined arena for the execution session.
+     * History of {@code maxFrames} frames with a keyframe every {@link #DEFAULT_KEYFRAME_INTERVAL}
+     * frames and a ring sized for {@link #DEFAULT_DELTA_PERCENT} (see
+     * {@link #historyBytes(long, int, int, int)}).
+     *
+     * @param arena     Arena that owns the history.
      * @param frameSize Exact size in bytes of a WorldStateFrame.
-     * @param maxFrames Capacity of the circular buffer for history.
+     * @param maxFrames Frames kept in the history (upper bound: the ring may hold fewer).
      */
     public VolcanTimeControlUnit(Arena arena, long frameSize, int maxFrames) {
+        this(arena, frameSize, maxFrames, DEFAULT_DELTA_PERCENT);
+    }
+
+    /**
+     * @param arena        Arena that owns the history.
+     * @param frameSize    Exact size in bytes of a WorldStateFrame.
+     * @param maxFrames    Frames kept in the history (upper bound: the ring may hold fewer).
+     * @param deltaPercent Average delta per frame the ring is sized for, in percent of the frame
+     *                     (100 = room for a keyframe every frame).
+     */
+    public VolcanTimeControlUnit(Arena arena, long frameSize, int maxFrames, int deltaPercent) {
+        this(arena, frameSize, maxFrames, Math.min(maxFrames, DEFAULT_KEYFRAME_INTERVAL),
+                historyBytes(frameSize, maxFrames, Math.min(maxFrames, DEFAULT_KEYFRAME_INTERVAL), deltaPercent));
+    }
+
+    /**
+     * @param arena            Arena that owns the history.
+     * @param frameSize        Exact size in bytes of a WorldStateFrame.
+     * @param maxFrames        Frames kept in the history (upper bound: the ring may hold fewer).
+     * @param keyframeInterval Frames between two full copies.
+     * @param historyBytes     Ring size (raised to two keyframes if smaller).
+     */
+    public VolcanTimeControlUnit(Arena arena, long frameSize, int maxFrames, int keyframeInterval, long historyBytes) {
+        if (frameSize <= 0) throw new IllegalArgumentException("frameSize must be > 0: " + frameSize);
+        if (maxFrames < 1) throw new IllegalArgumentException("maxFrames must be >= 1: " + maxFrames);
         this.frameSize = frameSize;
+        this.lines = (int) (frameSize / LINE_BYTES);
+        this.tailBytes = (int) (frameSize % LINE_BYTES);
         this.maxFrames = maxFrames;
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+        // Deltas are abandoned one line past promoteBytes, so a keyframe is the largest record
+        this.maxRecordBytes = keyframeRecordBytes(frameSize);
+        this.promoteBytes = frameSize / 2;
+        this.capacity = align(Math.max(historyBytes, 2 * maxRecordBytes));
+
+        // [HARD ENGINEERING]: Reserved up front. 64-byte alignment: one line = one cache line.
+        this.ring = arena.allocate(capacity, 64L);
+        this.frameRecord = new long[maxFrames];
+        this.frameKeyRecord = new long[maxFrames];
+        this.frameKeyFrame = new long[maxFrames];
+    }
+
+    /**
+     * Ring size for {@code maxFrames} frames: the keyframes of the window (plus two, for the
+     * record that straddles it and the wrap slack) and {@code deltaPercent} of a frame per delta,
+     * never less than one delta line. Never more than a keyframe per frame. If the deltas run
+     * larger than the budget the ring wraps sooner and the window holds fewer frames
+     * (see isAvailable); the memory stays bounded.
+     */
+    public static long historyBytes(long frameSize, int maxFrames, int keyframeInterval, int deltaPercent) {
+        long keyframeBytes = keyframeRecordBytes(frameSize);
+        long fullCopies = (maxFrames + 2L) * keyframeBytes;
+        if (deltaPercent >= 100) return fullCopies;
+        int interval = Math.max(1, keyframeInterval);
+        long keyframes = (maxFrames + interval - 1) / interval + 2L;
+        long deltaBytes = Math.max(align(frameSize * Math.max(0, deltaPercent) / 100), MIN_DELTA_RECORD);
+        return Math.min(fullCopies, keyframes * keyframeBytes + maxFrames * deltaBytes);
+    }
+
+    private static long keyframeRecordBytes(long frameSize) {
+        return align(RECORD_HEADER + frameSize + RUN_HEADER + LINE_BYTES);
+    }
+
+    private static long align(long bytes) {
+        return (bytes + LINE_BYTES - 1) & -LINE_BYTES;
+    }
+
+    // -------------------------------------------------------------------------
+    // CAPTURE (Hot-Path)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Appends the present state to the history.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     *
+     * @return Number of the captured frame.
+     */
+    public long capture(MemorySegment activeState) {
+        return capture(activeState, null);
+    }
+
+    /**
+     * Appends the present state to the history, comparing only the lines {@code dirty} reports as
+     * written since the previous capture (plus that frame's delta lines), then clears it.
+     * Falls back to the full scan when the previous frame is not a delta of the current keyframe.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     *
+     * @param dirty Byte-offset tracker of {@code activeState}, marked since the previous capture
+     *              (or since the state was last restored to it); null = full scan.
+     * @return Number of the captured frame.
+     */
+    public long capture(MemorySegment activeState, DirtyRegionTracker dirty) {
+        if (dirty != null && dirty.getSize() != frameSize) {
+            throw new IllegalArgumentException("tracker covers " + dirty.getSize() + " bytes, frame is " + frameSize);
+        }
+        long frame = capturedFrames;
+        int slot = (int) (frame % maxFrames);
+
+        // Records never straddle the end of the ring
+        long physical = writePos % capacity;
+        if (capacity - physical < maxRecordBytes) {
+            writePos += capacity - physical;
+            physical = 0;
+        }
+        long record = writePos;
+
+        long bytes = -1;
+        boolean keyIntact = keyRecord >= 0 && record + maxRecordBytes <= keyRecord + capacity;
+        if (keyIntact && framesSinceKeyframe < keyframeInterval) {
+            long previous = dirty != null ? previousDelta(record) : -1;
+            bytes = previous >= 0
+                    ? encodeHintedDelta(activeState, physical, keyRecord % capacity + RECORD_HEADER, previous, dirty)
+                    : encodeDelta(activeState, physical, keyRecord % capacity + RECORD_HEADER);
+        } else {
+            lastScannedBytes = frameSize;
+        }
+        if (bytes < 0) {
+            // Keyframe: interval elapsed, first frame, delta past half a frame, or ring about to wrap onto it
+            ring.set(ValueLayout.JAVA_INT, physical, KEYFRAME);
+            MemorySegment.copy(activeState, 0L, ring, physical + RECORD_HEADER, frameSize);
+            bytes = RECORD_HEADER + frameSize;
+            keyRecord = record;
+            keyFrame = frame;
+            framesSinceKeyframe = 0;
+        }
+        framesSinceKeyframe++;
+        ringHighWater = Math.max(ringHighWater, record + bytes);
+        writePos = record + align(bytes);
 
-        // [HARD ENGINEERING]: We reserve the complete slab at the beginning to avoid
-        // fragmentation.
-        // Alignment to 64 bytes to maximize memory bus bandwidth.
-        this.timeSlab = arena.allocate(frameSize * maxFrames, 64L);
+        frameRecord[slot] = record;
+        frameKeyRecord[slot] = keyRecord;
+        frameKeyFrame[slot] = keyFrame;
+        lastCaptureBytes = bytes;
+        totalCaptureBytes += bytes;
+        capturedFrames = frame + 1;
+        frameHighWater = Math.max(frameHighWater, capturedFrames);
+        if (dirty != null) dirty.clear();
+        return frame;
     }
 
     /**
-     * Captures the present state by overwriting the oldest frame.
-     * Wait-free operation through direct native memory copy.
+     * Writes state XOR keyframe for every changed line, as a record at ring offset {@code physical}.
+     *
+     * @return Record size, or -1 past promoteBytes (the caller stores a keyframe over it).
      */
-    public void capture(MemorySegment activeState) {
-        // O(1) offset calculation
-        long offset = (long) writeIndex * frameSize;
+    private long encodeDelta(MemorySegment state, long physical, long keyBase) {
+        long limit = physical + promoteBytes;
+        encodeOut = physical + RECORD_HEADER;
+        encodeRuns = 0;
+        lastScannedBytes = frameSize;
+        if (!encodeRange(state, keyBase, 0, (long) lines * LINE_BYTES, limit)) return -1;
+        return finishRecord(state, physical, keyBase);
+    }
+
+    /**
+     * Ring offset of the first run of the previous frame's record if it is a delta of (or is) the
+     * current keyframe and the new record cannot overwrite it; -1 otherwise.
+     */
+    private long previousDelta(long record) {
+        long previous = capturedFrames - 1;
+        if (!isAvailable(previous)) return -1;
+        int slot = (int) (previous % maxFrames);
+        long previousRecord = frameRecord[slot];
+        if (frameKeyRecord[slot] != keyRecord || record + maxRecordBytes > previousRecord + capacity) return -1;
+        return previousRecord % capacity;
+    }
+
+    /**
+     * encodeDelta limited to the union of the dirty lines and the previous record's runs, merged
+     * in line order. Lines outside it equal the previous frame, which equals the keyframe there.
+     */
+    private long encodeHintedDelta(MemorySegment state, long physical, long keyBase,
+                                   long previous, DirtyRegionTracker dirty) {
+        long limit = physical + promoteBytes;
+        encodeOut = physical + RECORD_HEADER;
+        encodeRuns = 0;
+        long scanned = 0;
+
+        // Previous runs: [runStart, runEnd) in lines; a keyframe record has none
+        int runsLeft = ring.get(ValueLayout.JAVA_INT, previous);
+        if (runsLeft == KEYFRAME) runsLeft = 0;
+        long in = previous + RECORD_HEADER;
+        long runStart = Long.MAX_VALUE;
+        long runEnd = 0;
+        if (runsLeft > 0) {
+            runStart = ring.get(ValueLayout.JAVA_INT_UNALIGNED, in);
+            runEnd = runStart + ring.get(ValueLayout.JAVA_INT_UNALIGNED, in + 4);
+        }
+        // Dirty ranges: [dirtyStart, dirtyEnd) in lines
+        long dirtyStart = Long.MAX_VALUE;
+        long dirtyEnd = 0;
+        long next = dirty.nextDirty(0);
+        if (next >= 0 && next / LINE_BYTES < lines) {
+            dirtyStart = next / LINE_BYTES;
+            dirtyEnd = lineCeil(dirty.nextClean(next));
+        }
+
+        while (runStart != Long.MAX_VALUE || dirtyStart != Long.MAX_VALUE) {
+            long start = Math.min(runStart, dirtyStart);
+            long end = start;
+            // Absorb every interval of either stream that overlaps or touches [start, end)
+            while (runStart <= end || dirtyStart <= end) {
+                if (runStart <= end) {
+                    end = Math.max(end, runEnd);
+                    in += RUN_HEADER + (runEnd - runStart) * LINE_BYTES;
+                    runStart = Long.MAX_VALUE;
+                    if (--runsLeft > 0) {
+                        runStart = ring.get(ValueLayout.JAVA_INT_UNALIGNED, in);
+                        runEnd = runStart + ring.get(ValueLayout.JAVA_INT_UNALIGNED, in + 4);
+                    }
+                } else {
+                    end = Math.max(end, dirtyEnd);
+                    next = dirty.nextDirty(dirtyEnd * LINE_BYTES);
+                    dirtyStart = Long.MAX_VALUE;
+                    if (next >= 0 && next / LINE_BYTES < lines) {
+                        dirtyStart = next / LINE_BYTES;
+                        dirtyEnd = lineCeil(dirty.nextClean(next));
+                    }
+                }
+            }
+            scanned += (end - start) * LINE_BYTES;
+            if (!encodeRange(state, keyBase, start * LINE_BYTES, end * LINE_BYTES, limit)) return -1;
+        }
+        lastScannedBytes = scanned + tailBytes;
+        return finishRecord(state, physical, keyBase);
+    }
+
+    /** End of a dirty byte range as an exclusive line index, clamped to the whole lines. */
+    private long lineCeil(long byteEnd) {
+        return Math.min(lines, (byteEnd + LINE_BYTES - 1) / LINE_BYTES);
+    }
+
+    /**
+     * Appends the runs of changed lines in [offset, end) (line aligned) at encodeOut.
+     *
+     * @return false once the record passes {@code limit}.
+     */
+    private boolean encodeRange(MemorySegment state, long keyBase, long offset, long end, long limit) {
+        MemorySegment ring = this.ring;
+        long out = encodeOut;
+        while (offset < end) {
+            long m = MemorySegment.mismatch(state, offset, end, ring, keyBase + offset, keyBase + end);
+            if (m < 0) break; // Nothing else changed
+            offset = (offset + m) & -LINE_BYTES; // Line holding the first difference
+            long runHeader = out;
+            out += RUN_HEADER;
+            long start = offset;
+            do {
+                if (out > limit) return false;
+                xorLine(state, offset, ring, keyBase + offset, ring, out);
+                out += LINE_BYTES;
+                offset += LINE_BYTES;
+            } while (offset < end && lineDiffers(state, offset, ring, keyBase + offset));
+            ring.set(ValueLayout.JAVA_INT_UNALIGNED, runHeader, (int) (start / LINE_BYTES));
+            ring.set(ValueLayout.JAVA_INT_UNALIGNED, runHeader + 4, (int) ((offset - start) / LINE_BYTES));
+            encodeRuns++;
+        }
+        encodeOut = out;
+        return true;
+    }
+
+    /** Tail bytes (always stored) and record header. @return Record size. */
+    private long finishRecord(MemorySegment state, long physical, long keyBase) {
+        MemorySegment ring = this.ring;
+        long out = encodeOut;
+        long tailBase = (long) lines * LINE_BYTES;
+        for (int i = 0; i < tailBytes; i++) {
+            byte x = (byte) (state.get(ValueLayout.JAVA_BYTE, tailBase + i)
+                    ^ ring.get(ValueLayout.JAVA_BYTE, keyBase + tailBase + i));
+            ring.set(ValueLayout.JAVA_BYTE, out + i, x);
+        }
+        out += tailBytes;
+
+        ring.set(ValueLayout.JAVA_INT, physical, encodeRuns);
+        ring.set(ValueLayout.JAVA_INT, physical + 4, tailBytes);
+        return out - physical;
+    }
 
-        // We create a view (slice) without allocation on the Heap
-        MemorySegment targetFrame = timeSlab.asSlice(offset, frameSize);
+    private static boolean lineDiffers(MemorySegment a, long aOffset, MemorySegment b, long bOffset) {
+        return MemorySegment.mismatch(a, aOffset, aOffset + LINE_BYTES, b, bOffset, bOffset + LINE_BYTES) >= 0;
+    }
+
+    /** out[0..64) = a[0..64) XOR b[0..64). Plain long accesses: no boxing in any JIT tier. */
+    private static void xorLine(MemorySegment a, long aOffset, MemorySegment b, long bOffset,
+                                MemorySegment out, long outOffset) {
+        for (int i = 0; i < LINE_BYTES; i += Long.BYTES) {
+            long x = a.get(ValueLayout.JAVA_LONG_UNALIGNED, aOffset + i) ^ b.get(ValueLayout.JAVA_LONG_UNALIGNED, bOffset + i);
+            out.set(ValueLayout.JAVA_LONG_UNALIGNED, outOffset + i, x);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // RESTORE
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes frame {@code frame} into {@code target}: its keyframe, then its delta XORed in place.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     *
+     * @return false (target untouched) if the frame is no longer in the history.
+     */
+    public boolean restore(long frame, MemorySegment target) {
+        if (!isAvailable(frame)) return false;
+        int slot = (int) (frame % maxFrames);
+        MemorySegment.copy(ring, frameKeyRecord[slot] % capacity + RECORD_HEADER, target, 0L, frameSize);
+        long in = frameRecord[slot] % capacity;
+        int runs = ring.get(ValueLayout.JAVA_INT, in);
+        if (runs == KEYFRAME) return true;
 
-        // [MECHANICAL SYMPATHY]: Low-level direct copy to memory.
-        targetFrame.copyFrom(activeState);
+        in += RECORD_HEADER;
+        for (int r = 0; r < runs; r++) {
+            int startLine = ring.get(ValueLayout.JAVA_INT_UNALIGNED, in);
+            int count = ring.get(ValueLayout.JAVA_INT_UNALIGNED, in + 4);
+            in += RUN_HEADER;
+            long offset = (long) startLine * LINE_BYTES;
+            for (int l = 0; l < count; l++) {
+                xorLine(target, offset, ring, in, target, offset);
+                offset += LINE_BYTES;
+                in += LINE_BYTES;
+            }
+        }
+        long tailBase = (long) lines * LINE_BYTES;
+        for (int i = 0; i < tailBytes; i++) {
+            byte x = (byte) (target.get(ValueLayout.JAVA_BYTE, tailBase + i) ^ ring.get(ValueLayout.JAVA_BYTE, in + i));
+            target.set(ValueLayout.JAVA_BYTE, tailBase + i, x);
+        }
+        return true;
+    }
 
-        // Advance of the circular pointer
-        writeIndex = (writeIndex + 1) % maxFrames;
+    /**
+     * Forgets {@code frame} and every newer frame: the next capture is numbered {@code frame}
+     * and reuses their ring space.
+     * // [MAIN_THREAD_ONLY]
+     */
+    public void discardFrom(long frame) {
+        if (frame >= capturedFrames) return;
+        if (frame < 0) frame = 0;
+        if (frame >= frameHighWater - maxFrames) {
+            writePos = frameRecord[(int) (frame % maxFrames)];
+        }
+        long previous = frame - 1;
+        if (isAvailable(previous)) {
+            int slot = (int) (previous % maxFrames);
+            keyRecord = frameKeyRecord[slot];
+            keyFrame = frameKeyFrame[slot];
+            framesSinceKeyframe = frame - keyFrame;
+        } else {
+            keyRecord = -1; // Nothing to be relative to: the next capture is a keyframe
+        }
+        capturedFrames = frame;
     }
 
     /**
-     * Restores the previous state of the engine.
-     * Reverts data control to the previously captured instant.
+     * Restores the newest frame and drops it from the history: repeated calls walk back one
+     * frame at a time (legacy single-step rewind).
      */
     public void rollback(MemorySegment activeState) {
-        // Rewind the index in the circular buffer
-        writeIndex = (writeIndex - 1 + maxFrames) % maxFrames;
-        long offset = (long) writeIndex * frameSize;
+        long newest = capturedFrames - 1;
+        if (restore(newest, activeState)) {
+            discardFrom(newest);
+        }
+    }
 
-        MemorySegment historicFrame = timeSlab.asSlice(offset, frameSize);
+    // -------------------------------------------------------------------------
+    // QUERIES
+    // -------------------------------------------------------------------------
 
-        // Atomic restoration of bits
-        activeState.copyFrom(historicFrame);
+    /** True if {@code frame} can still be restored. */
+    public boolean isAvailable(long frame) {
+        if (frame < 0 || frame >= capturedFrames || frame < frameHighWater - maxFrames) return false;
+        // The keyframe precedes the record in the ring: if it is intact, so is the record
+        return frameKeyRecord[(int) (frame % maxFrames)] >= ringHighWater - capacity;
     }
+
+    /** Number the next captured frame will get (frames captured so far, minus discarded ones). */
+    public long getFrameCount() { return capturedFrames; }
+
+    /** Oldest frame of the restorable window ending at the newest frame, or -1 if empty. */
+    public long getOldestAvailableFrame() {
+        long f = capturedFrames - 1;
+        if (!isAvailable(f)) return -1;
+        while (isAvailable(f - 1)) f--;
+        return f;
+    }
+
+    /** Bytes written by the last capture (a full frame for a keyframe). */
+    public long getLastCaptureBytes() { return lastCaptureBytes; }
+
+    /** Bytes of the state the last capture compared or copied (less than a frame with a dirty tracker). */
+    public long getLastScannedBytes() { return lastScannedBytes; }
+
+    /** Bytes written by all captures so far. */
+    public long getTotalCaptureBytes() { return totalCaptureBytes; }
+
+    /** Off-heap bytes reserved for the history. */
+    public long getReservedBytes() { return capacity; }
+
+    public int getMaxFrames() { return maxFrames; }
+
+    public int getKeyframeInterval() { return keyframeInterval; }
 }
-// updated 3/1/26
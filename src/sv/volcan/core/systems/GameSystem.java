@@ -34,6 +34,9 @@ import sv.volcan.state.WorldStateFrame;
 )
 public interface GameSystem {
 
+    /** Shared empty dependency list (a zero-length array cannot be modified). */
+    String[] NO_DEPENDENCIES = {};
+
     /**
      * Executes the system logic for an engine tick.
      * 
@@ -198,11 +201,14 @@ public interface GameSystem {
      *           - Do not create circular dependencies (A->B->A)
      *           - The Kernel detects cycles and fails fast
      *           - Minimize dependencies to maximize parallelism
+     *           - With volcan.kernel.state.double.buffer every system reads the
+     *           previous pass: a dependency is only needed to see another system's
+     *           writes of the SAME tick (or to order two writers of the same bytes)
      * 
      * @return Array of system names (can be empty, not null)
      */
     default String[] getDependencies() {
-        return new String[0]; // No dependencies by default
+        return NO_DEPENDENCIES; // No dependencies by default (no array per call)
     }
 
     /**
@@ -217,6 +223,45 @@ public interface GameSystem {
     default boolean requiresMainThread() {
         return false;
     }
+
+    /**
+     * Preferred execution rate of the system, in simulated Hz.
+     *
+     * WHY: A low-rate system (network replication, AI) should not depend on every caller
+     * remembering to register it with a schedule; otherwise it silently runs every tick.
+     *
+     * Used only when the system is registered without an explicit SystemSchedule: a rate
+     * above 0 becomes SystemSchedule.fixedHz(rate, AUTO_PHASE).
+     *
+     * DEFAULT IMPLEMENTATION: 0 (every tick).
+     */
+    default double getRateHz() {
+        return 0.0;
+    }
+
+    /**
+     * Defines whether this system performs blocking work (file-backed asset loads, database
+     * writes, HTTP calls).
+     *
+     * WHY: A blocking call on a DAG worker stalls that platform thread, and every node that
+     * depends on it, for the whole call.
+     *
+     * SEMANTICS (when true):
+     * - The system runs on the async lane (one virtual thread per run), decoupled from the frame
+     * - It is never part of the dependency graph: getDependencies() is ignored
+     * - update() reads a private snapshot taken when the run started (the state the frame's
+     *   systems start from); writes to it are discarded
+     * - Results go back through SystemRegistry.getCommandBus() and are applied by the kernel
+     *   at the next bus phase
+     * - If it is still running when it comes due again, that tick is skipped and its
+     *   deltaTime is added to the next run
+     *
+     * DEFAULT IMPLEMENTATION: false (runs inside the frame).
+     * OVERRIDE: Return true only for systems that block on I/O.
+     */
+    default boolean isBlocking() {
+        return false;
+    }
 }
 // Created: 03/01/2026 23:35
 // Role: Software Architect applying Strategy Pattern + SOLID
@@ -0,0 +1,81 @@
+// Reading Order: 11000110
+//  198
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.core.systems;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.AAACertified;
+import sv.volcan.state.WorldStateFrame;
+
+/**
+ * RESPONSIBILITY: A system whose work splits into independent entity ranges.
+ * WHY: Lockstep and replay need bit-exact results. If the split depends on the worker count, or
+ * partial results merge in completion order, float rounding changes from run to run.
+ * TECHNIQUE: Entities are cut into ranges of getRangeSize(), a constant that never depends on
+ * the cores. Ranges may run on any thread in any order, but each range only writes its own
+ * entities. Anything that crosses ranges (sums, min/max, counters) is kept per range and
+ * combined in mergeRanges(), always in range order, on one thread.
+ * GUARANTEES: update() runs the same ranges and the same merge sequentially, so sequential,
+ * DAG and deterministic modes produce the same bits.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 0,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Fixed entity-range partitioning contract for deterministic parallelism."
+)
+public interface PartitionedSystem extends GameSystem {
+
+    /** Entities covered this frame. Read once per frame, before the first range starts. */
+    int getEntityCount();
+
+    /**
+     * Processes entities [from, to). Must write only those entities, plus the slot
+     * {@code rangeIndex} of any per-range partial.
+     */
+    void updateRange(WorldStateFrame state, float deltaTime, int rangeIndex, int from, int to);
+
+    /**
+     * Combines per-range partials after every range completed. Runs on a single thread, in
+     * range order 0..rangeCount-1.
+     *
+     * DEFAULT IMPLEMENTATION: Nothing to combine.
+     */
+    default void mergeRanges(WorldStateFrame state, int rangeCount) {
+    }
+
+    /**
+     * Entities per range.
+     *
+     * DEFAULT IMPLEMENTATION: volcan.kernel.deterministic.range.
+     * OVERRIDE: Only with a constant; a value derived from the machine breaks replays.
+     */
+    default int getRangeSize() {
+        return VolcanEngineConfig.KERNEL_DETERMINISTIC_RANGE;
+    }
+
+    /** Sequential execution: the same ranges and merge, one after the other. */
+    @Override
+    default void update(WorldStateFrame state, float deltaTime) {
+        int count = getEntityCount();
+        int rangeSize = getRangeSize();
+        int ranges = rangeCount(count, rangeSize);
+        for (int r = 0; r < ranges; r++) {
+            int from = r * rangeSize;
+            updateRange(state, deltaTime, r, from, Math.min(count, from + rangeSize));
+        }
+        mergeRanges(state, ranges);
+    }
+
+    /** Number of ranges for {@code entityCount} entities. */
+    static int rangeCount(int entityCount, int rangeSize) {
+        return (entityCount + rangeSize - 1) / rangeSize;
+    }
+}
@@ -4,8 +4,8 @@
 // SPDX-License-Identifier: LGPL-3.0-or-later
 package sv.volcan.ecs;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import sv.volcan.core.AAACertified;
 
 /**
@@ -18,14 +18,21 @@ import sv.volcan.core.AAACertified;
 @AAACertified(date = "2026-06-19", maxLatencyNs = 1, minThroughput = 0, lockFree = true, offHeap = false, notes = "Static Type Id Assigner")
 public final class ComponentRegistry {
 
+    // Los IDs son globales al proceso a propósito: varias VolcanScene (un mundo por partida)
+    // comparten el mismo layout de Bitmask. Por eso el mapa debe ser seguro entre hilos.
     private static int nextComponentId = 0;
-    private static final Map<Class<? extends VolcanComponent>, Integer> componentTypes = new HashMap<>(64);
+    private static final Map<Class<? extends VolcanComponent>, Integer> componentTypes = new ConcurrentHashMap<>(64);
 
     /**
      * Devuelve el ID asociado a la clase del componente.
      * Si no existe, lo registra y asigna un nuevo ID.
      */
     public static <T extends VolcanComponent> int getComponentId(Class<T> type) {
+        Integer id = componentTypes.get(type); // Fast path: lectura sin lock
+        return id != null ? id : register(type);
+    }
+
+    private static synchronized int register(Class<? extends VolcanComponent> type) {
         Integer id = componentTypes.get(type);
         if (id == null) {
             // Máximo 64 componentes soportados por entidad para que encaje en el Bitmask (long)
@@ -5,8 +5,9 @@
 package sv.volcan.ecs;
 
 import sv.volcan.core.AAACertified;
-import sv.volcan.core.systems.GameSystem;
+import sv.volcan.core.systems.PartitionedSystem;
 import sv.volcan.scene.VolcanKinematicsSystem;
+import sv.volcan.scene.VolcanTransformSoA;
 import sv.volcan.state.WorldStateFrame;
 
 /**
@@ -15,9 +16,14 @@ import sv.volcan.state.WorldStateFrame;
  * Conecta el `VolcanScene` (Scene Graph de Alto Nivel) con el
  * `VolcanKinematicsSystem` (SIMD Vectorial de Bajo Nivel)
  * inyectándolo directamente en el loop de `SystemRegistry` / `ParallelSystemExecutor`.
+ *
+ * <p>En modo determinista es un PartitionedSystem: la integración local (independiente por
+ * entidad) se reparte en rangos fijos entre los workers y la jerarquía se resuelve en
+ * mergeRanges(), en un solo hilo y en orden de índice. Fuera de ese modo update() sigue usando
+ * el WorkCursor (time-slicing); con el cursor completo ambos caminos dan los mismos bits.
  */
 @AAACertified(date = "2026-06-19", maxLatencyNs = 1000, minThroughput = 0, lockFree = true, offHeap = true, notes = "Adapter for High-Level ECS Kinematics")
-public final class SceneKinematicsSystem implements GameSystem {
+public final class SceneKinematicsSystem implements PartitionedSystem {
 
     private final VolcanScene scene;
 
@@ -32,8 +38,24 @@ public final class SceneKinematicsSystem implements GameSystem {
         VolcanKinematicsSystem.update(scene.getSoA(), (float) deltaTime, 0.0, 0.0, 0.0);
     }
 
+    @Override
+    public int getEntityCount() {
+        return scene.getSoA().getCapacity();
+    }
+
+    @Override
+    public void updateRange(WorldStateFrame state, float deltaTime, int rangeIndex, int from, int to) {
+        VolcanKinematicsSystem.integrateRange(scene.getSoA(), deltaTime, from, to);
+    }
+
+    @Override
+    public void mergeRanges(WorldStateFrame state, int rangeCount) {
+        VolcanTransformSoA soa = scene.getSoA();
+        VolcanKinematicsSystem.resolveRange(soa, 0, soa.getCapacity(), 0.0, 0.0, 0.0);
+    }
+
     @Override
     public String[] getDependencies() {
-        return new String[]{}; // No dependencies in Headless mode
+        return NO_DEPENDENCIES; // No dependencies in Headless mode
     }
 }
@@ -55,6 +55,7 @@ public final class VolcanEntity {
         soaMemory.posX.set(ValueLayout.JAVA_FLOAT, offset32, (float) x);
         soaMemory.posY.set(ValueLayout.JAVA_FLOAT, offset32, (float) y);
         soaMemory.posZ.set(ValueLayout.JAVA_FLOAT, offset32, (float) z);
+        soaMemory.markEntity(phys);
     }
 
     public void setPosition(double x, double y) {
@@ -74,10 +75,12 @@ public final class VolcanEntity {
     }
 
     public void setVelocity(float vx, float vy, float vz) {
-        long offset = scene.getPhysicalIndex(id) * 4L;
+        int phys = scene.getPhysicalIndex(id);
+        long offset = phys * 4L;
         soaMemory.velX.set(ValueLayout.JAVA_FLOAT, offset, vx);
         soaMemory.velY.set(ValueLayout.JAVA_FLOAT, offset, vy);
         soaMemory.velZ.set(ValueLayout.JAVA_FLOAT, offset, vz);
+        soaMemory.markEntity(phys);
     }
 
     public void setVelocity(float vx, float vy) {
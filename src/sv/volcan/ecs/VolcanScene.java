@@ -4,6 +4,9 @@
 // SPDX-License-Identifier: LGPL-3.0-or-later
 package sv.volcan.ecs;
 
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
 import sv.volcan.core.AAACertified;
 import sv.volcan.core.VolcanLogger;
 import sv.volcan.scene.VolcanTransformSoA;
@@ -234,6 +237,7 @@ public final class VolcanScene {
         int childPhys = logicalToPhysical[childLogicalId];
         int parentPhys = parentLogicalId >= 0 ? logicalToPhysical[parentLogicalId] : -1;
         soaMemory.parentIdx.set(java.lang.foreign.ValueLayout.JAVA_INT, childPhys * 4L, parentPhys);
+        soaMemory.markEntity(childPhys);
     }
     
     public void topologicalSort() {
@@ -285,6 +289,68 @@ public final class VolcanScene {
             int physParent = (logParent == -1) ? -1 : logicalToPhysical[logParent];
             soaMemory.parentIdx.set(java.lang.foreign.ValueLayout.JAVA_INT, i * 4L, physParent);
         }
+        soaMemory.markEntities(0, activeEntityCount);
+    }
+
+    // ==========================================
+    // CHECKPOINT: ID MAPS (Imagen binaria)
+    // ==========================================
+
+    /**
+     * Bytes de la imagen de los mapas de IDs: cabecera (maxEntities, activeEntityCount,
+     * freeListTail) + freeList, logicalToPhysical, physicalToLogical y la jerarquía lógica.
+     */
+    public long getIdMapBytes() {
+        return (3L + 6L * maxEntities) * Integer.BYTES;
+    }
+
+    /**
+     * Copia los mapas de IDs a memoria nativa (checkpoint). Los componentes viven en el heap
+     * como objetos y NO forman parte de la imagen.
+     */
+    public void exportIdMaps(MemorySegment dst) {
+        dst.set(ValueLayout.JAVA_INT, 0, maxEntities);
+        dst.set(ValueLayout.JAVA_INT, 4, activeEntityCount);
+        dst.set(ValueLayout.JAVA_INT, 8, freeListTail);
+        long offset = 12;
+        for (int[] map : idMaps()) {
+            MemorySegment.copy(map, 0, dst, ValueLayout.JAVA_INT_UNALIGNED, offset, maxEntities);
+            offset += (long) maxEntities * Integer.BYTES;
+        }
+    }
+
+    /**
+     * Restaura los mapas de IDs de una imagen de {@link #exportIdMaps}. Los componentes y sus
+     * bitmasks se vacían: TODOS los arreglos de componentes se destruyen (destroy()), así que
+     * cualquier referencia a un componente anterior queda obsoleta. El juego los vuelve a
+     * adjuntar tras cargar el checkpoint (ver EngineKernel.loadCheckpoint).
+     *
+     * @throws IllegalArgumentException si la imagen es de una escena de otra capacidad.
+     */
+    public void importIdMaps(MemorySegment src) {
+        int imageCapacity = src.get(ValueLayout.JAVA_INT, 0);
+        if (imageCapacity != maxEntities || src.byteSize() < getIdMapBytes()) {
+            throw new IllegalArgumentException("Scene image capacity " + imageCapacity + " != " + maxEntities);
+        }
+        activeEntityCount = src.get(ValueLayout.JAVA_INT, 4);
+        freeListTail = src.get(ValueLayout.JAVA_INT, 8);
+        long offset = 12;
+        for (int[] map : idMaps()) {
+            MemorySegment.copy(src, ValueLayout.JAVA_INT_UNALIGNED, offset, map, 0, maxEntities);
+            offset += (long) maxEntities * Integer.BYTES;
+        }
+        java.util.Arrays.fill(entitySignatures, 0L);
+        for (int i = 0; i < componentArrays.length; i++) {
+            if (componentArrays[i] != null) {
+                componentArrays[i].destroy();
+                componentArrays[i] = null;
+            }
+        }
+    }
+
+    private int[][] idMaps() {
+        return new int[][] { freeList, logicalToPhysical, physicalToLogical,
+                logicalParents, logicalFirstChildren, logicalNextSiblings };
     }
 
     public void destroy() {
@@ -0,0 +1,200 @@
+// Reading Order: 11001101
+//  205
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RESPONSIBILITY: Checks the [ZERO_GC_GUARANTEED] promise of the frame loop, per kernel phase and per DAG node.
+ * WHY: The tag is a comment; nothing stops a String concatenation, a varargs call or an iterator
+ * from slipping into a hot path, and the GC only shows up frames later as a pause unrelated to
+ * the code that caused it.
+ * TECHNIQUE: HotSpot counts the bytes each thread allocates
+ * (com.sun.management.ThreadMXBean.getCurrentThreadAllocatedBytes, a read of a thread-local
+ * counter). The kernel and the dispatcher read it before and after each site and record the
+ * difference. At the end of the frame every site over the byte budget is a violation; the first
+ * violation of a site is logged with its size, and the totals stay queryable so a test run can
+ * fail on them. The first warmup frames are ignored: interpreted code allocates what C2's escape
+ * analysis later removes.
+ * GUARANTEES: Zero allocations while recording. One writer per site per frame (a phase runs on
+ * the kernel thread, a node on one worker), folded by the main thread after the frame completed.
+ * Disabled entirely when volcan.kernel.alloc.audit=false (static final branch).
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 50,
+    minThroughput = 0,
+    alignment     = 64,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Per-phase / per-node allocated bytes with a per-frame budget. Zero-Alloc recording."
+)
+public final class AllocationAuditor {
+
+    /** Master switch. static final: the JIT removes every measurement when false. */
+    public static final boolean ENABLED = VolcanEngineConfig.KERNEL_ALLOC_AUDIT;
+
+    /** Kernel phase sites (see EngineKernel). */
+    public static final int PHASE_INPUT_LATCH = 0;
+    public static final int PHASE_BUS_PROCESSING = 1;
+    public static final int PHASE_SYSTEMS_EXECUTION = 2;
+    public static final int PHASE_STATE_AUDIT = 3;
+    public static final int PHASE_RENDER = 4;
+    public static final int PHASE_TELEMETRY = 5;
+
+    static final String[] PHASE_NAMES = {
+        "InputLatch", "BusProcessing", "SystemsExecution", "StateAudit", "Render", "Telemetry"
+    };
+
+    /** 8 longs = 64 bytes per site: workers recording different nodes never share a line. */
+    private static final int STRIDE = 8;
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    private final String scope;
+    private final String[] siteNames;
+    private final int siteCount;
+    private final long budgetBytes;
+    private final int warmupFrames;
+
+    private final long[] frameBytes;  // [site * STRIDE] — current frame, written by the site's thread
+    private final long[] violations;  // [site]
+    private final long[] worstBytes;  // [site] — worst frame after warm-up
+    private long frames;
+    private long violatingFrames;
+    private long totalViolations;
+
+    /**
+     * @param scope        Label of the report ("PHASE", "DAG").
+     * @param siteNames    Names indexed by site (phase constant or VolcanTaskNode.index).
+     * @param budgetBytes  Bytes a site may allocate per frame.
+     * @param warmupFrames Frames ignored before violations count.
+     */
+    public AllocationAuditor(String scope, String[] siteNames, long budgetBytes, int warmupFrames) {
+        this.scope = scope;
+        this.siteNames = siteNames;
+        this.siteCount = siteNames.length;
+        this.budgetBytes = budgetBytes;
+        this.warmupFrames = Math.max(0, warmupFrames);
+        this.frameBytes = new long[Math.max(1, siteCount) * STRIDE];
+        this.violations = new long[Math.max(1, siteCount)];
+        this.worstBytes = new long[Math.max(1, siteCount)];
+    }
+
+    /** Auditor with the budget and warm-up of volcan.kernel.alloc.*. */
+    public static AllocationAuditor fromConfig(String scope, String[] siteNames) {
+        return new AllocationAuditor(scope, siteNames, VolcanEngineConfig.KERNEL_ALLOC_BUDGET_BYTES,
+                VolcanEngineConfig.KERNEL_ALLOC_WARMUP_FRAMES);
+    }
+
+    /**
+     * Bytes allocated so far by the calling thread (0 if the JVM cannot tell).
+     * // [THREAD_SAFE] [ZERO_GC_GUARANTEED]
+     */
+    public static long threadAllocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    // -------------------------------------------------------------------------
+    // RECORDING (Hot-Path)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Adds bytes allocated by one site this frame (a phase may run several times, e.g. fixed steps).
+     * // [THREAD_SAFE] — one writer per site per frame. [ZERO_GC_GUARANTEED]
+     */
+    void record(int site, long bytes) {
+        frameBytes[site * STRIDE] += bytes;
+    }
+
+    /**
+     * Checks every site against the budget and clears the frame.
+     * // [MAIN_THREAD_ONLY] — after the frame completed.
+     *
+     * @return Sites over budget this frame (0 during warm-up).
+     */
+    int endFrame() {
+        boolean counting = ++frames > warmupFrames;
+        int over = 0;
+        for (int s = 0; s < siteCount; s++) {
+            long bytes = frameBytes[s * STRIDE];
+            frameBytes[s * STRIDE] = 0;
+            if (!counting) continue;
+            if (bytes > worstBytes[s]) worstBytes[s] = bytes;
+            if (bytes > budgetBytes) {
+                over++;
+                if (violations[s]++ == 0) {
+                    // Once per site: the log line itself allocates
+                    VolcanLogger.warning("ALLOC", scope + " '" + siteNames[s] + "' allocated " + bytes
+                            + " bytes in frame " + frames + " (budget " + budgetBytes + ")");
+                }
+            }
+        }
+        if (over > 0) {
+            violatingFrames++;
+            totalViolations += over;
+        }
+        return over;
+    }
+
+    // -------------------------------------------------------------------------
+    // QUERIES (Off the frame path)
+    // -------------------------------------------------------------------------
+
+    public String getScope() { return scope; }
+
+    public int getSiteCount() { return siteCount; }
+
+    public String getSiteName(int site) {
+        return (site >= 0 && site < siteCount) ? siteNames[site] : "?";
+    }
+
+    /** Frames in which this site went over budget. */
+    public long getViolations(int site) { return violations[site]; }
+
+    /** Most bytes this site allocated in one frame after warm-up. */
+    public long getWorstBytes(int site) { return worstBytes[site]; }
+
+    public long getTotalViolations() { return totalViolations; }
+
+    public long getViolatingFrames() { return violatingFrames; }
+
+    public long getFrames() { return frames; }
+
+    public long getBudgetBytes() { return budgetBytes; }
+
+    /** One line per offending site: "SCOPE 'name': N frames over budget, worst W bytes". */
+    public List<String> getOffenders() {
+        List<String> offenders = new ArrayList<>();
+        for (int s = 0; s < siteCount; s++) {
+            if (violations[s] == 0) continue;
+            offenders.add(scope + " '" + siteNames[s] + "': " + violations[s] + " frames over budget, worst "
+                    + worstBytes[s] + " bytes");
+        }
+        return offenders;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)) {
+            return null;
+        }
+        if (!bean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,221 @@
+// Reading Order: 11000011
+//  195
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.state.WorldStateFrame;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RESPONSIBILITY: Runs blocking systems (GameSystem.isBlocking()) on virtual threads, outside the frame.
+ * WHY: Asset loads, database writes and webhooks block for milliseconds to seconds. On a DAG,
+ * layer or fork-join worker they hold a platform thread and every dependent node for that long.
+ * TECHNIQUE: One virtual thread per run (thread-per-task executor). The kernel thread only
+ * starts runs: a system that is still in flight when it comes due again is skipped and its
+ * deltaTime is carried over to its next run, so the time it sees still adds up. Each run reads a
+ * private snapshot of the state, copied by the kernel thread when the run starts (before any
+ * system of the frame writes): the live frame is written by DAG workers and, when double
+ * buffered, republished at every pass, so handing it over would give torn reads. Results come
+ * back as WorldCommandBus commands, which the kernel applies in phaseBusProcessing.
+ * GUARANTEES: The kernel thread never waits for a blocking system. A run sees one consistent
+ * state (the one the frame's systems start from). A system never runs twice concurrently
+ * (GameSystem contract). Exceptions are logged and counted, never propagated.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 5_000,
+    minThroughput = 60,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Frame-decoupled virtual-thread lane for blocking systems."
+)
+public final class AsyncSystemLane {
+
+    private final ExecutorService executor;
+    private final WorldCommandBus commands;
+
+    // Copy-on-write: hot registration publishes a new array, dispatch() reads a snapshot.
+    private volatile Entry[] entries = new Entry[0];
+
+    private final AtomicLong completedRuns = new AtomicLong();
+    private final AtomicLong failedRuns = new AtomicLong();
+    private long startedRuns;
+    private long skippedRuns;
+
+    public AsyncSystemLane(WorldCommandBus commands) {
+        this.commands = commands;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Volcan-Async-", 0).factory());
+    }
+
+    /** One blocking system and its single reusable run. */
+    private final class Entry implements Runnable {
+        final GameSystem system;
+        final SystemSchedule schedule;
+        final AtomicBoolean inFlight = new AtomicBoolean();
+        float carriedDelta; // Kernel thread only: time skipped while the previous run was busy
+        WorldStateFrame snapshot; // Private copy of the state, refilled only while not in flight
+        // Published to the virtual thread by executor.execute() (happens-before)
+        WorldStateFrame state;
+        float deltaTime;
+
+        Entry(GameSystem system, SystemSchedule schedule) {
+            this.system = system;
+            this.schedule = schedule;
+        }
+
+        @Override
+        public void run() {
+            try {
+                system.update(state, deltaTime);
+                completedRuns.incrementAndGet();
+            } catch (Exception e) {
+                failedRuns.incrementAndGet();
+                VolcanLogger.error("ASYNC", "[" + system.getName() + "] Exception on async lane: " + e.getMessage());
+            } finally {
+                state = null;
+                inFlight.set(false);
+            }
+        }
+    }
+
+    /** Adds a blocking system. Safe from any thread; runs from the next dispatch(). */
+    public synchronized void register(GameSystem system, SystemSchedule schedule) {
+        Entry[] next = Arrays.copyOf(entries, entries.length + 1);
+        next[next.length - 1] = new Entry(system, schedule);
+        entries = next;
+        VolcanLogger.info("ASYNC", "Registered blocking system: " + system.getName() + " [" + schedule + "]");
+    }
+
+    /**
+     * Removes a blocking system. A run already in flight finishes; its commands still apply.
+     *
+     * @return false if no blocking system has that name.
+     */
+    public synchronized boolean unregister(String systemName) {
+        Entry[] current = entries;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].system.getName().equals(systemName)) {
+                Entry[] next = new Entry[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                entries = next;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean contains(String systemName) {
+        for (Entry entry : entries) {
+            if (entry.system.getName().equals(systemName)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Starts every due system that is not already running. Returns immediately.
+     * // [MAIN_THREAD_ONLY] — allocates one virtual thread per started run.
+     */
+    public void dispatch(WorldStateFrame state, long tick, float deltaTime) {
+        for (Entry entry : entries) {
+            entry.schedule.advance(tick, deltaTime);
+            if (!entry.schedule.due) continue;
+            float elapsed = entry.carriedDelta + entry.schedule.elapsedDelta;
+            if (!entry.inFlight.compareAndSet(false, true)) {
+                entry.carriedDelta = elapsed; // Still busy: its next run covers this tick too
+                skippedRuns++;
+                continue;
+            }
+            entry.carriedDelta = 0f;
+            entry.state = state == null ? null : snapshot(entry, state);
+            entry.deltaTime = elapsed;
+            startedRuns++;
+            try {
+                executor.execute(entry);
+            } catch (RuntimeException e) { // Rejected: lane already shut down
+                entry.inFlight.set(false);
+                entry.state = null;
+            }
+        }
+    }
+
+    /**
+     * Copies what the frame's systems read (the published buffer when double buffered) into the
+     * entry's snapshot. Allocates once per entry (and again only if the state size changes).
+     * // [MAIN_THREAD_ONLY] — the entry is not in flight, nobody reads its snapshot.
+     */
+    private static WorldStateFrame snapshot(Entry entry, WorldStateFrame state) {
+        MemorySegment source = state.getReadSegment();
+        WorldStateFrame copy = entry.snapshot;
+        if (copy == null || copy.getRawSegment().byteSize() != source.byteSize()) {
+            // Auto arena: a run still in flight after shutdown() never touches freed memory
+            copy = new WorldStateFrame(Arena.ofAuto(), source, state.getTimestamp());
+            entry.snapshot = copy;
+        } else {
+            copy.getRawSegment().copyFrom(source);
+        }
+        return copy;
+    }
+
+    /** True while at least one blocking system is running. */
+    public boolean isBusy() {
+        for (Entry entry : entries) {
+            if (entry.inFlight.get()) return true;
+        }
+        return false;
+    }
+
+    /** Bus the blocking systems publish their results on. */
+    public WorldCommandBus getCommandBus() {
+        return commands;
+    }
+
+    public int getSystemCount() {
+        return entries.length;
+    }
+
+    public long getStartedRuns() {
+        return startedRuns;
+    }
+
+    /** Ticks on which a due system was still running and had to wait. */
+    public long getSkippedRuns() {
+        return skippedRuns;
+    }
+
+    public long getCompletedRuns() {
+        return completedRuns.get();
+    }
+
+    public long getFailedRuns() {
+        return failedRuns.get();
+    }
+
+    /** Interrupts the runs in flight and waits briefly for them to unwind. */
+    public void shutdown() {
+        executor.shutdownNow();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                VolcanLogger.warning("ASYNC", "Blocking systems still running after shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+// Reading Order: 10110101
+//  181
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.bus.VolcanEventDispatcher;
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+import sv.volcan.memory.SectorMemoryVault;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RESPONSIBILITY: Headless batch simulation: step worlds for N ticks as fast as the CPU allows.
+ * WHY: Offline balancing runs do not want pacing, power-saving tiers, hibernation sleeps, phase
+ * timers, shutdown hooks or a zombie shield. They want ticks per second, and many worlds at once.
+ * TECHNIQUE: Each world is a batch EngineKernel (see EngineKernel.createBatchKernel) stepped with a
+ * fixed deltaTime in a tight loop. Worlds run on a fixed platform-thread pool, one world per thread
+ * at a time: a world's systems stay sequential and the parallelism comes from the worlds.
+ * GUARANTEES: Deterministic: every world receives exactly {@code ticks} steps of {@code fixedDeltaTime}.
+ * Each world owns its vaults and buses and is released before its thread picks up the next one.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 0,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = false,
+    offHeap       = true,
+    notes         = "Fixed-dt headless stepping of N worlds across cores. No pacing, no hooks."
+)
+public final class BatchSimulationRunner {
+
+    /** Configures a freshly created world (register systems, seed entities, build graphs). */
+    @FunctionalInterface
+    public interface WorldSetup {
+        void configure(int worldIndex, EngineKernel kernel);
+    }
+
+    /** Outcome of one world. */
+    public static final class Result {
+        public final int worldIndex;
+        public final long ticks;
+        public final long elapsedNs;
+
+        Result(int worldIndex, long ticks, long elapsedNs) {
+            this.worldIndex = worldIndex;
+            this.ticks = ticks;
+            this.elapsedNs = elapsedNs;
+        }
+
+        public double ticksPerSecond() {
+            return elapsedNs == 0 ? 0.0 : ticks * 1_000_000_000.0 / elapsedNs;
+        }
+    }
+
+    /** Outcome of a multi-world batch. */
+    public static final class Report {
+        public final Result[] worlds;
+        public final long wallNs;
+
+        Report(Result[] worlds, long wallNs) {
+            this.worlds = worlds;
+            this.wallNs = wallNs;
+        }
+
+        public long totalTicks() {
+            long total = 0;
+            for (Result r : worlds) total += r.ticks;
+            return total;
+        }
+
+        /** Ticks of all worlds per wall-clock second. */
+        public double aggregateTicksPerSecond() {
+            return wallNs == 0 ? 0.0 : totalTicks() * 1_000_000_000.0 / wallNs;
+        }
+
+        @Override
+        public String toString() {
+            return worlds.length + " worlds, " + totalTicks() + " ticks in " + (wallNs / 1_000_000) + " ms ("
+                    + String.format("%.0f", aggregateTicksPerSecond()) + " ticks/s aggregate)";
+        }
+    }
+
+    /** Default vault size per world: 16 sectors (1 MB) instead of the 64 MB of a live kernel. */
+    public static final int DEFAULT_SECTOR_COUNT = 16;
+
+    private static final int BUS_SIZE_POWER = 10;
+
+    private final long ticks;
+    private final float fixedDeltaTime;
+    private final int sectorCount;
+
+    public BatchSimulationRunner(long ticks, float fixedDeltaTime) {
+        this(ticks, fixedDeltaTime, DEFAULT_SECTOR_COUNT);
+    }
+
+    /**
+     * @param ticks          Ticks to run per world.
+     * @param fixedDeltaTime Simulated seconds per tick.
+     * @param sectorCount    SectorMemoryVault sectors per world.
+     */
+    public BatchSimulationRunner(long ticks, float fixedDeltaTime, int sectorCount) {
+        if (ticks < 0) throw new IllegalArgumentException("ticks must be >= 0: " + ticks);
+        if (!(fixedDeltaTime > 0)) throw new IllegalArgumentException("fixedDeltaTime must be > 0: " + fixedDeltaTime);
+        this.ticks = ticks;
+        this.fixedDeltaTime = fixedDeltaTime;
+        this.sectorCount = sectorCount;
+    }
+
+    /**
+     * Creates, configures, steps and releases one world on the calling thread.
+     */
+    public Result runWorld(int worldIndex, WorldSetup setup) {
+        EngineKernel kernel = EngineKernel.createBatchKernel(
+                VolcanEventDispatcher.createDefault(BUS_SIZE_POWER), new SectorMemoryVault(sectorCount));
+        try {
+            setup.configure(worldIndex, kernel);
+            long start = System.nanoTime();
+            for (long t = 0; t < ticks; t++) {
+                kernel.step(fixedDeltaTime);
+            }
+            return new Result(worldIndex, kernel.getTotalFrames(), System.nanoTime() - start);
+        } finally {
+            kernel.closeBatch();
+        }
+    }
+
+    /**
+     * Runs {@code worldCount} independent worlds on {@code threads} platform threads.
+     *
+     * @param threads Pool size; 0 = one per available processor.
+     */
+    public Report runWorlds(int worldCount, int threads, WorldSetup setup) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        poolSize = Math.max(1, Math.min(poolSize, worldCount));
+        AtomicInteger threadId = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(poolSize, r -> {
+            Thread t = new Thread(r, "VolcanBatch-" + threadId.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+
+        long start = System.nanoTime();
+        try {
+            List<Callable<Result>> jobs = new ArrayList<>(worldCount);
+            for (int w = 0; w < worldCount; w++) {
+                final int worldIndex = w;
+                jobs.add(() -> runWorld(worldIndex, setup));
+            }
+            List<Future<Result>> futures = pool.invokeAll(jobs);
+            Result[] results = new Result[worldCount];
+            for (int w = 0; w < worldCount; w++) {
+                results[w] = futures.get(w).get();
+            }
+            Report report = new Report(results, System.nanoTime() - start);
+            VolcanLogger.info("BATCH", report.toString());
+            return report;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Batch simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("World failed during batch simulation", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+// Reading Order: 10111011
+//  187
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+
+import java.util.Arrays;
+
+/**
+ * RESPONSIBILITY: Decides which core each engine thread is pinned to.
+ * WHY: Only the kernel thread was pinned. DAG and layer workers floated onto the kernel's core or
+ * its SMT sibling, and the admin consumer / UDP receiver woke up next to the hot path.
+ * TECHNIQUE: Orders the online CPUs from a CpuTopology relative to the kernel core:
+ * COMPACT fills physical cores of the kernel's L3 domain first, then the rest of its NUMA node,
+ * then other nodes, and only then SMT siblings. SPREAD takes one physical core per L3 domain in
+ * turn (bandwidth over locality), siblings last. The kernel core and its siblings are never handed
+ * to workers. Housekeeping threads (admin, network) get the least preferred core, outside the
+ * kernel's L3 when one exists. NONE pins nothing (default). fromConfig(availableCores) restricts
+ * workers to the cores a world host still has free, so pools never land on other worlds' kernels.
+ * GUARANTEES: Immutable. Pure computation: pinning itself happens on the pinned thread (pinSelf).
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 0,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Topology-aware core assignment for workers and housekeeping threads."
+)
+public final class CpuPlacement {
+
+    public enum Policy { NONE, COMPACT, SPREAD }
+
+    private static volatile CpuPlacement configured;
+
+    private final CpuTopology topology;
+    private final Policy policy;
+    private final int kernelCore;
+    private final int[] workerOrder;     // Preferred worker cores, best first
+    private final int housekeepingCore;
+    private final int explicitHousekeepingCore; // As configured (-1 = derived), kept for within()
+
+    /**
+     * @param kernelCore       Core of the kernel thread (-1 = not pinned).
+     * @param housekeepingCore Explicit admin/network core, or -1 to derive it from the topology.
+     */
+    public CpuPlacement(CpuTopology topology, Policy policy, int kernelCore, int housekeepingCore) {
+        this(topology, policy, kernelCore, housekeepingCore, null);
+    }
+
+    private CpuPlacement(CpuTopology topology, Policy policy, int kernelCore, int housekeepingCore, int[] allowed) {
+        this.topology = topology;
+        this.policy = policy;
+        this.kernelCore = topology.isOnline(kernelCore) ? kernelCore : -1;
+        this.explicitHousekeepingCore = housekeepingCore;
+        this.workerOrder = policy == Policy.NONE ? new int[0] : order(allowed);
+        this.housekeepingCore = policy == Policy.NONE ? -1
+                : housekeepingCore >= 0 ? housekeepingCore : pickHousekeeping();
+    }
+
+    /** Placement from volcan.kernel.placement.* (topology detected once per process). */
+    public static CpuPlacement fromConfig() {
+        CpuPlacement placement = configured;
+        if (placement == null) {
+            synchronized (CpuPlacement.class) {
+                placement = configured;
+                if (placement == null) {
+                    Policy policy = Policy.NONE;
+                    try {
+                        policy = Policy.valueOf(VolcanEngineConfig.KERNEL_PLACEMENT_POLICY);
+                    } catch (IllegalArgumentException e) {
+                        VolcanLogger.warning("TOPOLOGY", "Unknown placement policy "
+                                + VolcanEngineConfig.KERNEL_PLACEMENT_POLICY + ", threads are not pinned");
+                    }
+                    CpuTopology topology = policy == Policy.NONE
+                            ? CpuTopology.flat(Runtime.getRuntime().availableProcessors())
+                            : CpuTopology.detect();
+                    placement = new CpuPlacement(topology, policy,
+                            VolcanEngineConfig.KERNEL_THREAD_PINNING ? VolcanEngineConfig.KERNEL_THREAD_CORE : -1,
+                            VolcanEngineConfig.KERNEL_PLACEMENT_HOUSEKEEPING_CORE);
+                    if (policy != Policy.NONE) {
+                        VolcanLogger.info("TOPOLOGY", topology + " | " + placement);
+                    }
+                    configured = placement;
+                }
+            }
+        }
+        return placement;
+    }
+
+    /**
+     * Configured placement restricted to {@code availableCores}, e.g. the cores a world host has not
+     * yet handed to other kernels or worker pools. Empty set: every worker is left unpinned.
+     */
+    public static CpuPlacement fromConfig(int[] availableCores) {
+        return fromConfig().within(availableCores);
+    }
+
+    /** Same policy and kernel core, workers limited to {@code cores} (order still follows the policy). */
+    public CpuPlacement within(int[] cores) {
+        int[] allowed = cores.clone();
+        Arrays.sort(allowed);
+        return new CpuPlacement(topology, policy, kernelCore, explicitHousekeepingCore, allowed);
+    }
+
+    // =========================================================================
+    // ASSIGNMENT
+    // =========================================================================
+
+    /**
+     * Cores for {@code count} workers (-1 = leave unpinned). With more workers than candidate
+     * cores the order wraps: workers share cores rather than landing on the kernel's.
+     */
+    public int[] workerCores(int count) {
+        int[] cores = new int[count];
+        for (int i = 0; i < count; i++) {
+            cores[i] = workerOrder.length == 0 ? -1 : workerOrder[i % workerOrder.length];
+        }
+        return cores;
+    }
+
+    /** Core for the admin consumer and network receive threads, or -1. */
+    public int housekeepingCore() { return housekeepingCore; }
+
+    public Policy getPolicy() { return policy; }
+
+    public CpuTopology getTopology() { return topology; }
+
+    /** Pins the calling thread to {@code core}; no-op for -1. */
+    public static boolean pinSelf(int core) {
+        return core >= 0 && ThreadPinning.pinToCore(core);
+    }
+
+    @Override
+    public String toString() {
+        return "placement " + policy + " | kernel core " + kernelCore + " | workers " + Arrays.toString(workerOrder)
+                + " | housekeeping core " + housekeepingCore;
+    }
+
+    // =========================================================================
+    // ORDERING
+    // =========================================================================
+
+    private int[] order(int[] allowed) {
+        int[] cpus = topology.getCpus();
+        int[] candidates = new int[cpus.length];
+        int n = 0;
+        for (int cpu : cpus) {
+            if (kernelCore >= 0 && topology.areSiblings(cpu, kernelCore)) continue; // Never share the kernel's core
+            if (allowed != null && Arrays.binarySearch(allowed, cpu) < 0) continue; // Taken by another kernel
+            candidates[n++] = cpu;
+        }
+        candidates = Arrays.copyOf(candidates, n);
+        return policy == Policy.SPREAD ? spread(candidates) : compact(candidates);
+    }
+
+    /** Rank: 0 primary in kernel L3, 1 primary in kernel node, 2 other primary, 3-5 same for siblings. */
+    private int[] compact(int[] candidates) {
+        int anchor = kernelCore >= 0 ? kernelCore : (candidates.length > 0 ? candidates[0] : 0);
+        Integer[] boxed = new Integer[candidates.length];
+        for (int i = 0; i < boxed.length; i++) boxed[i] = candidates[i];
+        Arrays.sort(boxed, (a, b) -> {
+            int byRank = Integer.compare(rank(a, anchor), rank(b, anchor));
+            return byRank != 0 ? byRank : Integer.compare(a, b);
+        });
+        int[] out = new int[boxed.length];
+        for (int i = 0; i < out.length; i++) out[i] = boxed[i];
+        return out;
+    }
+
+    private int rank(int cpu, int anchor) {
+        int locality = topology.l3Of(cpu) == topology.l3Of(anchor) ? 0
+                : topology.nodeOf(cpu) == topology.nodeOf(anchor) ? 1 : 2;
+        return (topology.isSmtPrimary(cpu) ? 0 : 3) + locality;
+    }
+
+    /** Round-robin over L3 domains (starting with the kernel's), primaries before siblings. */
+    private int[] spread(int[] candidates) {
+        int[] out = new int[candidates.length];
+        int n = 0;
+        for (boolean primaries : new boolean[] {true, false}) {
+            int[] pool = Arrays.stream(candidates).filter(c -> topology.isSmtPrimary(c) == primaries).toArray();
+            int[] domains = Arrays.stream(pool).map(topology::l3Of).distinct().toArray();
+            if (kernelCore >= 0) {
+                int kernelDomain = topology.l3Of(kernelCore);
+                for (int i = 0; i < domains.length; i++) {
+                    if (domains[i] == kernelDomain) {
+                        domains[i] = domains[0];
+                        domains[0] = kernelDomain;
+                    }
+                }
+            }
+            int[] cursor = new int[domains.length];
+            int taken = 0;
+            while (taken < pool.length) {
+                for (int d = 0; d < domains.length; d++) {
+                    while (cursor[d] < pool.length && topology.l3Of(pool[cursor[d]]) != domains[d]) cursor[d]++;
+                    if (cursor[d] < pool.length) {
+                        out[n++] = pool[cursor[d]++];
+                        taken++;
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    private int pickHousekeeping() {
+        if (workerOrder.length == 0) return -1;
+        int kernelDomain = kernelCore >= 0 ? topology.l3Of(kernelCore) : Integer.MIN_VALUE;
+        for (int i = workerOrder.length - 1; i >= 0; i--) {
+            int cpu = workerOrder[i];
+            if (topology.isSmtPrimary(cpu) && topology.l3Of(cpu) != kernelDomain) return cpu;
+        }
+        return workerOrder[workerOrder.length - 1]; // Single L3: the least preferred worker core
+    }
+}
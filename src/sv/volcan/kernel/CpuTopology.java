@@ -0,0 +1,246 @@
+// Reading Order: 10111010
+//  186
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+/**
+ * RESPONSIBILITY: Logical CPU topology: SMT siblings, shared L3 domains and NUMA nodes.
+ * WHY: ThreadPinning knows how to pin, not where. Two workers on SMT siblings share one core's
+ * execution units; a worker outside the kernel's L3 pays a cross-die miss on every shared line.
+ * TECHNIQUE: Reads Linux sysfs once (/sys/devices/system/cpu): online list, per-CPU
+ * topology/thread_siblings_list, the level-3 entry of cache/indexN/shared_cpu_list and the
+ * cpuN/nodeM links. Each group is identified by its lowest CPU number. Elsewhere (Windows, macOS,
+ * containers hiding sysfs) it degrades to a flat topology: one core per CPU, one L3, one node.
+ * GUARANTEES: Immutable after construction. Never throws on unreadable sysfs entries.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 0,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "sysfs CPU topology: SMT siblings, L3 domains, NUMA nodes."
+)
+public final class CpuTopology {
+
+    private static final Path SYSFS_CPU = Path.of("/sys/devices/system/cpu");
+
+    private final int[] cpus;      // Online logical CPUs, ascending
+    private final int[] coreId;    // Indexed by CPU number: lowest SMT sibling
+    private final int[] l3Id;      // Indexed by CPU number: lowest CPU sharing the L3
+    private final int[] nodeId;    // Indexed by CPU number: NUMA node
+    private final boolean fromSysfs;
+
+    private CpuTopology(int[] cpus, int[] coreId, int[] l3Id, int[] nodeId, boolean fromSysfs) {
+        this.cpus = cpus;
+        this.coreId = coreId;
+        this.l3Id = l3Id;
+        this.nodeId = nodeId;
+        this.fromSysfs = fromSysfs;
+    }
+
+    /** Topology of this machine (sysfs on Linux, flat elsewhere). */
+    public static CpuTopology detect() {
+        if (Files.isDirectory(SYSFS_CPU)) {
+            CpuTopology topology = read(SYSFS_CPU);
+            if (topology != null) return topology;
+        }
+        return flat(Runtime.getRuntime().availableProcessors());
+    }
+
+    /** One core per CPU, one L3 domain, one NUMA node. */
+    public static CpuTopology flat(int cpuCount) {
+        int[] cpus = new int[Math.max(1, cpuCount)];
+        int[] core = new int[cpus.length];
+        for (int i = 0; i < cpus.length; i++) {
+            cpus[i] = i;
+            core[i] = i;
+        }
+        return new CpuTopology(cpus, core, new int[cpus.length], new int[cpus.length], false);
+    }
+
+    /**
+     * Parses a sysfs CPU directory (or a copy of it).
+     *
+     * @return null if no CPU could be read.
+     */
+    public static CpuTopology read(Path cpuRoot) {
+        int[] cpus = parseCpuList(readLine(cpuRoot.resolve("online")));
+        if (cpus.length == 0) {
+            cpus = listCpuDirectories(cpuRoot);
+        }
+        if (cpus.length == 0) return null;
+
+        int maxCpu = cpus[cpus.length - 1];
+        int[] core = new int[maxCpu + 1];
+        int[] l3 = new int[maxCpu + 1];
+        int[] node = new int[maxCpu + 1];
+        for (int cpu : cpus) {
+            Path dir = cpuRoot.resolve("cpu" + cpu);
+            core[cpu] = lowest(parseCpuList(readLine(dir.resolve("topology").resolve("thread_siblings_list"))), cpu);
+            l3[cpu] = lowest(readL3SharedList(dir), -1);
+            if (l3[cpu] < 0) {
+                // No L3 reported (some VMs): the package is the closest shared-cache domain
+                String pkg = readLine(dir.resolve("topology").resolve("physical_package_id"));
+                l3[cpu] = pkg != null ? -1 - parseIntOr(pkg, 0) : -1;
+            }
+            node[cpu] = readNode(dir);
+        }
+        return new CpuTopology(cpus, core, l3, node, true);
+    }
+
+    // =========================================================================
+    // QUERIES
+    // =========================================================================
+
+    /** Online logical CPUs, ascending. */
+    public int[] getCpus() { return cpus.clone(); }
+
+    public int getCpuCount() { return cpus.length; }
+
+    public boolean isOnline(int cpu) { return Arrays.binarySearch(cpus, cpu) >= 0; }
+
+    /** Physical core of a CPU (its lowest SMT sibling). */
+    public int coreOf(int cpu) { return inRange(cpu) ? coreId[cpu] : cpu; }
+
+    /** L3 domain of a CPU (identified by a member CPU; negative = package fallback). */
+    public int l3Of(int cpu) { return inRange(cpu) ? l3Id[cpu] : 0; }
+
+    public int nodeOf(int cpu) { return inRange(cpu) ? nodeId[cpu] : 0; }
+
+    /** True for the first hardware thread of its core. */
+    public boolean isSmtPrimary(int cpu) { return coreOf(cpu) == cpu; }
+
+    public boolean areSiblings(int a, int b) { return coreOf(a) == coreOf(b); }
+
+    public int getPhysicalCoreCount() {
+        int count = 0;
+        for (int cpu : cpus) if (isSmtPrimary(cpu)) count++;
+        return count;
+    }
+
+    public int getL3DomainCount() { return distinct(l3Id); }
+
+    public int getNodeCount() { return distinct(nodeId); }
+
+    public boolean isFromSysfs() { return fromSysfs; }
+
+    @Override
+    public String toString() {
+        return cpus.length + " CPUs, " + getPhysicalCoreCount() + " cores, " + getL3DomainCount() + " L3 domains, "
+                + getNodeCount() + " NUMA nodes" + (fromSysfs ? "" : " (flat fallback)");
+    }
+
+    // =========================================================================
+    // PARSING
+    // =========================================================================
+
+    /** Parses the kernel's cpulist format ("0-3,8,10-11"). Malformed input yields an empty array. */
+    public static int[] parseCpuList(String list) {
+        if (list == null || list.isBlank()) return new int[0];
+        try {
+            int[] out = new int[16];
+            int n = 0;
+            for (String part : list.trim().split(",")) {
+                int dash = part.indexOf('-');
+                int from = Integer.parseInt(part.substring(0, dash < 0 ? part.length() : dash).trim());
+                int to = dash < 0 ? from : Integer.parseInt(part.substring(dash + 1).trim());
+                for (int cpu = from; cpu <= to; cpu++) {
+                    if (n == out.length) out = Arrays.copyOf(out, n * 2);
+                    out[n++] = cpu;
+                }
+            }
+            int[] result = Arrays.copyOf(out, n);
+            Arrays.sort(result);
+            return result;
+        } catch (RuntimeException e) {
+            return new int[0];
+        }
+    }
+
+    private static int[] readL3SharedList(Path cpuDir) {
+        Path cache = cpuDir.resolve("cache");
+        for (int index = 0; index < 8; index++) {
+            Path entry = cache.resolve("index" + index);
+            String level = readLine(entry.resolve("level"));
+            if (level == null) break;
+            if ("3".equals(level)) {
+                return parseCpuList(readLine(entry.resolve("shared_cpu_list")));
+            }
+        }
+        return new int[0];
+    }
+
+    private static int readNode(Path cpuDir) {
+        try (Stream<Path> entries = Files.list(cpuDir)) {
+            return entries.map(p -> p.getFileName().toString())
+                    .filter(name -> name.startsWith("node") && name.length() > 4
+                            && Character.isDigit(name.charAt(4)))
+                    .mapToInt(name -> parseIntOr(name.substring(4), 0))
+                    .findFirst().orElse(0);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static int[] listCpuDirectories(Path cpuRoot) {
+        try (Stream<Path> entries = Files.list(cpuRoot)) {
+            return entries.map(p -> p.getFileName().toString())
+                    .filter(name -> name.matches("cpu\\d+"))
+                    .mapToInt(name -> Integer.parseInt(name.substring(3)))
+                    .sorted().toArray();
+        } catch (IOException e) {
+            return new int[0];
+        }
+    }
+
+    private static String readLine(Path file) {
+        try {
+            return Files.readString(file).trim();
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static int parseIntOr(String text, int fallback) {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            VolcanLogger.warning("TOPOLOGY", "Unreadable sysfs value: " + text);
+            return fallback;
+        }
+    }
+
+    private static int lowest(int[] list, int fallback) {
+        return list.length > 0 ? list[0] : fallback;
+    }
+
+    private boolean inRange(int cpu) {
+        return cpu >= 0 && cpu < coreId.length;
+    }
+
+    private int distinct(int[] ids) {
+        int[] seen = new int[cpus.length];
+        int n = 0;
+        outer:
+        for (int cpu : cpus) {
+            for (int i = 0; i < n; i++) if (seen[i] == ids[cpu]) continue outer;
+            seen[n++] = ids[cpu];
+        }
+        return n;
+    }
+}
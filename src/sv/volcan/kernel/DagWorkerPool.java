@@ -0,0 +1,370 @@
+// Reading Order: 10110111
+//  183
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * RESPONSIBILITY: Worker threads of the DAG runtime, shareable by several VolcanTaskDispatchers.
+ * WHY: One dispatcher per world, each spawning (cores - 1) workers, means dozens of worlds on a
+ * 64-core box spawn thousands of threads fighting over the same cores. Worlds must be able to
+ * share one pool sized to the machine, or get a fixed partition of it.
+ * TECHNIQUE: Each worker polls the Vyukov queues of the attached dispatchers (copy-on-write array,
+ * rotating start index for fairness) and runs the node on its owner dispatcher. Idle workers
+ * follow the WorkerIdlePolicy (spin, yield, park); wake-ups are coalesced via the spinning count.
+ * ADAPTIVE SIZE: Only workers[0..activeWorkers) poll and get woken. The rest sleep in a plain
+ * park outside the wake rotation until a WorkerScaler, fed by the single attached dispatcher,
+ * raises the count again. Shared pools (several dispatchers) keep every worker active.
+ * GUARANTEES: Zero allocations per frame. attach/detach only at boot / world teardown.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 500,
+    minThroughput = 0,
+    alignment     = 64,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Shared / partitioned DAG worker pool with spin-yield-park idle policy."
+)
+public final class DagWorkerPool {
+
+    private final WorkerThread[] workers;
+    private volatile VolcanTaskDispatcher[] dispatchers = new VolcanTaskDispatcher[0];
+    private volatile WorkerIdlePolicy idlePolicy;
+    private volatile boolean isShutdown = false;
+
+    /** Workers allowed to poll: workers[0..activeWorkers). The kernel thread always helps. */
+    private volatile int activeWorkers;
+    private WorkerScaler scaler; // null = fixed size. Fed by the kernel thread only.
+    private final StringBuilder resizeLine = new StringBuilder(96); // Reused by reportFrame()
+
+    /**
+     * Round-robin index for wake-ups.
+     * WHY: Always unparking workers[0] is a no-op if workers[0] is executing a
+     * long task. Rotating ensures the newly-enqueued successor reaches an idle worker.
+     */
+    private final AtomicInteger nextWakeIdx = new AtomicInteger(0);
+
+    /**
+     * Workers currently idle but awake (spinning or yielding).
+     * WHY: A spinning worker will see new work within ~100ns. Unparking another one on top of it
+     * is a wasted futex syscall, so wake-ups are coalesced: unpark only when this is 0.
+     */
+    private final AtomicInteger spinningWorkers = new AtomicInteger(0);
+
+    // =========================================================================
+    // WORKER THREAD
+    // =========================================================================
+
+    private final class WorkerThread extends Thread {
+        /** Profiler slot: 0 is reserved for the kernel thread. */
+        private final int slot;
+
+        /** Core this worker pins itself to (-1 = floating). */
+        private final int core;
+
+        /** True between the decision to park and the wake-up. Read by wake-up producers. */
+        volatile boolean parked;
+
+        /** True while deactivated by the scaler (deep sleep, out of the wake rotation). */
+        volatile boolean dormant;
+
+        WorkerThread(String name, int id, int core) {
+            super(name);
+            this.slot = id + 1;
+            this.core = core;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            CpuPlacement.pinSelf(core);
+            VolcanTraceRecorder.Ring traceRing = VolcanTraceRecorder.ENABLED ? VolcanTraceRecorder.currentThreadRing() : null;
+            boolean idle = false;
+            long idleSinceNs = 0L;
+            int rotation = slot;
+            while (!isShutdown) {
+                if (slot > activeWorkers) {
+                    // Surplus worker: leave the spinning set and sleep until setActiveWorkers()
+                    if (idle) {
+                        idle = false;
+                        spinningWorkers.decrementAndGet();
+                    }
+                    dormant = true;
+                    if (slot > activeWorkers && !isShutdown) LockSupport.park(this);
+                    dormant = false;
+                    continue;
+                }
+                if (pollOnce(rotation++, traceRing)) {
+                    if (idle) {
+                        idle = false;
+                        spinningWorkers.decrementAndGet();
+                    }
+                    continue;
+                }
+
+                // Queues are empty — spin, then yield, then park (WorkerIdlePolicy).
+                // WHY not park immediately: at high FPS the next wave arrives before a
+                // park/unpark round trip completes. WHY not spin forever: at 60 FPS the
+                // workers would burn 100% of their cores between frames.
+                if (!idle) {
+                    idle = true;
+                    idleSinceNs = System.nanoTime();
+                    spinningWorkers.incrementAndGet();
+                }
+                WorkerIdlePolicy policy = idlePolicy;
+                long idleNs = System.nanoTime() - idleSinceNs;
+                if (idleNs < policy.getSpinNs()) {
+                    Thread.onSpinWait();
+                } else if (idleNs < policy.getParkAfterNs()) {
+                    Thread.yield();
+                } else {
+                    // Dekker handshake with wakeOne(): publish 'parked' and leave the
+                    // spinning set, THEN re-check the queues. A producer publishes its node,
+                    // THEN reads spinningWorkers/parked. One of the two sides always sees the other.
+                    parked = true;
+                    idle = false;
+                    spinningWorkers.decrementAndGet();
+                    if (pollOnce(rotation, traceRing)) {
+                        parked = false;
+                        continue;
+                    }
+                    LockSupport.park(this);
+                    parked = false;
+                }
+            }
+            if (idle) spinningWorkers.decrementAndGet();
+            VolcanTraceRecorder.release(traceRing); // Worker done: no trace ring outlives the pool
+        }
+
+        /** Tries every attached dispatcher once, starting at a rotating index. */
+        private boolean pollOnce(int rotation, VolcanTraceRecorder.Ring traceRing) {
+            VolcanTaskDispatcher[] attached = dispatchers;
+            int count = attached.length;
+            for (int i = 0; i < count; i++) {
+                VolcanTaskDispatcher dispatcher = attached[Math.floorMod(rotation + i, count)];
+                VolcanTaskNode node = dispatcher.dequeue();
+                if (node != null) {
+                    dispatcher.executeNode(node, slot, traceRing);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    // =========================================================================
+    // CONSTRUCTION
+    // =========================================================================
+
+    /**
+     * Workers placed by the configured CpuPlacement (volcan.kernel.placement.policy).
+     *
+     * @param workerCount Number of platform threads.
+     * @param idlePolicy  Spin / yield / park thresholds.
+     * @param namePrefix  Thread name prefix (worker id appended).
+     */
+    public DagWorkerPool(int workerCount, WorkerIdlePolicy idlePolicy, String namePrefix) {
+        this(workerCount, idlePolicy, namePrefix, CpuPlacement.fromConfig().workerCores(workerCount));
+    }
+
+    /**
+     * @param cores Core per worker (-1 = floating), e.g. from CpuPlacement.workerCores().
+     */
+    public DagWorkerPool(int workerCount, WorkerIdlePolicy idlePolicy, String namePrefix, int[] cores) {
+        if (workerCount < 1) throw new IllegalArgumentException("workerCount must be >= 1: " + workerCount);
+        if (cores.length < workerCount) throw new IllegalArgumentException("cores.length < workerCount: " + cores.length);
+        this.idlePolicy = idlePolicy;
+        this.activeWorkers = workerCount;
+        this.scaler = VolcanEngineConfig.KERNEL_WORKER_ADAPTIVE ? WorkerScaler.fromConfig(workerCount) : null;
+        this.workers = new WorkerThread[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new WorkerThread(namePrefix + i, i, cores[i]);
+            workers[i].start();
+        }
+        VolcanLogger.info("TASKGRAPH", "DAG worker pool online: " + workerCount + " workers (idle: " + idlePolicy + ").");
+    }
+
+    /** (cores - 1) workers so the kernel thread keeps a core, idle policy from config. */
+    public static DagWorkerPool createDefault() {
+        return createDefault(WorkerIdlePolicy.fromConfig());
+    }
+
+    public static DagWorkerPool createDefault(WorkerIdlePolicy idlePolicy) {
+        int workerCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        return new DagWorkerPool(workerCount, idlePolicy, "VolcanDAG-Worker-");
+    }
+
+    // =========================================================================
+    // DISPATCHER REGISTRATION (boot / teardown only)
+    // =========================================================================
+
+    synchronized void attach(VolcanTaskDispatcher dispatcher) {
+        VolcanTaskDispatcher[] current = dispatchers;
+        VolcanTaskDispatcher[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = dispatcher;
+        dispatchers = next;
+    }
+
+    synchronized void detach(VolcanTaskDispatcher dispatcher) {
+        VolcanTaskDispatcher[] current = dispatchers;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != dispatcher) continue;
+            VolcanTaskDispatcher[] next = new VolcanTaskDispatcher[current.length - 1];
+            System.arraycopy(current, 0, next, 0, i);
+            System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+            dispatchers = next;
+            return;
+        }
+    }
+
+    public int getAttachedCount() { return dispatchers.length; }
+
+    // =========================================================================
+    // WAKE-UPS (Hot-Path)
+    // =========================================================================
+
+    /** Wakes one worker for a newly ready node, unless one is already spinning. */
+    void wakeOne() {
+        // Coalescing: a spinning worker will dequeue the node on its next poll.
+        if (spinningWorkers.get() > 0) return;
+        unparkOne();
+    }
+
+    /** Ensures up to {@code readyCount} workers are awake, counting the ones already spinning. */
+    void wake(int readyCount) {
+        int needed = Math.min(readyCount, activeWorkers) - spinningWorkers.get();
+        for (int i = 0; i < needed; i++) {
+            if (!unparkOne()) return; // Everyone is awake or busy
+        }
+    }
+
+    /**
+     * Unparks the next parked worker in round-robin order.
+     * @return false if no worker is parked.
+     */
+    private boolean unparkOne() {
+        // Math.floorMod() — NOT Math.abs(n % m).
+        // WHY: Math.abs(Integer.MIN_VALUE) == Integer.MIN_VALUE (overflow in two's complement).
+        // When nextWakeIdx overflows to MIN_VALUE: Math.abs(MIN_VALUE % len) = MIN_VALUE (negative)
+        // → workers[negative] = ArrayIndexOutOfBoundsException at ~13.7 days of runtime.
+        // Math.floorMod(n, m) always returns a value in [0, m-1], regardless of sign of n.
+        int active = activeWorkers;
+        if (active == 0) return false;
+        int start = nextWakeIdx.getAndIncrement();
+        for (int i = 0; i < active; i++) {
+            WorkerThread worker = workers[Math.floorMod(start + i, active)];
+            if (worker.parked) {
+                worker.parked = false; // Claim it so concurrent producers pick another one
+                LockSupport.unpark(worker);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // =========================================================================
+    // CONFIGURATION / LIFECYCLE
+    // =========================================================================
+
+    public int size() { return workers.length; }
+
+    // =========================================================================
+    // ADAPTIVE SIZE
+    // =========================================================================
+
+    /**
+     * Feeds one frame to the scaler and applies its decision. Ignored when the pool is shared:
+     * one world's makespan says nothing about the load of the others.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    void reportFrame(long busyNs, long makespanNs) {
+        WorkerScaler current = scaler;
+        if (current == null || dispatchers.length != 1) return;
+        int target = current.onFrame(busyNs, makespanNs);
+        if (target != activeWorkers) {
+            StringBuilder sb = resizeLine;
+            sb.setLength(0);
+            sb.append("Active DAG workers ").append(activeWorkers).append(" -> ").append(target)
+              .append(" (parallelism ");
+            appendFixed2(sb, current.getLastParallelism());
+            sb.append(')');
+            VolcanLogger.info("TASKGRAPH", sb);
+            setActiveWorkers(target);
+        }
+    }
+
+    /** Appends {@code value} rounded to 2 decimals, like %.2f (finite values only). */
+    private static void appendFixed2(StringBuilder sb, double value) {
+        long hundredths = Math.round(Math.abs(value) * 100.0);
+        if (value < 0 && hundredths != 0) sb.append('-');
+        long fraction = hundredths % 100;
+        sb.append(hundredths / 100).append('.');
+        if (fraction < 10) sb.append('0');
+        sb.append(fraction);
+    }
+
+    /** True if frames should be reported (a scaler is installed). */
+    boolean isAdaptive() { return scaler != null; }
+
+    /**
+     * Sets how many workers poll. Surplus workers finish their current node, then sleep;
+     * reactivated ones are unparked at once.
+     */
+    public void setActiveWorkers(int count) {
+        int next = Math.max(0, Math.min(count, workers.length));
+        int previous = activeWorkers;
+        activeWorkers = next;
+        // Growing: wake the reactivated ones. Shrinking: wake the surplus out of their idle park
+        // so they move to deep sleep, out of the wake rotation.
+        for (int i = Math.min(previous, next); i < Math.max(previous, next); i++) {
+            LockSupport.unpark(workers[i]);
+        }
+    }
+
+    /** Replaces the scaler (null = fixed size, every worker active again). */
+    public void setScaler(WorkerScaler scaler) {
+        this.scaler = scaler;
+        if (scaler == null) setActiveWorkers(workers.length);
+    }
+
+    public WorkerScaler getScaler() { return scaler; }
+
+    public int getActiveWorkers() { return activeWorkers; }
+
+    /** Workers currently in deep sleep. */
+    public int getDormantCount() {
+        int dormant = 0;
+        for (WorkerThread worker : workers) {
+            if (worker.dormant) dormant++;
+        }
+        return dormant;
+    }
+
+    /** Retunes the idle policy (e.g. on an engine lane switch). Takes effect on the next idle check. */
+    public void setIdlePolicy(WorkerIdlePolicy idlePolicy) { this.idlePolicy = idlePolicy; }
+
+    public WorkerIdlePolicy getIdlePolicy() { return idlePolicy; }
+
+    /** Worker threads, for placement (pinning) by the host. */
+    public Thread getWorkerThread(int index) { return workers[index]; }
+
+    public void shutdown() {
+        isShutdown = true;
+        for (WorkerThread worker : workers) {
+            LockSupport.unpark(worker);
+        }
+        VolcanLogger.info("TASKGRAPH", "DAG worker pool shutdown.");
+    }
+}
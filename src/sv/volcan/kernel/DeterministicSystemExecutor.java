@@ -0,0 +1,359 @@
+// Reading Order: 11001001
+//  201
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.core.systems.PartitionedSystem;
+import sv.volcan.core.systems.PhysicsSystem;
+import sv.volcan.state.StateAccessTracker;
+import sv.volcan.state.WorldStateFrame;
+import sv.volcan.state.WorldStateHasher;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RESPONSIBILITY: Parallel execution whose results do not depend on thread timing.
+ * WHY: Under the DAG, systems that the graph leaves unordered interleave differently each run.
+ * When they share SoA columns the result changes from run to run, which breaks lockstep and replay.
+ * TECHNIQUE: Systems run one after another in the fixed layer order, so writes of two systems
+ * never interleave. The cores are used inside a system instead: a PartitionedSystem is cut into
+ * fixed entity ranges (PartitionedSystem.getRangeSize(), never the worker count), the ranges are
+ * claimed by the ForkJoin workers, and mergeRanges() combines the partials in range order on the
+ * kernel thread. After each frame the state and the registered SoA segments are hashed.
+ * GUARANTEES: Same inputs give a bit-identical state and the same frame hash, on any core
+ * count and in sequential mode. With volcan.kernel.access.tracking the write sets are checked
+ * against the dependency graph every frame (see StateAccessTracker). Zero allocations per frame
+ * when tracking is off.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 2_000,
+    minThroughput = 60,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Fixed-order systems, fixed entity ranges, per-frame state hash."
+)
+public final class DeterministicSystemExecutor {
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final int workerCount;
+
+    private final GameSystem[] systems;      // Layer order (= profiler index)
+    private final SystemSchedule[] schedules;
+    private final String[] names;
+    private final boolean[][] ordered;       // ordered[a][b]: a dependency path links a and b
+    private final SystemProfiler profiler;
+    private final StateAccessTracker tracker;
+    private PhysicsSystem physicsSystem;
+
+    // Range job of the PartitionedSystem in flight. Published to the workers by pool.invoke().
+    private final RangeFan fan;
+    private final RangeWorker[] rangeWorkers;
+    private final AtomicInteger nextRange = new AtomicInteger();
+    private PartitionedSystem rangeSystem;
+    private int rangeSystemIndex;
+    private WorldStateFrame rangeState;
+    private float rangeDelta;
+    private int rangeCount;
+    private int rangeSize;
+    private int entityCount;
+
+    private volatile MemorySegment[] hashedSegments = new MemorySegment[0];
+    private long lastFrameHash;
+    private long hashedFrames;
+    private long lastConflicts;
+    private long lastExecutionTimeNs;
+
+    /** Executor with its own pool of (cores - 1) workers. */
+    public DeterministicSystemExecutor(GameSystem[][] executionLayersArray) {
+        this(executionLayersArray, ForkJoinSystemExecutor.createPool(
+                Math.max(1, Runtime.getRuntime().availableProcessors() - 1)), true);
+    }
+
+    /** Executor on a pool shared with the fork-join executor. The caller shuts the pool down. */
+    public DeterministicSystemExecutor(GameSystem[][] executionLayersArray, ForkJoinPool pool) {
+        this(executionLayersArray, pool, false);
+    }
+
+    private DeterministicSystemExecutor(GameSystem[][] executionLayersArray, ForkJoinPool pool, boolean ownsPool) {
+        if (executionLayersArray == null || executionLayersArray.length == 0) {
+            throw new IllegalArgumentException("Execution layers cannot be null or empty");
+        }
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.workerCount = pool.getParallelism();
+
+        int systemCount = 0;
+        for (GameSystem[] layer : executionLayersArray) systemCount += layer.length;
+        this.systems = new GameSystem[systemCount];
+        this.schedules = new SystemSchedule[systemCount];
+        this.names = new String[systemCount];
+        int next = 0;
+        for (GameSystem[] layer : executionLayersArray) {
+            for (GameSystem system : layer) {
+                if (system instanceof PhysicsSystem) this.physicsSystem = (PhysicsSystem) system;
+                names[next] = system.getName();
+                systems[next++] = system;
+            }
+        }
+        this.ordered = orderMatrix(systems, names);
+        this.profiler = new SystemProfiler(names, workerCount);
+        this.tracker = StateAccessTracker.ENABLED ? new StateAccessTracker() : null;
+
+        this.rangeWorkers = new RangeWorker[workerCount];
+        for (int i = 0; i < rangeWorkers.length; i++) rangeWorkers[i] = new RangeWorker();
+        this.fan = new RangeFan();
+
+        VolcanLogger.info("DETERMINISTIC", "Executor initialized with " + systemCount + " systems, "
+                + workerCount + " range workers" + (tracker != null ? ", access tracking ON" : ""));
+    }
+
+    /** Transitive closure of getDependencies(), symmetric. Boot-time only: O(N^3) on a few dozen systems. */
+    private static boolean[][] orderMatrix(GameSystem[] systems, String[] names) {
+        int n = systems.length;
+        Map<String, Integer> index = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) index.put(names[i], i);
+        boolean[][] reach = new boolean[n][n];
+        for (int i = 0; i < n; i++) {
+            for (String dep : systems[i].getDependencies()) {
+                Integer d = index.get(dep);
+                if (d != null) reach[i][d] = true;
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                if (!reach[i][k]) continue;
+                for (int j = 0; j < n; j++) {
+                    if (reach[k][j]) reach[i][j] = true;
+                }
+            }
+        }
+        boolean[][] ordered = new boolean[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                ordered[i][j] = i == j || reach[i][j] || reach[j][i];
+            }
+        }
+        return ordered;
+    }
+
+    public PhysicsSystem getPhysicsSystem() { return physicsSystem; }
+
+    public SystemProfiler getProfiler() { return profiler; }
+
+    /** Binds the execution rate of a system (boot-time / compile-time only). */
+    void bindSchedule(GameSystem system, SystemSchedule schedule) {
+        for (int i = 0; i < systems.length; i++) {
+            if (systems[i] == system) {
+                schedules[i] = schedule;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Adds an off-heap segment (an SoA column, a sector buffer) to the frame hash.
+     * Safe from any thread; covered from the next frame.
+     */
+    public synchronized void addHashedSegment(MemorySegment segment) {
+        MemorySegment[] next = Arrays.copyOf(hashedSegments, hashedSegments.length + 1);
+        next[next.length - 1] = segment;
+        hashedSegments = next;
+    }
+
+    /** Hot-swap: the new topology keeps hashing what the old one did. */
+    void adoptHashedSegments(DeterministicSystemExecutor previous) {
+        if (previous != null) hashedSegments = previous.hashedSegments;
+    }
+
+    /** Runs every due system in layer order. // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED] */
+    public void execute(WorldStateFrame state, float deltaTime) {
+        long startTime = System.nanoTime();
+        if (SystemProfiler.ENABLED) profiler.beginFrame();
+        if (tracker != null) tracker.beginFrame();
+
+        for (int i = 0; i < systems.length; i++) {
+            SystemSchedule schedule = schedules[i];
+            if (schedule != null && !schedule.due) continue;
+            float dt = schedule == null ? deltaTime : schedule.elapsedDelta;
+            long systemStart = SystemProfiler.ENABLED ? System.nanoTime() : 0L;
+            if (systems[i] instanceof PartitionedSystem partitioned) {
+                runPartitioned(i, partitioned, state, dt);
+            } else {
+                runWhole(i, systems[i], state, dt);
+            }
+            if (SystemProfiler.ENABLED) profiler.record(i, 0, systemStart, systemStart, System.nanoTime());
+        }
+
+        if (tracker != null) lastConflicts = tracker.endFrame(names, ordered);
+        lastFrameHash = hashFrame(state);
+        hashedFrames++;
+
+        lastExecutionTimeNs = System.nanoTime() - startTime;
+        if (SystemProfiler.ENABLED) profiler.endFrame(lastExecutionTimeNs);
+    }
+
+    private void runWhole(int index, GameSystem system, WorldStateFrame state, float dt) {
+        if (tracker != null) StateAccessTracker.enter(tracker, index, -1);
+        try {
+            system.update(state, dt);
+        } catch (Exception e) {
+            logFailure(system, e);
+        } finally {
+            if (tracker != null) StateAccessTracker.exit();
+        }
+    }
+
+    private void runPartitioned(int index, PartitionedSystem system, WorldStateFrame state, float dt) {
+        int count = system.getEntityCount();
+        int size = system.getRangeSize();
+        int ranges = PartitionedSystem.rangeCount(count, size);
+
+        rangeSystem = system;
+        rangeSystemIndex = index;
+        rangeState = state;
+        rangeDelta = dt;
+        rangeCount = ranges;
+        rangeSize = size;
+        entityCount = count;
+        nextRange.set(0);
+        if (ranges > 1) {
+            fan.reinitialize();
+            pool.invoke(fan);
+        } else {
+            drainRanges(); // One range: no hand-off
+        }
+        rangeSystem = null;
+        rangeState = null;
+
+        // Partials combine in range order, whichever worker produced them
+        if (tracker != null) StateAccessTracker.enter(tracker, index, -1);
+        try {
+            system.mergeRanges(state, ranges);
+        } catch (Exception e) {
+            logFailure(system, e);
+        } finally {
+            if (tracker != null) StateAccessTracker.exit();
+        }
+    }
+
+    /** Claims ranges until none is left. Which thread runs a range does not affect its result. */
+    private void drainRanges() {
+        PartitionedSystem system = rangeSystem;
+        int r;
+        while ((r = nextRange.getAndIncrement()) < rangeCount) {
+            int from = r * rangeSize;
+            if (tracker != null) StateAccessTracker.enter(tracker, rangeSystemIndex, r);
+            try {
+                system.updateRange(rangeState, rangeDelta, r, from, Math.min(entityCount, from + rangeSize));
+            } catch (Exception e) {
+                logFailure(system, e);
+            } finally {
+                if (tracker != null) StateAccessTracker.exit();
+            }
+        }
+    }
+
+    private long hashFrame(WorldStateFrame state) {
+        long h = state != null ? WorldStateHasher.hash(state.getRawSegment()) : WorldStateHasher.SEED;
+        for (MemorySegment segment : hashedSegments) {
+            h = WorldStateHasher.hash(h, segment);
+        }
+        return h;
+    }
+
+    private static void logFailure(GameSystem system, Exception e) {
+        VolcanLogger.error("DETERMINISTIC", "[" + system.getClass().getSimpleName()
+                + "] Exception in deterministic executor: " + e.getMessage());
+    }
+
+    /** Hash of the state after the last frame (WorldStateHasher over the state + hashed segments). */
+    public long getLastFrameHash() {
+        return lastFrameHash;
+    }
+
+    public long getHashedFrames() {
+        return hashedFrames;
+    }
+
+    /** Tracker of this executor, or null when volcan.kernel.access.tracking is off. */
+    public StateAccessTracker getAccessTracker() {
+        return tracker;
+    }
+
+    /** Non-commutative writer pairs found in the last frame (0 when tracking is off). */
+    public long getLastConflicts() {
+        return lastConflicts;
+    }
+
+    public long getLastExecutionTimeNs() {
+        return lastExecutionTimeNs;
+    }
+
+    public double getLastExecutionTimeMs() {
+        return lastExecutionTimeNs / 1_000_000.0;
+    }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /** Shuts the pool down if this executor created it. */
+    public void shutdown() {
+        if (ownsPool) {
+            pool.shutdown();
+            VolcanLogger.info("DETERMINISTIC", "Executor shutdown (ForkJoin pool terminated)");
+        }
+    }
+
+    /** Same rule as ForkJoinSystemExecutor.forkInPool: never fork into the common pool. */
+    private void forkInPool(ForkJoinTask<?> task) {
+        if (Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool) {
+            task.fork();
+        } else {
+            pool.execute(task);
+        }
+    }
+
+    /** Starts one claimer per useful worker and claims ranges itself. */
+    @SuppressWarnings("serial") // Reused in place, never serialized
+    private final class RangeFan extends RecursiveAction {
+        @Override
+        protected void compute() {
+            int helpers = Math.min(rangeWorkers.length, rangeCount - 1);
+            for (int k = 0; k < helpers; k++) {
+                rangeWorkers[k].reinitialize();
+                forkInPool(rangeWorkers[k]);
+            }
+            drainRanges();
+            for (int k = 0; k < helpers; k++) {
+                rangeWorkers[k].join();
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class RangeWorker extends RecursiveAction {
+        @Override
+        protected void compute() {
+            drainRanges();
+        }
+    }
+}
@@ -8,9 +8,14 @@ package sv.volcan.kernel;
 
 import java.util.concurrent.locks.LockSupport;
 import sv.volcan.core.VolcanLogger;
+import java.io.IOException;
 import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.file.Path;
 
 import sv.volcan.bus.VolcanAtomicBus;
+import sv.volcan.config.VolcanEngineConfig;
 import sv.volcan.bus.VolcanEventDispatcher;
 import sv.volcan.bus.VolcanSignalCommands;
 import sv.volcan.bus.VolcanSignalPacker;
@@ -19,9 +24,14 @@ import sv.volcan.core.VolcanTimeControlUnit;
 import sv.volcan.core.ExecutionValidator;
 import sv.volcan.core.MetricsCollector;
 import sv.volcan.kernel.UltraFastBootSequence.BootResult;
+import sv.volcan.memory.DirtyRegionTracker;
+import sv.volcan.memory.HugePageArena;
+import sv.volcan.memory.SectorAllocator;
 import sv.volcan.memory.SectorMemoryVault;
 import sv.volcan.state.VolcanStateLayout;
+import sv.volcan.state.StateDigest;
 import sv.volcan.state.VolcanStateVault;
+import sv.volcan.state.WorldCheckpoint;
 import sv.volcan.state.WorldStateFrame;
 
 /**
@@ -47,6 +57,10 @@ public final class EngineKernel {
     // Pre-allocated scratch matrix and vector to ensure zero GC in phaseRender()
     private static final float[] RENDER_LIGHT_MATRIX = new float[16];
     private static final float[] RENDER_SUN_DIR = {0.5f, 1.0f, 0.5f};
+
+    private static final int ROLLBACK_FRAMES = 60;       // 1 second of history at 60 Hz
+    private static final int JOURNAL_EVENTS_PER_FRAME = 256;
+    private static final double TELEMETRY_HZ = 1.0;      // Frame stats / profiler / budget to the control plane
  
     // Kernel state
     private volatile boolean running = true;
@@ -60,13 +74,17 @@ public final class EngineKernel {
 
     // [BOOT INFRASTRUCTURE]
     private final SectorMemoryVault sectorVault;
+    private final SectorAllocator sectorAllocator; // Blocks for subsystems (sector 0 stays with the boot probe)
     private final KernelControlRegister controlRegister;
 
     private final VolcanTimeControlUnit timeControlUnit;
+    private final VolcanTimeControlUnit worldHistory; // Same frames, for the WorldStateFrame the systems write
+    private final InputJournal inputJournal;          // Inputs + steps of each frame in the history
     private final Arena frameArena;
     private WorldStateFrame currentState;
     private final VolcanEventDispatcher eventDispatcher;
     private final VolcanAtomicBus adminMetricsBus; // Control Plane: Metrics out of the hot-path
+    private VolcanTraceRecorder.Ring traceRing;     // Kernel thread trace ring (null when tracing is off)
     
     // [ECS PHASE 30] Scene Orchestrator
     private final sv.volcan.ecs.VolcanScene scene;
@@ -76,14 +94,33 @@ public final class EngineKernel {
 
     // [RESOURCE TRACKING]
     private final Arena stateArena; // Arena for VolcanStateVault
-    private final Thread shutdownHook; // Hook for unregister on manual shutdown
+    private final Thread shutdownHook; // Hook for unregister on manual shutdown (null unless STANDALONE)
+    private final Hosting hosting;
+    private final int worldId;         // 0 for the standalone kernel
+    private final int kernelCore;      // Core the kernel thread pins itself to (-1 = no pinning)
 
     // Metrics
     private long totalFrames = 0;
+    private final SystemSchedule telemetrySchedule = SystemSchedule.fixedHz(TELEMETRY_HZ, 0); // Control-plane publish rate
+    private final FrameBudget frameBudget; // Frame deadline + deferred work of time-sliced systems
+    private final AllocationAuditor phaseAllocations; // Bytes allocated per phase (null unless volcan.kernel.alloc.audit)
+    private final StateDigest stateDigest; // Frame hash for desync checks (null unless volcan.kernel.state.hash.interval > 0)
+    private long lastStateHash;
+    private WorldCheckpoint checkpoint; // Image layout, built on the first save/load
+    private long historyFloor;          // Oldest snapshot rollbackTo may restore (moves up on a checkpoint load)
     private final MetricsCollector.FrameMetrics pooledFrameMetrics = new MetricsCollector.FrameMetrics();
+    private final StringBuilder telemetryLine = new StringBuilder(128); // Reused by dumpTelemetryToLog()
 
     private final SystemSnapshot initialSystemState;
 
+    /**
+     * How the kernel relates to its JVM.
+     * STANDALONE: owns the process (boost, shutdown hook, zombie shield, halt on shutdown).
+     * HOSTED: one world among many in a VolcanWorldHost, runs start() on its own thread, never
+     * touches process-wide state. BATCH: headless, stepped with step().
+     */
+    public enum Hosting { STANDALONE, HOSTED, BATCH }
+
     /**
      * Primary constructor with Dependency Injection.
      * Allows injecting the VolcanEventDispatcher and SectorMemoryVault.
@@ -92,16 +129,71 @@ public final class EngineKernel {
      * @param sectorVault     Physical memory vault (injected from Engine).
      */
     public EngineKernel(VolcanEventDispatcher eventDispatcher, SectorMemoryVault sectorVault) {
+        this(eventDispatcher, sectorVault, Hosting.STANDALONE, 0,
+                VolcanEngineConfig.KERNEL_THREAD_PINNING ? VolcanEngineConfig.KERNEL_THREAD_CORE : -1);
+    }
+
+    /**
+     * Creates a headless batch kernel, stepped with {@link #step(float)} instead of {@link #start()}.
+     * 
+     * <p>Skips everything that is process-wide or wall-clock driven: the performance boost and its
+     * system-state snapshot, the shutdown hook, the zombie shield, CPU pinning, pacing and the
+     * power-saving tiers. Many batch kernels can live in one JVM; release each with
+     * {@link #closeBatch()}.
+     * 
+     * @param eventDispatcher Multi-lane event dispatcher (one per world).
+     * @param sectorVault     Physical memory vault (one per world).
+     * @return Kernel ready to step.
+     */
+    public static EngineKernel createBatchKernel(VolcanEventDispatcher eventDispatcher, SectorMemoryVault sectorVault) {
+        return new EngineKernel(eventDispatcher, sectorVault, Hosting.BATCH, 0, -1);
+    }
+
+    /**
+     * Creates one world of a multi-world JVM (see VolcanWorldHost), run with {@link #start()} on
+     * a thread owned by the host.
+     * 
+     * <p>Same isolation as a batch kernel (own scene, dispatcher, vaults, admin bus), but with the
+     * live 5-phase loop. The performance boost, shutdown hook, zombie shield, JIT warm-up and halt
+     * are the host's job; {@link #shutdown()} only releases this world.
+     * 
+     * @param eventDispatcher Multi-lane event dispatcher (one per world).
+     * @param sectorVault     Physical memory vault (one per world).
+     * @param worldId         Identifier used in thread names and metrics.
+     * @param workerPool      DAG workers shared with other worlds, or null for a private pool.
+     * @param kernelCore      Core the kernel thread pins itself to, or -1.
+     * @return Kernel ready to start.
+     */
+    public static EngineKernel createHostedKernel(VolcanEventDispatcher eventDispatcher, SectorMemoryVault sectorVault,
+                                                  int worldId, DagWorkerPool workerPool, int kernelCore) {
+        EngineKernel kernel = new EngineKernel(eventDispatcher, sectorVault, Hosting.HOSTED, worldId, kernelCore);
+        if (workerPool != null) kernel.systemRegistry.useSharedWorkerPool(workerPool);
+        return kernel;
+    }
+
+    private EngineKernel(VolcanEventDispatcher eventDispatcher, SectorMemoryVault sectorVault,
+                         Hosting hosting, int worldId, int kernelCore) {
+        this.hosting = hosting;
+        this.worldId = worldId;
+        this.kernelCore = kernelCore;
+        this.pooledFrameMetrics.worldId = worldId;
+
         // Capture initial system state and apply optimizations (Phase 1)
-        this.initialSystemState = SystemStateManager.captureInitialState();
-        SystemStateManager.applyPerformanceBoost();
+        // [HOSTED/BATCH] Process-wide tuning belongs to the host, not to each of N worlds.
+        if (hosting != Hosting.STANDALONE) {
+            this.initialSystemState = null;
+        } else {
+            this.initialSystemState = SystemStateManager.captureInitialState();
+            SystemStateManager.applyPerformanceBoost();
+        }
 
         this.systemRegistry = new SystemRegistry();
         this.timeKeeper = new TimeKeeper();
         
         // Create explicit Arena for lifecycle control
         // WE USE SHARED: Required because it's created on the Main Thread but closed in the Shutdown Hook Thread
-        this.stateArena = Arena.ofShared();
+        // Huge pages for the big blocks (rollback history) when enabled
+        this.stateArena = HugePageArena.ofShared();
         
         // Create VolcanStateVault with Arena and maxSlots
         this.stateVault = new VolcanStateVault(stateArena, VolcanStateLayout.MAX_SLOTS);
@@ -110,6 +202,7 @@ public final class EngineKernel {
 
         // Assign injected resources
         this.sectorVault = sectorVault;
+        this.sectorAllocator = new SectorAllocator(sectorVault, 1, sectorVault.getSectorCount() - 1);
         this.eventDispatcher = eventDispatcher;
 
         // Initialize Control Register
@@ -117,23 +210,45 @@ public final class EngineKernel {
         this.controlRegister.transition(KernelControlRegister.STATE_OFFLINE, KernelControlRegister.STATE_BOOTING);
 
         // Initialize TimeControlUnit for Snapshots (60 frames of history = 1 second)
-        this.timeControlUnit = new sv.volcan.core.VolcanTimeControlUnit(stateArena, stateVault.getRawSegment().byteSize(), 60);
+        this.timeControlUnit = new VolcanTimeControlUnit(stateArena, stateVault.getRawSegment().byteSize(), ROLLBACK_FRAMES,
+                VolcanEngineConfig.KERNEL_HISTORY_DELTA_PERCENT);
+        this.inputJournal = new InputJournal(ROLLBACK_FRAMES, JOURNAL_EVENTS_PER_FRAME);
 
         // Arena for WorldStateFrame (OPTION D: Shared for multi-threading)
         // WorldStateFrame is accessed by parallel systems (SystemExecutionTest, SystemDependencyTest, SystemParallelismTest)
         this.frameArena = Arena.ofShared();
         
         // Create WorldStateFrame with Arena, segment, and timestamp
-        this.currentState = new WorldStateFrame(frameArena, stateVault.getRawSegment(), System.nanoTime());
+        this.currentState = new WorldStateFrame(frameArena, stateVault.getRawSegment(), System.nanoTime(),
+                VolcanEngineConfig.KERNEL_STATE_DOUBLE_BUFFER);
+        // currentState is a copy of the vault, not a view: rollback needs both
+        this.worldHistory = new VolcanTimeControlUnit(stateArena, currentState.getRawSegment().byteSize(), ROLLBACK_FRAMES,
+                VolcanEngineConfig.KERNEL_HISTORY_DELTA_PERCENT);
 
         // [ECS PHASE 30] Init Scene Orchestrator with default capacity
         // Se usa 50_000 por defecto para no asfixiar el Heap Base en tests de Boot
         this.scene = new sv.volcan.ecs.VolcanScene(50_000);
+
+        // Batch stepping must be reproducible: its budget never defers work
+        this.frameBudget = hosting == Hosting.BATCH ? FrameBudget.unbounded() : FrameBudget.fromConfig();
+        this.frameBudget.register(scene.getSoA().getKinematicsCursor());
+        this.phaseAllocations = AllocationAuditor.ENABLED
+                ? AllocationAuditor.fromConfig("PHASE", AllocationAuditor.PHASE_NAMES) : null;
+        if (timeKeeper.isFixedStep()) {
+            scene.getSoA().enableInterpolation(); // Previous-step snapshot for render blending
+        }
+        this.stateDigest = VolcanEngineConfig.KERNEL_STATE_HASH_INTERVAL > 0 ? createStateDigest() : null;
         
         // [FRAMEGRAPH] Removed for Headless
         // [NEURONA_048 STEP 3] Admin Metrics Bus (Control Plane)
-        // Capacity 1024: ~17 seconds of metrics at 60 FPS
-        this.adminMetricsBus = new VolcanAtomicBus(1024);
+        // Capacity 2^10 = 1024 slots. The constructor takes the power of two: passing 1024
+        // wrapped the shift to a single slot, dropping every burst (e.g. per-system profiles).
+        this.adminMetricsBus = new VolcanAtomicBus(10);
+
+        if (hosting != Hosting.STANDALONE) {
+            this.shutdownHook = null; // Owner releases the world (closeBatch() / shutdown())
+            return;
+        }
 
         // -------------------------------------------------------------------------
         // SHUTDOWN HOOK - Graceful Shutdown on JVM Exit
@@ -216,6 +331,16 @@ public final class EngineKernel {
         return adminMetricsBus;
     }
 
+    /**
+     * Allocator over the sector vault, shared by the subsystems of this world.
+     * Its bookkeeping is not part of checkpoints: allocate after loading one, not before.
+     *
+     * @return SectorAllocator.
+     */
+    public SectorAllocator getSectorAllocator() {
+        return sectorAllocator;
+    }
+
     /**
      * Retrieves the global ECS Scene Graph.
      * 
@@ -226,11 +351,17 @@ public final class EngineKernel {
     }
 
     public void start() {
+        if (hosting == Hosting.BATCH) {
+            throw new IllegalStateException("Batch kernels are stepped with step(), not start()");
+        }
         sv.volcan.core.VolcanLogger.info("KERNEL", "[KERNEL] STARTUP SEQUENCE START");
 
         // [NEURONA_048] STEP 2: CPU PINNING
-        // Pin logic thread to Core 1 to eliminate jitter (Target: <35us)
-        ThreadPinning.pinToCore(1);
+        // Pin logic thread to its core to eliminate jitter (Target: <35us).
+        // Standalone: volcan.kernel.thread.core. Hosted: one core per world, chosen by the host.
+        if (kernelCore >= 0) {
+            ThreadPinning.pinToCore(kernelCore);
+        }
 
         ExecutionValidator.verify();
         sv.volcan.core.VolcanLogger.info("KERNEL", "[KERNEL] INTEGRITY CHECK PASSED");
@@ -238,8 +369,11 @@ public final class EngineKernel {
         // -------------------------------------------------------------------------
         // AAA++ JIT WARM-UP (Structural Integration)
         // -------------------------------------------------------------------------
-        sv.volcan.core.VolcanLogger.info("KERNEL", "[KERNEL] EXECUTING JIT WARM-UP...");
-        UltraFastBootSequence.warmUpWithStructuralIntegrity();
+        // [HOSTED] The JIT is process-wide: the host warms it up once for every world.
+        if (hosting == Hosting.STANDALONE) {
+            sv.volcan.core.VolcanLogger.info("KERNEL", "[KERNEL] EXECUTING JIT WARM-UP...");
+            UltraFastBootSequence.warmUpWithStructuralIntegrity();
+        }
         
         // [HEADLESS] No shader reload or native window init needed.
 
@@ -257,6 +391,11 @@ public final class EngineKernel {
 
         if (!bootResult.success) {
             System.err.println("[KERNEL PANIC] BOOT FAILED: " + bootResult.errorMessage);
+            if (hosting == Hosting.HOSTED) {
+                // One bad world must not take the other matches down with it
+                gracefulShutdown();
+                throw new IllegalStateException("World " + worldId + " boot failed: " + bootResult.errorMessage);
+            }
             System.exit(1);
         }
 
@@ -268,20 +407,34 @@ public final class EngineKernel {
     }
 
     /**
-     * Dumps the current performance metrics to the logger explicitly (e.g. for UI triggers)
+     * Dumps the current performance metrics to the logger explicitly (e.g. for UI triggers).
+     * The line is built in a reused builder (no String.format, no boxing): callers may poll it.
      */
     public void dumpTelemetryToLog() {
         double frameTimeUs = timeKeeper.getLastActualFps() > 0 ? (1_000_000_000.0 / timeKeeper.getLastActualFps()) / 1000.0 : 0.0;
         double headroomMs = timeKeeper.getLastHeadroomNs() / 1_000_000.0;
-        
-        sv.volcan.core.VolcanLogger.info("METRICS", String.format(
-            "Frame: %d | Time: %.2fus | FPS: %d (Target: %d) | Headroom: %.2fms",
-            totalFrames,
-            frameTimeUs,
-            timeKeeper.getLastActualFps(),
-            timeKeeper.getCurrentTargetFps(),
-            headroomMs
-        ));
+
+        synchronized (telemetryLine) { // UI callbacks may come from more than one thread
+            StringBuilder sb = telemetryLine;
+            sb.setLength(0);
+            sb.append("Frame: ").append(totalFrames).append(" | Time: ");
+            appendFixed2(sb, frameTimeUs);
+            sb.append("us | FPS: ").append(timeKeeper.getLastActualFps())
+              .append(" (Target: ").append(timeKeeper.getCurrentTargetFps()).append(") | Headroom: ");
+            appendFixed2(sb, headroomMs);
+            sb.append("ms");
+            sv.volcan.core.VolcanLogger.info("METRICS", sb);
+        }
+    }
+
+    /** Appends {@code value} rounded to 2 decimals, like %.2f (finite values only). */
+    private static void appendFixed2(StringBuilder sb, double value) {
+        long hundredths = Math.round(Math.abs(value) * 100.0);
+        if (value < 0 && hundredths != 0) sb.append('-');
+        long fraction = hundredths % 100;
+        sb.append(hundredths / 100).append('.');
+        if (fraction < 10) sb.append('0');
+        sb.append(fraction);
     }
 
     /**
@@ -330,18 +483,25 @@ public final class EngineKernel {
         // Current power saving state
         int powerSavingTier = 0; // 0=Active, 1=SpinWait, 2=LightSleep, 3=DeepHibernation
 
+        if (VolcanTraceRecorder.ENABLED) {
+            traceRing = VolcanTraceRecorder.currentThreadRing();
+        }
+
         while (running && !Thread.currentThread().isInterrupted()) {
             // [HEADLESS] No OS Window polling needed here.
 
             timeKeeper.startFrame();
             // @SuppressWarnings("unused")
             long frameStart = System.nanoTime();
+            frameBudget.beginFrame(frameStart);
+            long allocMark = AllocationAuditor.ENABLED ? AllocationAuditor.threadAllocatedBytes() : 0L;
 
             // -------------------------------------------------------------------------
             // PHASE 1: INPUT LATCH (Determinism)
             // -------------------------------------------------------------------------
             long phase1Start = System.nanoTime();
             phaseInputLatch();
+            if (AllocationAuditor.ENABLED) allocMark = auditPhase(AllocationAuditor.PHASE_INPUT_LATCH, allocMark);
             long phase1End = System.nanoTime();
             timeKeeper.recordPhaseTime(1, phase1End - phase1Start);
 
@@ -350,11 +510,15 @@ public final class EngineKernel {
             // -------------------------------------------------------------------------
             long phase2Start = System.nanoTime();
             int eventsProcessed = phaseBusProcessing();
-            
+            if (AllocationAuditor.ENABLED) allocMark = auditPhase(AllocationAuditor.PHASE_BUS_PROCESSING, allocMark);
 
             
             long phase2End = System.nanoTime();
             timeKeeper.recordPhaseTime(2, phase2End - phase2Start);
+            if (VolcanTraceRecorder.ENABLED) {
+                traceRing.record(VolcanTraceRecorder.EV_INPUT_LATCH, phase1Start, phase1End);
+                traceRing.record(VolcanTraceRecorder.EV_BUS_PROCESSING, phase2Start, phase2End, eventsProcessed);
+            }
 
             // -------------------------------------------------------------------------
             // POWER SAVING SCALING (3 TIERS)
@@ -413,27 +577,35 @@ public final class EngineKernel {
             if (!paused) {
                 phaseSystemsExecution();
             }
+            if (AllocationAuditor.ENABLED) allocMark = auditPhase(AllocationAuditor.PHASE_SYSTEMS_EXECUTION, allocMark);
             long phase3End = System.nanoTime();
             timeKeeper.recordPhaseTime(3, phase3End - phase3Start);
+            frameBudget.endFrame();
 
             // -------------------------------------------------------------------------
             // PHASE 4: STATE AUDIT (Integrity)
             // -------------------------------------------------------------------------
             long phase4Start = System.nanoTime();
             phaseStateAudit();
+            if (AllocationAuditor.ENABLED) allocMark = auditPhase(AllocationAuditor.PHASE_STATE_AUDIT, allocMark);
             long phase4End = System.nanoTime();
             timeKeeper.recordPhaseTime(4, phase4End - phase4Start);
+            if (VolcanTraceRecorder.ENABLED) {
+                traceRing.record(VolcanTraceRecorder.EV_SYSTEMS_EXECUTION, phase3Start, phase3End);
+                traceRing.record(VolcanTraceRecorder.EV_STATE_AUDIT, phase4Start, phase4End);
+            }
 
             // -------------------------------------------------------------------------
             // PHASE 5: NATIVE RENDER (ImGui & GLFW)
             // -------------------------------------------------------------------------
             long phaseRenderStart = System.nanoTime();
             phaseRender();
+            if (AllocationAuditor.ENABLED) allocMark = auditPhase(AllocationAuditor.PHASE_RENDER, allocMark);
             long phaseRenderEnd = System.nanoTime();
 
-            // [NEURONA_048 STEP 3] Send metrics to Control Plane (no I/O on hot-path)
-            totalFrames++;
-            if (totalFrames % 60 == 0) {
+            // [NEURONA_048 STEP 3] Send metrics to Control Plane at TELEMETRY_HZ (no I/O on hot-path)
+            telemetrySchedule.advance(totalFrames++, timeKeeper.getDeltaTime());
+            if (telemetrySchedule.due) {
                 long totalTimeNs = phase1End - phase1Start + phase2End - phase2Start +
                         phase3End - phase3Start + phase4End - phase4Start;
                 long packedMetric = MetricsPacker.packFrameStats(totalFrames, totalTimeNs,
@@ -441,16 +613,27 @@ public final class EngineKernel {
                         timeKeeper.getLastActualFps(),
                         timeKeeper.getLastHeadroomNs());
                 adminMetricsBus.offer(packedMetric); // Zero-copy, no I/O
+
+                // Per-system p50/p99 + worker utilisation (percentiles computed here, decoded by AdminController)
+                if (SystemProfiler.ENABLED) {
+                    SystemProfiler profiler = systemRegistry.getProfiler();
+                    if (profiler != null) profiler.publish(adminMetricsBus);
+                }
+                frameBudget.publish(adminMetricsBus); // Only cursors that deferred this frame
             }
 
             // -------------------------------------------------------------------------
             // PHASE 5: METRICS AGGREGATION (Off-Critical-Path)
             // -------------------------------------------------------------------------
             pooledFrameMetrics.frameTimeNs = System.nanoTime() - frameStart;
+            if (VolcanTraceRecorder.ENABLED) {
+                traceRing.record(VolcanTraceRecorder.EV_FRAME, frameStart, frameStart + pooledFrameMetrics.frameTimeNs);
+                VolcanTraceRecorder.onFrameEnd(pooledFrameMetrics.frameTimeNs);
+            }
             pooledFrameMetrics.frameNumber = totalFrames;
             pooledFrameMetrics.systemsExecutionNs = phase3End - phase3Start;
 
-            if (MetricsCollector.shouldCollectMetrics(totalFrames)) {
+            if (MetricsCollector.shouldCollectMetrics(pooledFrameMetrics)) {
                 ParallelSystemExecutor executor = systemRegistry.getParallelExecutor();
                 if (executor != null) {
                     MetricsCollector.aggregateMetrics(
@@ -460,6 +643,11 @@ public final class EngineKernel {
                 }
             }
 
+            if (AllocationAuditor.ENABLED) {
+                auditPhase(AllocationAuditor.PHASE_TELEMETRY, allocMark); // Metrics publishing + aggregation
+                phaseAllocations.endFrame();
+            }
+
             // Wait for the next frame (Fixed Timestep)
             timeKeeper.waitForNextFrame();
         }
@@ -499,15 +687,21 @@ public final class EngineKernel {
      * <p><b>Guarantees:</b>
      * <ul>
      *   <li>Deterministic order (System -> Network -> Input -> Physics -> Audio -> Render).</li>
+     *   <li>World commands from blocking systems apply after the signals, on this thread.</li>
      * </ul>
      * 
      * @return Number of processed events (for idle detection).
      */
     private int phaseBusProcessing() {
         int eventsProcessed = 0;
+        int rollbackFrames = 0;
 
         // Zero-Allocation batch extraction
+        long drainStart = VolcanTraceRecorder.ENABLED ? System.nanoTime() : 0L;
         int count = eventDispatcher.batchPollAll(eventBatchBuffer);
+        if (VolcanTraceRecorder.ENABLED) {
+            traceRing.record(VolcanTraceRecorder.EV_BUS_DRAIN, drainStart, System.nanoTime(), count);
+        }
 
         for (int i = 0; i < count; i++) {
             long event = eventBatchBuffer[i];
@@ -522,19 +716,48 @@ public final class EngineKernel {
                     this.paused = !this.paused; // Toggle pause state
                     break;
                 case sv.volcan.bus.VolcanSignalCommands.SYS_ENGINE_ROLLBACK:
-                    if (this.timeControlUnit != null) {
+                    int frames = VolcanSignalPacker.unpackValue(event);
+                    if (frames > 0) {
+                        rollbackFrames = Math.max(rollbackFrames, frames); // Resimulated after the batch
+                    } else if (timeControlUnit.getFrameCount() - 1 >= historyFloor) {
+                        // Legacy: one frame back, memory only; never past a checkpoint load
                         this.timeControlUnit.rollback(stateVault.getRawSegment());
+                        this.worldHistory.rollback(currentState.getRawSegment());
+                        stateVault.invalidateSnapshot();
+                        currentState.invalidateFront();
+                        if (stateDigest != null) stateDigest.invalidate();
+                        if (DirtyRegionTracker.ENABLED) {
+                            // The state is now the dropped frame, not the new newest: rescan all
+                            stateVault.getDirtyTracker().markAll();
+                            currentState.getDirtyTracker().markAll();
+                        }
                     }
                     break;
-                case 100: // INPUT_KEY_PRESS
+                case sv.volcan.bus.VolcanSignalCommands.SYS_TRACE_DUMP:
+                    VolcanTraceRecorder.requestDump(); // Async: file I/O stays off the kernel thread
                     break;
                 default:
+                    if ((commandId & 0xFF00) != 0x3100) { // SYS_ENGINE_* controls are not simulation input
+                        inputJournal.record(event);
+                        routeInput(event);
+                    }
                     break;
             }
 
             eventsProcessed++;
         }
 
+        if (rollbackFrames > 0) {
+            rollbackTo(timeControlUnit.getFrameCount() - rollbackFrames);
+            // The inputs of this frame routed before the rollback were latched into the old present
+            for (int i = 0; i < inputJournal.getStagedCount(); i++) {
+                routeInput(inputJournal.getStaged(i));
+            }
+        }
+
+        // Results of blocking systems (async lane): applied here, before any system runs
+        eventsProcessed += systemRegistry.getCommandBus().drain(currentState);
+
         return eventsProcessed;
     }
 
@@ -547,32 +770,415 @@ public final class EngineKernel {
      * <ul>
      *   <li>Same order always.</li>
      *   <li>Same deltaTime always (1/60 seconds).</li>
-     *   <li>Same WorldStateFrame for all systems.</li>
+     *   <li>Same WorldStateFrame for all systems (double-buffered: all read the previous pass).</li>
      * </ul>
+     * 
+     * <p>With a fixed step (volcan.kernel.fixed.step.hz) the systems run 0..N times with a
+     * constant deltaTime, so results no longer depend on the frame rate. The scene snapshot is
+     * taken before each step and the published positions are blended by the leftover alpha.
+     * Signals are latched one per step from the input queue (see enqueueSignal).
      */
     private void phaseSystemsExecution() {
-        float deltaTime = timeKeeper.getDeltaTime();
+        if (!timeKeeper.isFixedStep()) {
+            float deltaTime = timeKeeper.getDeltaTime();
+            inputJournal.recordSimulation(1, deltaTime, systemRegistry.getTickCount());
+            runSystems(deltaTime);
+            return;
+        }
+        int steps = timeKeeper.advanceFixedStep();
+        float stepDt = timeKeeper.getFixedDeltaTime();
+        inputJournal.recordSimulation(steps, stepDt, systemRegistry.getTickCount());
+        sv.volcan.scene.VolcanTransformSoA soa = scene.getSoA();
+        for (int i = 0; i < steps; i++) {
+            soa.capturePrevious();
+            latchQueuedSignal();
+            runSystems(stepDt);
+        }
+        sv.volcan.scene.VolcanKinematicsSystem.interpolate(soa, timeKeeper.getInterpolationAlpha(), 0.0, 0.0, 0.0);
+    }
+
+    /**
+     * One pass of the game systems. Double-buffered state: the writes since the last pass
+     * (previous pass, inputs, bus drains, restores) are published to the read buffer first.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    private void runSystems(float deltaTime) {
+        currentState.publish();
         systemRegistry.executeGameSystems(currentState, deltaTime);
     }
 
+    /**
+     * Latches a simulation input into the input slots of the world (VolcanStateLayout 300-399).
+     * Live frames and resimulated frames go through here, so both see the same world.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    private void routeInput(long event) {
+        int value = VolcanSignalPacker.unpackValue(event);
+        switch (VolcanSignalPacker.unpackCommandId(event)) {
+            case VolcanSignalCommands.INPUT_MOUSE_MOVE: // Payload: X (high 16 bits), Y (low 16 bits)
+                currentState.writeInt(VolcanStateLayout.INPUT_MOUSE_X, value >> 16);
+                currentState.writeInt(VolcanStateLayout.INPUT_MOUSE_Y, (short) value);
+                break;
+            case 100: // INPUT_KEY_PRESS
+            case VolcanSignalCommands.INPUT_KEY_DOWN:
+            case VolcanSignalCommands.INPUT_KEY_UP:
+            case VolcanSignalCommands.INPUT_MOUSE_CLICK:
+            case VolcanSignalCommands.INPUT_GAMEPAD_BUTTON:
+                if (timeKeeper.isFixedStep()) {
+                    enqueueSignal(value); // Latched by the next step that runs
+                } else {
+                    currentState.writeInt(VolcanStateLayout.INPUT_LAST_SIGNAL, value);
+                }
+                break;
+            default:
+                break; // Journaled anyway: replay order must match the live frame
+        }
+    }
+
+    /**
+     * Queues a signal for the fixed-step loop. A frame may run no step at all, so latching
+     * straight into INPUT_LAST_SIGNAL would let the next frame's signal overwrite it unseen.
+     * The queue lives in the world state: rollback restores it with everything else. When full,
+     * the oldest signal is dropped (bounded input latency).
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    private void enqueueSignal(int value) {
+        MemorySegment raw = currentState.getRawSegment(); // Counters written this frame: not in the read buffer yet
+        int head = raw.get(ValueLayout.JAVA_INT, VolcanStateLayout.INPUT_QUEUE_HEAD);
+        int tail = raw.get(ValueLayout.JAVA_INT, VolcanStateLayout.INPUT_QUEUE_TAIL);
+        if (tail - head == VolcanStateLayout.INPUT_QUEUE_CAPACITY) {
+            currentState.writeInt(VolcanStateLayout.INPUT_QUEUE_HEAD, head + 1);
+        }
+        currentState.writeInt(VolcanStateLayout.INPUT_QUEUE
+                + 4L * (tail & (VolcanStateLayout.INPUT_QUEUE_CAPACITY - 1)), value);
+        currentState.writeInt(VolcanStateLayout.INPUT_QUEUE_TAIL, tail + 1);
+    }
+
+    /**
+     * Before a fixed step: latches the oldest queued signal into INPUT_LAST_SIGNAL (one per step).
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    private void latchQueuedSignal() {
+        MemorySegment raw = currentState.getRawSegment();
+        int head = raw.get(ValueLayout.JAVA_INT, VolcanStateLayout.INPUT_QUEUE_HEAD);
+        int tail = raw.get(ValueLayout.JAVA_INT, VolcanStateLayout.INPUT_QUEUE_TAIL);
+        if (head == tail) return;
+        currentState.writeInt(VolcanStateLayout.INPUT_LAST_SIGNAL, raw.get(ValueLayout.JAVA_INT,
+                VolcanStateLayout.INPUT_QUEUE + 4L * (head & (VolcanStateLayout.INPUT_QUEUE_CAPACITY - 1))));
+        currentState.writeInt(VolcanStateLayout.INPUT_QUEUE_HEAD, head + 1);
+    }
+
+    // -------------------------------------------------------------------------
+    // ROLLBACK & RESIMULATION (Netcode)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Rewinds the world to the start of {@code frame} and simulates again every frame up to the
+     * present, with the journaled inputs (including any added late with
+     * InputJournal.insert) and the journaled steps / deltaTime.
+     *
+     * <p>Fast path: no phase timers, tracing, telemetry, allocation audit or integrity checks;
+     * each resimulated frame only routes its inputs, runs the systems and is captured again,
+     * so the history and journal stay valid for the next rollback. Results of blocking systems
+     * (async lane) are not journaled: they apply on the live frame that drains them. The
+     * scheduler tick is rewound per frame, but the delta accumulators of multi-rate schedules
+     * are not; time-sliced systems must run with an unbounded FrameBudget for an exact replay.
+     *
+     * <p>Only the state vault and the world state are in the history. The scene SoA columns and
+     * the sector vault are NOT rewound: the resimulated frames run on their present contents.
+     * State a rollback must reproduce lives in the WorldStateFrame; the SoA (and whatever a
+     * system keeps in sectors) is rebuilt from it or left as of the present. Checkpoints
+     * (saveCheckpoint) do cover them.
+     *
+     * <p>Called between frames by the owner of a batch kernel, or by the kernel itself for a
+     * SYS_ENGINE_ROLLBACK signal whose payload is the number of frames to rewind.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     *
+     * @param frame First frame to resimulate (history numbering, see getHistoryFrameCount()).
+     * @return Frames resimulated, 0 if {@code frame} is not in the past, -1 (world untouched) if
+     *         the snapshot before it or one of the journaled frames is gone.
+     */
+    public int rollbackTo(long frame) {
+        long present = timeControlUnit.getFrameCount();
+        if (frame >= present) return 0;
+        if (frame - 1 < historyFloor) return -1; // Before a checkpoint load: another world
+        if (!timeControlUnit.isAvailable(frame - 1) || !worldHistory.isAvailable(frame - 1)) return -1;
+        for (long f = frame; f < present; f++) {
+            if (!inputJournal.contains(f)) return -1;
+        }
+
+        timeControlUnit.restore(frame - 1, stateVault.getRawSegment());
+        worldHistory.restore(frame - 1, currentState.getRawSegment());
+        stateVault.invalidateSnapshot();
+        currentState.invalidateFront();
+        timeControlUnit.discardFrom(frame);
+        worldHistory.discardFrom(frame);
+        if (stateDigest != null) stateDigest.invalidate(); // Restores bypass the barriers
+        if (DirtyRegionTracker.ENABLED) {
+            // The state equals the newest frame again: nothing written since it
+            stateVault.getDirtyTracker().clear();
+            currentState.getDirtyTracker().clear();
+        }
+        for (long f = frame; f < present; f++) {
+            resimulateFrame(f);
+        }
+        return (int) (present - frame);
+    }
+
+    /** One journaled frame: inputs, systems, tick + capture. */
+    private void resimulateFrame(long frame) {
+        for (int i = 0, n = inputJournal.getEventCount(frame); i < n; i++) {
+            routeInput(inputJournal.getEvent(frame, i));
+        }
+        int steps = inputJournal.getSteps(frame);
+        float deltaTime = inputJournal.getDeltaTime(frame);
+        if (steps > 0) {
+            systemRegistry.rewindTickCount(inputJournal.getFirstTick(frame)); // Same multi-rate phase as live
+        }
+        for (int s = 0; s < steps; s++) {
+            if (timeKeeper.isFixedStep()) latchQueuedSignal();
+            runSystems(deltaTime);
+        }
+        captureFrame(); // Same number again: the journal slot of this frame stays valid
+    }
+
+    // -------------------------------------------------------------------------
+    // CHECKPOINTS (Crash recovery / restarts)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes the world (state vault, world state, sector vault, scene id maps and SoA columns)
+     * to a memory-mapped image, replacing {@code path} atomically.
+     * Called between frames by the owner of a batch kernel, or by the kernel thread.
+     *
+     * @return Bytes written.
+     */
+    public long saveCheckpoint(Path path) throws IOException {
+        return checkpointLayout().save(path, timeControlUnit.getFrameCount());
+    }
+
+    /**
+     * Replaces the world with a checkpoint of the same layout (same capacities), verifying its
+     * hashes first. The rollback history before the load is fenced off: the loaded state is
+     * captured as a new frame and rollbackTo never restores anything older.
+     *
+     * <p>Heap components of the scene are not in the image: the load DESTROYS every component
+     * array of the scene and clears all component bitmasks (see VolcanScene.importIdMaps).
+     * References the game still holds to components of the old world are stale; re-attach
+     * the components after the load. Entities, hierarchy and SoA columns are restored.
+     * Called between frames, like saveCheckpoint().
+     *
+     * @return History frame count of the kernel that saved it.
+     * @throws IOException if the file is not a valid checkpoint of this world (world untouched).
+     */
+    public long loadCheckpoint(Path path) throws IOException {
+        long savedFrame = checkpointLayout().restore(path, true);
+        sv.volcan.scene.VolcanTransformSoA soa = scene.getSoA();
+        if (soa.isInterpolationEnabled()) soa.capturePrevious(); // No blend from the old world
+        stateVault.invalidateSnapshot();
+        currentState.invalidateFront();
+        if (stateDigest != null) stateDigest.invalidate(); // Restores bypass the barriers
+        if (DirtyRegionTracker.ENABLED) {
+            stateVault.getDirtyTracker().markAll();
+            currentState.getDirtyTracker().markAll();
+            sectorVault.getDirtyTracker().markAll();
+            soa.getDirtyTracker().markAll();
+        }
+        worldHistory.capture(currentState.getRawSegment(), currentState.getDirtyTracker());
+        historyFloor = timeControlUnit.capture(stateVault.getRawSegment(), stateVault.getDirtyTracker());
+        return savedFrame;
+    }
+
+    private WorldCheckpoint checkpointLayout() {
+        if (checkpoint == null) {
+            checkpoint = new WorldCheckpoint()
+                    .addVault("vault", stateVault)
+                    .add("world", currentState.getRawSegment())
+                    .addSectors("sectors", sectorVault)
+                    .addScene("scene", scene);
+        }
+        return checkpoint;
+    }
+
+    /** Inputs of the frames in the rollback history (add late inputs here, then rollbackTo). */
+    public InputJournal getInputJournal() {
+        return inputJournal;
+    }
+
+    /** Number the next captured frame will get (frames 0..n-1 have been simulated). */
+    public long getHistoryFrameCount() {
+        return timeControlUnit.getFrameCount();
+    }
+
+    /** The WorldStateFrame the systems read and write. */
+    public WorldStateFrame getCurrentState() {
+        return currentState;
+    }
+
+    /** Frame hash over the vault, the world state and the SoA (null unless volcan.kernel.state.hash.interval > 0). */
+    public StateDigest getStateDigest() {
+        return stateDigest;
+    }
+
+    /** Hash published by the last hashed frame (0 before the first). */
+    public long getLastStateHash() {
+        return lastStateHash;
+    }
+
+    /**
+     * Vault + world state (trackers cleared by the rollback capture) + simulation columns of the
+     * SoA (tracker cleared by the digest). posX/Y/Z are left out: they are camera-relative, so
+     * two peers in sync legitimately differ there.
+     */
+    private StateDigest createStateDigest() {
+        StateDigest digest = new StateDigest();
+        digest.add(stateVault.getRawSegment(), stateVault.getDirtyTracker(), 0, false);
+        digest.add(currentState.getRawSegment(), currentState.getDirtyTracker(), 0, false);
+        sv.volcan.scene.VolcanTransformSoA soa = scene.getSoA();
+        DirtyRegionTracker entities = soa.getDirtyTracker();
+        java.lang.foreign.MemorySegment[] floats = { soa.velX, soa.velY, soa.velZ, soa.parentIdx };
+        java.lang.foreign.MemorySegment[] doubles = { soa.localPosX, soa.localPosY, soa.localPosZ,
+                soa.globalPosX, soa.globalPosY, soa.globalPosZ };
+        for (java.lang.foreign.MemorySegment column : floats) digest.add(column, entities, 2, true);
+        for (java.lang.foreign.MemorySegment column : doubles) digest.add(column, entities, 3, true);
+        return digest;
+    }
+
+    // -------------------------------------------------------------------------
+    // HEADLESS BATCH STEPPING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Runs exactly one deterministic tick with a fixed deltaTime.
+     * 
+     * <p>Same phase order as runMainLoop (input latch, bus, systems, audit) but without phase
+     * timers, frame budget, pacing, idle scaling or metrics publishing: the caller owns the clock.
+     * 
+     * // [CALLER_THREAD_ONLY] — one thread per world. [ZERO_GC_GUARANTEED]
+     * 
+     * @param fixedDeltaTime Simulated seconds per tick.
+     */
+    public void step(float fixedDeltaTime) {
+        if (VolcanTraceRecorder.ENABLED && traceRing == null) {
+            traceRing = VolcanTraceRecorder.currentThreadRing(); // Bus drains are traced per world thread
+        }
+        long allocMark = AllocationAuditor.ENABLED ? AllocationAuditor.threadAllocatedBytes() : 0L;
+        phaseInputLatch();
+        if (AllocationAuditor.ENABLED) allocMark = auditPhase(AllocationAuditor.PHASE_INPUT_LATCH, allocMark);
+        phaseBusProcessing();
+        if (AllocationAuditor.ENABLED) allocMark = auditPhase(AllocationAuditor.PHASE_BUS_PROCESSING, allocMark);
+        // No frameBudget.beginFrame/endFrame: the batch budget is unbounded, so there is no
+        // deadline to take from the clock and nothing is ever deferred
+        if (!paused) {
+            inputJournal.recordSimulation(1, fixedDeltaTime, systemRegistry.getTickCount());
+            if (timeKeeper.isFixedStep()) latchQueuedSignal(); // Each batch step is one fixed step
+            runSystems(fixedDeltaTime);
+        }
+        if (AllocationAuditor.ENABLED) allocMark = auditPhase(AllocationAuditor.PHASE_SYSTEMS_EXECUTION, allocMark);
+        phaseStateAudit();
+        if (AllocationAuditor.ENABLED) {
+            auditPhase(AllocationAuditor.PHASE_STATE_AUDIT, allocMark);
+            phaseAllocations.endFrame();
+        }
+        totalFrames++;
+    }
+
+    /**
+     * Records the bytes the kernel thread allocated since {@code mark} against a phase.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     *
+     * @return The new mark (start of the next phase).
+     */
+    private long auditPhase(int phase, long mark) {
+        long now = AllocationAuditor.threadAllocatedBytes();
+        phaseAllocations.record(phase, now - mark);
+        return now;
+    }
+
+    /** Per-phase allocation audit (null when volcan.kernel.alloc.audit=false). */
+    public AllocationAuditor getPhaseAllocations() {
+        return phaseAllocations;
+    }
+
+    /** Ticks executed (main loop frames or batch steps). */
+    public long getTotalFrames() {
+        return totalFrames;
+    }
+
+    public boolean isBatchMode() {
+        return hosting == Hosting.BATCH;
+    }
+
+    public Hosting getHosting() {
+        return hosting;
+    }
+
+    /** True only for the STANDALONE kernel: it may close the logger, restore the OS state and halt. */
+    public boolean ownsProcess() {
+        return hosting == Hosting.STANDALONE;
+    }
+
+    public int getWorldId() {
+        return worldId;
+    }
+
+    /** Frame deadline shared by time-sliced systems (register extra WorkCursors here). */
+    public FrameBudget getFrameBudget() {
+        return frameBudget;
+    }
+
+    /**
+     * Releases a HOSTED world that was never started (a started world releases itself when its
+     * loop exits). // [HOST_ONLY]
+     */
+    void releaseHosted() {
+        if (hosting != Hosting.HOSTED) {
+            throw new IllegalStateException("releaseHosted() is for hosted kernels");
+        }
+        running = false;
+        gracefulShutdown();
+    }
+
+    /**
+     * Releases a batch kernel: executors, buses, arenas and the sector vault.
+     * No logger poison pill, no control-plane stop, no halt — other worlds keep running.
+     */
+    public void closeBatch() {
+        if (hosting != Hosting.BATCH) {
+            throw new IllegalStateException("closeBatch() is for batch kernels; use shutdown()");
+        }
+        if (shutdownInProgress) return;
+        shutdownInProgress = true;
+        running = false;
+
+        systemRegistry.shutdown();
+        eventDispatcher.shutdown();
+        adminMetricsBus.gracefulShutdown();
+        frameArena.close();
+        stateArena.close();
+        scene.destroy();
+        sectorVault.close();
+    }
+
     /**
      * PHASE 4: STATE AUDIT
      * 
-     * Validates state integrity and updates the tick counter.
-     * FUTURE: State hash for corruption detection.
+     * Validates state integrity, updates the tick counter and, every
+     * volcan.kernel.state.hash.interval frames, publishes the frame hash (TYPE_STATE_HASH).
      */
     private void phaseStateAudit() {
-        // Increment the tick counter in the state
-        int currentTick = stateVault.read(VolcanStateLayout.SYS_TICK);
-        stateVault.write(VolcanStateLayout.SYS_TICK, currentTick + 1);
-
         // [STATE AUDIT]
         // 1. Memory integrity verification (Basic checksum)
         // In AAA production, this can be random sampling for performance.
 
-        // 2. Snapshot for Rollback (Netcode)
-        if (this.timeControlUnit != null) {
-            this.timeControlUnit.capture(stateVault.getRawSegment());
+        // 2. Tick counter + snapshot for Rollback (Netcode), with the inputs that produced it
+        long frame = captureFrame();
+        inputJournal.commit(frame);
+
+        // 3. Frame hash for lockstep desync detection (region hashes reused where nothing was written)
+        if (stateDigest != null && frame % VolcanEngineConfig.KERNEL_STATE_HASH_INTERVAL == 0) {
+            lastStateHash = stateDigest.digest();
+            adminMetricsBus.offer(MetricsPacker.packStateHash(frame, lastStateHash));
         }
 
         // Critical bounds validation - Protects against memory corruption
@@ -582,6 +1188,21 @@ public final class EngineKernel {
         }
     }
 
+    /**
+     * Increments the tick counter and appends the frame to both histories.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     *
+     * @return Number of the captured frame.
+     */
+    private long captureFrame() {
+        int currentTick = stateVault.read(VolcanStateLayout.SYS_TICK);
+        stateVault.write(VolcanStateLayout.SYS_TICK, currentTick + 1);
+        if (stateDigest != null) stateDigest.collectDirty(); // Before the captures clear the trackers
+        // Trackers are null unless volcan.memory.dirty.tracking: full scan
+        worldHistory.capture(currentState.getRawSegment(), currentState.getDirtyTracker());
+        return timeControlUnit.capture(stateVault.getRawSegment(), stateVault.getDirtyTracker());
+    }
+
     /**
      * PHASE 5: NATIVE RENDER (ImGui & GLFW)
      */
@@ -631,14 +1252,18 @@ public final class EngineKernel {
         shutdownInProgress = true;
 
         // [TERMINATOR THREAD] Guarantees process death if shutdown freezes or throws an Error
-        Thread terminator = new Thread(() -> {
-            try { Thread.sleep(3000); } catch (InterruptedException ignored) { return; }
-            if (System.getProperty("sv.volcan.test.nohalt") == null) {
-                Runtime.getRuntime().halt(0);
-            }
-        }, "KernelTerminator");
-        terminator.setDaemon(true);
-        terminator.start();
+        // [HOSTED] Never: the other worlds of the JVM keep running.
+        Thread terminator = null;
+        if (hosting == Hosting.STANDALONE) {
+            terminator = new Thread(() -> {
+                try { Thread.sleep(3000); } catch (InterruptedException ignored) { return; }
+                if (System.getProperty("sv.volcan.test.nohalt") == null) {
+                    Runtime.getRuntime().halt(0);
+                }
+            }, "KernelTerminator");
+            terminator.setDaemon(true);
+            terminator.start();
+        }
 
         // [POISON PILL] Instruct AdminConsumer to flush logs and terminate gracefully
         try {
@@ -649,7 +1274,7 @@ public final class EngineKernel {
 
         // Stop the Control Plane (Metrics Server & Admin Consumer) - this will now block until the consumer dies
         try {
-            sv.volcan.admin.AdminController.stopControlPlane();
+            sv.volcan.admin.AdminController.stopControlPlane(this);
         } catch (Throwable t) {
             System.err.println("[KERNEL] Error stopping Control Plane: " + t.getMessage());
         }
@@ -664,11 +1289,9 @@ public final class EngineKernel {
         sv.volcan.core.VolcanLogger.info("KERNEL", "[STEP 1/6] Stopping main loop and subsystems...");
         running = false;
 
-        ParallelSystemExecutor executor = systemRegistry.getParallelExecutor();
-        if (executor != null) {
-            // 1. Apagamos los hilos del Game System de forma segura para que terminen de escribir
-            executor.shutdown(); 
-        }
+        // 1. Apagamos los hilos del Game System de forma segura para que terminen de escribir
+        // (layer workers, DAG workers or detach from the shared pool, graph compiler)
+        systemRegistry.shutdown();
 
         // Wait for loop to finish (maximum 1 second)
         try {
@@ -676,6 +1299,8 @@ public final class EngineKernel {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+        // The loop thread is done with its trace ring (batch kernels trace on their caller's ring)
+        if (VolcanTraceRecorder.ENABLED) VolcanTraceRecorder.release(traceRing);
         sv.volcan.core.VolcanLogger.info("KERNEL", "[STEP 1/6] Main loop and subsystems stopped [OK]");
 
         // -------------------------------------------------------------------------
@@ -751,6 +1376,11 @@ public final class EngineKernel {
             CleanupValidator.validate(initialSystemState, currentSystemState);
         }
 
+        if (hosting != Hosting.STANDALONE) {
+            sv.volcan.core.VolcanLogger.info("KERNEL", "[KERNEL] World " + worldId + " released (host keeps running).");
+            return;
+        }
+
         // [SHUTDOWN GUARANTEE]
         // Force Windows kernel to clear native memory descriptors and CPU Pinning
         sv.volcan.core.VolcanLogger.info("KERNEL", "[KERNEL] EXECUTING LOW-LEVEL SHUTDOWN (HALT)...");
@@ -0,0 +1,374 @@
+// Reading Order: 11000001
+//  193
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.core.systems.PhysicsSystem;
+import sv.volcan.state.WorldStateFrame;
+
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RESPONSIBILITY: Barrier-free execution of the dependency layers on one persistent ForkJoinPool.
+ * WHY: ParallelSystemExecutor ends every layer with the kernel thread spinning on
+ * remainingTasksInLayer, and its workers park between layers, so each layer pays an unpark per
+ * worker plus a spin barrier.
+ * TECHNIQUE: Same pattern as WorkStealingProcessor.SectorTask, with CountedCompleter instead of
+ * RecursiveAction: each layer is a pre-built binary tree of CountedCompleters whose leaves are
+ * systems. The last leaf of a layer to finish completes the layer node, whose onCompletion forks
+ * the next layer from that worker thread. No thread waits between layers: the frame root only
+ * completes when the last layer does. The tree is built once per topology and reinitialised per
+ * frame. The kernel thread calls pool.invoke(root) and helps complete the tree while it waits.
+ * GUARANTEES: Same layer order and layer isolation as ParallelSystemExecutor. Zero allocations
+ * per frame. Exceptions inside a system are logged and never stall the tree.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 1_000,
+    minThroughput = 500,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Reusable CountedCompleter layer tree on a persistent ForkJoinPool."
+)
+public final class ForkJoinSystemExecutor {
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+    private final int workerCount;
+    private final FrameTask root;
+    private final LayerTask[] layers;
+    private final SystemLeaf[] leaves;     // Flattened layer order (= profiler index)
+    private final long[] layerReadyNs;     // Per layer: when it was forked (queue-wait profiling)
+    private final SystemProfiler profiler;
+    private PhysicsSystem physicsSystem;
+
+    private long lastExecutionTimeNs;
+
+    /** Executor with its own pool of (cores - 1) workers. */
+    public ForkJoinSystemExecutor(GameSystem[][] executionLayersArray) {
+        this(executionLayersArray, createPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)), true);
+    }
+
+    /**
+     * Executor on a pool shared with other topologies (hot-swap keeps the threads).
+     * The caller shuts the pool down.
+     */
+    public ForkJoinSystemExecutor(GameSystem[][] executionLayersArray, ForkJoinPool pool) {
+        this(executionLayersArray, pool, false);
+    }
+
+    private ForkJoinSystemExecutor(GameSystem[][] executionLayersArray, ForkJoinPool pool, boolean ownsPool) {
+        if (executionLayersArray == null || executionLayersArray.length == 0) {
+            throw new IllegalArgumentException("Execution layers cannot be null or empty");
+        }
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.workerCount = pool.getParallelism();
+
+        int systemCount = 0;
+        for (GameSystem[] layer : executionLayersArray) systemCount += layer.length;
+        this.leaves = new SystemLeaf[systemCount];
+        this.layerReadyNs = new long[executionLayersArray.length];
+
+        // Built back to front: layer i forks layer i + 1 from its onCompletion
+        this.root = new FrameTask();
+        this.layers = new LayerTask[executionLayersArray.length];
+        int base = systemCount;
+        for (int i = executionLayersArray.length - 1; i >= 0; i--) {
+            base -= executionLayersArray[i].length;
+            layers[i] = new LayerTask(i, i + 1 < layers.length ? layers[i + 1] : null, executionLayersArray[i], base);
+        }
+
+        String[] names = new String[systemCount];
+        for (int i = 0; i < systemCount; i++) {
+            GameSystem system = leaves[i].system;
+            if (system instanceof PhysicsSystem) this.physicsSystem = (PhysicsSystem) system;
+            names[i] = system.getName();
+        }
+        this.profiler = new SystemProfiler(names, workerCount);
+
+        VolcanLogger.info("FORKJOIN", "Executor initialized with " + layers.length + " layers, "
+                + systemCount + " systems on " + workerCount + " ForkJoin workers");
+    }
+
+    /**
+     * Process-wide pool of (cores - 1) workers shared by every registry (and every hosted world)
+     * in fork-join or deterministic mode. Created on first use; its daemon workers live as long
+     * as the JVM, so nobody shuts it down.
+     */
+    public static ForkJoinPool sharedPool() {
+        return SharedPool.POOL;
+    }
+
+    private static final class SharedPool {
+        static final ForkJoinPool POOL = createPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    /**
+     * Pool used by this executor: async (FIFO) like WorkStealingProcessor, daemon workers named
+     * Volcan-FJ-Worker-N and pinned through CpuPlacement.
+     */
+    public static ForkJoinPool createPool(int parallelism) {
+        int[] cores = CpuPlacement.fromConfig().workerCores(parallelism);
+        AtomicInteger nextSlot = new AtomicInteger();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = p -> {
+            int slot = nextSlot.getAndIncrement() % parallelism;
+            return new VolcanForkJoinWorker(p, slot + 1, cores[slot]);
+        };
+        return new ForkJoinPool(parallelism, factory, null, true);
+    }
+
+    public PhysicsSystem getPhysicsSystem() { return physicsSystem; }
+
+    public SystemProfiler getProfiler() { return profiler; }
+
+    public ForkJoinPool getPool() { return pool; }
+
+    /** Binds the execution rate of a system (boot-time / compile-time only). */
+    void bindSchedule(GameSystem system, SystemSchedule schedule) {
+        for (SystemLeaf leaf : leaves) {
+            if (leaf.system == system) {
+                leaf.schedule = schedule;
+                return;
+            }
+        }
+    }
+
+    /** Runs every layer in order. // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED] */
+    public void execute(WorldStateFrame state, float deltaTime) {
+        long startTime = System.nanoTime();
+        if (SystemProfiler.ENABLED) profiler.beginFrame();
+
+        for (SystemLeaf leaf : leaves) {
+            SystemSchedule schedule = leaf.schedule;
+            leaf.state = state;
+            leaf.due = schedule == null || schedule.due;
+            leaf.deltaTime = schedule == null ? deltaTime : schedule.elapsedDelta;
+        }
+        root.prepare();
+        pool.invoke(root);
+
+        lastExecutionTimeNs = System.nanoTime() - startTime;
+        if (SystemProfiler.ENABLED) profiler.endFrame(lastExecutionTimeNs);
+    }
+
+    public long getLastExecutionTimeNs() {
+        return lastExecutionTimeNs;
+    }
+
+    public double getLastExecutionTimeMs() {
+        return lastExecutionTimeNs / 1_000_000.0;
+    }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /** Shuts the pool down if this executor created it. */
+    public void shutdown() {
+        if (ownsPool) {
+            pool.shutdown();
+            VolcanLogger.info("FORKJOIN", "Executor shutdown (ForkJoin pool terminated)");
+        }
+    }
+
+    /**
+     * Forks into this executor's pool. ForkJoinTask.fork() from a foreign thread (the kernel
+     * thread helping inside invoke) would land in the common pool instead.
+     */
+    private void forkInPool(CountedCompleter<?> task) {
+        if (Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool) {
+            task.fork();
+        } else {
+            pool.execute(task);
+        }
+    }
+
+    // =========================================================================
+    // TASK TREE
+    // =========================================================================
+
+    /** Pool worker with a dense profiler slot (1..N; 0 is the kernel thread). */
+    private static final class VolcanForkJoinWorker extends ForkJoinWorkerThread {
+        final int slot;
+        private final int core;
+
+        VolcanForkJoinWorker(ForkJoinPool pool, int slot, int core) {
+            super(pool);
+            this.slot = slot;
+            this.core = core;
+            setName("Volcan-FJ-Worker-" + (slot - 1));
+            setDaemon(true);
+        }
+
+        @Override
+        protected void onStart() {
+            super.onStart();
+            CpuPlacement.pinSelf(core);
+        }
+    }
+
+    /** Reusable node: prepare() resets the ForkJoin state of its subtree (like SectorTask.prepare). */
+    @SuppressWarnings("serial") // Reused in place, never serialized
+    private abstract static class TreeTask extends CountedCompleter<Void> {
+        TreeTask(CountedCompleter<?> completer) {
+            super(completer);
+        }
+
+        abstract void prepare();
+    }
+
+    /** Frame root: completes when the last layer does (one propagation per layer). */
+    @SuppressWarnings("serial")
+    private final class FrameTask extends TreeTask {
+        FrameTask() {
+            super(null);
+        }
+
+        @Override
+        void prepare() {
+            reinitialize();
+            setPendingCount(layers.length - 1);
+            for (LayerTask layer : layers) layer.prepare();
+        }
+
+        @Override
+        public void compute() {
+            layers[0].publish();
+            layers[0].compute();
+        }
+    }
+
+    /** Top node of a layer: reports to the frame root and starts the next layer. */
+    @SuppressWarnings("serial")
+    private final class LayerTask extends TreeTask {
+        private final int layerIndex;
+        private final LayerTask next;
+        private final TreeTask body;
+
+        LayerTask(int layerIndex, LayerTask next, GameSystem[] layer, int baseIndex) {
+            super(root);
+            this.layerIndex = layerIndex;
+            this.next = next;
+            this.body = node(this, layer, 0, layer.length, baseIndex, layerIndex);
+        }
+
+        void publish() {
+            if (SystemProfiler.ENABLED) layerReadyNs[layerIndex] = System.nanoTime();
+        }
+
+        @Override
+        void prepare() {
+            reinitialize();
+            body.prepare();
+        }
+
+        @Override
+        public void compute() {
+            setPendingCount(0);
+            body.compute(); // The body's completion completes this node
+        }
+
+        @Override
+        public void onCompletion(CountedCompleter<?> caller) {
+            if (next != null) {
+                next.publish();
+                forkInPool(next); // Next layer starts on the thread that finished this one
+            }
+        }
+    }
+
+    private TreeTask node(CountedCompleter<?> parent, GameSystem[] layer, int start, int end,
+                          int baseIndex, int layerIndex) {
+        if (end - start == 1) {
+            SystemLeaf leaf = new SystemLeaf(parent, layer[start], baseIndex + start, layerIndex);
+            leaves[baseIndex + start] = leaf;
+            return leaf;
+        }
+        return new RangeTask(parent, layer, start, end, baseIndex, layerIndex);
+    }
+
+    /** Inner node of a layer's binary tree. */
+    @SuppressWarnings("serial")
+    private final class RangeTask extends TreeTask {
+        private final TreeTask left;
+        private final TreeTask right;
+
+        RangeTask(CountedCompleter<?> parent, GameSystem[] layer, int start, int end, int baseIndex, int layerIndex) {
+            super(parent);
+            int mid = start + (end - start) / 2;
+            this.left = node(this, layer, start, mid, baseIndex, layerIndex);
+            this.right = node(this, layer, mid, end, baseIndex, layerIndex);
+        }
+
+        @Override
+        void prepare() {
+            reinitialize();
+            left.prepare();
+            right.prepare();
+        }
+
+        @Override
+        public void compute() {
+            // Fork the right half, descend into the left one; the last finisher completes this node
+            setPendingCount(1);
+            forkInPool(right);
+            left.compute();
+        }
+    }
+
+    /** One system. */
+    @SuppressWarnings("serial")
+    private final class SystemLeaf extends TreeTask {
+        final GameSystem system;
+        final int index;
+        final int layerIndex;
+        SystemSchedule schedule; // null = every tick
+        WorldStateFrame state;
+        float deltaTime;
+        boolean due;
+
+        SystemLeaf(CountedCompleter<?> parent, GameSystem system, int index, int layerIndex) {
+            super(parent);
+            this.system = system;
+            this.index = index;
+            this.layerIndex = layerIndex;
+        }
+
+        @Override
+        void prepare() {
+            reinitialize();
+        }
+
+        @Override
+        public void compute() {
+            if (due) run();
+            tryComplete();
+        }
+
+        private void run() {
+            long startNs = SystemProfiler.ENABLED ? System.nanoTime() : 0L;
+            try {
+                system.update(state, deltaTime);
+            } catch (Exception e) {
+                VolcanLogger.error("FORKJOIN", "[" + system.getClass().getSimpleName()
+                        + "] Exception in fork-join worker: " + e.getMessage());
+            }
+            if (SystemProfiler.ENABLED) {
+                int slot = Thread.currentThread() instanceof VolcanForkJoinWorker worker ? worker.slot : 0;
+                profiler.record(index, slot, layerReadyNs[layerIndex], startNs, System.nanoTime());
+            }
+        }
+    }
+}
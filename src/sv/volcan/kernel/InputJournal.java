@@ -0,0 +1,200 @@
+// Reading Order: 11010000
+//  208
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.core.AAACertified;
+
+import java.util.Arrays;
+
+/**
+ * RESPONSIBILITY: Remembers the simulation inputs of each frame kept in the rollback history.
+ * WHY: Restoring an old snapshot only rewinds the world; rollback netcode must then replay every
+ * frame up to the present with the same inputs (plus the late ones that caused the rollback),
+ * the same step count and the same deltaTime, or the resimulated present is wrong.
+ * TECHNIQUE: The kernel stages the events it routes during phaseBusProcessing and the steps,
+ * deltaTime and scheduler tick of phaseSystemsExecution; when phaseStateAudit captures the frame, the staging
+ * area is committed to the slot frame % capacity (same numbering as VolcanTimeControlUnit).
+ * Flat long[] per slot, preallocated. insert() adds an input that arrived late to a past frame.
+ * GUARANTEES: Zero allocations. A frame whose events overflowed the slot is marked incomplete
+ * and refused by replay. Kernel thread only.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 50,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = false,
+    offHeap       = false,
+    notes         = "Per-frame input / step journal for rollback resimulation. Zero-Alloc."
+)
+public final class InputJournal {
+
+    private final int capacity;
+    private final int maxEvents;
+
+    private final long[] frameTag;   // [slot] frame held by the slot, -1 = empty
+    private final int[] eventCount;  // [slot]
+    private final int[] steps;       // [slot] phaseSystemsExecution steps (0 = paused)
+    private final float[] deltaTime; // [slot] seconds per step
+    private final long[] firstTick;  // [slot] SystemRegistry tick of the first step (multi-rate phase)
+    private final boolean[] overflow;
+    private final long[] events;     // [slot * maxEvents + i]
+
+    // Staging area of the frame being simulated
+    private final long[] staged;
+    private int stagedCount;
+    private int stagedSteps;
+    private float stagedDeltaTime;
+    private long stagedFirstTick;
+    private boolean stagedOverflow;
+
+    private long droppedEvents;
+
+    /**
+     * @param capacity  Frames remembered (the rollback history length).
+     * @param maxEvents Inputs remembered per frame.
+     */
+    public InputJournal(int capacity, int maxEvents) {
+        if (capacity < 1 || maxEvents < 1) {
+            throw new IllegalArgumentException("capacity and maxEvents must be > 0");
+        }
+        this.capacity = capacity;
+        this.maxEvents = maxEvents;
+        this.frameTag = new long[capacity];
+        this.eventCount = new int[capacity];
+        this.steps = new int[capacity];
+        this.deltaTime = new float[capacity];
+        this.firstTick = new long[capacity];
+        this.overflow = new boolean[capacity];
+        this.events = new long[capacity * maxEvents];
+        this.staged = new long[maxEvents];
+        Arrays.fill(frameTag, -1L);
+    }
+
+    // -------------------------------------------------------------------------
+    // RECORDING (Hot-Path)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Stages an input routed in the current frame.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    public void record(long event) {
+        if (stagedCount < maxEvents) {
+            staged[stagedCount++] = event;
+        } else {
+            stagedOverflow = true;
+            droppedEvents++;
+        }
+    }
+
+    /**
+     * Stages how the systems ran in the current frame.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    public void recordSimulation(int stepCount, float stepDeltaTime, long registryTick) {
+        stagedSteps = stepCount;
+        stagedDeltaTime = stepDeltaTime;
+        stagedFirstTick = registryTick;
+    }
+
+    /**
+     * Stores the staged frame as {@code frame} and clears the staging area.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    public void commit(long frame) {
+        int slot = (int) (frame % capacity);
+        frameTag[slot] = frame;
+        eventCount[slot] = stagedCount;
+        steps[slot] = stagedSteps;
+        deltaTime[slot] = stagedDeltaTime;
+        firstTick[slot] = stagedFirstTick;
+        overflow[slot] = stagedOverflow;
+        System.arraycopy(staged, 0, events, slot * maxEvents, stagedCount);
+        stagedCount = 0;
+        stagedSteps = 0;
+        stagedDeltaTime = 0f;
+        stagedFirstTick = 0L;
+        stagedOverflow = false;
+    }
+
+    /**
+     * Adds an input that belongs to an already simulated frame (e.g. a remote input that arrived
+     * late). Takes effect on the next replay of that frame.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     *
+     * @return false if the frame is no longer journaled or its slot is full.
+     */
+    public boolean insert(long frame, long event) {
+        if (!contains(frame)) return false;
+        int slot = (int) (frame % capacity);
+        if (eventCount[slot] == maxEvents) {
+            droppedEvents++;
+            return false;
+        }
+        events[slot * maxEvents + eventCount[slot]++] = event;
+        return true;
+    }
+
+    // -------------------------------------------------------------------------
+    // REPLAY
+    // -------------------------------------------------------------------------
+
+    /** True if {@code frame} is journaled and complete. */
+    public boolean contains(long frame) {
+        if (frame < 0) return false;
+        int slot = (int) (frame % capacity);
+        return frameTag[slot] == frame && !overflow[slot];
+    }
+
+    public int getEventCount(long frame) {
+        return eventCount[(int) (frame % capacity)];
+    }
+
+    public long getEvent(long frame, int index) {
+        return events[(int) (frame % capacity) * maxEvents + index];
+    }
+
+    public int getSteps(long frame) {
+        return steps[(int) (frame % capacity)];
+    }
+
+    public float getDeltaTime(long frame) {
+        return deltaTime[(int) (frame % capacity)];
+    }
+
+    public long getFirstTick(long frame) {
+        return firstTick[(int) (frame % capacity)];
+    }
+
+    /** Inputs of the frame being simulated (not yet committed). */
+    public int getStagedCount() {
+        return stagedCount;
+    }
+
+    public long getStaged(int index) {
+        return staged[index];
+    }
+
+    // -------------------------------------------------------------------------
+    // QUERIES
+    // -------------------------------------------------------------------------
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getMaxEvents() {
+        return maxEvents;
+    }
+
+    /** Inputs that did not fit their frame (those frames cannot be replayed). */
+    public long getDroppedEvents() {
+        return droppedEvents;
+    }
+}
@@ -45,6 +45,10 @@ public final class MetricsPacker {
     public static final long TYPE_FRAME_STATS = 0x1L << 60;
     public static final long TYPE_BUS_STATS = 0x2L << 60;
     public static final long TYPE_WARNING = 0x3L << 60;
+    public static final long TYPE_SYSTEM_PROFILE = 0x4L << 60;
+    public static final long TYPE_WORKER_PROFILE = 0x5L << 60;
+    public static final long TYPE_DEFERRED_WORK = 0x6L << 60;
+    public static final long TYPE_STATE_HASH = 0x7L << 60;
 
     /**
      * Packs frame statistics into a single 64-bit long.
@@ -90,6 +94,98 @@ public final class MetricsPacker {
         return head10us * 10000L;
     }
 
+    /**
+     * Packs the rolling execution profile of one system.
+     *
+     * <p>LAYOUT: bits 0-7 system index, 8-27 p50 (us), 28-47 p99 (us),
+     * 48-59 p99 queue wait (us). Durations saturate instead of wrapping.
+     */
+    public static long packSystemProfile(int systemIndex, long p50Ns, long p99Ns, long waitP99Ns) {
+        long index = systemIndex & 0xFFL;
+        long p50 = Math.min(p50Ns / 1_000L, 0xFFFFFL);
+        long p99 = Math.min(p99Ns / 1_000L, 0xFFFFFL);
+        long wait = Math.min(waitP99Ns / 1_000L, 0xFFFL);
+        return TYPE_SYSTEM_PROFILE | (wait << 48) | (p99 << 28) | (p50 << 8) | index;
+    }
+
+    public static int unpackProfileIndex(long packed) {
+        return (int) (packed & 0xFFL);
+    }
+
+    public static long unpackSystemP50Micros(long packed) {
+        return (packed >> 8) & 0xFFFFFL;
+    }
+
+    public static long unpackSystemP99Micros(long packed) {
+        return (packed >> 28) & 0xFFFFFL;
+    }
+
+    public static long unpackSystemWaitP99Micros(long packed) {
+        return (packed >> 48) & 0xFFFL;
+    }
+
+    /**
+     * Packs the utilisation of one DAG worker (slot 0 = kernel thread helping out).
+     *
+     * <p>LAYOUT: bits 0-7 worker slot, 8-17 utilisation in permille, 18-49 busy time (us).
+     */
+    public static long packWorkerProfile(int workerSlot, long utilisationPermille, long busyNs) {
+        long slot = workerSlot & 0xFFL;
+        long util = Math.min(utilisationPermille, 1000L) & 0x3FFL;
+        long busy = Math.min(busyNs / 1_000L, 0xFFFFFFFFL);
+        return TYPE_WORKER_PROFILE | (busy << 18) | (util << 8) | slot;
+    }
+
+    public static long unpackWorkerUtilPermille(long packed) {
+        return (packed >> 8) & 0x3FFL;
+    }
+
+    public static long unpackWorkerBusyMicros(long packed) {
+        return (packed >> 18) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Packs the work one cursor left for the next frame (see FrameBudget).
+     *
+     * <p>LAYOUT: bits 0-7 cursor index, 8-39 deferred items, 40-59 passes deferred so far.
+     * Counts saturate instead of wrapping.
+     */
+    public static long packDeferredWork(int cursorIndex, long deferredItems, long framesDeferred) {
+        long index = cursorIndex & 0xFFL;
+        long items = Math.min(deferredItems, 0xFFFFFFFFL);
+        long frames = Math.min(framesDeferred, 0xFFFFFL);
+        return TYPE_DEFERRED_WORK | (frames << 40) | (items << 8) | index;
+    }
+
+    public static long unpackDeferredItems(long packed) {
+        return (packed >> 8) & 0xFFFFFFFFL;
+    }
+
+    public static long unpackFramesDeferred(long packed) {
+        return (packed >> 40) & 0xFFFFFL;
+    }
+
+    /**
+     * Packs a frame hash for desync detection. Peers compare the hash bits of the same frame.
+     *
+     * <p>Only 44 of the 64 hash bits travel: peers compare those, so two different states
+     * collide with probability 2^-44 per frame, not 2^-64. The low 20 bits are dropped.
+     *
+     * <p>LAYOUT: bits 0-43 the 44 high bits of the hash, 44-59 frame number (low 16 bits).
+     */
+    public static long packStateHash(long frame, long hash) {
+        return TYPE_STATE_HASH | ((frame & 0xFFFFL) << 44) | (hash >>> 20);
+    }
+
+    public static long unpackStateHashFrame(long packed) {
+        return (packed >> 44) & 0xFFFFL;
+    }
+
+    /** The 44 hash bits, in the low bits of the result. */
+    public static long unpackStateHashBits(long packed) {
+        return packed & 0xFFFFFFFFFFFL;
+    }
+
     public static long getMetricType(long packed) {
         return packed & (0xFL << 60);
     }
@@ -37,7 +37,11 @@ public final class ParallelSystemExecutor {
 
     private final GameSystem[][] executionLayersArray;
     private final SystemTask[][] preAllocatedTasks;
+    private final SystemSchedule[] singleSchedules; // Schedules of mono-system layers
+    private final int[] layerBaseIndex;             // Profiler index of each layer's first system
     private final WorkerThread[] workers;
+    private final SystemProfiler profiler;
+    private volatile long layerPublishNs;           // Ready timestamp of the current layer
     
     // Lock-Free state
     private volatile SystemTask[] currentLayerTasks;
@@ -52,22 +56,33 @@ public final class ParallelSystemExecutor {
 
     private static final class SystemTask {
         final GameSystem system;
+        final int index;         // Profiler index (layers flattened in order)
+        SystemSchedule schedule; // null = every tick
         WorldStateFrame state;
         float deltaTime;
+        boolean due;
 
-        SystemTask(GameSystem system) {
+        SystemTask(GameSystem system, int index) {
             this.system = system;
+            this.index = index;
         }
     }
 
     private final class WorkerThread extends Thread {
-        WorkerThread(String name) {
+        /** Profiler slot: 0 is reserved for the main thread. */
+        private final int slot;
+        private final int core; // -1 = floating (CpuPlacement)
+
+        WorkerThread(String name, int slot, int core) {
             super(name);
+            this.slot = slot;
+            this.core = core;
             setDaemon(true);
         }
 
         @Override
         public void run() {
+            CpuPlacement.pinSelf(core);
             while (!isShutdown) {
                 SystemTask[] tasks = currentLayerTasks;
                 if (tasks != null) {
@@ -76,7 +91,7 @@ public final class ParallelSystemExecutor {
                     if (idx < count) {
                         SystemTask task = tasks[idx];
                         try {
-                            task.system.update(task.state, task.deltaTime);
+                            if (task.due) runTask(task, slot);
                         } catch (Exception e) {
                             VolcanLogger.error("PARALLEL", "[" + task.system.getClass().getSimpleName()
                                 + "] Exception in worker thread: " + e.getMessage());
@@ -100,35 +115,45 @@ public final class ParallelSystemExecutor {
         this.executionLayersArray = executionLayersArray;
         this.lastExecutionTimeNs = 0;
         this.preAllocatedTasks = new SystemTask[executionLayersArray.length][];
+        this.singleSchedules = new SystemSchedule[executionLayersArray.length];
+        this.layerBaseIndex = new int[executionLayersArray.length];
 
+        int flatIndex = 0;
         for (int i = 0; i < executionLayersArray.length; i++) {
             GameSystem[] layer = executionLayersArray[i];
+            layerBaseIndex[i] = flatIndex;
             if (layer.length > 1) {
                 this.preAllocatedTasks[i] = new SystemTask[layer.length];
                 for (int j = 0; j < layer.length; j++) {
-                    this.preAllocatedTasks[i][j] = new SystemTask(layer[j]);
+                    this.preAllocatedTasks[i][j] = new SystemTask(layer[j], flatIndex + j);
                 }
             } else {
                 this.preAllocatedTasks[i] = null;
             }
+            flatIndex += layer.length;
         }
 
         // Initialize Work-Stealing Workers (1 worker per logical CPU core minus 1 for main thread)
         int coreCount = Runtime.getRuntime().availableProcessors();
         int workerCount = Math.max(1, coreCount - 1);
         
+        int[] cores = CpuPlacement.fromConfig().workerCores(workerCount);
         this.workers = new WorkerThread[workerCount];
         for (int i = 0; i < workerCount; i++) {
-            workers[i] = new WorkerThread("Volcan-Worker-" + i);
+            workers[i] = new WorkerThread("Volcan-Worker-" + i, i + 1, cores[i]);
             workers[i].start();
         }
 
-        // Fast-path bindings
+        // Fast-path bindings + profiler names (same flattened order as the task indices)
+        String[] names = new String[flatIndex];
+        int n = 0;
         for (GameSystem[] layer : executionLayersArray) {
             for (GameSystem system : layer) {
                 if (system instanceof PhysicsSystem) this.physicsSystem = (PhysicsSystem) system;
+                names[n++] = system.getName();
             }
         }
+        this.profiler = new SystemProfiler(names, workerCount);
 
         VolcanLogger.info("PARALLEL", "Executor initialized with " +
                 executionLayersArray.length + " layers on " + workerCount + " Work-Stealing Worker Threads");
@@ -136,8 +161,30 @@ public final class ParallelSystemExecutor {
 
     public PhysicsSystem getPhysicsSystem() { return physicsSystem; }
 
+    public SystemProfiler getProfiler() { return profiler; }
+
+    /**
+     * Binds the execution rate of a system (boot-time only). Non-due systems are skipped
+     * inside their layer; the layer barrier itself is unchanged.
+     */
+    void bindSchedule(GameSystem system, SystemSchedule schedule) {
+        for (int i = 0; i < executionLayersArray.length; i++) {
+            GameSystem[] layer = executionLayersArray[i];
+            for (int j = 0; j < layer.length; j++) {
+                if (layer[j] != system) continue;
+                if (preAllocatedTasks[i] != null) {
+                    preAllocatedTasks[i][j].schedule = schedule;
+                } else {
+                    singleSchedules[i] = schedule;
+                }
+                return;
+            }
+        }
+    }
+
     public void execute(WorldStateFrame state, float deltaTime) {
         long startTime = System.nanoTime();
+        if (SystemProfiler.ENABLED) profiler.beginFrame();
 
         for (int i = 0; i < executionLayersArray.length; i++) {
             executeLayer(i, executionLayersArray[i], state, deltaTime);
@@ -148,6 +195,21 @@ public final class ParallelSystemExecutor {
         
         long endTime = System.nanoTime();
         lastExecutionTimeNs = endTime - startTime;
+        if (SystemProfiler.ENABLED) profiler.endFrame(lastExecutionTimeNs);
+    }
+
+    /** Runs one due task and records it. Queue wait = layer publish → task start. */
+    private void runTask(SystemTask task, int slot) {
+        if (!SystemProfiler.ENABLED) {
+            task.system.update(task.state, task.deltaTime);
+            return;
+        }
+        long startNs = System.nanoTime();
+        try {
+            task.system.update(task.state, task.deltaTime);
+        } finally {
+            profiler.record(task.index, slot, layerPublishNs, startNs, System.nanoTime());
+        }
     }
 
     private void executeLayer(int layerIndex, GameSystem[] layer, WorldStateFrame state, float deltaTime) {
@@ -155,25 +217,38 @@ public final class ParallelSystemExecutor {
 
         // 1. Mono-thread fast path
         if (systemCount == 1) {
+            SystemSchedule schedule = singleSchedules[layerIndex];
+            if (schedule != null && !schedule.due) return;
+            long startNs = SystemProfiler.ENABLED ? System.nanoTime() : 0L;
             try {
-                layer[0].update(state, deltaTime);
+                layer[0].update(state, schedule == null ? deltaTime : schedule.elapsedDelta);
             } catch (Exception e) {
                 VolcanLogger.error("PARALLEL", "[" + layer[0].getClass().getSimpleName()
                     + "] Exception in mono-thread system: " + e.getMessage());
             }
+            if (SystemProfiler.ENABLED) {
+                profiler.record(layerBaseIndex[layerIndex], 0, startNs, startNs, System.nanoTime());
+            }
             return;
         }
 
         // 2. Parallel dispatch (Zero-GC Pre-allocated Tasks)
         SystemTask[] tasks = preAllocatedTasks[layerIndex];
+        int dueCount = 0;
         for (int j = 0; j < systemCount; j++) {
-            tasks[j].state = state;
-            tasks[j].deltaTime = deltaTime;
+            SystemTask task = tasks[j];
+            SystemSchedule schedule = task.schedule;
+            task.state = state;
+            task.due = schedule == null || schedule.due;
+            task.deltaTime = schedule == null ? deltaTime : schedule.elapsedDelta;
+            if (task.due) dueCount++;
         }
+        if (dueCount == 0) return; // Whole layer pruned this tick
 
         // 3. Expose state to workers lock-free
         remainingTasksInLayer.set(systemCount);
         taskIndex.set(0);
+        if (SystemProfiler.ENABLED) layerPublishNs = System.nanoTime();
         currentLayerTasks = tasks; // Volatile publish
 
         // 4. Wake up workers
@@ -188,7 +263,7 @@ public final class ParallelSystemExecutor {
                 // Main thread helps out!
                 SystemTask task = tasks[idx];
                 try {
-                    task.system.update(task.state, task.deltaTime);
+                    if (task.due) runTask(task, 0);
                 } catch (Exception e) {
                     VolcanLogger.error("PARALLEL", "[" + task.system.getClass().getSimpleName()
                         + "] Exception in main thread helper: " + e.getMessage());
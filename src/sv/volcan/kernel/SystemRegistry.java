@@ -11,10 +11,20 @@ import sv.volcan.core.systems.GameSystem;
 import sv.volcan.core.systems.VolcanRenderSystem;
 import sv.volcan.state.WorldStateFrame;
 
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * RESPONSIBILITY: System Registry and Orchestration.
  * WHY: We need a centralized registry to manage the lifecycle and ordered execution of all game logic and rendering systems.
  * TECHNIQUE: Implements the Registry + Strategy pattern. Defaults to sequential safe execution, but supports parallel execution via the ParallelSystemExecutor.
+ * HOT-SWAP: Systems can be added/removed on a running kernel. The new topology is compiled on a
+ * background thread and handed over through an AtomicReference; executeGameSystems() adopts it
+ * at the next frame boundary, so the loop never pauses.
  * GUARANTEES: Deterministic order execution. O(N) Execution. Zero-GC allocations at Runtime.
  * 
  * @author Marvin Alexander Flores Canales
@@ -33,6 +43,7 @@ import sv.volcan.state.WorldStateFrame;
 public final class SystemRegistry {
 
     private final GameSystem[] gameSystemsArray;
+    private final SystemSchedule[] schedulesArray;
     private int gameSystemCount = 0;
 
     private final VolcanRenderSystem[] renderSystemsArray;
@@ -40,6 +51,10 @@ public final class SystemRegistry {
 
     private long lastExecutionTimeNs;
 
+    // Multi-rate scheduling: tick counter advanced once per executeGameSystems() call
+    private long tickCounter = 0;
+    private boolean hasMultiRateSystems = false;
+
     private SystemDependencyGraph dependencyGraph;
     private ParallelSystemExecutor parallelExecutor;
     private boolean parallelMode = false;
@@ -49,18 +64,135 @@ public final class SystemRegistry {
     private VolcanTaskDispatcher taskDispatcher;
     private boolean dagMode = false;
 
+    // Barrier-free layers: CountedCompleter tree on the process-wide ForkJoinPool (attached on demand)
+    private volatile ForkJoinPool forkJoinPool;
+    private ForkJoinSystemExecutor forkJoinExecutor;
+    private boolean forkJoinMode = false;
+
+    // Lockstep/replay: fixed system order, fixed entity ranges on the same ForkJoinPool
+    private DeterministicSystemExecutor deterministicExecutor;
+    private boolean deterministicMode = false;
+
+    // Blocking systems: virtual-thread lane outside the frame, results via the command bus
+    private final WorldCommandBus commandBus = new WorldCommandBus(12);
+    private volatile AsyncSystemLane asyncLane;
+
+    // Multi-world: DAG workers shared with the other worlds of a VolcanWorldHost (null = own pool)
+    private DagWorkerPool sharedWorkerPool;
+
+    // Hot-swap: topologies compiled off-thread, adopted at the next frame boundary
+    private final AtomicReference<SystemTopology> pendingTopology = new AtomicReference<>();
+    private volatile boolean graphBuilt = false;
+    private ExecutorService graphCompiler;
+    // Live roster as published by the main thread (boot registrations and adopted topologies).
+    // Every stage is built on it (or on the still-pending topology), never on a private copy.
+    private volatile Roster liveRoster = new Roster(new GameSystem[0], new SystemSchedule[0], 0, 0);
+    private int restageVersion = -1;     // Roster version a stale topology was sent back for (main thread)
+    private volatile int dagWorkerCount; // Profiler slots of a staged graph (0 = no DAG dispatcher)
+
+    /**
+     * Immutable system list. version counts the boot-time registerGameSystem() calls it includes,
+     * so a topology compiled before a late boot registration is recognised as stale.
+     */
+    private static final class Roster {
+        final GameSystem[] systems;
+        final SystemSchedule[] schedules;
+        final int count;
+        final int version;
+
+        Roster(GameSystem[] systems, SystemSchedule[] schedules, int count, int version) {
+            this.systems = systems;
+            this.schedules = schedules;
+            this.count = count;
+            this.version = version;
+        }
+    }
+
+    /**
+     * A fully compiled, not-yet-adopted set of systems. Immutable after publication.
+     */
+    private static final class SystemTopology {
+        final Roster roster;
+        final SystemDependencyGraph dependencyGraph;
+        final VolcanTaskGraph taskGraph;
+        final ParallelSystemExecutor layerExecutor;
+        final ForkJoinSystemExecutor forkJoinExecutor;
+        final DeterministicSystemExecutor deterministicExecutor;
+        final SystemProfiler profiler;                // DAG instruments, built off-thread (may be null)
+        final AllocationAuditor allocationAuditor;
+
+        SystemTopology(Roster roster, SystemDependencyGraph dependencyGraph, VolcanTaskGraph taskGraph,
+                       ParallelSystemExecutor layerExecutor, ForkJoinSystemExecutor forkJoinExecutor,
+                       DeterministicSystemExecutor deterministicExecutor, SystemProfiler profiler,
+                       AllocationAuditor allocationAuditor) {
+            this.roster = roster;
+            this.dependencyGraph = dependencyGraph;
+            this.taskGraph = taskGraph;
+            this.layerExecutor = layerExecutor;
+            this.forkJoinExecutor = forkJoinExecutor;
+            this.deterministicExecutor = deterministicExecutor;
+            this.profiler = profiler;
+            this.allocationAuditor = allocationAuditor;
+        }
+    }
+
     public SystemRegistry() {
         this.gameSystemsArray = new GameSystem[64];
+        this.schedulesArray = new SystemSchedule[64];
         this.renderSystemsArray = new VolcanRenderSystem[32];
         this.lastExecutionTimeNs = 0;
         this.dependencyGraph = null;
         this.parallelExecutor = null;
     }
 
+    /** Registers a system at its own rate (GameSystem.getRateHz(); every tick by default). */
     public void registerGameSystem(GameSystem system) {
+        registerGameSystem(system, defaultSchedule(system));
+    }
+
+    /**
+     * Registers a system with an explicit execution rate.
+     * AUTO_PHASE schedules are spread onto the least-loaded tick of their cycle.
+     *
+     * @param system   The GameSystem to register.
+     * @param schedule Rate + phase (see SystemSchedule factories).
+     */
+    public void registerGameSystem(GameSystem system, SystemSchedule schedule) {
+        if (system.isBlocking()) {
+            asyncLane().register(system, schedule);
+            return;
+        }
         if (gameSystemCount >= gameSystemsArray.length) throw new IllegalStateException("GameSystem capacity exceeded");
+        if (schedule.phase == SystemSchedule.AUTO_PHASE) {
+            schedule.phase = leastLoadedPhase(schedule.divider, schedulesArray, gameSystemCount);
+        }
+        schedulesArray[gameSystemCount] = schedule;
         gameSystemsArray[gameSystemCount++] = system;
-        VolcanLogger.info("REGISTRY", "Registered game system: " + system.getName());
+        hasMultiRateSystems |= schedule.isMultiRate();
+        liveRoster = new Roster(Arrays.copyOf(gameSystemsArray, gameSystemsArray.length),
+                Arrays.copyOf(schedulesArray, schedulesArray.length), gameSystemCount, liveRoster.version + 1);
+        VolcanLogger.info("REGISTRY", "Registered game system: " + system.getName() + " [" + schedule + "]");
+    }
+
+    /**
+     * Picks the phase in [0, divider) on which the fewest multi-rate systems already run.
+     * Boot-time only: O(divider * N).
+     */
+    private static int leastLoadedPhase(int divider, SystemSchedule[] schedules, int count) {
+        int bestPhase = 0;
+        int bestLoad = Integer.MAX_VALUE;
+        for (int p = 0; p < divider; p++) {
+            int load = 0;
+            for (int i = 0; i < count; i++) {
+                SystemSchedule other = schedules[i];
+                if (other.isMultiRate() && other.landsOn(p)) load++;
+            }
+            if (load < bestLoad) {
+                bestLoad = load;
+                bestPhase = p;
+            }
+        }
+        return bestPhase;
     }
 
     public void registerRenderSystem(VolcanRenderSystem system) {
@@ -72,18 +204,45 @@ public final class SystemRegistry {
     public void executeGameSystems(WorldStateFrame state, float deltaTime) {
         long startTime = System.nanoTime();
 
+        // Hot-swap: adopt a topology compiled off-thread (frame boundary — no node in flight)
+        SystemTopology next = pendingTopology.get();
+        if (next != null) {
+            applyTopology(next);
+        }
+
+        // Multi-rate: decide which systems are due this tick (O(N), primitive math only)
+        long tick = tickCounter++;
+        for (int i = 0; i < gameSystemCount; i++) {
+            schedulesArray[i].advance(tick, deltaTime);
+        }
+
+        // Blocking systems: started here, finished whenever their I/O returns
+        if (asyncLane != null) {
+            asyncLane.dispatch(state, tick, deltaTime);
+        }
+
         if (dagMode && taskDispatcher != null) {
             // [FASE 4] DAG Mode: fine-grained per-node dispatch, no layer barriers.
             taskDispatcher.execute(state, deltaTime);
             lastExecutionTimeNs = taskDispatcher.getLastExecutionTimeNs();
+        } else if (deterministicMode && deterministicExecutor != null) {
+            // Systems in layer order, PartitionedSystem ranges across the pool, frame hash.
+            deterministicExecutor.execute(state, deltaTime);
+            lastExecutionTimeNs = deterministicExecutor.getLastExecutionTimeNs();
+        } else if (forkJoinMode && forkJoinExecutor != null) {
+            // Layers as a reusable CountedCompleter tree: no spin barrier between layers.
+            forkJoinExecutor.execute(state, deltaTime);
+            lastExecutionTimeNs = forkJoinExecutor.getLastExecutionTimeNs();
         } else if (parallelMode && parallelExecutor != null) {
             // Legacy: layer-based work-stealing executor.
             parallelExecutor.execute(state, deltaTime);
             lastExecutionTimeNs = parallelExecutor.getLastExecutionTimeNs();
         } else {
             for (int i = 0; i < gameSystemCount; i++) {
+                SystemSchedule schedule = schedulesArray[i];
+                if (!schedule.due) continue;
                 try {
-                    gameSystemsArray[i].update(state, deltaTime);
+                    gameSystemsArray[i].update(state, schedule.elapsedDelta);
                 } catch (Exception e) {
                     // Route to AdminBus telemetry
                 }
@@ -114,6 +273,21 @@ public final class SystemRegistry {
         return gameSystemCount;
     }
 
+    /** Returns the tick counter used by the multi-rate scheduler. */
+    public long getTickCount() {
+        return tickCounter;
+    }
+
+    /** Sets the tick counter back to a journaled value (rollback resimulation, kernel thread). */
+    void rewindTickCount(long tick) {
+        tickCounter = tick;
+    }
+
+    /** Returns true if at least one registered system runs below the tick rate. */
+    public boolean hasMultiRateSystems() {
+        return hasMultiRateSystems;
+    }
+
     public int getRenderSystemCount() {
         return renderSystemCount;
     }
@@ -131,14 +305,27 @@ public final class SystemRegistry {
             dependencyGraph.validate();
             dependencyGraph.printGraph();
 
-            // Legacy: Layer-based parallel executor (retrocompatibility)
-            parallelExecutor = new ParallelSystemExecutor(dependencyGraph.getExecutionLayers());
+            // Legacy: Layer-based parallel executor (retrocompatibility).
+            // Not built on a shared pool: it would spawn its own (cores - 1) threads per world.
+            if (sharedWorkerPool == null) {
+                parallelExecutor = new ParallelSystemExecutor(dependencyGraph.getExecutionLayers());
+            }
 
             // [FASE 4] DAG: Compile the flat node graph from validated layers
             taskGraph = new VolcanTaskGraph();
             taskGraph.compile(dependencyGraph);
-            taskDispatcher = new VolcanTaskDispatcher(taskGraph);
+            taskDispatcher = sharedWorkerPool != null
+                    ? new VolcanTaskDispatcher(taskGraph, sharedWorkerPool)
+                    : new VolcanTaskDispatcher(taskGraph);
+            dagWorkerCount = taskDispatcher.getWorkerCount();
 
+            // Multi-rate: hand each executor the schedule of every system
+            for (int i = 0; i < gameSystemCount; i++) {
+                taskGraph.bindSchedule(gameSystemsArray[i], schedulesArray[i]);
+                if (parallelExecutor != null) parallelExecutor.bindSchedule(gameSystemsArray[i], schedulesArray[i]);
+            }
+
+            graphBuilt = true;
             VolcanLogger.info("REGISTRY", "Dependency graph built successfully");
             VolcanLogger.info("REGISTRY", "DAG compiled: " + taskGraph.getNodeCount()
                     + " nodes, " + dependencyGraph.getLayerCount() + " layers");
@@ -147,18 +334,297 @@ public final class SystemRegistry {
             VolcanLogger.error("REGISTRY", "Falling back to sequential execution");
             dependencyGraph = null;
             parallelExecutor = null;
+            forkJoinExecutor = null;
+            deterministicExecutor = null;
             taskGraph = null;
             taskDispatcher = null;
         }
     }
 
+    // -------------------------------------------------------------------------
+    // HOT-SWAP (Live-ops: add/remove systems on a running kernel)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Registers a system on a running kernel.
+     * The topology is validated and compiled on the graph compiler thread, then adopted by
+     * executeGameSystems() at the next frame boundary. Safe to call from any thread.
+     *
+     * @return Completes with true once the new graph is staged, false if it was rejected
+     *         (capacity, duplicate name, missing dependency or cycle).
+     */
+    public CompletableFuture<Boolean> hotRegisterGameSystem(GameSystem system, SystemSchedule schedule) {
+        if (system.isBlocking()) {
+            // Not part of any graph: nothing to compile, the lane picks it up next frame
+            boolean duplicate = asyncLane != null && asyncLane.contains(system.getName());
+            if (!duplicate) asyncLane().register(system, schedule);
+            return CompletableFuture.completedFuture(!duplicate);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            Roster base = stagingBase();
+            if (base.count >= gameSystemsArray.length) {
+                VolcanLogger.error("REGISTRY", "Hot-register rejected (capacity): " + system.getName());
+                return false;
+            }
+            if (indexOf(base, system.getName()) >= 0) {
+                VolcanLogger.error("REGISTRY", "Hot-register rejected (duplicate): " + system.getName());
+                return false;
+            }
+            GameSystem[] systems = Arrays.copyOf(base.systems, gameSystemsArray.length);
+            SystemSchedule[] schedules = Arrays.copyOf(base.schedules, schedulesArray.length);
+            int count = base.count;
+            if (schedule.phase == SystemSchedule.AUTO_PHASE) {
+                schedule.phase = leastLoadedPhase(schedule.divider, schedules, count);
+            }
+            systems[count] = system;
+            schedules[count] = schedule;
+            return stageTopology(new Roster(systems, schedules, count + 1, base.version), "+" + system.getName());
+        }, graphCompiler());
+    }
+
+    public CompletableFuture<Boolean> hotRegisterGameSystem(GameSystem system) {
+        return hotRegisterGameSystem(system, defaultSchedule(system));
+    }
+
+    /** Schedule of a system registered without one: its preferred rate, spread by AUTO_PHASE. */
+    private static SystemSchedule defaultSchedule(GameSystem system) {
+        double hz = system.getRateHz();
+        return hz > 0 ? SystemSchedule.fixedHz(hz, SystemSchedule.AUTO_PHASE) : SystemSchedule.everyTick();
+    }
+
+    /**
+     * Removes a system from a running kernel. Rejected if another system still depends on it.
+     * Safe to call from any thread.
+     *
+     * @return Completes with true once the new graph is staged, false if it was rejected.
+     */
+    public CompletableFuture<Boolean> hotUnregisterGameSystem(String systemName) {
+        if (asyncLane != null && asyncLane.unregister(systemName)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            Roster base = stagingBase();
+            int idx = indexOf(base, systemName);
+            if (idx < 0) {
+                VolcanLogger.error("REGISTRY", "Hot-unregister rejected (unknown system): " + systemName);
+                return false;
+            }
+            GameSystem[] systems = new GameSystem[gameSystemsArray.length];
+            SystemSchedule[] schedules = new SystemSchedule[schedulesArray.length];
+            int count = 0;
+            for (int i = 0; i < base.count; i++) {
+                if (i == idx) continue;
+                systems[count] = base.systems[i];
+                schedules[count++] = base.schedules[i];
+            }
+            return stageTopology(new Roster(systems, schedules, count, base.version), "-" + systemName);
+        }, graphCompiler());
+    }
+
+    /**
+     * Validates and compiles a roster, then publishes it for adoption.
+     * // [GRAPH_COMPILER_THREAD_ONLY] — O(V+E) compile, allocations allowed here.
+     */
+    private boolean stageTopology(Roster roster, String change) {
+        GameSystem[] systems = roster.systems;
+        SystemSchedule[] schedules = roster.schedules;
+        int count = roster.count;
+        SystemDependencyGraph graph = new SystemDependencyGraph();
+        for (int i = 0; i < count; i++) {
+            graph.addSystem(systems[i], systems[i].getDependencies());
+        }
+        VolcanTaskGraph compiledGraph;
+        ParallelSystemExecutor layerExecutor = null;
+        ForkJoinSystemExecutor nextForkJoin = null;
+        DeterministicSystemExecutor nextDeterministic = null;
+        try {
+            graph.validate();
+            compiledGraph = new VolcanTaskGraph();
+            compiledGraph.compile(graph);
+        } catch (IllegalStateException e) {
+            VolcanLogger.error("REGISTRY", "Hot-swap " + change + " rejected: " + e.getMessage());
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            compiledGraph.bindSchedule(systems[i], schedules[i]);
+        }
+        if (graphBuilt && count > 0 && sharedWorkerPool == null) {
+            layerExecutor = new ParallelSystemExecutor(graph.getExecutionLayers());
+            for (int i = 0; i < count; i++) {
+                layerExecutor.bindSchedule(systems[i], schedules[i]);
+            }
+        }
+
+        ForkJoinPool fjPool = forkJoinPool;
+        if (fjPool != null && count > 0) {
+            nextForkJoin = new ForkJoinSystemExecutor(graph.getExecutionLayers(), fjPool); // Same threads, new tree
+            nextDeterministic = new DeterministicSystemExecutor(graph.getExecutionLayers(), fjPool);
+            for (int i = 0; i < count; i++) {
+                nextForkJoin.bindSchedule(systems[i], schedules[i]);
+                nextDeterministic.bindSchedule(systems[i], schedules[i]);
+            }
+        }
+
+        // DAG instruments sized for the new graph here, not on the kernel thread at the swap
+        int workers = dagWorkerCount;
+        SystemProfiler profiler = workers > 0 ? VolcanTaskDispatcher.createProfiler(compiledGraph, workers) : null;
+        AllocationAuditor auditor = workers > 0 && AllocationAuditor.ENABLED
+                ? VolcanTaskDispatcher.createAllocationAuditor(compiledGraph) : null;
+
+        // The kernel only adopts what it removed with compareAndSet, so a replaced topology was never adopted
+        SystemTopology stale = pendingTopology.getAndSet(new SystemTopology(roster, graph, compiledGraph,
+                layerExecutor, nextForkJoin, nextDeterministic, profiler, auditor));
+        if (stale != null && stale.layerExecutor != null) {
+            stale.layerExecutor.shutdown(); // Superseded before the kernel adopted it
+        }
+        VolcanLogger.info("REGISTRY", "Hot-swap " + change + " staged: " + count + " systems, "
+                + compiledGraph.getNodeCount() + " DAG nodes");
+        return true;
+    }
+
+    /**
+     * Adopts a staged topology. Runs between two frames: every node of the previous
+     * graph has completed, so no worker holds a reference into it.
+     * A topology compiled before a late boot-time registerGameSystem() would drop that system:
+     * it stays pending and is recompiled on top of the live roster instead.
+     * // [MAIN_THREAD_ONLY]
+     */
+    private void applyTopology(SystemTopology next) {
+        Roster roster = next.roster;
+        if (roster.version != liveRoster.version) {
+            if (restageVersion != liveRoster.version) {
+                restageVersion = liveRoster.version;
+                graphCompiler().execute(() -> stageTopology(stagingBase(), "(boot registrations)"));
+            }
+            return;
+        }
+        if (!pendingTopology.compareAndSet(next, null)) return; // Superseded: adopt the newer one next frame
+        liveRoster = roster;
+
+        System.arraycopy(roster.systems, 0, gameSystemsArray, 0, roster.count);
+        System.arraycopy(roster.schedules, 0, schedulesArray, 0, roster.count);
+        Arrays.fill(gameSystemsArray, roster.count, Math.max(gameSystemCount, roster.count), null);
+        Arrays.fill(schedulesArray, roster.count, Math.max(gameSystemCount, roster.count), null);
+        gameSystemCount = roster.count;
+
+        boolean multiRate = false;
+        for (int i = 0; i < gameSystemCount; i++) {
+            multiRate |= schedulesArray[i].isMultiRate();
+        }
+        hasMultiRateSystems = multiRate;
+
+        if (graphBuilt) {
+            dependencyGraph = next.dependencyGraph;
+            taskGraph = next.taskGraph;
+            if (taskDispatcher != null) {
+                taskDispatcher.swapGraph(next.taskGraph, next.profiler, next.allocationAuditor);
+            }
+            ParallelSystemExecutor previous = parallelExecutor;
+            parallelExecutor = next.layerExecutor;
+            if (previous != null) {
+                previous.shutdown();
+            }
+            if (forkJoinPool != null) {
+                forkJoinExecutor = next.forkJoinExecutor; // Shared pool: nothing to shut down
+                if (next.deterministicExecutor != null) next.deterministicExecutor.adoptHashedSegments(deterministicExecutor);
+                deterministicExecutor = next.deterministicExecutor;
+            }
+        }
+    }
+
+    /**
+     * Roster the next stage builds on: the pending topology (so consecutive hot changes stack)
+     * plus any boot registrations it was compiled without, else the live roster.
+     * Reads the pending topology BEFORE the live roster: the kernel publishes the live roster
+     * before it removes an adopted topology, so a null here always sees that adoption.
+     * // [GRAPH_COMPILER_THREAD_ONLY]
+     */
+    private Roster stagingBase() {
+        SystemTopology pending = pendingTopology.get();
+        Roster live = liveRoster;
+        if (pending == null) return live;
+        Roster base = pending.roster;
+        int late = live.version - base.version; // Boot registrations append at the end of the live roster
+        if (late <= 0) return base;
+        GameSystem[] systems = Arrays.copyOf(base.systems, gameSystemsArray.length);
+        SystemSchedule[] schedules = Arrays.copyOf(base.schedules, schedulesArray.length);
+        System.arraycopy(live.systems, live.count - late, systems, base.count, late);
+        System.arraycopy(live.schedules, live.count - late, schedules, base.count, late);
+        return new Roster(systems, schedules, base.count + late, live.version);
+    }
+
+    private static int indexOf(Roster roster, String systemName) {
+        for (int i = 0; i < roster.count; i++) {
+            if (roster.systems[i].getName().equals(systemName)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Runs the DAG on a worker pool shared with other worlds instead of spawning (cores - 1)
+     * workers for this registry. Must be called before buildDependencyGraph(). The legacy layer
+     * executor is not available on a shared pool (DAG or sequential only).
+     */
+    public void useSharedWorkerPool(DagWorkerPool pool) {
+        if (graphBuilt) {
+            throw new IllegalStateException("useSharedWorkerPool() must be called before buildDependencyGraph()");
+        }
+        this.sharedWorkerPool = pool;
+    }
+
+    /**
+     * Stops every thread owned by this registry (DAG workers, layer workers, graph compiler).
+     * The fork-join pool is process-wide and stays up. The registry must not be executed afterwards.
+     */
+    public synchronized void shutdown() {
+        if (taskDispatcher != null) taskDispatcher.shutdown();
+        if (parallelExecutor != null) parallelExecutor.shutdown();
+        if (asyncLane != null) asyncLane.shutdown();
+        if (graphCompiler != null) graphCompiler.shutdownNow();
+    }
+
+    private synchronized AsyncSystemLane asyncLane() {
+        if (asyncLane == null) {
+            asyncLane = new AsyncSystemLane(commandBus);
+        }
+        return asyncLane;
+    }
+
+    /**
+     * Bus on which blocking systems publish their results. The kernel applies it at the start
+     * of every frame (phaseBusProcessing).
+     */
+    public WorldCommandBus getCommandBus() {
+        return commandBus;
+    }
+
+    /** Lane running the blocking systems, or null if none was registered. */
+    public AsyncSystemLane getAsyncLane() {
+        return asyncLane;
+    }
+
+    private synchronized ExecutorService graphCompiler() {
+        if (graphCompiler == null) {
+            graphCompiler = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "VolcanGraphCompiler");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return graphCompiler;
+    }
+
     public void setParallelMode(boolean enabled) {
         if (enabled && parallelExecutor == null) {
             VolcanLogger.error("REGISTRY", "Cannot enable parallel mode: dependency graph not built");
             return;
         }
         this.parallelMode = enabled;
-        if (enabled) this.dagMode = false; // Mutually exclusive
+        if (enabled) {
+            this.dagMode = false; // Mutually exclusive
+            this.forkJoinMode = false;
+            this.deterministicMode = false;
+        }
         VolcanLogger.info("REGISTRY", "Parallel mode: " + (enabled ? "ENABLED" : "DISABLED"));
     }
 
@@ -176,9 +642,81 @@ public final class SystemRegistry {
         }
         this.dagMode = true;
         this.parallelMode = false; // Mutually exclusive
+        this.forkJoinMode = false;
+        this.deterministicMode = false;
         VolcanLogger.info("REGISTRY", "[FASE 4] DAG Mode ENABLED — elastic dispatch, no layer barriers.");
     }
 
+    /**
+     * Enables the barrier-free layer executor. Disables DAG and legacy parallel mode.
+     * Requires buildDependencyGraph(). Runs on the process-wide ForkJoinPool, kept for later
+     * topologies (hot-swap rebuilds the task tree, not the threads).
+     */
+    public void enableForkJoinMode() {
+        if (dependencyGraph == null) {
+            VolcanLogger.error("REGISTRY", "Cannot enable fork-join mode: dependency graph not built");
+            return;
+        }
+        if (forkJoinExecutor == null && gameSystemCount > 0) {
+            ensureForkJoinPool();
+            forkJoinExecutor = new ForkJoinSystemExecutor(dependencyGraph.getExecutionLayers(), forkJoinPool);
+            for (int i = 0; i < gameSystemCount; i++) {
+                forkJoinExecutor.bindSchedule(gameSystemsArray[i], schedulesArray[i]);
+            }
+        }
+        this.forkJoinMode = true;
+        this.dagMode = false; // Mutually exclusive
+        this.parallelMode = false;
+        this.deterministicMode = false;
+        VolcanLogger.info("REGISTRY", "Fork-join mode ENABLED — layers chained by CountedCompleter, no spin barrier.");
+    }
+
+    /**
+     * Enables deterministic execution for lockstep and replay. Disables the other parallel modes.
+     * Requires buildDependencyGraph(). Runs on the fork-join pool: systems in layer order, the
+     * entity ranges of each PartitionedSystem across the workers, and a state hash per frame.
+     */
+    public void enableDeterministicMode() {
+        if (dependencyGraph == null) {
+            VolcanLogger.error("REGISTRY", "Cannot enable deterministic mode: dependency graph not built");
+            return;
+        }
+        if (deterministicExecutor == null && gameSystemCount > 0) {
+            ensureForkJoinPool();
+            deterministicExecutor = new DeterministicSystemExecutor(dependencyGraph.getExecutionLayers(), forkJoinPool);
+            for (int i = 0; i < gameSystemCount; i++) {
+                deterministicExecutor.bindSchedule(gameSystemsArray[i], schedulesArray[i]);
+            }
+        }
+        this.deterministicMode = true;
+        this.dagMode = false; // Mutually exclusive
+        this.parallelMode = false;
+        this.forkJoinMode = false;
+        VolcanLogger.info("REGISTRY", "Deterministic mode ENABLED — fixed system order, fixed entity ranges, frame hash.");
+    }
+
+    private void ensureForkJoinPool() {
+        if (forkJoinPool == null) {
+            forkJoinPool = ForkJoinSystemExecutor.sharedPool(); // One per process, not per registry
+        }
+    }
+
+    public boolean isDeterministicMode() {
+        return deterministicMode;
+    }
+
+    public DeterministicSystemExecutor getDeterministicExecutor() {
+        return deterministicExecutor;
+    }
+
+    public boolean isForkJoinMode() {
+        return forkJoinMode;
+    }
+
+    public ForkJoinSystemExecutor getForkJoinExecutor() {
+        return forkJoinExecutor;
+    }
+
     public boolean isParallelMode() {
         return parallelMode;
     }
@@ -194,4 +732,16 @@ public final class SystemRegistry {
     public ParallelSystemExecutor getParallelExecutor() {
         return parallelExecutor;
     }
+
+    /**
+     * Profiler of the active parallel executor (DAG dispatcher or layer executor).
+     * Returns null in sequential mode: the kernel phase timer already covers it.
+     */
+    public SystemProfiler getProfiler() {
+        if (dagMode && taskDispatcher != null) return taskDispatcher.getProfiler();
+        if (forkJoinMode && forkJoinExecutor != null) return forkJoinExecutor.getProfiler();
+        if (deterministicMode && deterministicExecutor != null) return deterministicExecutor.getProfiler();
+        if (parallelMode && parallelExecutor != null) return parallelExecutor.getProfiler();
+        return null;
+    }
 }
@@ -0,0 +1,179 @@
+// Reading Order: 10101100
+//  172
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.AAACertified;
+
+/**
+ * RESPONSIBILITY: Per-system execution rate (tick divider or fixed Hz) plus phase offset.
+ * WHY: Not every system needs to run every tick. Network replication at 20 Hz, AI at 10 Hz or
+ * telemetry at 1 Hz were each inventing their own accumulators inside update(), still paying a
+ * full DAG dispatch per frame just to return early.
+ * TECHNIQUE: The SystemRegistry advances every schedule once per tick (O(N), primitive math only).
+ * The result is two frame-local fields: {@code due} and {@code elapsedDelta}. Executors read them
+ * to prune non-due systems; a system that runs every N ticks receives the accumulated deltaTime of
+ * the skipped ticks so integrators stay correct.
+ * GUARANTEES: Zero allocations per tick. Deterministic: FIXED_HZ accumulates simulated deltaTime,
+ * never wall-clock time.
+ *
+ * <p>PHASE OFFSET: A divider-4 system with phase 1 runs on ticks 1, 5, 9... Passing
+ * {@link #AUTO_PHASE} lets the SystemRegistry pick the least-loaded phase so low-rate systems
+ * do not all land on tick 0 and cause a periodic spike.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 10,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Multi-rate scheduling: tick dividers, fixed Hz, phase offsets. Zero-Alloc per tick."
+)
+public final class SystemSchedule {
+
+    /** Phase placeholder: the SystemRegistry assigns the least-loaded phase at registration. */
+    public static final int AUTO_PHASE = -1;
+
+    static final int KIND_EVERY_TICK   = 0;
+    static final int KIND_TICK_DIVIDER = 1;
+    static final int KIND_FIXED_HZ     = 2;
+
+    // -------------------------------------------------------------------------
+    // CONFIGURATION (immutable after registration)
+    // -------------------------------------------------------------------------
+
+    final int kind;
+    final int divider;
+    final float periodSeconds;
+    int phase;
+
+    // -------------------------------------------------------------------------
+    // FRAME-LOCAL STATE (written by SystemRegistry, read by executors)
+    // -------------------------------------------------------------------------
+
+    /** True if the system must run on the current tick. */
+    boolean due = true;
+
+    /** deltaTime to inject: the sum of all ticks since the last run. */
+    float elapsedDelta;
+
+    private float pendingDelta;
+    private float rateAccumulator;
+
+    private SystemSchedule(int kind, int divider, float periodSeconds, int phase) {
+        this.kind = kind;
+        this.divider = divider;
+        this.periodSeconds = periodSeconds;
+        this.phase = phase;
+    }
+
+    // -------------------------------------------------------------------------
+    // FACTORIES
+    // -------------------------------------------------------------------------
+
+    /** Default schedule: runs on every tick with the raw frame deltaTime. */
+    public static SystemSchedule everyTick() {
+        return new SystemSchedule(KIND_EVERY_TICK, 1, 0f, 0);
+    }
+
+    /**
+     * Runs once every {@code divider} ticks.
+     *
+     * @param divider Tick divider (1 = every tick).
+     * @param phase   Tick offset in [0, divider) or {@link #AUTO_PHASE}.
+     */
+    public static SystemSchedule everyNTicks(int divider, int phase) {
+        if (divider < 1) throw new IllegalArgumentException("Tick divider must be >= 1: " + divider);
+        if (phase != AUTO_PHASE && (phase < 0 || phase >= divider)) {
+            throw new IllegalArgumentException("Phase must be in [0, " + divider + "): " + phase);
+        }
+        if (divider == 1) return everyTick();
+        return new SystemSchedule(KIND_TICK_DIVIDER, divider, 0f, phase);
+    }
+
+    /**
+     * Runs at a fixed simulated rate, independent of the kernel frame rate.
+     * The phase delays the first run by that many ticks, which shifts every later run too.
+     *
+     * @param hz    Target rate in Hz. Must be > 0.
+     * @param phase Tick offset or {@link #AUTO_PHASE}.
+     */
+    public static SystemSchedule fixedHz(double hz, int phase) {
+        if (!(hz > 0)) throw new IllegalArgumentException("Rate must be > 0 Hz: " + hz);
+        if (phase < AUTO_PHASE) throw new IllegalArgumentException("Phase must be >= 0: " + phase);
+        int nominalDivider = (int) Math.max(1, Math.round(VolcanEngineConfig.KERNEL_TICK_RATE / hz));
+        return new SystemSchedule(KIND_FIXED_HZ, nominalDivider, (float) (1.0 / hz), phase);
+    }
+
+    // -------------------------------------------------------------------------
+    // PER-TICK ADVANCE (Hot-Path — called from SystemRegistry only)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Decides whether the system runs on this tick and how much time it must integrate.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    void advance(long tick, float deltaTime) {
+        switch (kind) {
+            case KIND_TICK_DIVIDER -> {
+                pendingDelta += deltaTime;
+                due = (tick - phase) % divider == 0 && tick >= phase;
+            }
+            case KIND_FIXED_HZ -> {
+                if (tick < phase) {
+                    due = false;
+                    return;
+                }
+                pendingDelta += deltaTime;
+                rateAccumulator += deltaTime;
+                // Subtract (not reset) so the long-run rate stays exact despite frame jitter.
+                due = rateAccumulator >= periodSeconds;
+                if (due) {
+                    rateAccumulator -= periodSeconds;
+                    // Spiral guard: never queue more than one extra period after a hitch.
+                    if (rateAccumulator > periodSeconds) rateAccumulator = periodSeconds;
+                }
+            }
+            default -> {
+                due = true;
+                elapsedDelta = deltaTime;
+                return;
+            }
+        }
+        if (due) {
+            elapsedDelta = pendingDelta;
+            pendingDelta = 0f;
+        }
+    }
+
+    /** Returns true if the schedule can skip ticks. */
+    boolean isMultiRate() {
+        return kind != KIND_EVERY_TICK;
+    }
+
+    /** Returns true if the system runs on the given tick within its nominal cycle (load estimation). */
+    boolean landsOn(int tick) {
+        return kind == KIND_EVERY_TICK || Math.floorMod(tick - phase, divider) == 0;
+    }
+
+    public boolean isDue() { return due; }
+
+    public int getDivider() { return divider; }
+
+    public int getPhase() { return phase; }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case KIND_TICK_DIVIDER -> "every " + divider + " ticks (phase " + phase + ")";
+            case KIND_FIXED_HZ -> (1.0f / periodSeconds) + " Hz (phase " + phase + ")";
+            default -> "every tick";
+        };
+    }
+}
@@ -84,10 +84,24 @@ public final class TimeKeeper {
     private long phase3TimeNs; // Systems
     private long phase4TimeNs; // Audit
 
+    // ==========================================================================
+    // FIXED-STEP ACCUMULATOR (orthogonal to the pacing lane)
+    // ==========================================================================
+    // Simulation advances in constant steps; the lane only decides how often frames are published.
+    private static final long MAX_FRAME_DELTA_NS = 250_000_000L; // Breakpoints / AFK wake-up
+    private long fixedStepNs;        // 0 = disabled (systems get getDeltaTime())
+    private int maxSubSteps;
+    private long accumulatorNs;
+    private long previousFrameStart;
+    private int lastSubSteps;
+    private float interpolationAlpha;
+    private long droppedSteps;       // Steps discarded by the spiral-of-death cap
+
     public TimeKeeper() {
         this.lastFrameTime = System.nanoTime();
         this.currentFrameTime = lastFrameTime;
         this.frameCount = 0;
+        this.previousFrameStart = lastFrameTime;
 
         // Load configuration for the Lanes
         EngineMode mode = EngineMode.GAMING_CVT;
@@ -109,6 +123,7 @@ public final class TimeKeeper {
         }
 
         resetRingBuffer();
+        setFixedStep(VolcanEngineConfig.KERNEL_FIXED_STEP_HZ, VolcanEngineConfig.KERNEL_FIXED_STEP_MAX_SUBSTEPS);
     }
     
     private void resetRingBuffer() {
@@ -119,6 +134,7 @@ public final class TimeKeeper {
     }
 
     public void startFrame() {
+        previousFrameStart = currentFrameTime;
         currentFrameTime = System.nanoTime();
         frameCount++;
         
@@ -151,6 +167,89 @@ public final class TimeKeeper {
         return 1.0f / currentTargetFps;
     }
 
+    // ==========================================================================
+    // FIXED-STEP ACCUMULATOR
+    // ==========================================================================
+
+    /**
+     * Enables the fixed-step accumulator (hz &lt;= 0 disables it).
+     *
+     * @param hz          Simulation rate, independent of the published frame rate.
+     * @param maxSubSteps Spiral-of-death cap: steps per frame beyond it are dropped, not queued.
+     */
+    public void setFixedStep(int hz, int maxSubSteps) {
+        this.fixedStepNs = hz > 0 ? 1_000_000_000L / hz : 0;
+        this.maxSubSteps = Math.max(1, maxSubSteps);
+        this.accumulatorNs = 0;
+        this.interpolationAlpha = 0.0f;
+    }
+
+    public boolean isFixedStep() {
+        return fixedStepNs > 0;
+    }
+
+    /**
+     * Feeds the wall time of the frame just started into the accumulator.
+     * // [ZERO_GC_GUARANTEED]
+     *
+     * @return Simulation steps to run this frame (0..maxSubSteps).
+     */
+    public int advanceFixedStep() {
+        return accumulate(currentFrameTime - previousFrameStart);
+    }
+
+    /**
+     * Accumulator core: adds {@code elapsedNs} and consumes whole steps.
+     *
+     * <p>Elapsed time is clamped to 250 ms (a debugger pause must not replay seconds of
+     * simulation). When more steps are due than the cap allows, the surplus whole steps are
+     * dropped and only the sub-step remainder is kept: the world slows down instead of falling
+     * further behind every frame.
+     *
+     * @return Steps to run (0 while the accumulator is below one step; 1 when disabled).
+     */
+    public int accumulate(long elapsedNs) {
+        if (fixedStepNs <= 0) return 1; // Variable step: one pass with getDeltaTime()
+        accumulatorNs += Math.max(0, Math.min(elapsedNs, MAX_FRAME_DELTA_NS));
+        long due = accumulatorNs / fixedStepNs;
+        int steps = (int) Math.min(due, maxSubSteps);
+        if (due > steps) {
+            droppedSteps += due - steps;
+            accumulatorNs %= fixedStepNs;
+        } else {
+            accumulatorNs -= steps * fixedStepNs;
+        }
+        lastSubSteps = steps;
+        interpolationAlpha = (float) ((double) accumulatorNs / fixedStepNs);
+        return steps;
+    }
+
+    /** Constant deltaTime of one simulation step (seconds). */
+    public float getFixedDeltaTime() {
+        return fixedStepNs > 0 ? fixedStepNs / 1_000_000_000.0f : getDeltaTime();
+    }
+
+    /**
+     * Fraction of a step left in the accumulator, in [0, 1): how far the published state sits
+     * between the previous and the current simulation step.
+     */
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
+    /** Length of one simulation step (0 = fixed step disabled). */
+    public long getFixedStepNs() {
+        return fixedStepNs;
+    }
+
+    public int getLastSubSteps() {
+        return lastSubSteps;
+    }
+
+    public long getDroppedSteps() {
+        return droppedSteps;
+    }
+
     public long getFrameCount() {
         return frameCount;
     }
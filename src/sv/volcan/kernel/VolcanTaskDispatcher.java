@@ -4,6 +4,7 @@
 // SPDX-License-Identifier: LGPL-3.0-or-later
 package sv.volcan.kernel;
 
+import sv.volcan.config.VolcanEngineConfig;
 import sv.volcan.core.AAACertified;
 import sv.volcan.core.VolcanLogger;
 import sv.volcan.core.systems.GameSystem;
@@ -11,7 +12,6 @@ import sv.volcan.core.systems.PhysicsSystem;
 import sv.volcan.state.WorldStateFrame;
 
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.LockSupport;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
 
@@ -44,8 +44,9 @@ import java.lang.invoke.VarHandle;
  * = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = = =
  *
  * Per frame:
- *   1. RESET: Set all nodes' pendingDeps = initialDeps (O(N), single thread)
- *   2. SEED: Enqueue all root nodes into the lock-free work queue
+ *   1. RESET: Prune non-due nodes (SystemSchedule), set pendingDeps = due predecessors,
+ *      counted through pruned nodes so ordering across a skipped system holds (O(V+E))
+ *   2. SEED: Enqueue all ready nodes into the lock-free work queue
  *   3. WORKERS: Each worker dequeues a node, executes it, then for each
  *      successor: atomically decrement pendingDeps; if it reaches 0, enqueue.
  *   4. COMPLETION: Main thread spins on remainingNodes counter until 0.
@@ -145,66 +146,48 @@ public final class VolcanTaskDispatcher {
     private final AtomicInteger remainingNodes = new AtomicInteger(0);
 
     // =========================================================================
-    // WORKER POOL (Platform Threads — pinned to cores)
+    // WORKER POOL (Platform Threads — owned, or shared between worlds)
     // =========================================================================
 
-    private final WorkerThread[] workers;
-    private volatile boolean isShutdown = false;
+    private final DagWorkerPool pool;
+    private final boolean ownsPool;
 
     // =========================================================================
-    // COMPILED GRAPH (set once at boot)
+    // COMPILED GRAPH (set at boot, hot-swapped only at frame boundaries)
     // =========================================================================
 
     private VolcanTaskGraph graph;
 
-    // =========================================================================
-    // FAST-PATH BINDINGS
-    // =========================================================================
+    /** Scratch list of nodes with zero due predecessors this tick (main thread only). */
+    private VolcanTaskNode[] readyNodes;
 
-    private PhysicsSystem physicsSystem;
+    /** Scratch for one node's due successors while the lists are rebuilt (main thread only). */
+    private VolcanTaskNode[] dueScratch;
 
+    /** Current visit mark of the pruning walk. */
+    private int pruneStamp;
+
+    /** True until the due-successor lists are built for the current graph. */
+    private boolean dueListsStale = true;
 
     // =========================================================================
-    // WORKER THREAD WAKE ROTATION
+    // FAST-PATH BINDINGS
     // =========================================================================
 
-    /**
-     * Round-robin index for wakeOneWorker().
-     * WHY: Always unparking workers[0] is a no-op if workers[0] is executing a
-     * long task. Rotating ensures the newly-enqueued successor reaches an idle worker.
-     */
-    private final AtomicInteger nextWakeIdx = new AtomicInteger(0);
+    private PhysicsSystem physicsSystem;
+
 
     private long lastExecutionTimeNs;
 
-    // =========================================================================
-    // WORKER THREAD
-    // =========================================================================
+    /** Per-system run time / queue wait rings. Rebuilt on graph hot-swap. */
+    private SystemProfiler profiler;
 
-    private final class WorkerThread extends Thread {
-        WorkerThread(int id) {
-            super("VolcanDAG-Worker-" + id);
-            setDaemon(true);
-        }
+    /** Bytes allocated per node per frame (null unless volcan.kernel.alloc.audit). Rebuilt on graph hot-swap. */
+    private AllocationAuditor allocationAuditor;
 
-        @Override
-        public void run() {
-            while (!isShutdown) {
-                VolcanTaskNode node = dequeue();
-                if (node != null) {
-                    executeNode(node);
-                } else {
-                    // Queue is empty — park until new work is available.
-                    // WHY LockSupport.park() and not Thread.onSpinWait():
-                    //   Spin-waiting on an empty queue at 60 FPS means workers spin
-                    //   100% of the time between frames (>16ms per frame is idle time).
-                    //   park() releases the core to the OS while idle.
-                    //   unpark() wakes the thread in <1μs on Linux/Windows HPET.
-                    LockSupport.park();
-                }
-            }
-        }
-    }
+    /** Node timestamps are taken only if someone consumes them (folded by the JIT). */
+    private static final boolean TIMED = SystemProfiler.ENABLED || VolcanTraceRecorder.ENABLED
+            || VolcanEngineConfig.KERNEL_WORKER_ADAPTIVE;
 
     // =========================================================================
     // CONSTRUCTOR
@@ -217,10 +200,39 @@ public final class VolcanTaskDispatcher {
      * @param graph A compiled VolcanTaskGraph (must have compile() called).
      */
     public VolcanTaskDispatcher(VolcanTaskGraph graph) {
+        this(graph, WorkerIdlePolicy.fromConfig());
+    }
+
+    /**
+     * @param graph      A compiled VolcanTaskGraph (must have compile() called).
+     * @param idlePolicy Spin / yield / park thresholds of the worker pool.
+     */
+    public VolcanTaskDispatcher(VolcanTaskGraph graph, WorkerIdlePolicy idlePolicy) {
+        // Own pool: (cores - 1) workers so the main thread remains available for rendering.
+        this(graph, DagWorkerPool.createDefault(idlePolicy), true);
+    }
+
+    /**
+     * Runs the DAG on a pool shared with other dispatchers (one per world in a VolcanWorldHost).
+     * shutdown() detaches from the pool instead of stopping it.
+     *
+     * @param graph A compiled VolcanTaskGraph (must have compile() called).
+     * @param pool  Worker pool owned by the caller.
+     */
+    public VolcanTaskDispatcher(VolcanTaskGraph graph, DagWorkerPool pool) {
+        this(graph, pool, false);
+    }
+
+    private VolcanTaskDispatcher(VolcanTaskGraph graph, DagWorkerPool pool, boolean ownsPool) {
         if (!graph.isCompiled()) {
+            if (ownsPool) pool.shutdown();
             throw new IllegalStateException("VolcanTaskGraph must be compiled before use.");
         }
         this.graph = graph;
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+        this.readyNodes = new VolcanTaskNode[Math.max(64, graph.getNodeCount())];
+        this.dueScratch = new VolcanTaskNode[readyNodes.length];
 
         // Initialize Vyukov sequence array: sequences[i] starts at i
         // (signals: slot i is free and ready to be claimed by a producer at pos=i)
@@ -231,26 +243,58 @@ public final class VolcanTaskDispatcher {
             this.mainSequences[i * 16] = i;
         }
 
-        // Spawn worker threads: (cores - 1) so the main thread remains available for rendering.
-        int coreCount = Runtime.getRuntime().availableProcessors();
-        int workerCount = Math.max(1, coreCount - 1);
-        this.workers = new WorkerThread[workerCount];
-        for (int i = 0; i < workerCount; i++) {
-            workers[i] = new WorkerThread(i);
-            workers[i].start();
-        }
-
         // Build fast-path bindings for system type queries
-        for (VolcanTaskNode node : graph.getAllNodes()) {
-            GameSystem sys = node.system;
-            if (sys instanceof PhysicsSystem)
-                this.physicsSystem = (PhysicsSystem) sys;
-
-        }
+        bindFastPaths(graph);
+        this.profiler = createProfiler(graph, pool.size());
+        if (AllocationAuditor.ENABLED) this.allocationAuditor = createAllocationAuditor(graph);
+        pool.attach(this);
 
         VolcanLogger.info("TASKGRAPH", "VolcanTaskDispatcher online: "
                 + graph.getNodeCount() + " nodes, "
-                + workerCount + " DAG workers.");
+                + pool.size() + (ownsPool ? " DAG workers" : " shared DAG workers")
+                + " (idle: " + pool.getIdlePolicy() + ").");
+    }
+
+    /** Retunes the worker idle policy (e.g. on an engine lane switch). Takes effect on the next idle check. */
+    public void setIdlePolicy(WorkerIdlePolicy idlePolicy) {
+        pool.setIdlePolicy(idlePolicy);
+    }
+
+    public WorkerIdlePolicy getIdlePolicy() { return pool.getIdlePolicy(); }
+
+    // =========================================================================
+    // HOT-SWAP (Frame boundary only)
+    // =========================================================================
+
+    /**
+     * Replaces the compiled graph with a new one compiled off-thread.
+     * The worker pool, ring buffers and wake rotation are reused — no thread is stopped.
+     *
+     * SAFETY: Must be called between two execute() calls. At that point remainingNodes == 0,
+     * every queue slot has been consumed and no worker holds a node of the old graph.
+     *
+     * // [MAIN_THREAD_ONLY] — called from SystemRegistry.executeGameSystems() before dispatch.
+     *
+     * @param profiler          Built for newGraph on the compiler thread (null: built here).
+     * @param allocationAuditor Built for newGraph on the compiler thread (null: built here if enabled).
+     */
+    void swapGraph(VolcanTaskGraph newGraph, SystemProfiler profiler, AllocationAuditor allocationAuditor) {
+        if (!newGraph.isCompiled()) {
+            throw new IllegalStateException("VolcanTaskGraph must be compiled before use.");
+        }
+        if (readyNodes.length < newGraph.getNodeCount()) {
+            readyNodes = new VolcanTaskNode[newGraph.getNodeCount()]; // Only when the graph outgrows the scratch
+            dueScratch = new VolcanTaskNode[newGraph.getNodeCount()];
+        }
+        this.graph = newGraph;
+        this.dueListsStale = true;
+        this.physicsSystem = null;
+        bindFastPaths(newGraph);
+        this.profiler = profiler != null ? profiler : createProfiler(newGraph, pool.size());
+        if (AllocationAuditor.ENABLED) {
+            this.allocationAuditor = allocationAuditor != null ? allocationAuditor : createAllocationAuditor(newGraph);
+        }
+        VolcanLogger.info("TASKGRAPH", "Graph hot-swapped: " + newGraph.getNodeCount() + " nodes.");
     }
 
     // =========================================================================
@@ -262,9 +306,10 @@ public final class VolcanTaskDispatcher {
      * Blocks until all N systems have completed.
      *
      * ALGORITHM:
-     *   1. Reset all node pending-dep counters (O(N)).
-     *   2. Inject frame state into all nodes (O(N)).
-     *   3. Enqueue all root nodes (O(R) where R = root count).
+     *   1. Prune nodes whose SystemSchedule is not due this tick; edges through them are kept
+     *      (O(N) check; the due-successor lists are rebuilt only when the due set changes).
+     *   2. Reset due nodes' pending-dep counters and inject frame state (O(N)).
+     *   3. Enqueue every due node with zero due predecessors.
      *   4. Wake all workers.
      *   5. Main thread also steals work from the queue.
      *   6. Spin-wait until remainingNodes == 0.
@@ -276,46 +321,70 @@ public final class VolcanTaskDispatcher {
         long startTime = System.nanoTime();
 
         VolcanTaskNode[] allNodes  = graph.getAllNodes();
-        VolcanTaskNode[] rootNodes = graph.getRootNodes();
         int nodeCount  = graph.getNodeCount();
-        int rootCount  = graph.getRootCount();
 
-        // --- STEP 1: Reset all nodes for this frame (single main thread) ---
+        // --- STEP 1: Prune non-due nodes (single main thread) ---
+        // WHY: multi-rate systems skip most ticks. A pruned node is not dispatched at all;
+        // its successors wait on the due nodes before it instead (A -> skipped B -> C keeps A -> C).
+        boolean dueSetChanged = dueListsStale;
         for (int i = 0; i < nodeCount; i++) {
-            allNodes[i].resetForFrame();
+            VolcanTaskNode node = allNodes[i];
+            boolean due = node.isDue();
+            if (due != node.builtDue) {
+                node.builtDue = due;
+                dueSetChanged = true;
+            }
+        }
+        if (dueSetChanged) {
+            buildDueSuccessors(allNodes, nodeCount);
+            dueListsStale = false;
         }
 
-        // --- STEP 2: Inject frame context into all nodes ---
+        // --- STEP 2: Reset due nodes, inject frame context, collect ready roots ---
         // WHY here (not in executeNode): ensure state is visible before any
         // worker can possibly dequeue the node. The volatile write + queue publish
         // creates the happens-before relationship.
+        int dueCount = 0;
+        int readyCount = 0;
         for (int i = 0; i < nodeCount; i++) {
-            allNodes[i].state     = state;
-            allNodes[i].deltaTime = deltaTime;
+            VolcanTaskNode node = allNodes[i];
+            if (!node.isDue()) continue;
+            node.resetForFrame();
+            node.state     = state;
+            node.deltaTime = (node.schedule == null) ? deltaTime : node.schedule.elapsedDelta;
+            node.readyAtNs = startTime;
+            dueCount++;
+            if (node.frameDeps == 0) readyNodes[readyCount++] = node;
+        }
+
+        if (dueCount == 0) {
+            lastExecutionTimeNs = System.nanoTime() - startTime;
+            return;
         }
 
         // --- STEP 3: Initialize completion counter ---
-        remainingNodes.set(nodeCount);
+        if (SystemProfiler.ENABLED) profiler.beginFrame();
+        remainingNodes.set(dueCount);
 
-        // --- STEP 4: Enqueue all root nodes ---
-        for (int i = 0; i < rootCount; i++) {
-            enqueue(rootNodes[i]);
+        // --- STEP 4: Enqueue all ready nodes ---
+        for (int i = 0; i < readyCount; i++) {
+            enqueue(readyNodes[i]);
+            readyNodes[i] = null;
         }
 
-        // --- STEP 5: Wake workers ---
-        for (WorkerThread worker : workers) {
-            LockSupport.unpark(worker);
-        }
+        // --- STEP 5: Wake workers (coalesced: only as many as there are roots to pick up) ---
+        wakeWorkers(readyCount);
 
         // --- STEP 6: Main thread steals work + spins on completion ---
         // WHY main thread helps: reduces idle time when worker count < node count.
+        VolcanTraceRecorder.Ring traceRing = VolcanTraceRecorder.ENABLED ? VolcanTraceRecorder.currentThreadRing() : null;
         while (remainingNodes.get() > 0) {
             VolcanTaskNode node = dequeueMain();
             if (node == null) {
                 node = dequeue();
             }
             if (node != null) {
-                executeNode(node);
+                executeNode(node, 0, traceRing);
             } else {
                 // All queued tasks claimed by workers; wait for completions
                 // to enqueue new successors. CPU hint avoids full spin-lock overhead.
@@ -324,6 +393,18 @@ public final class VolcanTaskDispatcher {
         }
 
         lastExecutionTimeNs = System.nanoTime() - startTime;
+        if (SystemProfiler.ENABLED) profiler.endFrame(lastExecutionTimeNs);
+        if (AllocationAuditor.ENABLED) allocationAuditor.endFrame();
+        if (pool.isAdaptive()) pool.reportFrame(busyNs(allNodes, nodeCount), lastExecutionTimeNs);
+    }
+
+    /** Sum of the run times of this frame's due nodes (the work the frame contained). */
+    private static long busyNs(VolcanTaskNode[] allNodes, int nodeCount) {
+        long busy = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            if (allNodes[i].isDue()) busy += allNodes[i].lastRunNs;
+        }
+        return busy;
     }
 
     // =========================================================================
@@ -338,7 +419,10 @@ public final class VolcanTaskDispatcher {
      *
      * // [THREAD_SAFE] — called from multiple workers in parallel.
      */
-    private void executeNode(VolcanTaskNode node) {
+    void executeNode(VolcanTaskNode node, int workerSlot, VolcanTraceRecorder.Ring traceRing) {
+        long startNs = TIMED ? System.nanoTime() : 0L;
+        long allocStart = AllocationAuditor.ENABLED ? AllocationAuditor.threadAllocatedBytes() : 0L;
+
         // Execute the system
         try {
             node.system.update(node.state, node.deltaTime);
@@ -347,6 +431,18 @@ public final class VolcanTaskDispatcher {
                     + "] Exception during DAG execution: " + e.getMessage());
         }
 
+        if (AllocationAuditor.ENABLED) {
+            allocationAuditor.record(node.index, AllocationAuditor.threadAllocatedBytes() - allocStart);
+        }
+
+        long endNs = 0L;
+        if (TIMED) {
+            endNs = System.nanoTime();
+            node.lastRunNs = endNs - startNs;
+            if (SystemProfiler.ENABLED) profiler.record(node.index, workerSlot, node.readyAtNs, startNs, endNs);
+            if (VolcanTraceRecorder.ENABLED) traceRing.record(node.traceNameId, startNs, endNs, workerSlot);
+        }
+
         // Decrement the remaining count FIRST (before notifying successors).
         // WHY: If we decrement after enqueueing successors, the main thread
         // could see remainingNodes == 0 before all successors are even enqueued,
@@ -357,20 +453,73 @@ public final class VolcanTaskDispatcher {
         // completing the frame before successors are enqueued.
         // CORRECT ORDER: notify successors first → then decrement remainingNodes.
 
-        // Notify successors
+        // Notify the due successors STEP 1 listed (through pruned ones, as it counted them)
+        notifyDueSuccessors(node, endNs);
+
+        // Now decrement remainingNodes (this node is truly done)
+        remainingNodes.decrementAndGet();
+    }
+
+    /**
+     * STEP 1 rebuild: each due node lists the due nodes that wait on it (its due successors and,
+     * through pruned successors, the due nodes after them) and counts itself in their frameDeps.
+     * A visit mark walks each pruned node once per due node, so a chain of pruned diamonds costs
+     * O(V+E) per due node instead of one walk per path. notifyDueSuccessors() reads the same
+     * lists, so the counts always drain to exactly 0.
+     * // [MAIN_THREAD_ONLY] — allocates only the first time a node's list outgrows its array.
+     */
+    private void buildDueSuccessors(VolcanTaskNode[] allNodes, int nodeCount) {
+        for (int i = 0; i < nodeCount; i++) {
+            allNodes[i].frameDeps = 0;
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            VolcanTaskNode node = allNodes[i];
+            if (!node.builtDue) continue;
+            pruneStamp++;
+            int count = collectDueSuccessors(node, 0);
+            if (node.dueSuccessors == null || node.dueSuccessors.length < count) {
+                node.dueSuccessors = new VolcanTaskNode[count];
+            }
+            for (int j = 0; j < count; j++) {
+                VolcanTaskNode successor = dueScratch[j];
+                dueScratch[j] = null;
+                node.dueSuccessors[j] = successor;
+                successor.frameDeps++;
+            }
+            node.dueSuccessorCount = count;
+        }
+    }
+
+    /** Appends the unvisited due nodes after {@code node} (through pruned ones) to dueScratch. */
+    private int collectDueSuccessors(VolcanTaskNode node, int count) {
         for (VolcanTaskNode successor : node.successors) {
+            if (successor.pruneMark == pruneStamp) continue;
+            successor.pruneMark = pruneStamp;
+            if (successor.builtDue) {
+                dueScratch[count++] = successor;
+            } else {
+                count = collectDueSuccessors(successor, count); // Pruned this tick: its successors still wait on us
+            }
+        }
+        return count;
+    }
+
+    /** // [THREAD_SAFE] [ZERO_GC_GUARANTEED] */
+    private void notifyDueSuccessors(VolcanTaskNode node, long endNs) {
+        VolcanTaskNode[] successors = node.dueSuccessors;
+        for (int i = 0, n = node.dueSuccessorCount; i < n; i++) {
+            VolcanTaskNode successor = successors[i];
             if (successor.decrementAndCheckReady()) {
                 // All dependencies satisfied — enqueue immediately.
                 // This is the key advantage over layer-based: no barrier.
+                successor.readyAtNs = endNs; // Ready the instant its last predecessor ended
                 enqueue(successor);
                 // Wake a worker to process the newly available node.
-                // We wake only one to avoid thundering herd if one is enough.
-                wakeOneWorker();
+                // We wake only one to avoid thundering herd if one is enough,
+                // and none if a worker is already spinning or the node is main-thread only.
+                if (!successor.system.requiresMainThread()) wakeOneWorker();
             }
         }
-
-        // Now decrement remainingNodes (this node is truly done)
-        remainingNodes.decrementAndGet();
     }
 
     // =========================================================================
@@ -441,7 +590,7 @@ public final class VolcanTaskDispatcher {
      *
      * // [THREAD_SAFE] [LOCK_FREE] [ZERO_ALLOC]
      */
-    private VolcanTaskNode dequeue() {
+    VolcanTaskNode dequeue() {
         while (true) {
             int pos  = consumerHead.get();
             int slot = pos & QUEUE_MASK;
@@ -510,14 +659,21 @@ public final class VolcanTaskDispatcher {
     // SHUTDOWN
     // =========================================================================
 
+    /**
+     * Stops the workers if this dispatcher owns its pool; a shared pool only forgets this
+     * dispatcher and keeps serving the other worlds.
+     */
     public void shutdown() {
-        isShutdown = true;
-        for (WorkerThread worker : workers) {
-            LockSupport.unpark(worker);
+        if (ownsPool) {
+            pool.shutdown();
+        } else {
+            pool.detach(this);
         }
         VolcanLogger.info("TASKGRAPH", "VolcanTaskDispatcher shutdown.");
     }
 
+    public DagWorkerPool getWorkerPool() { return pool; }
+
     // =========================================================================
     // FAST-PATH ACCESSORS
     // =========================================================================
@@ -527,17 +683,51 @@ public final class VolcanTaskDispatcher {
     public long getLastExecutionTimeNs() { return lastExecutionTimeNs; }
     public double getLastExecutionTimeMs() { return lastExecutionTimeNs / 1_000_000.0; }
 
+    public SystemProfiler getProfiler() { return profiler; }
+
+    /** Worker threads of the pool (shared or owned), i.e. profiler worker slots. */
+    public int getWorkerCount() { return pool.size(); }
+
+    /** Per-node allocation audit of the current graph (null when volcan.kernel.alloc.audit=false). */
+    public AllocationAuditor getAllocationAuditor() { return allocationAuditor; }
+
     // =========================================================================
     // PRIVATE HELPERS
     // =========================================================================
 
+    /** Profiler (and trace name ids) for a graph. Off-thread safe: touches only the new graph. */
+    static SystemProfiler createProfiler(VolcanTaskGraph graph, int workerCount) {
+        VolcanTaskNode[] nodes = graph.getAllNodes();
+        String[] names = new String[graph.getNodeCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = nodes[i].system.getName();
+            if (VolcanTraceRecorder.ENABLED) nodes[i].traceNameId = VolcanTraceRecorder.internName(names[i]);
+        }
+        return new SystemProfiler(names, workerCount);
+    }
+
+    static AllocationAuditor createAllocationAuditor(VolcanTaskGraph graph) {
+        VolcanTaskNode[] nodes = graph.getAllNodes();
+        String[] names = new String[graph.getNodeCount()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = nodes[i].system.getName();
+        }
+        return AllocationAuditor.fromConfig("DAG", names);
+    }
+
+    private void bindFastPaths(VolcanTaskGraph graph) {
+        for (VolcanTaskNode node : graph.getAllNodes()) {
+            GameSystem sys = node.system;
+            if (sys instanceof PhysicsSystem)
+                this.physicsSystem = (PhysicsSystem) sys;
+        }
+    }
+
     private void wakeOneWorker() {
-        // Math.floorMod() — NOT Math.abs(n % m).
-        // WHY: Math.abs(Integer.MIN_VALUE) == Integer.MIN_VALUE (overflow in two's complement).
-        // When nextWakeIdx overflows to MIN_VALUE: Math.abs(MIN_VALUE % len) = MIN_VALUE (negative)
-        // → workers[negative] = ArrayIndexOutOfBoundsException at ~13.7 days of runtime.
-        // Math.floorMod(n, m) always returns a value in [0, m-1], regardless of sign of n.
-        int idx = Math.floorMod(nextWakeIdx.getAndIncrement(), workers.length);
-        LockSupport.unpark(workers[idx]);
+        pool.wakeOne();
+    }
+
+    private void wakeWorkers(int readyCount) {
+        pool.wake(readyCount);
     }
 }
@@ -8,6 +8,7 @@ import sv.volcan.core.AAACertified;
 import sv.volcan.core.VolcanLogger;
 import sv.volcan.core.systems.GameSystem;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -22,13 +23,14 @@ import java.util.Map;
  * VolcanTaskNode[] array where all relationships are encoded as direct object references.
  * The compiled form is immutable at runtime — zero allocations per frame.
  *
- * COMPILATION STEPS (boot time only, not hot-path):
+ * COMPILATION STEPS (boot time or off-thread hot-swap, never hot-path):
  *   1. Read the validated execution layers from SystemDependencyGraph.
- *   2. Create one VolcanTaskNode per system.
- *   3. For each node, count how many predecessors it has (initialDeps).
- *   4. For each node, build its successors[] array by scanning all other nodes
- *      that declare this node's system as a dependency.
- *   5. Store the "root nodes" (initialDeps == 0) separately — these are
+ *   2. Map every system name to a dense index (one hash per name).
+ *   3. Resolve each node's dependencies to predecessor indices (initialDeps)
+ *      and count out-degrees.
+ *   4. Create one VolcanTaskNode per system with an exact-size successors[] array.
+ *   5. Fill successors[] by walking the predecessor lists once — O(V+E), no string compares.
+ *   6. Store the "root nodes" (initialDeps == 0) separately — these are
  *      dispatched immediately at the start of each frame.
  *
  * RUNTIME CONTRACT:
@@ -37,7 +39,8 @@ import java.util.Map;
  * - No HashMap, no HashSet, no iterator — only array loops.
  *
  * GUARANTEES:
- * - Single compile() call during boot — O(N²) is acceptable here.
+ * - One compile() call per graph instance — O(V+E). Hot-swapped topologies compile a
+ *   NEW instance off-thread (see SystemRegistry.hotRegisterGameSystem).
  * - Per-frame dispatch is O(N) — only array loops on pre-compiled state.
  * - Zero heap allocations after compile().
  *
@@ -70,12 +73,13 @@ public final class VolcanTaskGraph {
     private boolean compiled = false;
 
     // -------------------------------------------------------------------------
-    // COMPILATION (boot-time — called ONCE from EngineKernel.init())
+    // COMPILATION (boot-time or off-thread — called ONCE per instance)
     // -------------------------------------------------------------------------
 
     /**
      * Compiles the validated SystemDependencyGraph into a flat VolcanTaskNode[].
-     * Must be called ONCE at boot time. Not thread-safe.
+     * Must be called ONCE per instance. Not thread-safe; the compiled instance is safely
+     * published to the kernel thread through SystemRegistry's pending-topology handoff.
      *
      * @param graph A validated SystemDependencyGraph (graph.validate() must have been called).
      */
@@ -88,64 +92,69 @@ public final class VolcanTaskGraph {
         GameSystem[][] layers = graph.getExecutionLayers();
         int layerCount = graph.getLayerCount();
 
-        // 1. Count total systems
+        // 1. Count total systems and flatten them (layer order = topological order)
         nodeCount = 0;
         for (int i = 0; i < layerCount; i++) {
             nodeCount += layers[i].length;
         }
-
-        VolcanLogger.info("TASKGRAPH", "Compiling DAG for " + nodeCount + " systems across "
-                + layerCount + " layers...");
-
-        // 2. Create one node per system
-        allNodes = new VolcanTaskNode[nodeCount];
+        GameSystem[] systems = new GameSystem[nodeCount];
         int idx = 0;
         for (int i = 0; i < layerCount; i++) {
             for (GameSystem system : layers[i]) {
-                // Layer index = dependency depth = initialDeps count.
-                // Layer 0 systems have 0 deps. Layer 1 systems depend on ≥1 layer-0 system, etc.
-                // We use the actual dependency count from the system's getDependencies() for precision.
-                int depCount = system.getDependencies().length;
-                allNodes[idx++] = new VolcanTaskNode(system, depCount);
+                systems[idx++] = system;
             }
         }
 
-        // 3. Build a fast name→node lookup map (boot-time only, discarded after compile)
-        Map<String, VolcanTaskNode> nodeByName = new HashMap<>(nodeCount * 2);
-        for (VolcanTaskNode node : allNodes) {
-            nodeByName.put(node.system.getName(), node);
+        VolcanLogger.info("TASKGRAPH", "Compiling DAG for " + nodeCount + " systems across "
+                + layerCount + " layers...");
+
+        // 2. Build a name→index lookup (compile-time only, discarded after compile).
+        // WHY indices: every dependency string is hashed exactly ONCE. The old successor
+        // scan compared every dependency of every node against every node name: O(N²·deps).
+        Map<String, Integer> indexByName = new HashMap<>(nodeCount * 2);
+        for (int i = 0; i < nodeCount; i++) {
+            indexByName.put(systems[i].getName(), i);
         }
 
-        // 4. Build successors[] arrays for each node.
-        // For node A: A.successors = all nodes B where B declares A as a dependency.
-        // We do this in two passes: count pass → allocate → fill pass.
-        for (VolcanTaskNode node : allNodes) {
-            String nodeName = node.system.getName();
-            // Count how many successors this node has
-            int successorCount = 0;
-            for (VolcanTaskNode candidate : allNodes) {
-                for (String dep : candidate.system.getDependencies()) {
-                    if (dep.equals(nodeName)) {
-                        successorCount++;
-                        break;
-                    }
+        // 3. Resolve predecessors to indices (deduplicated) and count out-degrees: O(V+E)
+        int[][] predecessors = new int[nodeCount][];
+        int[] outDegree = new int[nodeCount];
+        int[] seenStamp = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            String[] deps = systems[i].getDependencies();
+            int[] resolved = new int[deps.length];
+            int count = 0;
+            for (String dep : deps) {
+                Integer p = indexByName.get(dep);
+                if (p == null) {
+                    throw new IllegalStateException("Dependency not found: " + dep);
                 }
+                if (seenStamp[p] == i + 1) continue; // Duplicate declaration
+                seenStamp[p] = i + 1;
+                resolved[count++] = p;
+                outDegree[p]++;
             }
-            // Allocate exact-size successors array
-            node.successors = new VolcanTaskNode[successorCount];
-            // Fill it
-            int si = 0;
-            for (VolcanTaskNode candidate : allNodes) {
-                for (String dep : candidate.system.getDependencies()) {
-                    if (dep.equals(nodeName)) {
-                        node.successors[si++] = candidate;
-                        break;
-                    }
-                }
+            predecessors[i] = (count == resolved.length) ? resolved : Arrays.copyOf(resolved, count);
+        }
+
+        // 4. Create one node per system with exact-size successors[] arrays
+        allNodes = new VolcanTaskNode[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            allNodes[i] = new VolcanTaskNode(systems[i], predecessors[i].length);
+            allNodes[i].index = i;
+            allNodes[i].successors = new VolcanTaskNode[outDegree[i]];
+        }
+
+        // 5. Fill successors by walking the predecessor lists once: O(E).
+        // Filling in ascending node order preserves the topological order of successors.
+        int[] fillCursor = new int[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            for (int p : predecessors[i]) {
+                allNodes[p].successors[fillCursor[p]++] = allNodes[i];
             }
         }
 
-        // 5. Collect root nodes (zero initial dependencies)
+        // 6. Collect root nodes (zero initial dependencies)
         rootCount = 0;
         for (VolcanTaskNode node : allNodes) {
             if (node.initialDeps == 0) rootCount++;
@@ -165,6 +174,21 @@ public final class VolcanTaskGraph {
         printTopology();
     }
 
+    /**
+     * Binds the execution rate of a system to its compiled node (boot-time only).
+     *
+     * @param system   A system present in the compiled graph.
+     * @param schedule Its schedule (see SystemSchedule).
+     */
+    void bindSchedule(GameSystem system, SystemSchedule schedule) {
+        for (VolcanTaskNode node : allNodes) {
+            if (node.system == system) {
+                node.schedule = schedule;
+                return;
+            }
+        }
+    }
+
     // -------------------------------------------------------------------------
     // RUNTIME ACCESSORS (called per-frame by VolcanTaskDispatcher — read-only)
     // -------------------------------------------------------------------------
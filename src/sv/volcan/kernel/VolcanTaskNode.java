@@ -66,6 +66,18 @@ public final class VolcanTaskNode {
      */
     final int initialDeps;
 
+    /**
+     * Execution rate of the wrapped system. Bound by SystemRegistry after compilation.
+     * null = runs every tick (legacy behavior).
+     */
+    SystemSchedule schedule;
+
+    /** Dense index in VolcanTaskGraph.allNodes[]. Keys the SystemProfiler rings. */
+    int index;
+
+    /** Event name id in VolcanTraceRecorder (interned at graph bind time). */
+    int traceNameId;
+
     // -------------------------------------------------------------------------
     // FRAME-LOCAL MUTABLE STATE (updated by dispatcher before each execution)
     // -------------------------------------------------------------------------
@@ -89,6 +101,18 @@ public final class VolcanTaskNode {
      */
     volatile float deltaTime;
 
+    /**
+     * Timestamp at which the node became ready (all due predecessors done).
+     * Written by the producer before enqueue; the queue's sequence publish makes it visible.
+     */
+    long readyAtNs;
+
+    /**
+     * Run time of the last execution (0 when untimed). Written by the executing thread before
+     * the completion counter is decremented; read by the dispatcher after the frame (WorkerScaler).
+     */
+    long lastRunNs;
+
     // -------------------------------------------------------------------------
     // CONSTRUCTOR
     // -------------------------------------------------------------------------
@@ -105,13 +129,34 @@ public final class VolcanTaskNode {
         this.successors  = new VolcanTaskNode[0]; // Populated by VolcanTaskGraph.compile()
     }
 
+    /**
+     * Number of due predecessors for the current tick. Computed by the dispatcher during
+     * pruning; equals initialDeps when every system runs every tick.
+     * // [MAIN_THREAD_ONLY]
+     */
+    int frameDeps;
+
+    /**
+     * Due nodes that wait on this one: its due successors, plus the due nodes reached through
+     * pruned successors, each once. Rebuilt by the dispatcher when the due set changes; read by
+     * the thread that executes this node (published by the queue).
+     */
+    VolcanTaskNode[] dueSuccessors;
+    int dueSuccessorCount;
+
+    /** isDue() when dueSuccessors was last built. */
+    boolean builtDue;
+
+    /** Visit mark of the dispatcher's pruning walk. // [MAIN_THREAD_ONLY] */
+    int pruneMark;
+
     /**
      * Resets the pending dependency counter for the next frame.
      * Called by the dispatcher at the start of each frame.
      * // [RENDER_THREAD_ONLY] — called from single dispatcher thread before workers see the node.
      */
     void resetForFrame() {
-        pendingDeps.set(initialDeps);
+        pendingDeps.set(frameDeps);
     }
 
     /**
@@ -123,6 +168,14 @@ public final class VolcanTaskNode {
         return pendingDeps.decrementAndGet() == 0;
     }
 
+    /**
+     * Returns true if this node runs on the current tick.
+     * Non-due nodes are pruned from the frame; their predecessors and successors stay ordered.
+     */
+    boolean isDue() {
+        return schedule == null || schedule.due;
+    }
+
     @Override
     public String toString() {
         return "VolcanTaskNode[" + system.getName() + " deps=" + initialDeps + "]";
@@ -0,0 +1,359 @@
+// Reading Order: 10110001
+//  177
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * RESPONSIBILITY: Frame trace recorder (kernel phases, DAG node executions, bus drains).
+ * WHY: SystemProfiler gives percentiles; a spike needs the timeline: which phase, which node, on
+ * which worker, and what was running next to it.
+ * TECHNIQUE: One off-heap ring per thread (24-byte complete events: start, duration, name|arg).
+ * The owner thread writes with a store-release on its cursor, nothing else. A dump copies the
+ * rings off-thread and writes Chrome trace-event JSON (loads in chrome://tracing and Perfetto UI).
+ * GUARANTEES: Disabled: one branch on a static final flag, folded away by the JIT. Enabled: three
+ * off-heap stores and a release store per event, timestamps are reused from the caller.
+ *
+ * <p>TRIGGERS: {@link #requestDump()} (also SYS_TRACE_DUMP on the kernel bus) or a frame longer
+ * than volcan.kernel.trace.spike.ms. Enable with -Dvolcan.kernel.trace.enabled=true.
+ *
+ * <p>LIFETIME: A thread's ring is released when the thread is done (DAG worker exit, kernel
+ * shutdown, or found dead at the next registration). Released rings are kept for the next dump
+ * only, at most {@link #RETIRED_RINGS} of them, so short-lived threads cannot grow the registry.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 10,
+    minThroughput = 0,
+    alignment     = 8,
+    lockFree      = true,
+    offHeap       = true,
+    notes         = "Per-thread off-heap trace rings, Chrome trace-event JSON dump off the hot path."
+)
+public final class VolcanTraceRecorder {
+
+    /** Master switch. static final: every recording site compiles to nothing when false. */
+    public static final boolean ENABLED = VolcanEngineConfig.KERNEL_TRACE_ENABLED;
+
+    /** Events per thread ring. Rounded up to a power of 2. */
+    public static final int RING_EVENTS = Integer.highestOneBit(Math.max(2, VolcanEngineConfig.KERNEL_TRACE_RING_EVENTS - 1) << 1);
+    private static final long RING_MASK = RING_EVENTS - 1;
+    private static final long EVENT_BYTES = 24;
+
+    /** Released rings kept for the next dump (oldest dropped first). */
+    public static final int RETIRED_RINGS = 32;
+
+    // Built-in event names (ids are indices in the name table)
+    public static final int EV_FRAME             = 0;
+    public static final int EV_INPUT_LATCH       = 1;
+    public static final int EV_BUS_PROCESSING    = 2;
+    public static final int EV_SYSTEMS_EXECUTION = 3;
+    public static final int EV_STATE_AUDIT       = 4;
+    public static final int EV_BUS_DRAIN         = 5;
+
+    private static final Object REGISTRY_LOCK = new Object();
+    private static String[] names = {
+        "frame", "phaseInputLatch", "phaseBusProcessing", "phaseSystemsExecution", "phaseStateAudit", "busDrain"
+    };
+    private static int nameCount = names.length;
+    private static volatile Ring[] rings = new Ring[0];   // Live threads
+    private static volatile Ring[] retired = new Ring[0]; // Released since the last dump
+    private static int nextTid = 1;
+
+    private static final ThreadLocal<Ring> THREAD_RING = ThreadLocal.withInitial(VolcanTraceRecorder::registerCurrentThread);
+
+    private static final long SPIKE_THRESHOLD_NS = (long) (VolcanEngineConfig.KERNEL_TRACE_SPIKE_MS * 1_000_000.0);
+    private static final AtomicBoolean DUMP_IN_FLIGHT = new AtomicBoolean(false);
+    private static volatile Path lastDump;
+
+    private VolcanTraceRecorder() {}
+
+    // -------------------------------------------------------------------------
+    // PER-THREAD RING
+    // -------------------------------------------------------------------------
+
+    /**
+     * Single-writer event ring. Obtain once per thread via {@link #currentThreadRing()} and keep it
+     * in a field or local: the ThreadLocal lookup is not meant for the per-event path.
+     */
+    public static final class Ring {
+        private static final VarHandle CURSOR;
+        static {
+            try {
+                CURSOR = MethodHandles.lookup().findVarHandle(Ring.class, "cursor", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final MemorySegment events;
+        private final int tid;
+        private final String threadName;
+        private final Thread owner;
+        @SuppressWarnings("unused") // Accessed through CURSOR
+        private long cursor;
+
+        private Ring(int tid, Thread owner) {
+            this.tid = tid;
+            this.owner = owner;
+            this.threadName = owner.getName();
+            this.events = Arena.ofAuto().allocate(RING_EVENTS * EVENT_BYTES, 64);
+        }
+
+        /** Records a complete event [startNs, endNs). // [OWNER_THREAD_ONLY] [ZERO_GC_GUARANTEED] */
+        public void record(int nameId, long startNs, long endNs) {
+            record(nameId, startNs, endNs, 0);
+        }
+
+        /** Records a complete event with one integer argument (e.g. events drained). */
+        public void record(int nameId, long startNs, long endNs, int arg) {
+            long c = (long) CURSOR.getOpaque(this);
+            long offset = (c & RING_MASK) * EVENT_BYTES;
+            events.set(ValueLayout.JAVA_LONG, offset, startNs);
+            events.set(ValueLayout.JAVA_LONG, offset + 8, endNs - startNs);
+            events.set(ValueLayout.JAVA_LONG, offset + 16, ((long) nameId << 32) | (arg & 0xFFFFFFFFL));
+            CURSOR.setRelease(this, c + 1);
+        }
+
+        /** Total events ever recorded (the ring keeps the last RING_EVENTS). */
+        public long getRecordedCount() {
+            return (long) CURSOR.getAcquire(this);
+        }
+    }
+
+    /** Ring of the calling thread, registered on first use (boot-time allocation). */
+    public static Ring currentThreadRing() {
+        return THREAD_RING.get();
+    }
+
+    private static Ring registerCurrentThread() {
+        synchronized (REGISTRY_LOCK) {
+            // Threads that died without releasing (e.g. callers of a batch kernel) retire here
+            for (Ring ring : rings) {
+                if (!ring.owner.isAlive()) retireLocked(ring);
+            }
+            Ring[] current = rings;
+            Ring ring = new Ring(nextTid++, Thread.currentThread());
+            Ring[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = ring;
+            rings = next;
+            return ring;
+        }
+    }
+
+    /**
+     * Unregisters a ring whose thread is done (worker exit, kernel shutdown). Its events stay
+     * available to the next dump. Safe from any thread; a no-op if already released.
+     */
+    public static void release(Ring ring) {
+        if (ring == null) return;
+        synchronized (REGISTRY_LOCK) {
+            retireLocked(ring);
+        }
+        if (ring.owner == Thread.currentThread()) THREAD_RING.remove();
+    }
+
+    private static void retireLocked(Ring ring) {
+        Ring[] current = rings;
+        int index = -1;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == ring) index = i;
+        }
+        if (index < 0) return;
+        Ring[] next = new Ring[current.length - 1];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(current, index + 1, next, index, next.length - index);
+        rings = next;
+
+        Ring[] old = retired;
+        int keep = Math.min(old.length, RETIRED_RINGS - 1);
+        Ring[] nextRetired = Arrays.copyOfRange(old, old.length - keep, old.length + 1);
+        nextRetired[keep] = ring;
+        retired = nextRetired;
+    }
+
+    /** Rings a dump would export: live threads plus released rings not yet dumped. */
+    public static int getRingCount() {
+        synchronized (REGISTRY_LOCK) {
+            return rings.length + retired.length;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // NAME TABLE (boot-time)
+    // -------------------------------------------------------------------------
+
+    /** Returns the id for an event name, adding it if new. Call at boot / graph compile, not per event. */
+    public static int internName(String name) {
+        synchronized (REGISTRY_LOCK) {
+            for (int i = 0; i < nameCount; i++) {
+                if (names[i].equals(name)) return i;
+            }
+            if (nameCount == names.length) names = Arrays.copyOf(names, names.length * 2);
+            names[nameCount] = name;
+            return nameCount++;
+        }
+    }
+
+    public static String nameOf(int nameId) {
+        synchronized (REGISTRY_LOCK) {
+            return (nameId >= 0 && nameId < nameCount) ? names[nameId] : "event#" + nameId;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // TRIGGERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Checks the frame against the spike threshold and dumps asynchronously if exceeded.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED] unless a dump is triggered.
+     */
+    public static void onFrameEnd(long frameTimeNs) {
+        if (SPIKE_THRESHOLD_NS > 0 && frameTimeNs > SPIKE_THRESHOLD_NS) {
+            requestDump();
+        }
+    }
+
+    /**
+     * Dumps all rings to volcan.kernel.trace.dir on a background thread. Coalesced: a request while
+     * a dump is running is dropped (the running dump already covers that time window).
+     *
+     * @return true if a dump was started.
+     */
+    public static boolean requestDump() {
+        if (!ENABLED || !DUMP_IN_FLIGHT.compareAndSet(false, true)) return false;
+        Thread dumper = new Thread(() -> {
+            try {
+                Path file = Path.of(VolcanEngineConfig.KERNEL_TRACE_DIR)
+                        .resolve("volcan-trace-" + System.currentTimeMillis() + ".json");
+                dumpChromeTrace(file);
+            } catch (IOException e) {
+                VolcanLogger.error("TRACE", "Trace dump failed: " + e.getMessage());
+            } finally {
+                DUMP_IN_FLIGHT.set(false);
+            }
+        }, "VolcanTraceDumper");
+        dumper.setDaemon(true);
+        dumper.start();
+        return true;
+    }
+
+    public static boolean isDumpInFlight() { return DUMP_IN_FLIGHT.get(); }
+
+    /** Last file written by a dump, or null. */
+    public static Path getLastDump() { return lastDump; }
+
+    // -------------------------------------------------------------------------
+    // EXPORT (Off the hot path)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes every ring as Chrome trace-event JSON ("X" complete events, microsecond timestamps).
+     * Rings keep being written while they are copied; events overwritten during the copy are dropped.
+     * Released rings are exported once, then forgotten.
+     *
+     * @return Number of events written.
+     */
+    public static int dumpChromeTrace(Path file) throws IOException {
+        Ring[] snapshotRings;
+        synchronized (REGISTRY_LOCK) {
+            Ring[] live = rings;
+            Ring[] released = retired;
+            snapshotRings = Arrays.copyOf(released, released.length + live.length);
+            System.arraycopy(live, 0, snapshotRings, released.length, live.length);
+            retired = new Ring[0];
+        }
+        long[][] snapshots = new long[snapshotRings.length][];
+        long[] firstIndex = new long[snapshotRings.length];
+        long[] endIndex = new long[snapshotRings.length];
+        long origin = Long.MAX_VALUE;
+
+        for (int r = 0; r < snapshotRings.length; r++) {
+            Ring ring = snapshotRings[r];
+            long before = ring.getRecordedCount();
+            long[] copy = new long[RING_EVENTS * 3];
+            MemorySegment.copy(ring.events, ValueLayout.JAVA_LONG, 0, copy, 0, copy.length);
+            long after = ring.getRecordedCount();
+            // An index i is intact if no writer reached i + RING_EVENTS before the copy ended
+            firstIndex[r] = Math.max(0, after + 1 - RING_EVENTS);
+            endIndex[r] = before;
+            snapshots[r] = copy;
+            for (long i = firstIndex[r]; i < endIndex[r]; i++) {
+                origin = Math.min(origin, copy[(int) (i & RING_MASK) * 3]);
+            }
+        }
+        if (origin == Long.MAX_VALUE) origin = 0;
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        int written = 0;
+        StringBuilder line = new StringBuilder(160);
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("{\"displayTimeUnit\":\"ns\",\"traceEvents\":[\n");
+            boolean first = true;
+            for (int r = 0; r < snapshotRings.length; r++) {
+                Ring ring = snapshotRings[r];
+                line.setLength(0);
+                if (!first) line.append(",\n");
+                line.append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":").append(ring.tid)
+                    .append(",\"args\":{\"name\":");
+                appendJsonString(line, ring.threadName);
+                line.append("}}");
+                out.append(line);
+                first = false;
+
+                long[] copy = snapshots[r];
+                for (long i = firstIndex[r]; i < endIndex[r]; i++) {
+                    int base = (int) (i & RING_MASK) * 3;
+                    long packed = copy[base + 2];
+                    line.setLength(0);
+                    line.append(",\n{\"name\":");
+                    appendJsonString(line, nameOf((int) (packed >>> 32)));
+                    line.append(",\"ph\":\"X\",\"pid\":1,\"tid\":").append(ring.tid)
+                        .append(",\"ts\":").append((copy[base] - origin) / 1000.0)
+                        .append(",\"dur\":").append(copy[base + 1] / 1000.0)
+                        .append(",\"args\":{\"n\":").append((int) packed).append("}}");
+                    out.append(line);
+                    written++;
+                }
+            }
+            out.write("\n]}\n");
+        }
+        lastDump = file;
+        VolcanLogger.info("TRACE", "Trace dumped: " + written + " events -> " + file);
+        return written;
+    }
+
+    private static void appendJsonString(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '"' || ch == '\\') sb.append('\\').append(ch);
+            else if (ch < 0x20) sb.append(String.format("\\u%04x", (int) ch));
+            else sb.append(ch);
+        }
+        sb.append('"');
+    }
+}
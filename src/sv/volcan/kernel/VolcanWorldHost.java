@@ -0,0 +1,285 @@
+// Reading Order: 10111000
+//  184
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.bus.VolcanEventDispatcher;
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+import sv.volcan.memory.SectorMemoryVault;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * RESPONSIBILITY: Runs several isolated live worlds (matches) in one JVM.
+ * WHY: A standalone EngineKernel owns the process: JVM halt on shutdown, shutdown hook, one
+ * control plane, kernel thread pinned to core 1, (cores - 1) DAG workers. Dozens of matches on a
+ * 64-core box need each world to own only its own state and share the machine sanely.
+ * TECHNIQUE: Every world is a HOSTED EngineKernel (own scene, dispatcher, vaults, admin bus,
+ * admin consumer, telemetry stream) running start() on its own platform thread. DAG workers are
+ * either one pool shared by all worlds or a fixed-size pool per world (partitioned). Kernel
+ * threads are pinned to the next free core from {@code firstKernelCore}; worker pools are placed
+ * on the cores no kernel (nor its SMT sibling) and no other pool holds. Cores return to the host
+ * when their world stops. Once every core is taken, kernels wrap on the core count and workers
+ * float unpinned.
+ * GUARANTEES: Stopping or failing one world never halts the JVM nor touches another world.
+ * Process-wide work (JIT warm-up, logger shutdown) is done by the host, once.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 0,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = false,
+    offHeap       = true,
+    notes         = "Multi-world host: per-world kernels, shared or partitioned DAG workers."
+)
+public final class VolcanWorldHost implements AutoCloseable {
+
+    /** Default vault per world: 64 sectors (4 MB) instead of the 64 MB of a standalone kernel. */
+    public static final int DEFAULT_SECTOR_COUNT = 64;
+
+    private static final int BUS_SIZE_POWER = 10;
+
+    private final DagWorkerPool sharedPool;        // null when partitioned
+    private final int workersPerWorld;             // 0 when shared
+    private final int firstKernelCore;             // -1 = no kernel pinning
+    private final boolean controlPlane;
+    private final BitSet kernelCores = new BitSet(); // Held by kernel threads (and their SMT siblings)
+    private final BitSet workerCores = new BitSet(); // Held by pinned DAG workers
+
+    private final List<World> worlds = new ArrayList<>();
+    private int nextWorldId = 1; // 0 is the standalone kernel
+    private boolean warmedUp = false;
+
+    private static final class World {
+        final EngineKernel kernel;
+        final DagWorkerPool ownPool;
+        final int kernelCore;
+        final int[] poolCores;
+        Thread thread;
+        volatile Throwable failure;
+
+        World(EngineKernel kernel, DagWorkerPool ownPool, int kernelCore, int[] poolCores) {
+            this.kernel = kernel;
+            this.ownPool = ownPool;
+            this.kernelCore = kernelCore;
+            this.poolCores = poolCores;
+        }
+    }
+
+    private VolcanWorldHost(int sharedWorkers, int workersPerWorld, int firstKernelCore, boolean controlPlane) {
+        this.workersPerWorld = workersPerWorld;
+        this.firstKernelCore = firstKernelCore;
+        this.controlPlane = controlPlane;
+        if (sharedWorkers > 0) {
+            // The first world's kernel core is known up front: keep the shared workers off it
+            if (firstKernelCore >= 0) reserve(kernelCores, firstKernelCore);
+            int[] cores = CpuPlacement.fromConfig(freeCores()).workerCores(sharedWorkers);
+            kernelCores.clear();
+            mark(workerCores, cores);
+            this.sharedPool = new DagWorkerPool(sharedWorkers, WorkerIdlePolicy.fromConfig(), "VolcanHost-Worker-", cores);
+        } else {
+            this.sharedPool = null;
+        }
+    }
+
+    /**
+     * All worlds feed one pool of {@code workers} DAG threads.
+     *
+     * @param firstKernelCore Core of world 0's kernel thread (world i uses the next ones), or -1.
+     * @param controlPlane    Start one AdminConsumer per world.
+     */
+    public static VolcanWorldHost shared(int workers, int firstKernelCore, boolean controlPlane) {
+        if (workers < 1) throw new IllegalArgumentException("workers must be >= 1: " + workers);
+        return new VolcanWorldHost(workers, 0, firstKernelCore, controlPlane);
+    }
+
+    /**
+     * Every world gets its own pool of {@code workersPerWorld} DAG threads.
+     *
+     * @param firstKernelCore Core of world 0's kernel thread (world i uses the next ones), or -1.
+     * @param controlPlane    Start one AdminConsumer per world.
+     */
+    public static VolcanWorldHost partitioned(int workersPerWorld, int firstKernelCore, boolean controlPlane) {
+        if (workersPerWorld < 1) throw new IllegalArgumentException("workersPerWorld must be >= 1: " + workersPerWorld);
+        return new VolcanWorldHost(0, workersPerWorld, firstKernelCore, controlPlane);
+    }
+
+    /**
+     * Creates a world. Register its systems (and build the dependency graph) before {@link #start}.
+     */
+    public synchronized EngineKernel createWorld(int sectorCount) {
+        int worldId = nextWorldId++;
+        int kernelCore = firstKernelCore < 0 ? -1 : nextKernelCore(worldId);
+        if (kernelCore >= 0) reserve(kernelCores, kernelCore);
+        int[] poolCores = new int[0];
+        DagWorkerPool ownPool = null;
+        if (sharedPool == null) {
+            poolCores = CpuPlacement.fromConfig(freeCores()).workerCores(workersPerWorld);
+            mark(workerCores, poolCores);
+            ownPool = new DagWorkerPool(workersPerWorld, WorkerIdlePolicy.fromConfig(),
+                    "VolcanWorld-" + worldId + "-Worker-", poolCores);
+        }
+        EngineKernel kernel = EngineKernel.createHostedKernel(
+                VolcanEventDispatcher.createDefault(BUS_SIZE_POWER), new SectorMemoryVault(sectorCount),
+                worldId, sharedPool != null ? sharedPool : ownPool, kernelCore);
+        worlds.add(new World(kernel, ownPool, kernelCore, poolCores));
+        return kernel;
+    }
+
+    public EngineKernel createWorld() {
+        return createWorld(DEFAULT_SECTOR_COUNT);
+    }
+
+    /**
+     * Starts the live loop of a world on thread "VolcanWorld-&lt;id&gt;".
+     */
+    public synchronized void start(EngineKernel kernel) {
+        World world = find(kernel);
+        if (world.thread != null) throw new IllegalStateException("World " + kernel.getWorldId() + " already started");
+        if (!warmedUp) {
+            UltraFastBootSequence.warmUpWithStructuralIntegrity(); // JIT is process-wide: once per host
+            warmedUp = true;
+        }
+        if (controlPlane) {
+            sv.volcan.admin.AdminController.startControlPlane(kernel, null);
+        }
+        world.thread = new Thread(() -> {
+            try {
+                kernel.start();
+            } catch (Throwable t) {
+                world.failure = t;
+                VolcanLogger.error("HOST", "World " + kernel.getWorldId() + " failed: " + t.getMessage());
+            }
+        }, "VolcanWorld-" + kernel.getWorldId());
+        world.thread.start();
+    }
+
+    public synchronized void startAll() {
+        for (World world : worlds) {
+            if (world.thread == null) start(world.kernel);
+        }
+    }
+
+    /**
+     * Stops one world and waits until its resources are released.
+     */
+    public void stop(EngineKernel kernel) {
+        World world;
+        synchronized (this) {
+            world = find(kernel);
+        }
+        kernel.stop();
+        Thread thread = world.thread;
+        if (thread != null) {
+            try {
+                thread.join(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            kernel.releaseHosted();
+        }
+        if (world.ownPool != null) world.ownPool.shutdown();
+        synchronized (this) {
+            worlds.remove(world);
+            releaseCores(world);
+        }
+    }
+
+    /** Failure that ended a world's loop, or null. */
+    public synchronized Throwable getFailure(EngineKernel kernel) {
+        return find(kernel).failure;
+    }
+
+    public synchronized int getWorldCount() {
+        return worlds.size();
+    }
+
+    /** Pool shared by every world, or null when partitioned. */
+    public DagWorkerPool getSharedPool() {
+        return sharedPool;
+    }
+
+    /** Stops every world, then the shared worker pool. */
+    @Override
+    public void close() {
+        List<World> snapshot;
+        synchronized (this) {
+            snapshot = new ArrayList<>(worlds);
+        }
+        for (World world : snapshot) {
+            world.kernel.stop(); // Signal all first: worlds wind down in parallel
+        }
+        for (World world : snapshot) {
+            stop(world.kernel);
+        }
+        if (sharedPool != null) sharedPool.shutdown();
+    }
+
+    // =========================================================================
+    // CORE BOOKKEEPING
+    // =========================================================================
+
+    /** Core of {@code worldId}'s kernel: the first free core from firstKernelCore, else the old wrap. */
+    private int nextKernelCore(int worldId) {
+        int[] cpus = CpuPlacement.fromConfig().getTopology().getCpus();
+        int start = Math.max(0, java.util.Arrays.binarySearch(cpus, firstKernelCore));
+        for (int i = 0; i < cpus.length; i++) {
+            int cpu = cpus[(start + i) % cpus.length];
+            if (!kernelCores.get(cpu) && !workerCores.get(cpu)) return cpu;
+        }
+        return (firstKernelCore + worldId - 1) % Runtime.getRuntime().availableProcessors();
+    }
+
+    /** Online cores no kernel (nor its sibling) and no pinned worker holds. */
+    private int[] freeCores() {
+        int[] cpus = CpuPlacement.fromConfig().getTopology().getCpus();
+        int[] free = new int[cpus.length];
+        int n = 0;
+        for (int cpu : cpus) {
+            if (!kernelCores.get(cpu) && !workerCores.get(cpu)) free[n++] = cpu;
+        }
+        return java.util.Arrays.copyOf(free, n);
+    }
+
+    /** Marks {@code core} and its SMT siblings: nothing else runs next to a kernel thread. */
+    private static void reserve(BitSet set, int core) {
+        CpuTopology topology = CpuPlacement.fromConfig().getTopology();
+        for (int cpu : topology.getCpus()) {
+            if (topology.areSiblings(cpu, core)) set.set(cpu);
+        }
+        set.set(core);
+    }
+
+    private static void mark(BitSet set, int[] cores) {
+        for (int core : cores) {
+            if (core >= 0) set.set(core);
+        }
+    }
+
+    private void releaseCores(World world) {
+        if (world.kernelCore >= 0) {
+            BitSet released = new BitSet();
+            reserve(released, world.kernelCore);
+            kernelCores.andNot(released);
+        }
+        for (int core : world.poolCores) {
+            if (core >= 0) workerCores.clear(core);
+        }
+    }
+
+    private World find(EngineKernel kernel) {
+        for (World world : worlds) {
+            if (world.kernel == kernel) return world;
+        }
+        throw new IllegalArgumentException("Kernel is not hosted here");
+    }
+}
@@ -0,0 +1,156 @@
+// Reading Order: 10111110
+//  190
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.core.AAACertified;
+
+import java.util.Arrays;
+
+/**
+ * RESPONSIBILITY: Cooperative time-slicing of one system's item loop across frames.
+ * WHY: A system that runs out of time used to break out and silently drop the rest of its
+ * entities. Under overload the same tail was starved every frame.
+ * TECHNIQUE: Items are walked in fixed chunks of {@link #CHUNK}. Each frame starts at the chunk
+ * where the previous frame stopped and wraps around, so deferred work is resumed first.
+ * {@link #next()} checks the clock once per chunk against min(own slice, frame deadline of the
+ * owning FrameBudget) and always grants at least one chunk per frame (guaranteed progress).
+ * Every chunk remembers the frame it last ran in: {@link #framesSinceLastRun()} lets time-based
+ * systems scale deltaTime so a deferred chunk catches up instead of losing simulated time.
+ * GUARANTEES: Zero allocations per frame (the chunk table only grows with the item count).
+ * Single owner thread per frame, like the system itself.
+ *
+ * <pre>
+ * cursor.begin(count);
+ * while (cursor.next()) {
+ *     float chunkDt = dt * cursor.framesSinceLastRun();
+ *     for (long i = cursor.from(); i &lt; cursor.to(); i++) { ... }
+ * }
+ * </pre>
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 50,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Chunked resumable iteration with per-frame time slice."
+)
+public final class WorkCursor {
+
+    /** Items per chunk: one clock read per chunk, multiple of every SIMD lane count. */
+    public static final int CHUNK = 1024;
+
+    private final String name;
+    private volatile long sliceNs;
+    FrameBudget budget; // Set by FrameBudget.register()
+
+    // Iteration state (owner thread)
+    private long total;
+    private int chunkCount;
+    private int startChunk;
+    private int visited;
+    private int resumeChunk;
+    private long deadlineNs;
+    private long frame;
+    private long[] lastRunFrame = new long[0];
+    private long from;
+    private long to;
+    private long framesSince;
+
+    // Frame results (read by FrameBudget.endFrame after the systems phase)
+    private long lastDeferredItems;
+    private long lastProcessedItems;
+    private long framesDeferred;
+
+    /**
+     * @param name    Label used in deferred-work reports.
+     * @param sliceNs Time slice per frame (0 = unlimited, only the frame deadline applies).
+     */
+    public WorkCursor(String name, long sliceNs) {
+        this.name = name;
+        this.sliceNs = sliceNs;
+    }
+
+    /**
+     * Starts this frame's pass over {@code totalItems} items. // [ZERO_GC_GUARANTEED]
+     */
+    public void begin(long totalItems) {
+        frame++;
+        total = totalItems;
+        int chunks = (int) ((totalItems + CHUNK - 1) / CHUNK);
+        if (chunks > lastRunFrame.length) {
+            long[] grown = Arrays.copyOf(lastRunFrame, chunks);
+            Arrays.fill(grown, lastRunFrame.length, chunks, frame - 1);
+            lastRunFrame = grown;
+        }
+        chunkCount = chunks;
+        if (resumeChunk >= chunks) resumeChunk = 0;
+        startChunk = resumeChunk;
+        visited = 0;
+        lastProcessedItems = 0;
+
+        long deadline = Long.MAX_VALUE;
+        FrameBudget owner = budget;
+        if (owner == null || !owner.isUnbounded()) { // Unbounded (batch): no deadline, no clock read
+            long slice = sliceNs;
+            if (slice > 0) deadline = System.nanoTime() + slice;
+            if (owner != null) deadline = Math.min(deadline, owner.frameDeadlineNs());
+        }
+        deadlineNs = deadline;
+    }
+
+    /**
+     * Claims the next chunk. Returns false when every chunk ran or the slice is spent; in the
+     * latter case the remaining chunks are deferred and resume first next frame.
+     */
+    public boolean next() {
+        if (visited == chunkCount) {
+            lastDeferredItems = 0;
+            return false;
+        }
+        if (visited > 0 && deadlineNs != Long.MAX_VALUE && System.nanoTime() > deadlineNs) {
+            lastDeferredItems = total - lastProcessedItems;
+            framesDeferred++;
+            return false;
+        }
+        int chunk = startChunk + visited;
+        if (chunk >= chunkCount) chunk -= chunkCount;
+        from = (long) chunk * CHUNK;
+        to = Math.min(total, from + CHUNK);
+        framesSince = frame - lastRunFrame[chunk];
+        lastRunFrame[chunk] = frame;
+        lastProcessedItems += to - from;
+        visited++;
+        resumeChunk = chunk + 1;
+        return true;
+    }
+
+    /** First item of the current chunk. */
+    public long from() { return from; }
+
+    /** End (exclusive) of the current chunk. */
+    public long to() { return to; }
+
+    /** Frames since this chunk last ran: 1 normally, more after deferrals. Scale deltaTime by it. */
+    public long framesSinceLastRun() { return framesSince; }
+
+    public String getName() { return name; }
+
+    public long getSliceNs() { return sliceNs; }
+
+    public void setSliceNs(long sliceNs) { this.sliceNs = sliceNs; }
+
+    /** Items left for the next frame by the last pass (0 if it completed). */
+    public long getLastDeferredItems() { return lastDeferredItems; }
+
+    public long getLastProcessedItems() { return lastProcessedItems; }
+
+    /** Passes that ran out of time since creation. */
+    public long getFramesDeferred() { return framesDeferred; }
+}
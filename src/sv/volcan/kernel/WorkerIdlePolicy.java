@@ -0,0 +1,89 @@
+// Reading Order: 10110011
+//  179
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+
+/**
+ * RESPONSIBILITY: Idle policy for DAG worker threads: spin, then yield, then park.
+ * WHY: Parking on the first empty dequeue costs a futex wake per ready node. At 1000+ FPS the
+ * gap between two frames (or two DAG waves) is shorter than the park/unpark round trip, so
+ * workers should stay hot for a short window before giving the core back to the OS.
+ * TECHNIQUE: Two thresholds measured from the moment a worker went idle. Below spinNs the worker
+ * calls Thread.onSpinWait(), below spinNs + yieldNs it calls Thread.yield(), past that it parks.
+ * Defaults are tuned per TimeKeeper.EngineMode and can be overridden with
+ * volcan.kernel.worker.spin.us / volcan.kernel.worker.yield.us.
+ * GUARANTEES: Immutable. DEBUG_LOCK keeps the historical park-immediately behaviour.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 0,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Spin -> yield -> park thresholds per engine mode."
+)
+public final class WorkerIdlePolicy {
+
+    /** Park on the first empty dequeue (pre-4.5 behaviour). */
+    public static final WorkerIdlePolicy PARK_IMMEDIATELY = new WorkerIdlePolicy(0, 0);
+
+    private final long spinNs;
+    private final long yieldNs;
+
+    public WorkerIdlePolicy(long spinNs, long yieldNs) {
+        if (spinNs < 0 || yieldNs < 0) {
+            throw new IllegalArgumentException("Idle thresholds must be >= 0: spin=" + spinNs + " yield=" + yieldNs);
+        }
+        this.spinNs = spinNs;
+        this.yieldNs = yieldNs;
+    }
+
+    /**
+     * Default thresholds per engine lane.
+     * UNBOUNDED_RAW: frames back to back, stay hot. GAMING_CVT: short spin, the governor leaves
+     * headroom. SCIENTIFIC_SYMMETRIC: throughput batches, long yield window. DEBUG_LOCK: park.
+     */
+    public static WorkerIdlePolicy forMode(TimeKeeper.EngineMode mode) {
+        return switch (mode) {
+            case UNBOUNDED_RAW        -> new WorkerIdlePolicy(50_000, 200_000);
+            case SCIENTIFIC_SYMMETRIC -> new WorkerIdlePolicy(20_000, 500_000);
+            case DEBUG_LOCK           -> PARK_IMMEDIATELY;
+            default                   -> new WorkerIdlePolicy(20_000, 50_000);
+        };
+    }
+
+    /** Policy for volcan.kernel.engine.mode, with the optional microsecond overrides applied. */
+    public static WorkerIdlePolicy fromConfig() {
+        TimeKeeper.EngineMode mode = TimeKeeper.EngineMode.GAMING_CVT;
+        try {
+            mode = TimeKeeper.EngineMode.valueOf(VolcanEngineConfig.KERNEL_ENGINE_MODE);
+        } catch (Exception e) {
+            VolcanLogger.warning("TASKGRAPH", "Unknown ENGINE_MODE, worker idle policy defaults to GAMING_CVT");
+        }
+        WorkerIdlePolicy base = forMode(mode);
+        long spin = VolcanEngineConfig.KERNEL_WORKER_SPIN_US >= 0 ? VolcanEngineConfig.KERNEL_WORKER_SPIN_US * 1_000L : base.spinNs;
+        long yield = VolcanEngineConfig.KERNEL_WORKER_YIELD_US >= 0 ? VolcanEngineConfig.KERNEL_WORKER_YIELD_US * 1_000L : base.yieldNs;
+        return (spin == base.spinNs && yield == base.yieldNs) ? base : new WorkerIdlePolicy(spin, yield);
+    }
+
+    public long getSpinNs() { return spinNs; }
+
+    public long getYieldNs() { return yieldNs; }
+
+    /** Idle time after which the worker parks. */
+    public long getParkAfterNs() { return spinNs + yieldNs; }
+
+    @Override
+    public String toString() {
+        return "spin " + spinNs / 1_000 + "us, yield " + yieldNs / 1_000 + "us, then park";
+    }
+}
@@ -0,0 +1,124 @@
+// Reading Order: 11001011
+//  203
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.AAACertified;
+
+/**
+ * RESPONSIBILITY: Chooses how many DAG workers stay active, from the parallelism the graph achieves.
+ * WHY: The pool starts (cores - 1) workers whatever the graph looks like. A chain of 3 systems
+ * never keeps more than one thread busy, yet every worker spins and yields between frames on a
+ * core that a UDP receive thread or a co-located instance could use.
+ * TECHNIQUE: Over a rolling window of frames, achieved parallelism = sum of node run times /
+ * sum of makespans, i.e. the average number of threads doing work. It cannot exceed the active
+ * threads (workers + kernel thread), so reaching SATURATION of them means the graph wants more:
+ * the worker count doubles. Otherwise the target is ceil(parallelism * HEADROOM) threads. A
+ * shrink must hold for SHRINK_WINDOWS windows in a row; a grow applies at once, because frame
+ * time matters more than a core.
+ * GUARANTEES: Pure arithmetic on the kernel thread, no allocation. The result is clamped to
+ * [min, max].
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 20,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Rolling-window parallelism measurement with grow-fast / shrink-slow hysteresis."
+)
+public final class WorkerScaler {
+
+    /** Fraction of the active threads that counts as saturated. */
+    static final double SATURATION = 0.85;
+
+    /** Spare threads over the measured parallelism (absorbs frame-to-frame jitter). */
+    static final double HEADROOM = 1.25;
+
+    /** Consecutive windows a lower target must hold before workers are parked. */
+    static final int SHRINK_WINDOWS = 2;
+
+    private final int minWorkers;
+    private final int maxWorkers;
+    private final int windowFrames;
+
+    private int activeWorkers;
+    private int frames;
+    private long windowBusyNs;
+    private long windowMakespanNs;
+    private double lastParallelism;
+    private int shrinkVotes;
+    private long resizes;
+
+    public WorkerScaler(int maxWorkers, int minWorkers, int windowFrames) {
+        if (maxWorkers < 1) throw new IllegalArgumentException("maxWorkers must be >= 1: " + maxWorkers);
+        this.maxWorkers = maxWorkers;
+        this.minWorkers = Math.max(0, Math.min(minWorkers, maxWorkers));
+        this.windowFrames = Math.max(1, windowFrames);
+        this.activeWorkers = maxWorkers;
+    }
+
+    /** Scaler for a pool of {@code maxWorkers}, window and floor from volcan.kernel.worker.adaptive.*. */
+    public static WorkerScaler fromConfig(int maxWorkers) {
+        return new WorkerScaler(maxWorkers, VolcanEngineConfig.KERNEL_WORKER_ADAPTIVE_MIN,
+                VolcanEngineConfig.KERNEL_WORKER_ADAPTIVE_WINDOW);
+    }
+
+    /**
+     * Adds one frame to the window.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     *
+     * @param busyNs     Sum of the run times of the nodes executed this frame.
+     * @param makespanNs Frame makespan (first dispatch to last completion).
+     * @return Workers that should be active from now on.
+     */
+    public int onFrame(long busyNs, long makespanNs) {
+        windowBusyNs += busyNs;
+        windowMakespanNs += makespanNs;
+        if (++frames < windowFrames) return activeWorkers;
+
+        lastParallelism = windowMakespanNs > 0 ? (double) windowBusyNs / windowMakespanNs : 0.0;
+        frames = 0;
+        windowBusyNs = 0;
+        windowMakespanNs = 0;
+
+        int activeThreads = activeWorkers + 1; // The kernel thread runs nodes too
+        int target;
+        if (lastParallelism >= SATURATION * activeThreads) {
+            target = Math.max(1, activeWorkers * 2);
+        } else {
+            target = (int) Math.ceil(lastParallelism * HEADROOM) - 1;
+        }
+        target = Math.max(minWorkers, Math.min(maxWorkers, target));
+
+        if (target > activeWorkers) {
+            shrinkVotes = 0;
+            activeWorkers = target;
+            resizes++;
+        } else if (target < activeWorkers) {
+            if (++shrinkVotes >= SHRINK_WINDOWS) {
+                shrinkVotes = 0;
+                activeWorkers = target;
+                resizes++;
+            }
+        } else {
+            shrinkVotes = 0;
+        }
+        return activeWorkers;
+    }
+
+    public int getActiveWorkers() { return activeWorkers; }
+
+    /** Achieved parallelism of the last completed window (average threads doing work). */
+    public double getLastParallelism() { return lastParallelism; }
+
+    public long getResizeCount() { return resizes; }
+
+    public int getMaxWorkers() { return maxWorkers; }
+}
@@ -0,0 +1,161 @@
+// Reading Order: 11000100
+//  196
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.kernel;
+
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+import sv.volcan.state.WorldStateFrame;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * RESPONSIBILITY: Carries results of blocking systems back into the world.
+ * WHY: A system running on the async lane finishes at an arbitrary point of some later frame.
+ * Writing the world from there would race the DAG workers, so it hands the kernel a command
+ * instead and the kernel applies it between frames.
+ * TECHNIQUE: Bounded MPSC ring with the same claim protocol as VolcanAtomicBus (CAS on tail,
+ * release-store of the slot), holding object commands instead of packed longs. Producers are
+ * virtual threads, so submit() may park until the kernel frees a slot. The kernel drains it in
+ * phaseBusProcessing.
+ * GUARANTEES: Lock-free offer and drain. Commands from one producer apply in submission order.
+ * drain() never allocates and never blocks the kernel thread.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 200,
+    minThroughput = 1_000_000,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "MPSC command ring from the async lane to the kernel thread."
+)
+public final class WorldCommandBus {
+
+    /** A deferred world mutation. Runs on the kernel thread, between two frames. */
+    @FunctionalInterface
+    public interface Command {
+        void apply(WorldStateFrame state);
+    }
+
+    private static final VarHandle HEAD_H;
+    private static final VarHandle TAIL_H;
+    private static final VarHandle SLOT_H = MethodHandles.arrayElementVarHandle(Command[].class);
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            HEAD_H = lookup.findVarHandle(WorldCommandBus.class, "head", long.class);
+            TAIL_H = lookup.findVarHandle(WorldCommandBus.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Command[] slots;
+    private final int mask;
+
+    private volatile long head; // Consumer (kernel thread)
+    private volatile long tail; // Producers (CAS)
+
+    private long appliedCount;
+    private long failedCount;
+
+    /** Bus with 2^powerOfTwo slots (same convention as VolcanAtomicBus). */
+    public WorldCommandBus(int powerOfTwo) {
+        if (powerOfTwo < 1 || powerOfTwo > 24) {
+            throw new IllegalArgumentException("powerOfTwo must be in [1, 24]: " + powerOfTwo);
+        }
+        this.slots = new Command[1 << powerOfTwo];
+        this.mask = slots.length - 1;
+    }
+
+    /**
+     * Enqueues a command without waiting. Safe from any thread.
+     *
+     * @return false if the ring is full.
+     */
+    public boolean offer(Command command) {
+        if (command == null) throw new NullPointerException("command");
+        while (true) {
+            long currentTail = (long) TAIL_H.getAcquire(this);
+            long currentHead = (long) HEAD_H.getAcquire(this);
+            if (currentTail - currentHead >= slots.length) {
+                return false;
+            }
+            if (TAIL_H.compareAndSet(this, currentTail, currentTail + 1)) {
+                SLOT_H.setRelease(slots, (int) (currentTail & mask), command);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Enqueues a command, parking until the kernel drains a slot. Meant for the async lane:
+     * parking a virtual thread frees its carrier. Never call this from the kernel thread.
+     *
+     * @throws InterruptedException if the lane is shut down while waiting.
+     */
+    public void submit(Command command) throws InterruptedException {
+        while (!offer(command)) {
+            if (Thread.interrupted()) throw new InterruptedException("World command bus full at shutdown");
+            LockSupport.parkNanos(100_000L);
+        }
+    }
+
+    /**
+     * Applies every command published so far, in claim order.
+     * A command that throws is logged and dropped; the rest still apply.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     *
+     * @return Number of commands applied.
+     */
+    public int drain(WorldStateFrame state) {
+        long currentHead = head;
+        long currentTail = (long) TAIL_H.getAcquire(this);
+        int applied = 0;
+        while (currentHead < currentTail) {
+            int index = (int) (currentHead & mask);
+            Command command = (Command) SLOT_H.getAcquire(slots, index);
+            if (command == null) {
+                // Slot claimed but not yet written: stop here, the rest applies next frame (FIFO).
+                break;
+            }
+            SLOT_H.setRelease(slots, index, (Command) null);
+            currentHead++;
+            HEAD_H.setRelease(this, currentHead);
+            try {
+                command.apply(state);
+                appliedCount++;
+            } catch (Exception e) {
+                failedCount++;
+                VolcanLogger.error("ASYNC", "World command failed: " + e.getMessage());
+            }
+            applied++;
+        }
+        return applied;
+    }
+
+    /** Commands waiting for the next drain (approximate under concurrent offers). */
+    public int size() {
+        return (int) ((long) TAIL_H.getAcquire(this) - (long) HEAD_H.getAcquire(this));
+    }
+
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    public long getAppliedCount() {
+        return appliedCount;
+    }
+
+    public long getFailedCount() {
+        return failedCount;
+    }
+}
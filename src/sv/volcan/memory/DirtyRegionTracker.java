@@ -0,0 +1,261 @@
+// Reading Order: 11010010
+//  210
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.memory;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.AAACertified;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * RESPONSIBILITY: Write barrier of the off-heap stores: which regions changed since the last consumer pass.
+ * WHY: Snapshots, rollback capture and replication walked every byte of the world each tick, while a
+ * tick typically modifies a few percent of it. Comparing memory to find the changes costs a full
+ * read of both copies; a bit set by the writer costs almost nothing.
+ * TECHNIQUE: One bit per region (power-of-two granularity: a cache line or a page). The typed
+ * write methods of VolcanStateVault, WorldStateFrame, VolcanTransformSoA and SectorMemoryVault
+ * call mark(); raw MemorySegment writers call markRange(). A summary bit per bitmap word lets
+ * the consumer skip clean words, so collecting and clearing cost O(dirty), not O(size). Offsets
+ * are in the owner's unit (bytes, or entity indices for the SoA).
+ * GUARANTEES: mark() is a plain load when the region is already dirty, one atomic OR the first time
+ * in a tick; safe from DAG workers. Collect / clear run on one thread between frames. Dirty ranges
+ * are a superset of the written memory, never a subset. Compiled out when
+ * volcan.memory.dirty.tracking is false (ENABLED is a static final).
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 20,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = false,
+    notes         = "Two-level dirty-region bitmap fed by the typed write methods."
+)
+public final class DirtyRegionTracker {
+
+    /** Master switch. static final: the write barriers fold away when false. */
+    public static final boolean ENABLED = VolcanEngineConfig.MEMORY_DIRTY_TRACKING;
+
+    private static final VarHandle WORD_H = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long size;
+    private final int granularity;
+    private final int shift;
+    private final long regionCount;
+    private final long[] words;   // Bit per region
+    private final long[] summary; // Bit per non-zero word
+
+    /**
+     * @param size        Tracked extent (bytes, or entities for a SoA).
+     * @param granularity Units per region, power of two.
+     */
+    public DirtyRegionTracker(long size, int granularity) {
+        if (size <= 0 || granularity <= 0 || Integer.bitCount(granularity) != 1) {
+            throw new IllegalArgumentException("size > 0 and power-of-two granularity required: "
+                    + size + ", " + granularity);
+        }
+        this.size = size;
+        this.granularity = granularity;
+        this.shift = Integer.numberOfTrailingZeros(granularity);
+        this.regionCount = (size + granularity - 1) >>> shift;
+        int wordCount = (int) ((regionCount + 63) >>> 6);
+        this.words = new long[wordCount];
+        this.summary = new long[(wordCount + 63) >>> 6];
+    }
+
+    /** Byte-offset tracker with the granularity of volcan.memory.dirty.granularity. */
+    public static DirtyRegionTracker fromConfig(long bytes) {
+        return new DirtyRegionTracker(bytes, VolcanEngineConfig.MEMORY_DIRTY_GRANULARITY);
+    }
+
+    // -------------------------------------------------------------------------
+    // WRITE BARRIER (Hot-Path)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Marks the region holding {@code offset}. A typed write never crosses a region (aligned,
+     * at most 8 bytes, regions of 64+ bytes).
+     * // [THREAD_SAFE] [ZERO_GC_GUARANTEED]
+     */
+    public void mark(long offset) {
+        long region = offset >>> shift;
+        int w = (int) (region >>> 6);
+        long bit = 1L << region;
+        if ((words[w] & bit) == 0) {
+            setBit(w, bit);
+        }
+    }
+
+    /**
+     * Marks every region overlapping [offset, offset + length).
+     * // [THREAD_SAFE] [ZERO_GC_GUARANTEED]
+     */
+    public void markRange(long offset, long length) {
+        if (length <= 0) return;
+        long last = (offset + length - 1) >>> shift;
+        for (long region = offset >>> shift; region <= last; region++) {
+            int w = (int) (region >>> 6);
+            long bit = 1L << region;
+            if ((words[w] & bit) == 0) {
+                setBit(w, bit);
+            }
+        }
+    }
+
+    /** Marks everything (after a bulk overwrite the barrier did not see, e.g. a restore). */
+    public void markAll() {
+        markRange(0, size);
+    }
+
+    private void setBit(int w, long bit) {
+        long previous = (long) WORD_H.getAndBitwiseOr(words, w, bit);
+        if (previous == 0) {
+            WORD_H.getAndBitwiseOr(summary, w >>> 6, 1L << w);
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // CONSUMER (Between frames)
+    // -------------------------------------------------------------------------
+
+    public boolean isDirty(long offset) {
+        long region = offset >>> shift;
+        return (words[(int) (region >>> 6)] & (1L << region)) != 0;
+    }
+
+    /**
+     * Start of the first dirty region at or after {@code from}, or -1.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    public long nextDirty(long from) {
+        if (from >= size) return -1;
+        long region = Math.max(0, from) >>> shift;
+        int w = (int) (region >>> 6);
+        long bits = words[w] & (-1L << region);
+        while (bits == 0) {
+            w = nextNonZeroWord(w + 1);
+            if (w < 0) return -1;
+            bits = words[w];
+        }
+        long start = (((long) w << 6) + Long.numberOfTrailingZeros(bits)) << shift;
+        return Math.max(start, from);
+    }
+
+    /**
+     * End of the dirty run containing {@code from} (exclusive, clamped to the tracked size).
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    public long nextClean(long from) {
+        long region = from >>> shift;
+        int w = (int) (region >>> 6);
+        long bits = ~words[w] & (-1L << region);
+        while (bits == 0 && ++w < words.length) {
+            bits = ~words[w];
+        }
+        long end = w < words.length ? (((long) w << 6) + Long.numberOfTrailingZeros(bits)) << shift : size;
+        return Math.min(end, size);
+    }
+
+    private int nextNonZeroWord(int from) {
+        if (from >= words.length) return -1;
+        int s = from >>> 6;
+        long bits = summary[s] & (-1L << from);
+        while (bits == 0) {
+            if (++s >= summary.length) return -1;
+            bits = summary[s];
+        }
+        return (s << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Writes the dirty ranges as pairs {start, end} (exclusive), merged and in order.
+     * If {@code out} is too small the last pair is widened to cover the rest: a superset, never
+     * a miss.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     *
+     * @return Pairs written.
+     */
+    public int collectDirtyRanges(long[] out) {
+        int capacity = out.length >>> 1;
+        if (capacity == 0) return 0;
+        int pairs = 0;
+        long start = nextDirty(0);
+        while (start >= 0) {
+            long end = nextClean(start);
+            if (pairs == capacity) {
+                out[2 * pairs - 1] = lastDirtyEnd(end);
+                break;
+            }
+            out[2 * pairs] = start;
+            out[2 * pairs + 1] = end;
+            pairs++;
+            start = nextDirty(end);
+        }
+        return pairs;
+    }
+
+    private long lastDirtyEnd(long from) {
+        long end = from;
+        for (long start = nextDirty(from); start >= 0; start = nextDirty(end)) {
+            end = nextClean(start);
+        }
+        return end;
+    }
+
+    /**
+     * Copies the dirty ranges of {@code source} into {@code target} (same layout, bytes): brings a
+     * target that held the previous pass up to date.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     *
+     * @return Bytes copied.
+     */
+    public long copyDirty(MemorySegment source, MemorySegment target) {
+        long copied = 0;
+        for (long start = nextDirty(0); start >= 0; ) {
+            long end = nextClean(start);
+            MemorySegment.copy(source, start, target, start, end - start);
+            copied += end - start;
+            start = nextDirty(end);
+        }
+        return copied;
+    }
+
+    /** Dirty units (regions x granularity, clamped to the size). */
+    public long getDirtySize() {
+        long total = 0;
+        for (long start = nextDirty(0); start >= 0; ) {
+            long end = nextClean(start);
+            total += end - start;
+            start = nextDirty(end);
+        }
+        return total;
+    }
+
+    /**
+     * Forgets every mark: the consumer pass is complete.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    public void clear() {
+        for (int s = 0; s < summary.length; s++) {
+            long bits = summary[s];
+            while (bits != 0) {
+                words[(s << 6) + Long.numberOfTrailingZeros(bits)] = 0L;
+                bits &= bits - 1;
+            }
+            summary[s] = 0L;
+        }
+    }
+
+    public long getSize() { return size; }
+
+    public int getGranularity() { return granularity; }
+
+    public long getRegionCount() { return regionCount; }
+}
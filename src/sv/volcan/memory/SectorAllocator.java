@@ -0,0 +1,509 @@
+// Reading Order: 11011000
+//  216
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.memory;
+
+import sv.volcan.core.AAACertified;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * RESPONSIBILITY: Allocate and free blocks inside a SectorMemoryVault, so subsystems share one
+ * pre-reserved, page-aligned region instead of opening their own Arena.ofShared().
+ * WHY: The vault is one big segment cut into 64 KB sectors with only absolute-offset access;
+ * nothing handed sectors out or took them back.
+ * TECHNIQUE: Three tiers, each one touched less often than the one above it:
+ * <ul>
+ *   <li>Thread cache: per platform thread and size class, a stack of free block offsets.
+ *       Allocation and free are an array push/pop, no atomics. Virtual threads are too many
+ *       and too short-lived for a cache each: they go straight to the central lists.</li>
+ *   <li>Central lists: per size class, a lock-free Treiber stack of free blocks whose links
+ *       live inside the free blocks themselves. Caches refill and flush in batches.</li>
+ *   <li>Sectors: a lock-free Treiber stack of sector indices. An empty size class carves a
+ *       whole sector into blocks (a slab); requests above half a sector take a whole sector.</li>
+ * </ul>
+ * Both stack heads carry an ABA tag in their high bits.
+ * GUARANTEES: Lock-free; no allocation after a thread's first call. Blocks are aligned to their
+ * size class (16..32768 bytes, powers of two) and never straddle a sector; contents are
+ * undefined. Slab sectors stay with their size class once carved. The cache of a thread that
+ * has exited goes back to the central lists (and out of the registry) when the next thread
+ * registers; a thread that stops allocating but lives on should call flushThreadCache().
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 0,
+    minThroughput = 0,
+    alignment     = 16,
+    lockFree      = true,
+    offHeap       = true,
+    notes         = "Sector allocator: lock-free sector list, size-class slabs, per-thread caches."
+)
+public final class SectorAllocator {
+
+    /** Smallest block (bytes). */
+    public static final int MIN_BLOCK = 16;
+    private static final int MIN_SHIFT = 4;
+
+    /** Blocks a thread keeps per size class before flushing half of them. */
+    private static final int CACHE_BLOCKS = 64;
+    /** Blocks moved per refill / flush. */
+    private static final int BATCH = CACHE_BLOCKS / 2;
+
+    private static final byte SECTOR_FREE = -1;
+    private static final byte SECTOR_WHOLE = -2;
+
+    // Tagged stack heads: low bits = entry + 1 (0 = empty), high bits = ABA tag
+    private static final int ENTRY_BITS = 43; // Block units of 16 bytes: up to 2^47 vault bytes
+    private static final long ENTRY_MASK = (1L << ENTRY_BITS) - 1;
+    private static final long TAG_ONE = 1L << ENTRY_BITS;
+    private static final int HEAD_STRIDE = 8; // One head per cache line
+
+    private static final VarHandle SECTOR_HEAD;
+    private static final VarHandle HEADS = MethodHandles.arrayElementVarHandle(long[].class);
+    static {
+        try {
+            SECTOR_HEAD = MethodHandles.lookup().findVarHandle(SectorAllocator.class, "sectorHead", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final MemorySegment vault;
+    private final int sectorShift;
+    private final int firstSector;
+    private final int sectorCount;
+    private final int sizeClasses;
+
+    @SuppressWarnings("unused") // Accessed through SECTOR_HEAD
+    private volatile long sectorHead;
+    private final int[] nextSector;       // Link of the sector stack (index + 1, 0 = end)
+    private final byte[] sectorClass;     // Size class of each sector, SECTOR_FREE or SECTOR_WHOLE
+    private final long[] centralHeads;    // Per size class, HEAD_STRIDE apart
+
+    // Occupancy (cold path: sector traffic only)
+    private final AtomicLong sectorsInUse = new AtomicLong();
+    private final AtomicLong wholeSectors = new AtomicLong();
+    private final AtomicIntegerArray slabSectors;
+    private final AtomicLongArray uncachedLive; // Live blocks of virtual threads and retired caches
+
+    private final Object registryLock = new Object();
+    private volatile ThreadCache[] caches = new ThreadCache[0];
+    private final ThreadLocal<ThreadCache> threadCache = ThreadLocal.withInitial(this::registerCurrentThread);
+
+    /** Manages every sector of {@code vault}. */
+    public SectorAllocator(SectorMemoryVault vault) {
+        this(vault, 0, vault.getSectorCount());
+    }
+
+    /**
+     * Manages sectors [firstSector, firstSector + sectorCount) of {@code vault}; the others stay
+     * free for absolute-offset use.
+     */
+    public SectorAllocator(SectorMemoryVault vault, int firstSector, int sectorCount) {
+        if (firstSector < 0 || sectorCount < 0 || (long) firstSector + sectorCount > vault.getSectorCount()) {
+            throw new IllegalArgumentException("Sectors [" + firstSector + ", " + ((long) firstSector + sectorCount)
+                    + ") outside a vault of " + vault.getSectorCount());
+        }
+        this.vault = vault.getSegment();
+        this.sectorShift = Integer.numberOfTrailingZeros(vault.getSectorSize());
+        this.firstSector = firstSector;
+        this.sectorCount = sectorCount;
+        this.sizeClasses = sectorShift - MIN_SHIFT; // 16 .. sector / 2
+        this.nextSector = new int[sectorCount];
+        this.sectorClass = new byte[sectorCount];
+        this.centralHeads = new long[sizeClasses * HEAD_STRIDE];
+        this.slabSectors = new AtomicIntegerArray(sizeClasses);
+        this.uncachedLive = new AtomicLongArray(sizeClasses);
+        Arrays.fill(sectorClass, SECTOR_FREE);
+        for (int i = 0; i < sectorCount; i++) {
+            nextSector[i] = i + 2 <= sectorCount ? i + 2 : 0; // Stack pops 0, 1, 2...
+        }
+        this.sectorHead = sectorCount > 0 ? 1 : 0;
+    }
+
+    // -------------------------------------------------------------------------
+    // ALLOCATION (Hot-Path)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Allocates {@code bytes} (1..sector size).
+     * // [ZERO_GC_GUARANTEED] (after the thread's first call)
+     *
+     * @return Byte offset of the block in the vault segment, or -1 if the vault is exhausted.
+     */
+    public long allocateOffset(long bytes) {
+        int sizeClass = sizeClassOf(bytes);
+        if (sizeClass < 0) return allocateSectorOffset();
+        if (Thread.currentThread().isVirtual()) return allocateUncached(sizeClass);
+        return threadCache.get().allocate(sizeClass);
+    }
+
+    /**
+     * Allocates {@code bytes} as a slice of the vault.
+     *
+     * @throws OutOfMemoryError if the vault is exhausted (as Arena.allocate).
+     */
+    public MemorySegment allocate(long bytes) {
+        long offset = allocateOffset(bytes);
+        if (offset < 0) {
+            throw new OutOfMemoryError("SectorAllocator exhausted: " + bytes + " bytes requested, "
+                    + getFreeSectors() + " free sectors");
+        }
+        return vault.asSlice(offset, bytes);
+    }
+
+    /** Takes a whole sector. @return Its byte offset in the vault segment, or -1. */
+    public long allocateSectorOffset() {
+        int sector = popSector();
+        if (sector < 0) return -1;
+        sectorClass[sector] = SECTOR_WHOLE;
+        wholeSectors.incrementAndGet();
+        return sectorOffset(sector);
+    }
+
+    /** Takes a whole sector, or null if none is free. */
+    public MemorySegment allocateSector() {
+        long offset = allocateSectorOffset();
+        return offset < 0 ? null : vault.asSlice(offset, 1L << sectorShift);
+    }
+
+    /**
+     * Frees a block (or whole sector) returned by this allocator, from any thread.
+     * // [ZERO_GC_GUARANTEED]
+     *
+     * @throws IllegalArgumentException if {@code offset} is not the start of an allocated block.
+     */
+    public void free(long offset) {
+        int sector = (int) ((offset >> sectorShift) - firstSector);
+        if (offset < 0 || sector < 0 || sector >= sectorCount) {
+            throw new IllegalArgumentException("Offset " + offset + " is not in this allocator");
+        }
+        byte sizeClass = sectorClass[sector];
+        if (sizeClass == SECTOR_WHOLE) {
+            if ((offset & ((1L << sectorShift) - 1)) != 0) {
+                throw new IllegalArgumentException("Offset " + offset + " is inside a whole-sector allocation");
+            }
+            sectorClass[sector] = SECTOR_FREE;
+            wholeSectors.decrementAndGet();
+            pushSector(sector);
+            return;
+        }
+        if (sizeClass == SECTOR_FREE || (offset & (blockSize(sizeClass) - 1)) != 0) {
+            throw new IllegalArgumentException("Offset " + offset + " is not an allocated block");
+        }
+        if (Thread.currentThread().isVirtual()) {
+            pushChain(sizeClass, offset, offset);
+            uncachedLive.decrementAndGet(sizeClass);
+            return;
+        }
+        threadCache.get().free(sizeClass, offset);
+    }
+
+    /** Frees a segment returned by allocate() / allocateSector(). */
+    public void free(MemorySegment block) {
+        free(block.address() - vault.address());
+    }
+
+    /**
+     * Returns the calling thread's cached blocks to the central lists, e.g. when a long-lived
+     * thread stops allocating (a no-op on virtual threads, which have no cache).
+     */
+    public void flushThreadCache() {
+        if (Thread.currentThread().isVirtual()) return;
+        ThreadCache cache = threadCache.get();
+        for (int c = 0; c < sizeClasses; c++) {
+            cache.flush(c, cache.count[c]);
+        }
+    }
+
+    /** The vault region at {@code offset} (e.g. to turn allocateOffset() into a segment later). */
+    public MemorySegment segmentAt(long offset, long bytes) {
+        return vault.asSlice(offset, bytes);
+    }
+
+    // -------------------------------------------------------------------------
+    // SIZE CLASSES
+    // -------------------------------------------------------------------------
+
+    /**
+     * Size class serving {@code bytes}: 0 for 1..16, 1 for 17..32, ... or -1 for a whole sector.
+     *
+     * @throws IllegalArgumentException if {@code bytes} is not 1..sector size.
+     */
+    public int sizeClassOf(long bytes) {
+        if (bytes <= 0 || bytes > (1L << sectorShift)) {
+            throw new IllegalArgumentException("Block size must be 1.." + (1L << sectorShift) + ": " + bytes);
+        }
+        int sizeClass = Math.max(0, 64 - Long.numberOfLeadingZeros(bytes - 1) - MIN_SHIFT);
+        return sizeClass < sizeClasses ? sizeClass : -1;
+    }
+
+    public int getSizeClassCount() {
+        return sizeClasses;
+    }
+
+    public long blockSize(int sizeClass) {
+        return (long) MIN_BLOCK << sizeClass;
+    }
+
+    // -------------------------------------------------------------------------
+    // OCCUPANCY
+    // -------------------------------------------------------------------------
+
+    public int getSectorCount() {
+        return sectorCount;
+    }
+
+    public int getFreeSectors() {
+        return (int) (sectorCount - sectorsInUse.get());
+    }
+
+    /** Sectors carved into blocks of {@code sizeClass}. */
+    public int getSlabSectors(int sizeClass) {
+        return slabSectors.get(sizeClass);
+    }
+
+    public long getWholeSectors() {
+        return wholeSectors.get();
+    }
+
+    /** Blocks of {@code sizeClass} handed out and not freed (approximate while threads run). */
+    public long getLiveBlocks(int sizeClass) {
+        long live = uncachedLive.get(sizeClass);
+        for (ThreadCache cache : caches) live += cache.live[sizeClass];
+        return live;
+    }
+
+    /** Thread caches registered (platform threads that allocated or freed and have not been reclaimed). */
+    public int getThreadCacheCount() {
+        return caches.length;
+    }
+
+    /** Bytes of the blocks and whole sectors in use (block-size granularity). */
+    public long getUsedBytes() {
+        long used = wholeSectors.get() << sectorShift;
+        for (int c = 0; c < sizeClasses; c++) used += getLiveBlocks(c) * blockSize(c);
+        return used;
+    }
+
+    /** Bytes of the sectors taken from the vault (slabs + whole sectors). */
+    public long getReservedBytes() {
+        return sectorsInUse.get() << sectorShift;
+    }
+
+    /** Used / reserved: how well the slabs are filled (1 when nothing is reserved). */
+    public double getOccupancy() {
+        long reserved = getReservedBytes();
+        return reserved == 0 ? 1.0 : (double) getUsedBytes() / reserved;
+    }
+
+    // -------------------------------------------------------------------------
+    // SECTOR STACK
+    // -------------------------------------------------------------------------
+
+    private int popSector() {
+        while (true) {
+            long head = (long) SECTOR_HEAD.getVolatile(this);
+            int top = (int) (head & ENTRY_MASK) - 1;
+            if (top < 0) return -1;
+            long next = (head & ~ENTRY_MASK) + TAG_ONE | nextSector[top];
+            if (SECTOR_HEAD.compareAndSet(this, head, next)) {
+                sectorsInUse.incrementAndGet();
+                return top;
+            }
+        }
+    }
+
+    private void pushSector(int sector) {
+        while (true) {
+            long head = (long) SECTOR_HEAD.getVolatile(this);
+            nextSector[sector] = (int) (head & ENTRY_MASK);
+            if (SECTOR_HEAD.compareAndSet(this, head, (head & ~ENTRY_MASK) + TAG_ONE | (sector + 1))) {
+                sectorsInUse.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private long sectorOffset(int sector) {
+        return (long) (firstSector + sector) << sectorShift;
+    }
+
+    // -------------------------------------------------------------------------
+    // CENTRAL BLOCK STACKS (links stored in the free blocks)
+    // -------------------------------------------------------------------------
+
+    /** Pops a block. @return Its offset, or -1 if the central list is empty. */
+    private long popBlock(int sizeClass) {
+        int slot = sizeClass * HEAD_STRIDE;
+        while (true) {
+            long head = (long) HEADS.getVolatile(centralHeads, slot);
+            long entry = head & ENTRY_MASK;
+            if (entry == 0) return -1;
+            long offset = (entry - 1) << MIN_SHIFT;
+            // A racing pop may already own (and overwrite) this block: the tag makes our CAS fail
+            long next = vault.get(ValueLayout.JAVA_LONG, offset);
+            if (HEADS.compareAndSet(centralHeads, slot, head, (head & ~ENTRY_MASK) + TAG_ONE | (next & ENTRY_MASK))) {
+                return offset;
+            }
+        }
+    }
+
+    /** Pushes the chain first..last (already linked through the blocks) in one CAS. */
+    private void pushChain(int sizeClass, long first, long last) {
+        int slot = sizeClass * HEAD_STRIDE;
+        long entry = link(first);
+        while (true) {
+            long head = (long) HEADS.getVolatile(centralHeads, slot);
+            vault.set(ValueLayout.JAVA_LONG, last, head & ENTRY_MASK);
+            if (HEADS.compareAndSet(centralHeads, slot, head, (head & ~ENTRY_MASK) + TAG_ONE | entry)) {
+                return;
+            }
+        }
+    }
+
+    private static long link(long offset) {
+        return (offset >>> MIN_SHIFT) + 1;
+    }
+
+    /** Takes a free sector for blocks of {@code sizeClass}. @return Its offset, or -1. */
+    private long takeSlab(int sizeClass) {
+        int sector = popSector();
+        if (sector < 0) return -1;
+        sectorClass[sector] = (byte) sizeClass;
+        slabSectors.incrementAndGet(sizeClass);
+        return sectorOffset(sector);
+    }
+
+    /** Links the blocks of [offset, end) and pushes them to the central list in one CAS. */
+    private void pushBlocks(int sizeClass, long offset, long end) {
+        if (offset >= end) return;
+        long size = blockSize(sizeClass);
+        long first = offset;
+        for (; offset + size < end; offset += size) {
+            vault.set(ValueLayout.JAVA_LONG, offset, link(offset + size));
+        }
+        pushChain(sizeClass, first, offset);
+    }
+
+    /** Virtual threads: straight from the central list, carving a slab into it when empty. */
+    private long allocateUncached(int sizeClass) {
+        long offset;
+        while ((offset = popBlock(sizeClass)) < 0) {
+            long slab = takeSlab(sizeClass);
+            if (slab < 0) return -1;
+            pushBlocks(sizeClass, slab, slab + (1L << sectorShift));
+        }
+        uncachedLive.incrementAndGet(sizeClass);
+        return offset;
+    }
+
+    // -------------------------------------------------------------------------
+    // THREAD CACHES
+    // -------------------------------------------------------------------------
+
+    /** Registers the calling thread's cache and reclaims the caches of threads that have exited. */
+    private ThreadCache registerCurrentThread() {
+        ThreadCache cache = new ThreadCache(sizeClasses, Thread.currentThread());
+        synchronized (registryLock) {
+            ThreadCache[] current = caches;
+            ThreadCache[] kept = new ThreadCache[current.length + 1];
+            int n = 0;
+            for (ThreadCache other : current) {
+                if (other.owner.isAlive()) {
+                    kept[n++] = other;
+                } else {
+                    retire(other); // isAlive() == false: the owner's last writes are visible
+                }
+            }
+            kept[n++] = cache;
+            caches = n == kept.length ? kept : Arrays.copyOf(kept, n);
+        }
+        return cache;
+    }
+
+    /** Cache of an exited thread: blocks back to the central lists, live count kept. */
+    private void retire(ThreadCache cache) {
+        for (int c = 0; c < sizeClasses; c++) {
+            cache.flush(c, cache.count[c]);
+            uncachedLive.addAndGet(c, cache.live[c]);
+        }
+    }
+
+    /** Single-owner block stacks of one thread. */
+    private final class ThreadCache {
+        final Thread owner;
+        final long[] blocks; // sizeClass * CACHE_BLOCKS + i
+        final int[] count;
+        final long[] live;   // Owner-written, read racily by the occupancy queries
+
+        ThreadCache(int classes, Thread owner) {
+            this.owner = owner;
+            this.blocks = new long[classes * CACHE_BLOCKS];
+            this.count = new int[classes];
+            this.live = new long[classes];
+        }
+
+        long allocate(int sizeClass) {
+            if (count[sizeClass] == 0 && !refill(sizeClass)) return -1;
+            live[sizeClass]++;
+            return blocks[sizeClass * CACHE_BLOCKS + --count[sizeClass]];
+        }
+
+        void free(int sizeClass, long offset) {
+            if (count[sizeClass] == CACHE_BLOCKS) flush(sizeClass, BATCH);
+            blocks[sizeClass * CACHE_BLOCKS + count[sizeClass]++] = offset;
+            live[sizeClass]--;
+        }
+
+        /** Batch from the central list, or a freshly carved slab. */
+        boolean refill(int sizeClass) {
+            int base = sizeClass * CACHE_BLOCKS;
+            while (count[sizeClass] < BATCH) {
+                long offset = popBlock(sizeClass);
+                if (offset < 0) break;
+                blocks[base + count[sizeClass]++] = offset;
+            }
+            return count[sizeClass] > 0 || carve(sizeClass);
+        }
+
+        /** Cuts a new sector into blocks: BATCH of them here, the rest to the central list. */
+        boolean carve(int sizeClass) {
+            long start = takeSlab(sizeClass);
+            if (start < 0) return false;
+            long size = blockSize(sizeClass);
+            long end = start + (1L << sectorShift);
+            int base = sizeClass * CACHE_BLOCKS;
+            long offset = start;
+            while (count[sizeClass] < BATCH && offset < end) {
+                blocks[base + count[sizeClass]++] = offset;
+                offset += size;
+            }
+            pushBlocks(sizeClass, offset, end);
+            return true;
+        }
+
+        /** Moves the {@code n} oldest cached blocks to the central list in one CAS. */
+        void flush(int sizeClass, int n) {
+            if (n == 0) return;
+            int base = sizeClass * CACHE_BLOCKS;
+            for (int i = 0; i < n - 1; i++) {
+                vault.set(ValueLayout.JAVA_LONG, blocks[base + i], link(blocks[base + i + 1]));
+            }
+            pushChain(sizeClass, blocks[base], blocks[base + n - 1]);
+            System.arraycopy(blocks, base + n, blocks, base, count[sizeClass] - n);
+            count[sizeClass] -= n;
+        }
+    }
+}
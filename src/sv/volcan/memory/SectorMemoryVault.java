@@ -81,6 +81,13 @@ public final class SectorMemoryVault {
      */
     private final int sectorCount;
 
+    /**
+     * RESPONSIBILITY: Remember which regions were written since the last snapshot.
+     * WHY: Incremental snapshots and replication only need the modified memory.
+     * GUARANTEES: null unless volcan.memory.dirty.tracking; the barriers fold away with it.
+     */
+    private final DirtyRegionTracker dirty;
+
     // ========================================================================================================================================================
     // CONSTRUCTOR
     // ========================================================================================================================================================
@@ -92,7 +99,7 @@ public final class SectorMemoryVault {
      * 
      * RESPONSIBILITY: Allocate and align the native memory segment.
      * WHY: Specifying sectors simplifies management and provides predictable sizing.
-     * TECHNIQUE: Total size = sectorCount * SECTOR_SIZE. Uses Arena.ofShared() and allocateNative() with PAGE_SIZE alignment.
+     * TECHNIQUE: Total size = sectorCount * SECTOR_SIZE. Uses HugePageArena.ofShared() with PAGE_SIZE alignment (2 MB on huge pages when the vault spans one).
      * GUARANTEES: Memory is aligned to 4KB, eliminating TLB misses, and access is thread-safe for the execution DAG.
      */
     public SectorMemoryVault(int sectorCount) {
@@ -102,7 +109,7 @@ public final class SectorMemoryVault {
 
         this.sectorCount = sectorCount;
         this.totalSize = (long) sectorCount * SECTOR_SIZE;
-        this.arena = Arena.ofShared(); // Shared for multi-threading
+        this.arena = HugePageArena.ofShared(); // Shared for multi-threading, huge pages when big enough
 
         // Allocate native memory with 4KB alignment
         this.segment = arena.allocate(totalSize, PAGE_SIZE);
@@ -112,6 +119,8 @@ public final class SectorMemoryVault {
         if (address % PAGE_SIZE != 0) {
             throw new AssertionError("Memory not 4KB aligned: " + address);
         }
+
+        this.dirty = DirtyRegionTracker.ENABLED ? DirtyRegionTracker.fromConfig(totalSize) : null;
     }
 
     // ========================================================================================================================================================
@@ -131,6 +140,7 @@ public final class SectorMemoryVault {
      */
     public void writeLong(long offset, long value) {
         segment.set(ValueLayout.JAVA_LONG, offset, value);
+        if (DirtyRegionTracker.ENABLED) dirty.mark(offset);
     }
 
     /**
@@ -156,6 +166,7 @@ public final class SectorMemoryVault {
      */
     public void writeInt(long offset, int value) {
         segment.set(ValueLayout.JAVA_INT, offset, value);
+        if (DirtyRegionTracker.ENABLED) dirty.mark(offset);
     }
 
     /**
@@ -183,6 +194,7 @@ public final class SectorMemoryVault {
      */
     public void copyFrom(long offset, byte[] source, int srcOffset, int length) {
         MemorySegment.copy(source, srcOffset, segment, ValueLayout.JAVA_BYTE, offset, length);
+        if (DirtyRegionTracker.ENABLED) dirty.markRange(offset, length);
     }
 
     /**
@@ -215,6 +227,20 @@ public final class SectorMemoryVault {
         return sectorCount;
     }
 
+    /**
+     * Returns the size of one sector in bytes (16 pages).
+     */
+    public int getSectorSize() {
+        return SECTOR_SIZE;
+    }
+
+    /**
+     * Returns sector {@code index} as a slice of the vault (a view, no copy).
+     */
+    public MemorySegment getSector(int index) {
+        return segment.asSlice((long) index * SECTOR_SIZE, SECTOR_SIZE);
+    }
+
     public long getAddress() {
         return segment.address();
     }
@@ -224,11 +250,20 @@ public final class SectorMemoryVault {
      * 
      * RESPONSIBILITY: Enable off-heap vector acceleration.
      * WHY: jdk.incubator.vector requires MemorySegment for bulk loads.
+     * GUARANTEES: None for dirty tracking: stores through it must be marked via getDirtyTracker().
      */
     public MemorySegment getSegment() {
         return segment;
     }
 
+    /**
+     * Returns the regions written since the last consumer pass, or null when
+     * volcan.memory.dirty.tracking is disabled.
+     */
+    public DirtyRegionTracker getDirtyTracker() {
+        return dirty;
+    }
+
     /**
      * Checks if the memory is aligned to 4KB.
      * 
@@ -62,6 +62,7 @@ public final class NetworkPacketSystem implements GameSystem {
             
             tSoa.globalPosX.set(ValueLayout.JAVA_DOUBLE, entityId * 8L, currentX + inX);
             tSoa.globalPosY.set(ValueLayout.JAVA_DOUBLE, entityId * 8L, currentY + inY);
+            tSoa.markEntity(entityId);
         }
     }
 
@@ -18,6 +18,8 @@ import sv.volcan.ecs.VolcanScene;
  * Muestrea la memoria contigua de la ECS (TransformSoA) y la empaqueta 
  * en un payload binario para retransmitirla a los clientes UDP conectados.
  * Nota: El Broadcast se reimplementará más adelante usando VolcanUdpServer.
+ * La tasa de 20 Hz la impone el SystemRegistry (SystemSchedule) a partir de getRateHz(),
+ * no un acumulador interno.
  */
 @AAACertified(date = "2026-06-20", maxLatencyNs = 50, minThroughput = 0, lockFree = true, offHeap = true, notes = "Phase 33: ECS State Serialization")
 public final class NetworkReplicationSystem implements GameSystem {
@@ -26,9 +28,9 @@ public final class NetworkReplicationSystem implements GameSystem {
     private final MemorySegment snapshotBuffer;
     private final Arena arena;
     
-    // Tick Rate: 20Hz para replicación de red típica (Para ahorrar ancho de banda)
-    private static final double TICK_RATE = 1.0 / 20.0;
-    private double accumulator = 0.0;
+    // Tick Rate: 20Hz para replicación de red típica (Para ahorrar ancho de banda).
+    // El SystemRegistry poda este sistema del DAG en los ticks intermedios (ver getRateHz()).
+    public static final double REPLICATION_HZ = 20.0;
 
     public NetworkReplicationSystem(VolcanScene scene) {
         this.scene = scene;
@@ -38,13 +40,12 @@ public final class NetworkReplicationSystem implements GameSystem {
         this.snapshotBuffer = arena.allocate(1000 * 3 * 4);
     }
 
+    /**
+     * Cada invocación empaqueta y emite un snapshot (a REPLICATION_HZ, sin schedule explícito).
+     */
     @Override
     public void update(WorldStateFrame state, float deltaTime) {
-        accumulator += deltaTime;
-        if (accumulator >= TICK_RATE) {
-            accumulator = 0.0;
-            broadcastSnapshot();
-        }
+        broadcastSnapshot();
     }
 
     private void broadcastSnapshot() {
@@ -70,6 +71,12 @@ public final class NetworkReplicationSystem implements GameSystem {
         return "NetworkReplicationSystem";
     }
 
+    /** 20 Hz aunque se registre sin SystemSchedule: registerGameSystem(netReplication). */
+    @Override
+    public double getRateHz() {
+        return REPLICATION_HZ;
+    }
+
     public void cleanup() {
         arena.close();
     }
@@ -10,6 +10,7 @@ import java.net.SocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
 import java.lang.foreign.MemorySegment;
+import java.util.concurrent.locks.LockSupport;
 import sv.volcan.core.AAACertified;
 import sv.volcan.core.VolcanLogger;
 import sv.volcan.bus.NetworkRingBuffer;
@@ -26,9 +27,12 @@ public final class VolcanUdpServer {
     private final ByteBuffer receiveBuffer;
     private final MemorySegment receiveSegment;
     private final NetworkRingBuffer ringBuffer;
-    private boolean isListening = false;
+    private volatile boolean isListening = false;
+    private final int port;
+    private Thread receiverThread;
 
     public VolcanUdpServer(int port, int packetSize, NetworkRingBuffer ringBuffer) {
+        this.port = port;
         this.ringBuffer = ringBuffer;
         this.receiveBuffer = ByteBuffer.allocateDirect(packetSize);
         this.receiveSegment = MemorySegment.ofBuffer(this.receiveBuffer);
@@ -47,10 +51,13 @@ public final class VolcanUdpServer {
     /**
      * Drena todos los paquetes disponibles en el NIC y los transfiere al RingBuffer.
      * Esta función debe ser llamada repetidamente por un hilo dedicado o durante la ingesta del DAG.
+     *
+     * @return Paquetes transferidos en esta llamada.
      */
-    public void drainNetworkBus() {
-        if (!isListening) return;
+    public int drainNetworkBus() {
+        if (!isListening) return 0;
 
+        int drained = 0;
         try {
             while (true) {
                 receiveBuffer.clear();
@@ -64,6 +71,7 @@ public final class VolcanUdpServer {
                 int bytesRead = receiveBuffer.limit();
                 
                 if (bytesRead > 0) {
+                    drained++;
                     MemorySegment slot = ringBuffer.claimWriteSlot();
                     if (slot != null) {
                         // Bulk copy SIMD
@@ -78,10 +86,43 @@ public final class VolcanUdpServer {
         } catch (IOException e) {
             VolcanLogger.warning("NETWORK", "Error I/O durante ingesta UDP: " + e.getMessage());
         }
+        return drained;
+    }
+
+    /**
+     * Arranca el hilo receptor dedicado ("VolcanUdpReceiver-puerto").
+     * Se fija al core de housekeeping de CpuPlacement (fuera del core y del L3 del kernel) y
+     * alterna spin corto / park de 20us cuando la NIC está vacía.
+     */
+    public synchronized void startReceiver() {
+        if (receiverThread != null || !isListening) return;
+        receiverThread = new Thread(() -> {
+            sv.volcan.kernel.CpuPlacement.pinSelf(sv.volcan.kernel.CpuPlacement.fromConfig().housekeepingCore());
+            int idleSpins = 0;
+            while (isListening) {
+                if (drainNetworkBus() > 0) {
+                    idleSpins = 0;
+                } else if (++idleSpins < 1_000) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(20_000);
+                }
+            }
+        }, "VolcanUdpReceiver-" + port);
+        receiverThread.setDaemon(true);
+        receiverThread.start();
     }
 
     public void close() {
         this.isListening = false;
+        Thread receiver = receiverThread;
+        if (receiver != null) {
+            try {
+                receiver.join(1000); // Never close the channel under an in-flight receive()
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
         try {
             if (channel != null) channel.close();
         } catch (IOException e) {
@@ -6,7 +6,9 @@ package sv.volcan.physics;
 
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
+
 import sv.volcan.core.AAACertified;
+import sv.volcan.memory.HugePageArena;
 
 /**
  * Data-Oriented Memory layout for Colliders (Phase 31).
@@ -27,7 +29,7 @@ public final class VolcanColliderSoA {
 
     public VolcanColliderSoA(int capacity) {
         this.capacity = capacity;
-        this.arena = Arena.ofShared();
+        this.arena = HugePageArena.ofShared();
         
         long bytesRequired = capacity * 4L;
         this.radius = arena.allocate(bytesRequired, 64);
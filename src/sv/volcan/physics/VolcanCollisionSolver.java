@@ -77,6 +77,8 @@ public final class VolcanCollisionSolver {
         tSoa.globalPosY.set(ValueLayout.JAVA_DOUBLE, offset64A, ay - sepY);
         tSoa.globalPosX.set(ValueLayout.JAVA_DOUBLE, offset64B, bx + sepX);
         tSoa.globalPosY.set(ValueLayout.JAVA_DOUBLE, offset64B, by + sepY);
+        tSoa.markEntity(idA); // Velocities below share the entities' regions
+        tSoa.markEntity(idB);
 
         // 5. Dinámicas de Cuerpo Rígido (Conservación de Momento)
         float massA = cSoa.mass.get(ValueLayout.JAVA_FLOAT, offset32A);
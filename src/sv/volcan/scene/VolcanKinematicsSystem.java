@@ -7,9 +7,12 @@ package sv.volcan.scene;
 import java.nio.ByteOrder;
 import jdk.incubator.vector.DoubleVector;
 import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
 import jdk.incubator.vector.VectorSpecies;
+import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
 import sv.volcan.core.AAACertified;
+import sv.volcan.kernel.WorkCursor;
 
 /**
  * Data-Oriented Technology Stack: SIMD Kinematics System.
@@ -32,7 +35,8 @@ public final class VolcanKinematicsSystem {
     private static final ByteOrder BO = ByteOrder.nativeOrder();
 
     /**
-     * Procesa todo el arreglo de entidades en una sola pasada vectorial.
+     * Procesa el arreglo de entidades usando el cursor de la SoA (ver {@link #update(VolcanTransformSoA,
+     * float, double, double, double, WorkCursor)}).
      * 
      * @param soa El bloque de memoria Structure of Arrays.
      * @param dt Delta time en segundos.
@@ -41,23 +45,62 @@ public final class VolcanKinematicsSystem {
      * @param camZ Posición global de la cámara Z (64-bits).
      */
     public static void update(VolcanTransformSoA soa, float dt, double camX, double camY, double camZ) {
-        int capacity = soa.getCapacity();
-        long loopBound = D_SPECIES.loopBound(capacity);
-        long i = 0;
-        
-        long startTime = System.nanoTime();
-        // Límite Suave: 12 ms para abandonar la cinemática de entidades no críticas
-        long softLimitNs = 12_000_000L;
-        // Límite Duro: 15 ms para abandonar incluso el recálculo jerárquico y prevenir un cuelgue
-        long hardLimitNs = 15_000_000L;
+        update(soa, dt, camX, camY, camZ, soa.getKinematicsCursor());
+    }
 
-        // Fase 1: Acelerador SIMD (Precisión Infinita 64-bits sin máscaras)
-        for (; i < loopBound; i += D_SPECIES.length()) {
-            // Check de tiempo cada 1024 iteraciones para minimizar overhead de System.nanoTime()
-            if ((i & 1023) == 0 && (System.nanoTime() - startTime) > softLimitNs) {
-                break; // Soft Limit: Cortamos el procesamiento local SIMD (Time-Slicing)
-            }
+    /**
+     * Procesa las entidades por chunks de {@link WorkCursor#CHUNK} hasta agotar el slice del cursor.
+     * 
+     * <p>Cada chunk hace su integración local (SIMD + cola escalar) y luego su pasada global /
+     * Camera-Relative, así un corte nunca deja posiciones locales sin su global. Los chunks que no
+     * caben se difieren y son los primeros del frame siguiente; su dt se escala por los frames que
+     * esperaron, de modo que no pierden tiempo simulado.
+     * 
+     * <p>Tras un diferimiento, un hijo cuyo padre vive en un chunk posterior lee la posición global
+     * del padre del frame anterior (un frame de retraso, solo bajo sobrecarga).
+     * 
+     * // [ZERO_GC_GUARANTEED]
+     */
+    public static void update(VolcanTransformSoA soa, float dt, double camX, double camY, double camZ,
+                              WorkCursor cursor) {
+        cursor.begin(soa.getCapacity());
+        while (cursor.next()) {
+            long from = cursor.from();
+            long to = cursor.to();
+            float chunkDt = dt * cursor.framesSinceLastRun();
+            integrateLocal(soa, chunkDt, from, to);
+            resolveGlobal(soa, from, to, camX, camY, camZ);
+            soa.markEntities(from, to);
+        }
+    }
 
+    /**
+     * Solo la integración local de [from, to). Cada entidad es independiente: los rangos pueden
+     * correr en cualquier hilo y en cualquier orden (ver SceneKinematicsSystem).
+     * 
+     * // [ZERO_GC_GUARANTEED]
+     */
+    public static void integrateRange(VolcanTransformSoA soa, float dt, long from, long to) {
+        integrateLocal(soa, dt, from, to);
+    }
+
+    /**
+     * Jerarquía y Camera-Relative de [from, to), en orden de índice. Lee la global del padre, así
+     * que corre en un solo hilo y después de integrar todos los rangos. Mismo resultado que
+     * {@link #update} cuando el cursor procesa todas las entidades en el frame.
+     * 
+     * // [ZERO_GC_GUARANTEED]
+     */
+    public static void resolveRange(VolcanTransformSoA soa, long from, long to, double camX, double camY, double camZ) {
+        resolveGlobal(soa, from, to, camX, camY, camZ);
+        soa.markEntities(from, to);
+    }
+
+    /** Fase 1: Acelerador SIMD (Precisión Infinita 64-bits sin máscaras) + cola escalar. */
+    private static void integrateLocal(VolcanTransformSoA soa, float dt, long from, long to) {
+        long loopBound = from + D_SPECIES.loopBound(to - from);
+        long i = from;
+        for (; i < loopBound; i += D_SPECIES.length()) {
             long offset32 = i * 4L;
             long offset64 = i * 8L;
             
@@ -84,34 +127,33 @@ public final class VolcanKinematicsSystem {
             newPz.intoMemorySegment(soa.localPosZ, offset64, BO);
         }
 
-        boolean simdCompleted = (i == loopBound);
+        // Cola escalar (último chunk no múltiplo del ancho SIMD)
+        for (; i < to; i++) {
+            long offset32 = i * 4L;
+            long offset64 = i * 8L;
 
-        // Fase 2: Jerarquía y Transformaciones Globales (Escalar Topológico)
-        for (i = 0; i < capacity; i++) {
-            // Hard Limit Check
-            if ((i & 1023) == 0 && (System.nanoTime() - startTime) > hardLimitNs) {
-                break; // Hard Limit: Cortamos incluso el cálculo visual para salvar el framerate (Terminator)
-            }
+            double px = soa.localPosX.get(ValueLayout.JAVA_DOUBLE, offset64);
+            float vx = soa.velX.get(ValueLayout.JAVA_FLOAT, offset32);
+            soa.localPosX.set(ValueLayout.JAVA_DOUBLE, offset64, px + (vx * dt));
+            
+            double py = soa.localPosY.get(ValueLayout.JAVA_DOUBLE, offset64);
+            float vy = soa.velY.get(ValueLayout.JAVA_FLOAT, offset32);
+            soa.localPosY.set(ValueLayout.JAVA_DOUBLE, offset64, py + (vy * dt));
+            
+            double pz = soa.localPosZ.get(ValueLayout.JAVA_DOUBLE, offset64);
+            float vz = soa.velZ.get(ValueLayout.JAVA_FLOAT, offset32);
+            soa.localPosZ.set(ValueLayout.JAVA_DOUBLE, offset64, pz + (vz * dt));
+        }
+    }
 
+    /** Fase 2: Jerarquía y Transformaciones Globales (Escalar Topológico). */
+    private static void resolveGlobal(VolcanTransformSoA soa, long from, long to,
+                                      double camX, double camY, double camZ) {
+        for (long i = from; i < to; i++) {
             long offset32 = i * 4L;
             long offset64 = i * 8L;
             
-            // 1. Actualizar Física Local residual (sólo si no hubo corte prematuro del SIMD por Soft Limit)
-            if (i >= loopBound && simdCompleted) {
-                double px = soa.localPosX.get(ValueLayout.JAVA_DOUBLE, offset64);
-                float vx = soa.velX.get(ValueLayout.JAVA_FLOAT, offset32);
-                soa.localPosX.set(ValueLayout.JAVA_DOUBLE, offset64, px + (vx * dt));
-                
-                double py = soa.localPosY.get(ValueLayout.JAVA_DOUBLE, offset64);
-                float vy = soa.velY.get(ValueLayout.JAVA_FLOAT, offset32);
-                soa.localPosY.set(ValueLayout.JAVA_DOUBLE, offset64, py + (vy * dt));
-                
-                double pz = soa.localPosZ.get(ValueLayout.JAVA_DOUBLE, offset64);
-                float vz = soa.velZ.get(ValueLayout.JAVA_FLOAT, offset32);
-                soa.localPosZ.set(ValueLayout.JAVA_DOUBLE, offset64, pz + (vz * dt));
-            }
-            
-            // 2. Calcular Global Position resolviendo la jerarquía
+            // 1. Calcular Global Position resolviendo la jerarquía
             double localX = soa.localPosX.get(ValueLayout.JAVA_DOUBLE, offset64);
             double localY = soa.localPosY.get(ValueLayout.JAVA_DOUBLE, offset64);
             double localZ = soa.localPosZ.get(ValueLayout.JAVA_DOUBLE, offset64);
@@ -128,7 +170,7 @@ public final class VolcanKinematicsSystem {
                 globalZ += soa.globalPosZ.get(ValueLayout.JAVA_DOUBLE, pOff);
             }
             
-            // 3. Escribir Global y Camera-Relative Visual
+            // 2. Escribir Global y Camera-Relative Visual
             soa.globalPosX.set(ValueLayout.JAVA_DOUBLE, offset64, globalX);
             soa.globalPosY.set(ValueLayout.JAVA_DOUBLE, offset64, globalY);
             soa.globalPosZ.set(ValueLayout.JAVA_DOUBLE, offset64, globalZ);
@@ -138,4 +180,53 @@ public final class VolcanKinematicsSystem {
             soa.posZ.set(ValueLayout.JAVA_FLOAT, offset32, (float)(globalZ - camZ));
         }
     }
+
+    /**
+     * Publica posiciones interpoladas entre el paso anterior y el actual (paso fijo).
+     * 
+     * <p>posX/Y/Z = lerp(prevGlobal, global, alpha) - cámara. La simulación puede correr a 60 Hz
+     * mientras se publica a la tasa del monitor sin saltos visibles. Requiere
+     * {@link VolcanTransformSoA#enableInterpolation()}.
+     * 
+     * // [ZERO_GC_GUARANTEED]
+     * 
+     * @param alpha Fracción del paso acumulada, en [0, 1) (TimeKeeper.getInterpolationAlpha()).
+     */
+    public static void interpolate(VolcanTransformSoA soa, float alpha, double camX, double camY, double camZ) {
+        int capacity = soa.getCapacity();
+        long loopBound = D_SPECIES.loopBound(capacity);
+        long i = 0;
+        for (; i < loopBound; i += D_SPECIES.length()) {
+            long offset64 = i * 8L;
+            long offset32 = i * 4L;
+            lerpLane(soa.prevGlobalPosX(), soa.globalPosX, soa.posX, offset64, offset32, alpha, camX);
+            lerpLane(soa.prevGlobalPosY(), soa.globalPosY, soa.posY, offset64, offset32, alpha, camY);
+            lerpLane(soa.prevGlobalPosZ(), soa.globalPosZ, soa.posZ, offset64, offset32, alpha, camZ);
+        }
+        for (; i < capacity; i++) {
+            long offset64 = i * 8L;
+            long offset32 = i * 4L;
+            soa.posX.set(ValueLayout.JAVA_FLOAT, offset32, lerp(soa.prevGlobalPosX(), soa.globalPosX, offset64, alpha, camX));
+            soa.posY.set(ValueLayout.JAVA_FLOAT, offset32, lerp(soa.prevGlobalPosY(), soa.globalPosY, offset64, alpha, camY));
+            soa.posZ.set(ValueLayout.JAVA_FLOAT, offset32, lerp(soa.prevGlobalPosZ(), soa.globalPosZ, offset64, alpha, camZ));
+        }
+    }
+
+    private static void lerpLane(MemorySegment prev, MemorySegment cur,
+                                 MemorySegment out, long offset64, long offset32,
+                                 float alpha, double cam) {
+        DoubleVector p = DoubleVector.fromMemorySegment(D_SPECIES, prev, offset64, BO);
+        DoubleVector c = DoubleVector.fromMemorySegment(D_SPECIES, cur, offset64, BO);
+        // Resta de cámara en 64-bits antes de bajar a 32-bits (Camera-Relative)
+        DoubleVector blended = c.sub(p).mul(alpha).add(p).sub(cam);
+        FloatVector visual = (FloatVector) blended.convertShape(VectorOperators.D2F, F_SPECIES, 0);
+        visual.intoMemorySegment(out, offset32, BO);
+    }
+
+    private static float lerp(MemorySegment prev, MemorySegment cur,
+                              long offset64, float alpha, double cam) {
+        double p = prev.get(ValueLayout.JAVA_DOUBLE, offset64);
+        double c = cur.get(ValueLayout.JAVA_DOUBLE, offset64);
+        return (float) ((c - p) * alpha + p - cam);
+    }
 }
@@ -7,8 +7,12 @@ package sv.volcan.scene;
 import java.lang.foreign.Arena;
 import java.lang.foreign.MemorySegment;
 import java.lang.foreign.ValueLayout;
+import sv.volcan.config.VolcanEngineConfig;
 import sv.volcan.core.VolcanLogger;
 import sv.volcan.core.AAACertified;
+import sv.volcan.kernel.WorkCursor;
+import sv.volcan.memory.DirtyRegionTracker;
+import sv.volcan.memory.HugePageArena;
 
 /**
  * Data-Oriented Technology Stack: Transform Structure of Arrays (SoA).
@@ -45,13 +49,28 @@ public final class VolcanTransformSoA {
     // Jerarquía de Escena (Scene Graph) - Índices Físicos (32-bits)
     public final MemorySegment parentIdx;
 
+    // Snapshot del paso de simulación anterior (solo con paso fijo: se reserva en enableInterpolation)
+    private MemorySegment prevGlobalPosX;
+    private MemorySegment prevGlobalPosY;
+    private MemorySegment prevGlobalPosZ;
+
+    // Entidades escritas desde la última captura (null sin volcan.memory.dirty.tracking).
+    // Una región = granularidad / 8 entidades: una línea de caché en las columnas de 64 bits.
+    // Quien escribe las columnas directamente debe marcar con markEntity / markEntities;
+    // posX/Y/Z de interpolate() son una proyección de render de globalPos y no se rastrean.
+    private final DirtyRegionTracker dirty;
+
+    // Posición de la cinemática entre frames (trabajo diferido por el FrameBudget)
+    private final WorkCursor kinematicsCursor =
+            new WorkCursor("Kinematics", VolcanEngineConfig.KERNEL_SYSTEM_SLICE_MS * 1_000_000L);
+
     /**
      * Aloja la memoria nativa requerida para la capacidad máxima de entidades.
      * @param capacity Número máximo de entidades (ej. 1,000,000)
      */
     public VolcanTransformSoA(int capacity) {
         this.capacity = capacity;
-        this.arena = Arena.ofShared();
+        this.arena = HugePageArena.ofShared(); // Columnas de varios MB sobre huge pages
         
         long bytesRequired32 = capacity * 4L; // 4 bytes por float
         long bytesRequired64 = capacity * 8L; // 8 bytes por double
@@ -78,6 +97,10 @@ public final class VolcanTransformSoA {
         
         // Inicializar jerarquía con -1 (Sin padre) usando relleno de bytes rápido (0xFFFFFFFF = -1 en int de 32-bits)
         parentIdx.fill((byte) 0xFF);
+
+        this.dirty = DirtyRegionTracker.ENABLED
+                ? new DirtyRegionTracker(capacity, Math.max(1, VolcanEngineConfig.MEMORY_DIRTY_GRANULARITY / Double.BYTES))
+                : null;
         
         VolcanLogger.info("ECS", "SoA Allocator: " + capacity + " entities (" + ((bytesRequired32 * 9 + bytesRequired64 * 3) / 1024 / 1024) + " MB Off-Heap 3D LWC)");
     }
@@ -85,6 +108,71 @@ public final class VolcanTransformSoA {
     public int getCapacity() {
         return capacity;
     }
+
+    /**
+     * Cursor de la cinemática: reanuda en el frame siguiente las entidades que no cupieron en el
+     * presupuesto. El kernel lo registra en su FrameBudget.
+     */
+    public WorkCursor getKinematicsCursor() {
+        return kinematicsCursor;
+    }
+
+    /**
+     * Marca una entidad como modificada (barrera de escritura de las columnas públicas).
+     * // [THREAD_SAFE] [ZERO_GC_GUARANTEED]
+     */
+    public void markEntity(long entityId) {
+        if (DirtyRegionTracker.ENABLED) dirty.mark(entityId);
+    }
+
+    /**
+     * Marca el rango de entidades [from, to) como modificado.
+     * // [THREAD_SAFE] [ZERO_GC_GUARANTEED]
+     */
+    public void markEntities(long from, long to) {
+        if (DirtyRegionTracker.ENABLED) dirty.markRange(from, to - from);
+    }
+
+    /**
+     * Entidades modificadas desde la última pasada del consumidor (offsets = índices de entidad).
+     * @return El tracker, o null si volcan.memory.dirty.tracking está desactivado.
+     */
+    public DirtyRegionTracker getDirtyTracker() {
+        return dirty;
+    }
+
+    /**
+     * Reserva el snapshot del paso anterior (3 x 8 bytes por entidad) y lo iguala al estado actual.
+     * Lo llama el kernel al activar el paso fijo; sin él la SoA no paga la memoria extra.
+     */
+    public void enableInterpolation() {
+        if (prevGlobalPosX != null) return;
+        long bytesRequired64 = capacity * 8L;
+        prevGlobalPosX = arena.allocate(bytesRequired64, 64);
+        prevGlobalPosY = arena.allocate(bytesRequired64, 64);
+        prevGlobalPosZ = arena.allocate(bytesRequired64, 64);
+        capturePrevious();
+    }
+
+    public boolean isInterpolationEnabled() {
+        return prevGlobalPosX != null;
+    }
+
+    /**
+     * Copia las posiciones globales al snapshot anterior: se llama antes de cada paso de simulación.
+     * // [ZERO_GC_GUARANTEED] (memcpy nativo)
+     */
+    public void capturePrevious() {
+        MemorySegment.copy(globalPosX, 0, prevGlobalPosX, 0, globalPosX.byteSize());
+        MemorySegment.copy(globalPosY, 0, prevGlobalPosY, 0, globalPosY.byteSize());
+        MemorySegment.copy(globalPosZ, 0, prevGlobalPosZ, 0, globalPosZ.byteSize());
+    }
+
+    public MemorySegment prevGlobalPosX() { return prevGlobalPosX; }
+
+    public MemorySegment prevGlobalPosY() { return prevGlobalPosY; }
+
+    public MemorySegment prevGlobalPosZ() { return prevGlobalPosZ; }
     
     /**
      * Inserta datos escalares para una entidad (Útil para inicialización).
@@ -101,6 +189,12 @@ public final class VolcanTransformSoA {
         globalPosX.set(ValueLayout.JAVA_DOUBLE, offset64, globalPx);
         globalPosY.set(ValueLayout.JAVA_DOUBLE, offset64, globalPy);
         globalPosZ.set(ValueLayout.JAVA_DOUBLE, offset64, globalPz);
+
+        if (prevGlobalPosX != null) { // Una entidad nueva no se interpola desde el origen
+            prevGlobalPosX.set(ValueLayout.JAVA_DOUBLE, offset64, globalPx);
+            prevGlobalPosY.set(ValueLayout.JAVA_DOUBLE, offset64, globalPy);
+            prevGlobalPosZ.set(ValueLayout.JAVA_DOUBLE, offset64, globalPz);
+        }
         
         // Setear estado visual inicial (A la espera del primer Camera Relative Rendering)
         posX.set(ValueLayout.JAVA_FLOAT, offset32, (float) globalPx);
@@ -112,6 +206,7 @@ public final class VolcanTransformSoA {
         velZ.set(ValueLayout.JAVA_FLOAT, offset32, vz);
         
         parentIdx.set(ValueLayout.JAVA_INT, offset32, -1);
+        markEntity(entityId);
     }
     
     /**
@@ -151,6 +246,12 @@ public final class VolcanTransformSoA {
         globalPosZ.set(ValueLayout.JAVA_DOUBLE, offA64, globalPosZ.get(ValueLayout.JAVA_DOUBLE, offB64));
         globalPosZ.set(ValueLayout.JAVA_DOUBLE, offB64, tempD);
 
+        if (prevGlobalPosX != null) {
+            swapDouble(prevGlobalPosX, offA64, offB64);
+            swapDouble(prevGlobalPosY, offA64, offB64);
+            swapDouble(prevGlobalPosZ, offA64, offB64);
+        }
+
         // Swap 32-bit (Floats)
         float tempF;
         tempF = posX.get(ValueLayout.JAVA_FLOAT, offA32);
@@ -182,6 +283,14 @@ public final class VolcanTransformSoA {
         tempI = parentIdx.get(ValueLayout.JAVA_INT, offA32);
         parentIdx.set(ValueLayout.JAVA_INT, offA32, parentIdx.get(ValueLayout.JAVA_INT, offB32));
         parentIdx.set(ValueLayout.JAVA_INT, offB32, tempI);
+        markEntity(idA);
+        markEntity(idB);
+    }
+    
+    private static void swapDouble(MemorySegment segment, long offA, long offB) {
+        double temp = segment.get(ValueLayout.JAVA_DOUBLE, offA);
+        segment.set(ValueLayout.JAVA_DOUBLE, offA, segment.get(ValueLayout.JAVA_DOUBLE, offB));
+        segment.set(ValueLayout.JAVA_DOUBLE, offB, temp);
     }
     
     public void destroy() {
@@ -0,0 +1,189 @@
+// Reading Order: 11000111
+//  199
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.state;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.AAACertified;
+import sv.volcan.core.VolcanLogger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * RESPONSIBILITY: Debug-only detection of non-commutative writes between systems.
+ * WHY: Two systems that the dependency graph leaves unordered may run in either order under the
+ * DAG. If they write the same bytes, the frame result depends on the interleaving and lockstep
+ * peers drift apart. A range of a PartitionedSystem that writes outside its own entities has the
+ * same problem.
+ * TECHNIQUE: The executor tags each thread with the writer it is running (system index, range
+ * index). WorldStateFrame writes, and any SoA write reported through recordWrite(), log a byte
+ * interval under that tag. At the end of the frame the intervals are sorted per region and swept.
+ * Two overlapping intervals conflict when they come from unordered systems, or from different
+ * ranges of the same system.
+ * GUARANTEES: Compiled out when volcan.kernel.access.tracking is false (ENABLED is a static
+ * final, so the write hooks fold away). When enabled it allocates per write: debug builds only.
+ * Each conflicting pair is logged once.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 0,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = false,
+    offHeap       = false,
+    notes         = "Debug write-set tracker for deterministic parallel execution."
+)
+public final class StateAccessTracker {
+
+    public static final boolean ENABLED = VolcanEngineConfig.KERNEL_ACCESS_TRACKING;
+
+    /** Region of the WorldStateFrame writes (offsets are byte offsets into the frame). */
+    public static final int REGION_STATE = 0;
+
+    private static final List<String> REGION_NAMES = new ArrayList<>(List.of("WorldState"));
+
+    /** Writer running on the current thread. */
+    private static final class Writer {
+        StateAccessTracker tracker;
+        int system = -1;
+        int range = -1;
+    }
+
+    private static final ThreadLocal<Writer> CURRENT = ThreadLocal.withInitial(Writer::new);
+
+    private static final class Write {
+        final int region;
+        final long from;
+        final long to;
+        final int system;
+        final int range;
+
+        Write(int region, long from, long to, int system, int range) {
+            this.region = region;
+            this.from = from;
+            this.to = to;
+            this.system = system;
+            this.range = range;
+        }
+    }
+
+    private static final Comparator<Write> BY_REGION_THEN_OFFSET =
+            Comparator.<Write>comparingInt(w -> w.region).thenComparingLong(w -> w.from);
+
+    private final ConcurrentLinkedQueue<Write> writes = new ConcurrentLinkedQueue<>();
+    private final Set<String> reported = new HashSet<>();
+    private final List<String> conflicts = new ArrayList<>();
+    private long totalConflicts;
+
+    /**
+     * Id of a named write region (an SoA column, a sector buffer). Same name, same id.
+     * Boot-time only.
+     */
+    public static synchronized int region(String name) {
+        int id = REGION_NAMES.indexOf(name);
+        if (id >= 0) return id;
+        REGION_NAMES.add(name);
+        return REGION_NAMES.size() - 1;
+    }
+
+    /** Tags the current thread: writes until exit() belong to (system, range). range -1 = whole system. */
+    public static void enter(StateAccessTracker tracker, int system, int range) {
+        Writer writer = CURRENT.get();
+        writer.tracker = tracker;
+        writer.system = system;
+        writer.range = range;
+    }
+
+    public static void exit() {
+        CURRENT.get().tracker = null;
+    }
+
+    /**
+     * Records a write of {@code bytes} bytes at {@code offset} in {@code region}.
+     * Ignored outside enter()/exit() (kernel phases, boot).
+     */
+    public static void recordWrite(int region, long offset, long bytes) {
+        Writer writer = CURRENT.get();
+        StateAccessTracker tracker = writer.tracker;
+        if (tracker != null) {
+            tracker.writes.add(new Write(region, offset, offset + bytes, writer.system, writer.range));
+        }
+    }
+
+    /** Drops the writes of the previous frame. */
+    public void beginFrame() {
+        writes.clear();
+        conflicts.clear();
+    }
+
+    /**
+     * Sweeps the writes of this frame.
+     *
+     * @param systemNames Names by system index (for the report).
+     * @param ordered     ordered[a][b] is true if a dependency path links a and b.
+     * @return Conflicting writer pairs found this frame.
+     */
+    public int endFrame(String[] systemNames, boolean[][] ordered) {
+        Write[] sorted = writes.toArray(new Write[0]);
+        Arrays.sort(sorted, BY_REGION_THEN_OFFSET);
+
+        Set<String> pairs = new HashSet<>();
+        List<Write> active = new ArrayList<>();
+        int region = -1;
+        for (Write w : sorted) {
+            if (w.region != region) {
+                active.clear();
+                region = w.region;
+            }
+            active.removeIf(a -> a.to <= w.from);
+            for (Write a : active) {
+                if (conflicting(a, w, ordered)) {
+                    Write first = a.system < w.system || (a.system == w.system && a.range < w.range) ? a : w;
+                    Write second = first == a ? w : a;
+                    String pair = REGION_NAMES.get(region) + ": " + describe(first, systemNames)
+                            + " <> " + describe(second, systemNames);
+                    if (pairs.add(pair)) {
+                        conflicts.add(pair + " @" + Math.max(a.from, w.from));
+                        if (reported.add(pair)) {
+                            VolcanLogger.warning("ACCESS", "Non-commutative write: " + pair);
+                        }
+                    }
+                }
+            }
+            active.add(w);
+        }
+        totalConflicts += pairs.size();
+        return pairs.size();
+    }
+
+    private static boolean conflicting(Write a, Write b, boolean[][] ordered) {
+        if (a.system == b.system) {
+            return a.range != b.range && a.range >= 0 && b.range >= 0;
+        }
+        return !ordered[a.system][b.system];
+    }
+
+    private static String describe(Write w, String[] systemNames) {
+        String name = w.system < systemNames.length ? systemNames[w.system] : "#" + w.system;
+        return w.range >= 0 ? name + "[range " + w.range + "]" : name;
+    }
+
+    /** Conflicts of the last analysed frame ("region: writerA <> writerB @offset"). */
+    public List<String> getConflicts() {
+        return conflicts;
+    }
+
+    public long getTotalConflicts() {
+        return totalConflicts;
+    }
+}
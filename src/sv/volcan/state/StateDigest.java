@@ -0,0 +1,203 @@
+// Reading Order: 11010100
+//  212
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.state;
+
+import sv.volcan.core.AAACertified;
+import sv.volcan.memory.DirtyRegionTracker;
+
+import java.lang.foreign.MemorySegment;
+import java.util.Arrays;
+
+/**
+ * RESPONSIBILITY: One 64-bit hash per frame over the state vault, the world state and the SoA
+ * columns, for desync detection between lockstep peers.
+ * WHY: Hashing megabytes every frame is affordable only if unchanged memory is not hashed again.
+ * TECHNIQUE: Every segment is cut into fixed regions; each region keeps its own
+ * WorldStateHasher.hashRegion() value. collectDirty() turns the DirtyRegionTrackers' marks into
+ * stale regions (call it before anything else clears the trackers); digest() rehashes only the
+ * stale regions and folds all region hashes, in registration order, into the frame hash.
+ * Segments without a tracker are rehashed every time.
+ * GUARANTEES: digest() == the digest of a fresh StateDigest over the same bytes, provided every
+ * write was marked or invalidate() was called after unmarked writes (e.g. a rollback restore).
+ * No allocation after setup. Kernel thread only.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 0,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = false,
+    offHeap       = true,
+    notes         = "Incremental per-region frame hash (SIMD region hashes, dirty-region reuse)."
+)
+public final class StateDigest {
+
+    /** Region size when the caller does not choose: big enough to stream, small enough to skip. */
+    public static final int DEFAULT_REGION_BYTES = 16 * 1024;
+
+    private final int regionBytes;
+
+    private MemorySegment[] segments = new MemorySegment[0];
+    private DirtyRegionTracker[] trackers = new DirtyRegionTracker[0];
+    private int[] unitShift = new int[0];      // Tracker offset = byte offset >> unitShift
+    private boolean[] clearTracker = new boolean[0];
+    private int[] firstRegion = new int[0];
+
+    private long[] regionHash = new long[0];
+    private long[] stale = new long[0];        // Bit per region
+    private int regionCount;
+
+    private long lastDigest;
+    private long lastHashedBytes;
+
+    public StateDigest() {
+        this(DEFAULT_REGION_BYTES);
+    }
+
+    /** @param regionBytes Bytes per region, power of two >= 64. */
+    public StateDigest(int regionBytes) {
+        if (regionBytes < 64 || Integer.bitCount(regionBytes) != 1) {
+            throw new IllegalArgumentException("regionBytes must be a power of two >= 64: " + regionBytes);
+        }
+        this.regionBytes = regionBytes;
+    }
+
+    // -------------------------------------------------------------------------
+    // SETUP
+    // -------------------------------------------------------------------------
+
+    /** Adds a segment rehashed on every digest. */
+    public int add(MemorySegment segment) {
+        return add(segment, null, 0, false);
+    }
+
+    /**
+     * Adds a segment to the frame hash (after the ones already added).
+     *
+     * @param tracker      Barrier of the segment, or null (rehash always).
+     * @param unitShift    log2 of the bytes per tracker unit: 0 for byte trackers, 3 for a
+     *                     double column tracked per entity.
+     * @param clearTracker True if this digest is the tracker's only consumer: collectDirty()
+     *                     clears it. False if someone else does (e.g. the rollback capture).
+     * @return Index of the segment.
+     */
+    public int add(MemorySegment segment, DirtyRegionTracker tracker, int unitShift, boolean clearTracker) {
+        int index = segments.length;
+        int regions = (int) ((segment.byteSize() + regionBytes - 1) / regionBytes);
+        segments = Arrays.copyOf(segments, index + 1);
+        trackers = Arrays.copyOf(trackers, index + 1);
+        this.unitShift = Arrays.copyOf(this.unitShift, index + 1);
+        this.clearTracker = Arrays.copyOf(this.clearTracker, index + 1);
+        firstRegion = Arrays.copyOf(firstRegion, index + 1);
+        segments[index] = segment;
+        trackers[index] = tracker;
+        this.unitShift[index] = unitShift;
+        this.clearTracker[index] = clearTracker && tracker != null;
+        firstRegion[index] = regionCount;
+        regionCount += regions;
+        regionHash = Arrays.copyOf(regionHash, regionCount);
+        stale = Arrays.copyOf(stale, (regionCount + 63) >>> 6);
+        markStale(firstRegion[index], regionCount);
+        return index;
+    }
+
+    // -------------------------------------------------------------------------
+    // FRAME (Hot-Path)
+    // -------------------------------------------------------------------------
+
+    /**
+     * Moves the trackers' marks into stale regions. Call every frame before the trackers are
+     * cleared, even on frames that are not digested.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED]
+     */
+    public void collectDirty() {
+        for (int i = 0; i < segments.length; i++) {
+            DirtyRegionTracker tracker = trackers[i];
+            if (tracker == null) continue;
+            int shift = regionShift(i);
+            for (long start = tracker.nextDirty(0); start >= 0; ) {
+                long end = tracker.nextClean(start);
+                markStale(firstRegion[i] + (int) (start >>> shift),
+                        firstRegion[i] + (int) ((end + (1L << shift) - 1) >>> shift));
+                start = tracker.nextDirty(end);
+            }
+        }
+        for (int i = 0; i < segments.length; i++) {
+            if (clearTracker[i]) trackers[i].clear(); // After every segment sharing it was read
+        }
+    }
+
+    /**
+     * Frame hash: rehashes the stale regions, folds every region hash.
+     * // [MAIN_THREAD_ONLY] [ZERO_GC_GUARANTEED] (once compiled)
+     */
+    public long digest() {
+        collectDirty();
+        long hashed = 0;
+        for (int i = 0; i < segments.length; i++) {
+            MemorySegment segment = segments[i];
+            boolean always = trackers[i] == null;
+            int first = firstRegion[i];
+            int last = i + 1 < segments.length ? firstRegion[i + 1] : regionCount;
+            for (int r = first; r < last; r++) {
+                if (always || (stale[r >>> 6] & (1L << r)) != 0) {
+                    long offset = (long) (r - first) * regionBytes;
+                    long length = Math.min(regionBytes, segment.byteSize() - offset);
+                    regionHash[r] = WorldStateHasher.hashRegion(WorldStateHasher.SEED, segment, offset, length);
+                    hashed += length;
+                }
+            }
+        }
+        Arrays.fill(stale, 0L);
+
+        long h = WorldStateHasher.SEED + regionCount;
+        for (int r = 0; r < regionCount; r++) {
+            h = WorldStateHasher.round(h, regionHash[r]);
+        }
+        lastDigest = WorldStateHasher.avalanche(h);
+        lastHashedBytes = hashed;
+        return lastDigest;
+    }
+
+    /** Every region stale: after writes no tracker saw (restores, bulk copies). */
+    public void invalidate() {
+        markStale(0, regionCount);
+    }
+
+    private int regionShift(int segment) {
+        return Integer.numberOfTrailingZeros(regionBytes) - unitShift[segment];
+    }
+
+    private void markStale(int from, int to) {
+        for (int r = from; r < to; r++) {
+            stale[r >>> 6] |= 1L << r;
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // QUERIES
+    // -------------------------------------------------------------------------
+
+    public long getLastDigest() { return lastDigest; }
+
+    /** Bytes the last digest() had to hash (the rest reused region hashes). */
+    public long getLastHashedBytes() { return lastHashedBytes; }
+
+    public int getRegionCount() { return regionCount; }
+
+    public long getRegionHash(int region) { return regionHash[region]; }
+
+    public int getRegionBytes() { return regionBytes; }
+
+    /** Bytes covered by the frame hash. */
+    public long getTotalBytes() {
+        long total = 0;
+        for (MemorySegment segment : segments) total += segment.byteSize();
+        return total;
+    }
+}
@@ -120,7 +120,7 @@ public final class VolcanEngineMaster {
         // sv.volcan.net.NetworkPacketSystem networkIngestion = new sv.volcan.net.NetworkPacketSystem(ringBuffer, kernel.getScene(), 12);
         // sv.volcan.net.NetworkReplicationSystem netReplication = new sv.volcan.net.NetworkReplicationSystem(kernel.getScene());
         // registry.registerGameSystem(networkIngestion);
-        // registry.registerGameSystem(netReplication);
+        // registry.registerGameSystem(netReplication); // 20 Hz via getRateHz()
 
         // [FASE 4] Activa el DAG Mode: dispatch elástico sin barreras de layer.
         // Cada sistema se despacha individualmente en cuanto sus dependencias atómicas
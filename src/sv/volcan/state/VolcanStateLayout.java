@@ -81,6 +81,12 @@ public final class VolcanStateLayout {
     public static final int INPUT_MOUSE_X = 1200; // Slot 300
     public static final int INPUT_MOUSE_Y = 1204; // Slot 301
     public static final int INPUT_LAST_SIGNAL = 1208; // Slot 302
+    // Fixed-step signal queue: one signal latched per step, so a frame that runs no step keeps its input.
+    // Read/write counters (never wrap in practice) and 16 entries, in the state so rollback restores it.
+    public static final int INPUT_QUEUE_HEAD = 1212; // Slot 303
+    public static final int INPUT_QUEUE_TAIL = 1216; // Slot 304
+    public static final int INPUT_QUEUE = 1220; // Slots 305-320
+    public static final int INPUT_QUEUE_CAPACITY = 16;
 
     // -------------------------------------------------------------------------
     // Slots mapped for legacy systems (PlayerSystem / CreditsLogic)
@@ -12,6 +12,7 @@ import java.lang.foreign.ValueLayout;
 
 // VolcanEngine — core
 import sv.volcan.core.AAACertified;
+import sv.volcan.memory.DirtyRegionTracker;
 
 /**
  * RESPONSIBILITY: Off-heap storage vault for long-term AI state persistence and critical telemetry.
@@ -34,6 +35,14 @@ import sv.volcan.core.AAACertified;
 public final class VolcanStateVault {
 
     private final MemorySegment storage;
+
+    // Regions written since the last history capture (null unless volcan.memory.dirty.tracking).
+    // Read and cleared by its consumer (EngineKernel: VolcanTimeControlUnit.capture)
+    private final DirtyRegionTracker dirty;
+
+    // Regions written since the last snapshotDirtyTo: a bitmap of its own, so the two consumers
+    // never clear each other's marks. Allocated by the first snapshotDirtyTo (null = unused)
+    private DirtyRegionTracker snapshotDirty;
     
     // Aligns allocations to 64-byte boundaries to prevent false sharing 
     // across CPU cache lines.
@@ -51,6 +60,7 @@ public final class VolcanStateVault {
         this.storage = arena.allocate(
                 ValueLayout.JAVA_INT.byteSize() * maxSlots,
                 ALIGNMENT);
+        this.dirty = DirtyRegionTracker.ENABLED ? DirtyRegionTracker.fromConfig(storage.byteSize()) : null;
     }
 
     /**
@@ -63,6 +73,7 @@ public final class VolcanStateVault {
      */
     public void write(int slotIndex, int value) {
         storage.setAtIndex(ValueLayout.JAVA_INT, (long) slotIndex, value);
+        if (DirtyRegionTracker.ENABLED) mark((long) slotIndex * ValueLayout.JAVA_INT.byteSize());
     }
 
     /**
@@ -126,6 +137,13 @@ public final class VolcanStateVault {
         // Translate the integer slot index to a byte offset
         long byteOffset = (long) slotIndex * ValueLayout.JAVA_INT.byteSize();
         storage.set(ValueLayout.JAVA_LONG, byteOffset, value);
+        if (DirtyRegionTracker.ENABLED) mark(byteOffset);
+    }
+
+    private void mark(long byteOffset) {
+        dirty.mark(byteOffset);
+        DirtyRegionTracker snapshot = snapshotDirty;
+        if (snapshot != null) snapshot.mark(byteOffset);
     }
 
     /**
@@ -139,6 +157,53 @@ public final class VolcanStateVault {
         destination.copyFrom(storage);
     }
 
+    /**
+     * Incremental snapshot: brings a destination that holds the previous snapshot up to date by
+     * copying only the regions written since, then forgets them. The first call copies
+     * everything. The regions are tracked apart from {@link #getDirtyTracker()}, which this
+     * leaves untouched.
+     * 
+     * <p>Falls back to {@link #snapshotTo(MemorySegment)} when dirty tracking is disabled. Writes
+     * through {@link #getRawSegment()} bypass the barrier: call {@link #invalidateSnapshot()}
+     * after them.
+     * 
+     * @param destination Segment holding the previous snapshot.
+     * @return Bytes copied.
+     */
+    public long snapshotDirtyTo(MemorySegment destination) {
+        if (!DirtyRegionTracker.ENABLED) {
+            snapshotTo(destination);
+            return storage.byteSize();
+        }
+        DirtyRegionTracker snapshot = snapshotDirty;
+        if (snapshot == null) {
+            snapshot = DirtyRegionTracker.fromConfig(storage.byteSize());
+            snapshot.markAll(); // Nothing known about the destination yet
+            snapshotDirty = snapshot;
+        }
+        long copied = snapshot.copyDirty(storage, destination);
+        snapshot.clear();
+        return copied;
+    }
+
+    /**
+     * The storage was rewritten behind the barrier (restore, checkpoint load): the next
+     * {@link #snapshotDirtyTo(MemorySegment)} copies everything.
+     */
+    public void invalidateSnapshot() {
+        if (snapshotDirty != null) snapshotDirty.markAll();
+    }
+
+    /**
+     * Regions written since the last history capture; its consumer clears it. Writes through
+     * {@link #getRawSegment()} must be marked here by the writer.
+     * 
+     * @return The tracker, or null when volcan.memory.dirty.tracking is disabled.
+     */
+    public DirtyRegionTracker getDirtyTracker() {
+        return dirty;
+    }
+
     /**
      * Retrieves the raw underlying memory segment.
      * 
@@ -0,0 +1,381 @@
+// Reading Order: 11010110
+//  214
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.state;
+
+import sv.volcan.core.AAACertified;
+import sv.volcan.ecs.VolcanScene;
+import sv.volcan.memory.SectorMemoryVault;
+import sv.volcan.physics.VolcanColliderSoA;
+import sv.volcan.scene.VolcanTransformSoA;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * RESPONSIBILITY: Persistent world checkpoints: the off-heap state of a world (vault, world
+ * state, SoA columns, scene id maps, sector vault) in one versioned, memory-mapped image file.
+ * WHY: Crash recovery and server restarts must not rebuild a multi-GB world entity by entity;
+ * the state already lives in flat native segments, so the image is those segments back to back.
+ * TECHNIQUE: A checkpoint is a layout of named sections registered once. save() maps a temp
+ * file, copies every section to a page-aligned offset, fills the header (version, frame, one
+ * table entry per section: name, offset, length, hash), forces it to disk, writes the magic
+ * last and renames the file into place. restore() maps the file, checks it against the layout
+ * before touching the world, then bulk-copies every section back. {@link Image} exposes the
+ * sections of a file in place, read-only or copy-on-write (MapMode.PRIVATE).
+ * GUARANTEES: A crash during save() leaves the previous file intact (atomic rename); a file
+ * that does not match the layout, is truncated, or fails its hashes leaves the world untouched.
+ * Restore cost is one memcpy per section from the page cache. Cold path: not for the frame loop.
+ *
+ * <p>LAYOUT: header of {@value #HEADER_BYTES} bytes: magic (long), version (int), section
+ * count (int), file size (long), frame (long); then from byte 64 one 64-byte entry per section:
+ * name (40 bytes ASCII, zero-padded), offset (long), length (long), hash (long,
+ * WorldStateHasher.hashRegion). Sections start on {@value #SECTION_ALIGNMENT}-byte boundaries.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 0,
+    minThroughput = 0,
+    alignment     = 4096,
+    lockFree      = false,
+    offHeap       = true,
+    notes         = "Versioned memory-mapped world image (atomic save, validated bulk restore)."
+)
+public final class WorldCheckpoint {
+
+    /** "VOLCANCK". */
+    public static final long MAGIC = 0x564F4C43414E434BL;
+    /** Bumped whenever the header or a section encoding changes. */
+    public static final int FORMAT_VERSION = 1;
+    public static final int HEADER_BYTES = 4096;
+    public static final int SECTION_ALIGNMENT = 4096;
+
+    private static final int ENTRY_BYTES = 64;
+    private static final int NAME_BYTES = 40;
+    public static final int MAX_SECTIONS = HEADER_BYTES / ENTRY_BYTES - 1;
+
+    private static final long H_MAGIC = 0;
+    private static final long H_VERSION = 8;
+    private static final long H_COUNT = 12;
+    private static final long H_FILE_SIZE = 16;
+    private static final long H_FRAME = 24;
+    private static final long E_OFFSET = NAME_BYTES;
+    private static final long E_LENGTH = NAME_BYTES + 8;
+    private static final long E_HASH = NAME_BYTES + 16;
+
+    /**
+     * One block of the image. Off-heap state registers its segment; heap state (the scene id
+     * maps) encodes itself into the bytes it reports.
+     */
+    public interface Section {
+        long byteSize();
+
+        void saveTo(MemorySegment dst);
+
+        void loadFrom(MemorySegment src);
+    }
+
+    private String[] names = new String[0];
+    private Section[] sections = new Section[0];
+
+    // -------------------------------------------------------------------------
+    // LAYOUT
+    // -------------------------------------------------------------------------
+
+    /** Adds a native segment, saved and restored as raw bytes. */
+    public WorldCheckpoint add(String name, MemorySegment segment) {
+        return add(name, new SegmentSection(segment));
+    }
+
+    /**
+     * Adds a section after the ones already added.
+     *
+     * @throws IllegalArgumentException if the name is not 1..40 ASCII characters, is already
+     *                                  used, or the header is full.
+     */
+    public WorldCheckpoint add(String name, Section section) {
+        if (name.isEmpty() || name.length() > NAME_BYTES || !StandardCharsets.US_ASCII.newEncoder().canEncode(name)) {
+            throw new IllegalArgumentException("Section name must be 1.." + NAME_BYTES + " ASCII chars: " + name);
+        }
+        if (indexOf(names, name) >= 0) {
+            throw new IllegalArgumentException("Duplicate section: " + name);
+        }
+        if (names.length == MAX_SECTIONS) {
+            throw new IllegalArgumentException("More than " + MAX_SECTIONS + " sections");
+        }
+        names = Arrays.copyOf(names, names.length + 1);
+        sections = Arrays.copyOf(sections, sections.length + 1);
+        names[names.length - 1] = name;
+        sections[sections.length - 1] = section;
+        return this;
+    }
+
+    public WorldCheckpoint addVault(String name, VolcanStateVault vault) {
+        return add(name, vault.getRawSegment());
+    }
+
+    public WorldCheckpoint addSectors(String name, SectorMemoryVault vault) {
+        return add(name, vault.getSegment());
+    }
+
+    /** Every public column of the SoA, as "prefix.column". */
+    public WorldCheckpoint addTransforms(String prefix, VolcanTransformSoA soa) {
+        return add(prefix + ".posX", soa.posX).add(prefix + ".posY", soa.posY).add(prefix + ".posZ", soa.posZ)
+                .add(prefix + ".velX", soa.velX).add(prefix + ".velY", soa.velY).add(prefix + ".velZ", soa.velZ)
+                .add(prefix + ".localPosX", soa.localPosX).add(prefix + ".localPosY", soa.localPosY)
+                .add(prefix + ".localPosZ", soa.localPosZ)
+                .add(prefix + ".globalPosX", soa.globalPosX).add(prefix + ".globalPosY", soa.globalPosY)
+                .add(prefix + ".globalPosZ", soa.globalPosZ)
+                .add(prefix + ".parentIdx", soa.parentIdx);
+    }
+
+    public WorldCheckpoint addColliders(String prefix, VolcanColliderSoA colliders) {
+        return add(prefix + ".radius", colliders.radius).add(prefix + ".mass", colliders.mass)
+                .add(prefix + ".restitution", colliders.restitution).add(prefix + ".shapeType", colliders.shapeType);
+    }
+
+    /** The scene's id maps and hierarchy ("prefix.ids") plus its transform columns. */
+    public WorldCheckpoint addScene(String prefix, VolcanScene scene) {
+        add(prefix + ".ids", new Section() {
+            @Override public long byteSize() { return scene.getIdMapBytes(); }
+            @Override public void saveTo(MemorySegment dst) { scene.exportIdMaps(dst); }
+            @Override public void loadFrom(MemorySegment src) { scene.importIdMaps(src); }
+        });
+        return addTransforms(prefix, scene.getSoA());
+    }
+
+    public int getSectionCount() {
+        return sections.length;
+    }
+
+    /** Size of the image file for the current layout. */
+    public long getImageBytes() {
+        long offset = HEADER_BYTES;
+        for (Section section : sections) offset = align(offset + section.byteSize());
+        return offset;
+    }
+
+    // -------------------------------------------------------------------------
+    // SAVE / RESTORE
+    // -------------------------------------------------------------------------
+
+    /**
+     * Writes the image to {@code path}, replacing it atomically.
+     * Call between frames: the sections must not change during the copy.
+     *
+     * @param frame Tag stored in the header (e.g. the history frame), returned by restore().
+     * @return Bytes written.
+     */
+    public long save(Path path, long frame) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        long size = getImageBytes();
+        try (Arena arena = Arena.ofConfined();
+             FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                     StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MemorySegment image = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, arena);
+            long offset = HEADER_BYTES;
+            for (int i = 0; i < sections.length; i++) {
+                long length = sections[i].byteSize();
+                MemorySegment slice = image.asSlice(offset, length);
+                sections[i].saveTo(slice);
+                long entry = ENTRY_BYTES * (i + 1L);
+                byte[] name = names[i].getBytes(StandardCharsets.US_ASCII);
+                MemorySegment.copy(name, 0, image, ValueLayout.JAVA_BYTE, entry, name.length);
+                image.set(ValueLayout.JAVA_LONG, entry + E_OFFSET, offset);
+                image.set(ValueLayout.JAVA_LONG, entry + E_LENGTH, length);
+                image.set(ValueLayout.JAVA_LONG, entry + E_HASH, WorldStateHasher.hashRegion(slice));
+                offset = align(offset + length);
+            }
+            image.set(ValueLayout.JAVA_INT, H_VERSION, FORMAT_VERSION);
+            image.set(ValueLayout.JAVA_INT, H_COUNT, sections.length);
+            image.set(ValueLayout.JAVA_LONG, H_FILE_SIZE, size);
+            image.set(ValueLayout.JAVA_LONG, H_FRAME, frame);
+            image.force();
+            image.set(ValueLayout.JAVA_LONG, H_MAGIC, MAGIC); // Last: a torn file has no magic
+            image.force();
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return size;
+    }
+
+    /**
+     * Copies the image at {@code path} back into the registered sections. Writes bypass the
+     * dirty-region barriers: the caller marks or invalidates whatever consumes them.
+     *
+     * @param verify Check every section hash first (one extra pass over the image).
+     * @return The frame tag the image was saved with.
+     * @throws IOException if the file is not a complete image of this layout (world untouched).
+     */
+    public long restore(Path path, boolean verify) throws IOException {
+        try (Image image = Image.open(path, false)) {
+            MemorySegment[] sources = new MemorySegment[sections.length];
+            for (int i = 0; i < sections.length; i++) {
+                MemorySegment source = image.section(names[i]);
+                if (source == null) {
+                    throw new IOException("Checkpoint " + path + " has no section '" + names[i] + "'");
+                }
+                if (source.byteSize() != sections[i].byteSize()) {
+                    throw new IOException("Checkpoint section '" + names[i] + "' is " + source.byteSize()
+                            + " bytes, this world has " + sections[i].byteSize());
+                }
+                sources[i] = source;
+            }
+            if (verify && !image.verify()) {
+                throw new IOException("Checkpoint " + path + " is corrupted (section hash mismatch)");
+            }
+            for (int i = 0; i < sections.length; i++) {
+                sections[i].loadFrom(sources[i]);
+            }
+            return image.getFrame();
+        }
+    }
+
+    private static long align(long offset) {
+        return (offset + SECTION_ALIGNMENT - 1) & -SECTION_ALIGNMENT;
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) return i;
+        }
+        return -1;
+    }
+
+    private record SegmentSection(MemorySegment segment) implements Section {
+        @Override public long byteSize() { return segment.byteSize(); }
+        @Override public void saveTo(MemorySegment dst) { dst.copyFrom(segment); }
+        @Override public void loadFrom(MemorySegment src) { segment.copyFrom(src); }
+    }
+
+    // -------------------------------------------------------------------------
+    // IMAGE (In-place access)
+    // -------------------------------------------------------------------------
+
+    /**
+     * A checkpoint file mapped in memory. Sections are slices of the mapping: read-only, or
+     * copy-on-write when opened with {@code copyOnWrite} (stores stay in this process, the file
+     * never changes). Pages are read from disk on first touch, so opening is O(header).
+     * Valid until close().
+     */
+    public static final class Image implements AutoCloseable {
+
+        private final Arena arena;
+        private final MemorySegment image;
+        private final String[] names;
+        private final long frame;
+
+        private Image(Arena arena, MemorySegment image, String[] names, long frame) {
+            this.arena = arena;
+            this.image = image;
+            this.names = names;
+            this.frame = frame;
+        }
+
+        /**
+         * Maps and validates a checkpoint file.
+         *
+         * @throws IOException if the file is not a complete image of a supported version.
+         */
+        public static Image open(Path path, boolean copyOnWrite) throws IOException {
+            Arena arena = Arena.ofShared();
+            try (FileChannel channel = copyOnWrite
+                    ? FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                    : FileChannel.open(path, StandardOpenOption.READ)) {
+                long size = channel.size();
+                if (size < HEADER_BYTES) {
+                    throw new IOException("Checkpoint " + path + " is truncated (" + size + " bytes)");
+                }
+                MemorySegment image = channel.map(copyOnWrite ? FileChannel.MapMode.PRIVATE : FileChannel.MapMode.READ_ONLY,
+                        0, size, arena);
+                if (image.get(ValueLayout.JAVA_LONG, H_MAGIC) != MAGIC) {
+                    throw new IOException("Not a checkpoint, or an incomplete one: " + path);
+                }
+                int version = image.get(ValueLayout.JAVA_INT, H_VERSION);
+                if (version != FORMAT_VERSION) {
+                    throw new IOException("Checkpoint version " + version + ", this engine reads " + FORMAT_VERSION);
+                }
+                int count = image.get(ValueLayout.JAVA_INT, H_COUNT);
+                if (count < 0 || count > MAX_SECTIONS || image.get(ValueLayout.JAVA_LONG, H_FILE_SIZE) != size) {
+                    throw new IOException("Checkpoint " + path + " has a corrupted header");
+                }
+                String[] names = new String[count];
+                for (int i = 0; i < count; i++) {
+                    long entry = ENTRY_BYTES * (i + 1L);
+                    long offset = image.get(ValueLayout.JAVA_LONG, entry + E_OFFSET);
+                    long length = image.get(ValueLayout.JAVA_LONG, entry + E_LENGTH);
+                    if (offset < HEADER_BYTES || length < 0 || offset > size - length) {
+                        throw new IOException("Checkpoint section " + i + " lies outside " + path);
+                    }
+                    byte[] name = image.asSlice(entry, NAME_BYTES).toArray(ValueLayout.JAVA_BYTE);
+                    int end = 0;
+                    while (end < NAME_BYTES && name[end] != 0) end++;
+                    names[i] = new String(name, 0, end, StandardCharsets.US_ASCII);
+                }
+                return new Image(arena, image, names, image.get(ValueLayout.JAVA_LONG, H_FRAME));
+            } catch (IOException | RuntimeException e) {
+                arena.close();
+                throw e;
+            }
+        }
+
+        public long getFrame() {
+            return frame;
+        }
+
+        public int getSectionCount() {
+            return names.length;
+        }
+
+        public String getSectionName(int index) {
+            return names[index];
+        }
+
+        public MemorySegment section(int index) {
+            long entry = ENTRY_BYTES * (index + 1L);
+            return image.asSlice(image.get(ValueLayout.JAVA_LONG, entry + E_OFFSET),
+                    image.get(ValueLayout.JAVA_LONG, entry + E_LENGTH));
+        }
+
+        /** The section named {@code name}, or null. */
+        public MemorySegment section(String name) {
+            int index = indexOf(names, name);
+            return index < 0 ? null : section(index);
+        }
+
+        /** Hash stored for the section when it was saved. */
+        public long getSectionHash(int index) {
+            return image.get(ValueLayout.JAVA_LONG, ENTRY_BYTES * (index + 1L) + E_HASH);
+        }
+
+        /** True if every section still hashes to its saved value (reads the whole image). */
+        public boolean verify() {
+            for (int i = 0; i < names.length; i++) {
+                if (WorldStateHasher.hashRegion(section(i)) != getSectionHash(i)) return false;
+            }
+            return true;
+        }
+
+        public long getByteSize() {
+            return image.byteSize();
+        }
+
+        /** Unmaps the file; sections handed out become inaccessible. */
+        @Override
+        public void close() {
+            arena.close();
+        }
+    }
+}
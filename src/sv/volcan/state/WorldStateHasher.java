@@ -0,0 +1,299 @@
+// Reading Order: 11001000
+//  200
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.state;
+
+import sv.volcan.core.AAACertified;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+
+/**
+ * RESPONSIBILITY: 64-bit fingerprint of off-heap state for bit-exact run comparison.
+ * WHY: Two lockstep peers, or a replay and its recording, agree only if every byte agrees.
+ * Comparing one long per frame finds the first diverging frame without shipping the state.
+ * TECHNIQUE: hash(): xxHash64-style round per 8-byte word (multiply, rotate, multiply), a scalar
+ * tail for the last bytes and the final avalanche. Segments chain through the seed, so a frame
+ * hash can cover the state vault and any number of SoA columns. The serial chain caps it near
+ * one word per multiply latency.
+ * hashRegion(): xxHash3-style, for per-frame desync checks. Eight independent 64-bit lanes
+ * consume a 64-byte stripe: lane += swapped neighbour word + lo32(word ^ key) * hi32(word ^ key);
+ * the lanes are scrambled every 1 KB and merged with 128-bit multiplies. With 512-bit vectors
+ * (jdk.incubator.vector) a stripe is one load, XOR, multiply and shuffle, two stripes in flight;
+ * with 256-bit vectors, two of each.
+ * GUARANTEES: Deterministic for the same bytes on any platform (little-endian words are read
+ * explicitly): the SIMD and scalar paths of hashRegion() return the same value. Zero
+ * allocations once compiled (the Vector API boxes in the interpreter).
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date          = "2026-10-19",
+    maxLatencyNs  = 0,
+    minThroughput = 0,
+    alignment     = 0,
+    lockFree      = true,
+    offHeap       = true,
+    notes         = "64-bit state hashes: serial xxHash64 rounds and SIMD xxHash3-style stripes."
+)
+public final class WorldStateHasher {
+
+    public static final long SEED = 0x9E3779B97F4A7C15L;
+
+    static final long PRIME_1 = 0x9E3779B185EBCA87L;
+    static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    static final long PRIME_3 = 0x165667B19E3779F9L;
+
+    private static final ValueLayout.OfLong WORD = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private WorldStateHasher() {
+    }
+
+    /** Hash of the whole segment. */
+    public static long hash(MemorySegment segment) {
+        return hash(SEED, segment);
+    }
+
+    /**
+     * Continues {@code seed} over the segment (chain several segments into one frame hash).
+     * // [ZERO_GC_GUARANTEED]
+     */
+    public static long hash(long seed, MemorySegment segment) {
+        long size = segment.byteSize();
+        long h = seed + PRIME_3 + size;
+        long words = size >>> 3;
+        for (long i = 0; i < words; i++) {
+            h = round(h, segment.get(WORD, i << 3));
+        }
+        for (long i = words << 3; i < size; i++) {
+            h = round(h, segment.get(ValueLayout.JAVA_BYTE, i) & 0xFFL);
+        }
+        return avalanche(h);
+    }
+
+    // -------------------------------------------------------------------------
+    // STRIPED HASH (xxHash3-style, SIMD)
+    // -------------------------------------------------------------------------
+
+    private static final int LANES = 8;                    // 64-bit accumulators: one 64-byte stripe
+    private static final int STRIPE = LANES * Long.BYTES;
+    private static final int STRIPES_PER_BLOCK = 16;       // Scramble every 1 KB
+    private static final int LAST_STRIPE_KEY = STRIPES_PER_BLOCK;
+    private static final long PRIME32_1 = 0x9E3779B1L;
+    private static final long LOW_32 = 0xFFFFFFFFL;
+
+    // Keys: stripe k of a block uses KEY[k .. k + 8); fixed SplitMix64 output, never change (peers compare)
+    private static final long[] KEY = splitMix(0x566F6C63616E4B31L, LANES + STRIPES_PER_BLOCK);
+    private static final long[] SCRAMBLE = splitMix(0x566F6C63616E5332L, LANES);
+    private static final long[] INIT = splitMix(0x566F6C63616E4933L, LANES);
+    private static final long[] MERGE = splitMix(0x566F6C63616E4D34L, LANES);
+
+    private static final VectorSpecies<Long> HALF = LongVector.SPECIES_256; // Half a stripe
+    private static final VectorShuffle<Long> SWAP = VectorShuffle.fromOp(HALF, i -> i ^ 1);
+    private static final VectorSpecies<Long> FULL = LongVector.SPECIES_512; // One stripe
+    private static final VectorShuffle<Long> SWAP_FULL = VectorShuffle.fromOp(FULL, i -> i ^ 1);
+    private static final ByteOrder LE = ByteOrder.LITTLE_ENDIAN;
+
+    /** True if hashRegion() runs on 256-bit (or wider) vectors; false = scalar lanes, same result. */
+    public static final boolean VECTORIZED = LongVector.SPECIES_PREFERRED.vectorBitSize() >= 256;
+
+    /** True if hashRegion() runs on 512-bit vectors (one stripe per vector); same result. */
+    public static final boolean WIDE = LongVector.SPECIES_PREFERRED.vectorBitSize() >= 512;
+
+    /** Striped hash of the whole segment. */
+    public static long hashRegion(MemorySegment segment) {
+        return hashRegion(SEED, segment, 0, segment.byteSize());
+    }
+
+    /**
+     * Striped hash of [offset, offset + length): the per-frame desync fingerprint. Regions below
+     * 64 bytes fall back to the serial rounds.
+     * // [ZERO_GC_GUARANTEED] (once compiled)
+     */
+    public static long hashRegion(long seed, MemorySegment segment, long offset, long length) {
+        if (length < STRIPE) return hashShort(seed, segment, offset, length);
+        if (WIDE) return stripesWide(seed, segment, offset, length);
+        return VECTORIZED ? stripesVector(seed, segment, offset, length) : stripesScalar(seed, segment, offset, length);
+    }
+
+    /** Scalar reference of hashRegion(): the SIMD path must match it bit for bit. */
+    public static long hashRegionScalar(long seed, MemorySegment segment, long offset, long length) {
+        if (length < STRIPE) return hashShort(seed, segment, offset, length);
+        return stripesScalar(seed, segment, offset, length);
+    }
+
+    private static long hashShort(long seed, MemorySegment segment, long offset, long length) {
+        long h = seed + PRIME_3 + length;
+        long end = offset + length;
+        long p = offset;
+        for (; p + Long.BYTES <= end; p += Long.BYTES) {
+            h = round(h, segment.get(WORD, p));
+        }
+        for (; p < end; p++) {
+            h = round(h, segment.get(ValueLayout.JAVA_BYTE, p) & 0xFFL);
+        }
+        return avalanche(h);
+    }
+
+    private static long stripesVector(long seed, MemorySegment segment, long offset, long length) {
+        LongVector acc0 = LongVector.fromArray(HALF, INIT, 0).add(seed);
+        LongVector acc1 = LongVector.fromArray(HALF, INIT, 4).add(seed);
+        long stripes = (length - 1) / STRIPE; // The last stripe (maybe overlapping) is keyed apart
+        long p = offset;
+        while (stripes > 0) {
+            int n = (int) Math.min(STRIPES_PER_BLOCK, stripes);
+            for (int k = 0; k < n; k++, p += STRIPE) {
+                acc0 = accumulate(acc0, LongVector.fromMemorySegment(HALF, segment, p, LE), k);
+                acc1 = accumulate(acc1, LongVector.fromMemorySegment(HALF, segment, p + 32, LE), k + 4);
+            }
+            stripes -= n;
+            if (n == STRIPES_PER_BLOCK) {
+                acc0 = scramble(acc0, 0);
+                acc1 = scramble(acc1, 4);
+            }
+        }
+        p = offset + length - STRIPE;
+        acc0 = accumulate(acc0, LongVector.fromMemorySegment(HALF, segment, p, LE), LAST_STRIPE_KEY);
+        acc1 = accumulate(acc1, LongVector.fromMemorySegment(HALF, segment, p + 32, LE), LAST_STRIPE_KEY + 4);
+        return merge(seed, length, acc0.lane(0), acc0.lane(1), acc0.lane(2), acc0.lane(3),
+                acc1.lane(0), acc1.lane(1), acc1.lane(2), acc1.lane(3));
+    }
+
+    /**
+     * One 512-bit vector per stripe, two stripes per iteration: even and odd stripes of a block
+     * add into separate accumulators, summed before the scramble (lane additions commute, so the
+     * result is the same), which halves the add chain and keeps two loads in flight.
+     */
+    private static long stripesWide(long seed, MemorySegment segment, long offset, long length) {
+        LongVector acc = LongVector.fromArray(FULL, INIT, 0).add(seed);
+        long stripes = (length - 1) / STRIPE; // The last stripe (maybe overlapping) is keyed apart
+        long p = offset;
+        for (; stripes >= STRIPES_PER_BLOCK; stripes -= STRIPES_PER_BLOCK) {
+            LongVector odd = LongVector.zero(FULL);
+            for (int k = 0; k < STRIPES_PER_BLOCK; k += 2, p += 2 * STRIPE) {
+                acc = accumulateWide(acc, LongVector.fromMemorySegment(FULL, segment, p, LE), k);
+                odd = accumulateWide(odd, LongVector.fromMemorySegment(FULL, segment, p + STRIPE, LE), k + 1);
+            }
+            acc = scrambleWide(acc.add(odd));
+        }
+        for (int k = 0; k < stripes; k++, p += STRIPE) {
+            acc = accumulateWide(acc, LongVector.fromMemorySegment(FULL, segment, p, LE), k);
+        }
+        p = offset + length - STRIPE;
+        acc = accumulateWide(acc, LongVector.fromMemorySegment(FULL, segment, p, LE), LAST_STRIPE_KEY);
+        return merge(seed, length, acc.lane(0), acc.lane(1), acc.lane(2), acc.lane(3),
+                acc.lane(4), acc.lane(5), acc.lane(6), acc.lane(7));
+    }
+
+    private static LongVector accumulateWide(LongVector acc, LongVector data, int key) {
+        LongVector dk = data.lanewise(VectorOperators.XOR, LongVector.fromArray(FULL, KEY, key));
+        LongVector product = dk.and(LOW_32).mul(dk.lanewise(VectorOperators.LSHR, 32));
+        return acc.add(data.rearrange(SWAP_FULL)).add(product);
+    }
+
+    private static LongVector scrambleWide(LongVector acc) {
+        acc = acc.lanewise(VectorOperators.XOR, acc.lanewise(VectorOperators.LSHR, 47));
+        return acc.lanewise(VectorOperators.XOR, LongVector.fromArray(FULL, SCRAMBLE, 0)).mul(PRIME32_1);
+    }
+
+    private static LongVector accumulate(LongVector acc, LongVector data, int key) {
+        LongVector dk = data.lanewise(VectorOperators.XOR, LongVector.fromArray(HALF, KEY, key));
+        LongVector product = dk.and(LOW_32).mul(dk.lanewise(VectorOperators.LSHR, 32));
+        return acc.add(data.rearrange(SWAP)).add(product);
+    }
+
+    private static LongVector scramble(LongVector acc, int key) {
+        acc = acc.lanewise(VectorOperators.XOR, acc.lanewise(VectorOperators.LSHR, 47));
+        return acc.lanewise(VectorOperators.XOR, LongVector.fromArray(HALF, SCRAMBLE, key)).mul(PRIME32_1);
+    }
+
+    private static long stripesScalar(long seed, MemorySegment segment, long offset, long length) {
+        long a0 = INIT[0] + seed, a1 = INIT[1] + seed, a2 = INIT[2] + seed, a3 = INIT[3] + seed;
+        long a4 = INIT[4] + seed, a5 = INIT[5] + seed, a6 = INIT[6] + seed, a7 = INIT[7] + seed;
+        long stripes = (length - 1) / STRIPE;
+        long p = offset;
+        int k = 0;
+        for (long s = 0; s <= stripes; s++) {
+            if (s == stripes) { // Last stripe: ends at the last byte, own key
+                p = offset + length - STRIPE;
+                k = LAST_STRIPE_KEY;
+            }
+            long d0 = segment.get(WORD, p), d1 = segment.get(WORD, p + 8);
+            long d2 = segment.get(WORD, p + 16), d3 = segment.get(WORD, p + 24);
+            long d4 = segment.get(WORD, p + 32), d5 = segment.get(WORD, p + 40);
+            long d6 = segment.get(WORD, p + 48), d7 = segment.get(WORD, p + 56);
+            a0 = lane(a0, d0, d1, KEY[k]);
+            a1 = lane(a1, d1, d0, KEY[k + 1]);
+            a2 = lane(a2, d2, d3, KEY[k + 2]);
+            a3 = lane(a3, d3, d2, KEY[k + 3]);
+            a4 = lane(a4, d4, d5, KEY[k + 4]);
+            a5 = lane(a5, d5, d4, KEY[k + 5]);
+            a6 = lane(a6, d6, d7, KEY[k + 6]);
+            a7 = lane(a7, d7, d6, KEY[k + 7]);
+            p += STRIPE;
+            if (++k == STRIPES_PER_BLOCK && s < stripes) {
+                a0 = scramble(a0, 0); a1 = scramble(a1, 1); a2 = scramble(a2, 2); a3 = scramble(a3, 3);
+                a4 = scramble(a4, 4); a5 = scramble(a5, 5); a6 = scramble(a6, 6); a7 = scramble(a7, 7);
+                k = 0;
+            }
+        }
+        return merge(seed, length, a0, a1, a2, a3, a4, a5, a6, a7);
+    }
+
+    private static long lane(long acc, long word, long neighbour, long key) {
+        long dk = word ^ key;
+        return acc + neighbour + (dk & LOW_32) * (dk >>> 32);
+    }
+
+    private static long scramble(long acc, int key) {
+        return (acc ^ (acc >>> 47) ^ SCRAMBLE[key]) * PRIME32_1;
+    }
+
+    private static long merge(long seed, long length, long a0, long a1, long a2, long a3,
+                              long a4, long a5, long a6, long a7) {
+        long h = length * PRIME_1 + seed;
+        h += fold(a0 ^ MERGE[0], a1 ^ MERGE[1]);
+        h += fold(a2 ^ MERGE[2], a3 ^ MERGE[3]);
+        h += fold(a4 ^ MERGE[4], a5 ^ MERGE[5]);
+        h += fold(a6 ^ MERGE[6], a7 ^ MERGE[7]);
+        return avalanche(h);
+    }
+
+    /** 64x64 -> 128-bit product folded to 64 bits. */
+    private static long fold(long a, long b) {
+        return (a * b) ^ Math.unsignedMultiplyHigh(a, b);
+    }
+
+    private static long[] splitMix(long state, int count) {
+        long[] out = new long[count];
+        for (int i = 0; i < count; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            long z = state;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            out[i] = z ^ (z >>> 31);
+        }
+        return out;
+    }
+
+    static long round(long h, long word) {
+        return Long.rotateLeft(h ^ (word * PRIME_2), 31) * PRIME_1;
+    }
+
+    static long avalanche(long h) {
+        h ^= h >>> 33;
+        h *= PRIME_2;
+        h ^= h >>> 29;
+        h *= PRIME_3;
+        h ^= h >>> 32;
+        return h;
+    }
+}
@@ -0,0 +1,181 @@
+// Reading Order: 11001110
+//  206
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.VolcanLogger;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.AllocationAuditor;
+import sv.volcan.kernel.BatchSimulationRunner;
+import sv.volcan.kernel.EngineKernel;
+import sv.volcan.kernel.SystemRegistry;
+import sv.volcan.state.WorldStateFrame;
+
+import java.lang.foreign.Arena;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates the allocation audit of the frame loop and the GC-free paths it guards.
+ * WHY: [ZERO_GC_GUARANTEED] only holds if a regression fails a run. The audit must name the
+ * phase and the DAG node that allocated, and must stay silent on the clean ones.
+ * TECHNIQUE: A batch kernel and a DAG registry run a clean system and one that allocates an
+ * array per update, past the warm-up. The phase report must contain SystemsExecution only, the
+ * DAG report the leaking node only. Then the logger and default getDependencies() are measured
+ * directly with the per-thread allocation counter.
+ * GUARANTEES: Offenders found with their size; clean phases, clean nodes and the fixed logger
+ * path report zero bytes.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = false,
+    notes = "Validates the per-phase / per-node allocation audit"
+)
+public class AllocationAuditTest {
+
+    private static final int FRAMES = VolcanEngineConfig.KERNEL_ALLOC_WARMUP_FRAMES + 500;
+    private static final float DT = 1f / 60f;
+
+    private static final class Clean implements GameSystem {
+        private final String name;
+        private final String[] deps;
+        long acc;
+
+        Clean(String name, String... deps) {
+            this.name = name;
+            this.deps = deps;
+        }
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            acc += (long) (deltaTime * 1000f);
+        }
+
+        @Override public String getName() { return name; }
+        @Override public String[] getDependencies() { return deps; }
+    }
+
+    /** Allocates an array per update and publishes it, so escape analysis cannot remove it. */
+    private static final class Leaky implements GameSystem {
+        long[] last;
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            last = new long[32];
+        }
+
+        @Override public String getName() { return "Leaky"; }
+        @Override public String[] getDependencies() { return new String[] {"CleanA"}; }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: FRAME LOOP ALLOCATION AUDIT");
+        System.out.println("=======================================================");
+
+        try {
+            check("audit enabled (-Dvolcan.kernel.alloc.audit=true)", AllocationAuditor.ENABLED);
+            if (AllocationAuditor.ENABLED) {
+                kernelPhases();
+                dagNodes();
+                fixedPaths();
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] ALLOCATING SITES REPORTED, GC-FREE PATHS CLEAN");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] ALLOCATION AUDIT INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void kernelPhases() {
+        EngineKernel[] world = new EngineKernel[1];
+        new BatchSimulationRunner(FRAMES, DT).runWorld(0, (index, kernel) -> {
+            world[0] = kernel;
+            kernel.getSystemRegistry().registerGameSystem(new Clean("CleanA"));
+            kernel.getSystemRegistry().registerGameSystem(new Leaky());
+        });
+        AllocationAuditor phases = world[0].getPhaseAllocations();
+        phases.getOffenders().forEach(o -> System.out.println("[TEST] " + o));
+
+        int audited = FRAMES - VolcanEngineConfig.KERNEL_ALLOC_WARMUP_FRAMES;
+        check("systems phase reported every audited frame",
+                phases.getViolations(AllocationAuditor.PHASE_SYSTEMS_EXECUTION) == audited);
+        check("leak size measured (>= 32 longs)",
+                phases.getWorstBytes(AllocationAuditor.PHASE_SYSTEMS_EXECUTION) >= 32 * Long.BYTES);
+        check("input latch clean", phases.getWorstBytes(AllocationAuditor.PHASE_INPUT_LATCH) == 0);
+        check("bus processing clean", phases.getWorstBytes(AllocationAuditor.PHASE_BUS_PROCESSING) == 0);
+        check("state audit clean", phases.getWorstBytes(AllocationAuditor.PHASE_STATE_AUDIT) == 0);
+        check("only the systems phase offends", phases.getOffenders().size() == 1);
+    }
+
+    private static void dagNodes() {
+        SystemRegistry registry = new SystemRegistry();
+        registry.registerGameSystem(new Clean("CleanA"));
+        registry.registerGameSystem(new Leaky());
+        registry.registerGameSystem(new Clean("CleanB", "Leaky"));
+        registry.buildDependencyGraph();
+        registry.enableDAGMode();
+        try (Arena arena = Arena.ofConfined()) {
+            WorldStateFrame state = new WorldStateFrame(arena, arena.allocate(64), 0L);
+            for (int f = 0; f < FRAMES; f++) {
+                registry.executeGameSystems(state, DT);
+            }
+            AllocationAuditor nodes = registry.getTaskDispatcher().getAllocationAuditor();
+            nodes.getOffenders().forEach(o -> System.out.println("[TEST] " + o));
+
+            int leaky = -1;
+            long cleanViolations = 0;
+            for (int s = 0; s < nodes.getSiteCount(); s++) {
+                if ("Leaky".equals(nodes.getSiteName(s))) leaky = s;
+                else cleanViolations += nodes.getViolations(s);
+            }
+            check("leaking node reported", leaky >= 0 && nodes.getViolations(leaky) > 0);
+            check("clean nodes not reported", cleanViolations == 0);
+            check("one offender", nodes.getOffenders().size() == 1 && nodes.getOffenders().get(0).contains("'Leaky'"));
+        } finally {
+            registry.shutdown();
+        }
+    }
+
+    private static void fixedPaths() {
+        GameSystem defaults = (state, dt) -> { };
+        check("default getDependencies() shares one array",
+                defaults.getDependencies() == defaults.getDependencies() && defaults.getDependencies().length == 0);
+
+        StringBuilder line = new StringBuilder(64);
+        for (int i = 0; i < 50_000; i++) {
+            logLine(line, i); // Warm-up: compile the logging path
+        }
+        long before = AllocationAuditor.threadAllocatedBytes();
+        for (int i = 0; i < 1_000; i++) {
+            logLine(line, i);
+        }
+        long bytes = AllocationAuditor.threadAllocatedBytes() - before;
+        System.out.println("[TEST] VolcanLogger.debug with a reused builder: " + bytes + " bytes / 1000 lines");
+        check("logger writes a line without a String per call", bytes < 1_000 * 16);
+    }
+
+    private static void logLine(StringBuilder line, int i) {
+        line.setLength(0);
+        line.append("tick ").append(i);
+        VolcanLogger.debug("ALLOC-TEST", line);
+    }
+}
@@ -0,0 +1,103 @@
+// Reading Order: 10110110
+//  182
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.BatchSimulationRunner;
+import sv.volcan.state.WorldStateFrame;
+
+/**
+ * RESPONSIBILITY: Validates the headless batch runner (fixed-dt stepping, many worlds per JVM).
+ * WHY: Balancing simulations compare worlds against each other; any wall-clock leak (pacing,
+ * variable deltaTime, idle tiers) would make two identical worlds diverge.
+ * TECHNIQUE: Runs one world on the caller thread, then 8 worlds across the available cores. Each
+ * world integrates a float position with the injected deltaTime.
+ * GUARANTEES: Every world runs exactly TICKS steps and ends bit-identical to the single-world run.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates deterministic multi-world batch simulation"
+)
+public class BatchSimulationTest {
+
+    private static final int TICKS = 20_000;
+    private static final int WORLDS = 8;
+    private static final float DT = 1.0f / 60.0f;
+
+    private static final class Integrator implements GameSystem {
+        int runs = 0;
+        float position = 0f;
+        float velocity = 3.5f;
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            runs++;
+            velocity -= 9.81f * deltaTime;
+            if (velocity < -20f) velocity = 20f;
+            position += velocity * deltaTime;
+        }
+
+        @Override public String getName() { return "Integrator"; }
+        @Override public String[] getDependencies() { return new String[0]; }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: HEADLESS BATCH SIMULATION");
+        System.out.println("=======================================================");
+
+        try {
+            BatchSimulationRunner runner = new BatchSimulationRunner(TICKS, DT);
+
+            Integrator[] integrators = new Integrator[WORLDS + 1];
+            BatchSimulationRunner.Result single = runner.runWorld(WORLDS, (index, kernel) -> {
+                integrators[index] = new Integrator();
+                kernel.getSystemRegistry().registerGameSystem(integrators[index]);
+            });
+            System.out.println("[TEST] Single world: " + single.ticks + " ticks at "
+                    + String.format("%.0f", single.ticksPerSecond()) + " ticks/s");
+
+            BatchSimulationRunner.Report report = runner.runWorlds(WORLDS, 0, (index, kernel) -> {
+                integrators[index] = new Integrator();
+                kernel.getSystemRegistry().registerGameSystem(integrators[index]);
+            });
+            System.out.println("[TEST] " + report);
+
+            Integrator reference = integrators[WORLDS];
+            boolean ok = single.ticks == TICKS && reference.runs == TICKS;
+            for (int w = 0; w < WORLDS; w++) {
+                Integrator world = integrators[w];
+                boolean same = report.worlds[w].ticks == TICKS && world.runs == TICKS
+                        && Float.floatToRawIntBits(world.position) == Float.floatToRawIntBits(reference.position);
+                if (!same) {
+                    System.err.println("[TEST] World " + w + " diverged: runs=" + world.runs
+                            + " position=" + world.position + " (reference " + reference.position + ")");
+                }
+                ok &= same;
+            }
+
+            if (ok) {
+                System.out.println("\n[PASSED] " + WORLDS + " WORLDS STEPPED DETERMINISTICALLY IN ONE JVM");
+                System.exit(0);
+            } else {
+                System.err.println("\n[FAILED] BATCH WORLDS DIVERGED");
+                System.exit(1);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,410 @@
+// Reading Order: 11010111
+//  215
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.bus.VolcanEventDispatcher;
+import sv.volcan.bus.VolcanSignalCommands;
+import sv.volcan.bus.VolcanSignalPacker;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.ecs.VolcanEntity;
+import sv.volcan.ecs.VolcanScene;
+import sv.volcan.kernel.EngineKernel;
+import sv.volcan.memory.SectorMemoryVault;
+import sv.volcan.physics.VolcanColliderSoA;
+import sv.volcan.state.VolcanStateLayout;
+import sv.volcan.state.WorldCheckpoint;
+import sv.volcan.state.WorldStateFrame;
+import sv.volcan.state.WorldStateHasher;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates WorldCheckpoint images and the kernel's save/load.
+ * WHY: A checkpoint that restores almost the right world is worse than none: the server comes
+ * back up and silently desyncs. A torn or foreign file must be refused before it touches memory.
+ * TECHNIQUE: Round trip of raw segments, colliders and a scene with a hierarchy; a copy-on-write
+ * image that must never reach the file; truncated, torn, corrupted, foreign-version and
+ * foreign-layout files; a batch kernel saved mid-run whose continuation after a load (in the
+ * same kernel and in a fresh one) must match the original run frame by frame; restore
+ * throughput over a 256 MB sector vault.
+ * Run with -Dvolcan.memory.dirty.tracking=true -Dvolcan.kernel.state.hash.interval=1.
+ * GUARANTEES: restore(save(world)) == world, bit for bit; rejected files leave the world as is.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates WorldCheckpoint and EngineKernel save/load"
+)
+public class CheckpointTest {
+
+    private static final int ENTITIES = 1000;
+    private static final int BENCH_SECTORS = 4096; // 256 MB (64 KB sectors)
+    private static final long MAX_RESTORE_MS = 1000;
+    private static final float DT = 1f / 60f;
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: WORLD CHECKPOINTS");
+        System.out.println("=======================================================");
+
+        Path dir = null;
+        try {
+            dir = Files.createTempDirectory("volcan-checkpoint");
+            roundTrip(dir);
+            copyOnWrite(dir);
+            rejections(dir);
+            kernelRestart(dir);
+            restoreThroughput(dir);
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        } finally {
+            deleteAll(dir);
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] CHECKPOINTS RESTORE THE WORLD BIT FOR BIT");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] CHECKPOINTS INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void roundTrip(Path dir) throws IOException {
+        VolcanScene scene = new VolcanScene(ENTITIES);
+        VolcanColliderSoA colliders = new VolcanColliderSoA(ENTITIES);
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment raw = arena.allocate(1 << 20, 64);
+            MemorySegment odd = arena.allocate(1001, 8); // Not a multiple of the alignment
+            fill(raw, 1);
+            fill(odd, 2);
+            fill(colliders.radius, 3);
+            populate(scene, 4);
+
+            WorldCheckpoint checkpoint = new WorldCheckpoint()
+                    .add("raw", raw).add("odd", odd)
+                    .addColliders("colliders", colliders)
+                    .addScene("scene", scene);
+            Path file = dir.resolve("world.vck");
+            long bytes = checkpoint.save(file, 77);
+            check("image size == layout size", bytes == Files.size(file) && bytes == checkpoint.getImageBytes());
+            check("no temp file left behind", !Files.exists(dir.resolve("world.vck.tmp")));
+
+            long rawHash = WorldStateHasher.hashRegion(raw);
+            long oddHash = WorldStateHasher.hashRegion(odd);
+            long radiusHash = WorldStateHasher.hashRegion(colliders.radius);
+            long sceneHash = sceneHash(scene);
+
+            fill(raw, 10);
+            fill(odd, 11);
+            fill(colliders.radius, 12);
+            populate(scene, 13);
+            check("world changed after save", sceneHash(scene) != sceneHash && WorldStateHasher.hashRegion(raw) != rawHash);
+
+            long frame = checkpoint.restore(file, true);
+            check("frame tag round-trips", frame == 77);
+            check("segments restored", WorldStateHasher.hashRegion(raw) == rawHash
+                    && WorldStateHasher.hashRegion(odd) == oddHash
+                    && WorldStateHasher.hashRegion(colliders.radius) == radiusHash);
+            check("scene ids, hierarchy and columns restored", sceneHash(scene) == sceneHash);
+            VolcanEntity spawned = scene.spawnEntity();
+            check("free list usable after restore", spawned != null
+                    && scene.getPhysicalIndex(spawned.getId()) == scene.getActiveEntityCount() - 1);
+        } finally {
+            colliders.destroy();
+            scene.destroy();
+        }
+    }
+
+    private static void copyOnWrite(Path dir) throws IOException {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment raw = arena.allocate(64 * 1024, 64);
+            fill(raw, 5);
+            Path file = dir.resolve("cow.vck");
+            new WorldCheckpoint().add("raw", raw).save(file, 1);
+
+            try (WorldCheckpoint.Image image = WorldCheckpoint.Image.open(file, true)) {
+                MemorySegment section = image.section("raw");
+                check("in-place section == saved bytes", section.mismatch(raw) == -1 && image.verify());
+                section.fill((byte) 0x7E); // Private pages
+                check("copy-on-write sees its stores", section.get(ValueLayout.JAVA_BYTE, 100) == 0x7E);
+            }
+            try (WorldCheckpoint.Image image = WorldCheckpoint.Image.open(file, false)) {
+                check("file untouched by copy-on-write stores", image.section("raw").mismatch(raw) == -1
+                        && image.verify() && image.getSectionCount() == 1 && image.section("missing") == null);
+            }
+        }
+    }
+
+    private static void rejections(Path dir) throws IOException {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment raw = arena.allocate(64 * 1024, 64);
+            fill(raw, 6);
+            WorldCheckpoint checkpoint = new WorldCheckpoint().add("raw", raw);
+            Path file = dir.resolve("bad.vck");
+            checkpoint.save(file, 0);
+            fill(raw, 7);
+            long live = WorldStateHasher.hashRegion(raw);
+
+            // Corrupted section byte
+            patch(file, WorldCheckpoint.HEADER_BYTES + 1234, (byte) 0x55);
+            check("corrupted section refused", refused(checkpoint, file) && WorldStateHasher.hashRegion(raw) == live);
+
+            // Torn: no magic
+            checkpoint.save(file, 0);
+            patch(file, 0, (byte) 0);
+            check("torn file refused", refused(checkpoint, file) && WorldStateHasher.hashRegion(raw) == live);
+
+            // Another format version
+            checkpoint.save(file, 0);
+            patch(file, 8, (byte) (WorldCheckpoint.FORMAT_VERSION + 1));
+            check("unknown version refused", refused(checkpoint, file));
+
+            // Truncated
+            checkpoint.save(file, 0);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(Files.size(file) - 4096);
+            }
+            check("truncated file refused", refused(checkpoint, file) && WorldStateHasher.hashRegion(raw) == live);
+
+            // Same names, other sizes
+            checkpoint.save(file, 0);
+            WorldCheckpoint bigger = new WorldCheckpoint().add("raw", arena.allocate(128 * 1024, 64));
+            WorldCheckpoint renamed = new WorldCheckpoint().add("other", raw);
+            check("foreign layout refused", refused(bigger, file) && refused(renamed, file)
+                    && WorldStateHasher.hashRegion(raw) == live);
+
+            boolean duplicate = false;
+            try {
+                new WorldCheckpoint().add("raw", raw).add("raw", raw);
+            } catch (IllegalArgumentException expected) {
+                duplicate = true;
+            }
+            check("duplicate section names rejected", duplicate);
+        }
+    }
+
+    private static boolean refused(WorldCheckpoint checkpoint, Path file) {
+        try {
+            checkpoint.restore(file, true);
+            return false;
+        } catch (IOException expected) {
+            System.out.println("[INFO] Refused: " + expected.getMessage());
+            return true;
+        }
+    }
+
+    /** Deterministic writes driven by the state and the inputs. */
+    private static final class DriftSystem implements GameSystem {
+        private static final long BASE = 2048;
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            int input = state.readInt(VolcanStateLayout.INPUT_LAST_SIGNAL);
+            for (int i = 0; i < 4; i++) {
+                long offset = BASE + ((i * 13L + input) & 31) * 64;
+                state.writeLong(offset, state.readLong(offset) * 31 + i + input);
+            }
+        }
+
+        @Override public String getName() { return "Drift"; }
+    }
+
+    private static void kernelRestart(Path dir) throws IOException {
+        Path file = dir.resolve("kernel.vck");
+        VolcanEventDispatcher busA = VolcanEventDispatcher.createDefault(10);
+        EngineKernel a = EngineKernel.createBatchKernel(busA, new SectorMemoryVault(16));
+        a.getSystemRegistry().registerGameSystem(new DriftSystem());
+        long[] original = new long[30];
+        long savedScene;
+        try {
+            populate(a.getScene(), 8);
+            run(a, busA, 0, 30, null);
+            a.saveCheckpoint(file);
+            savedScene = sceneHash(a.getScene());
+            run(a, busA, 30, 60, original);
+
+            long present = a.getHistoryFrameCount();
+            a.loadCheckpoint(file); // Destroys the scene's component arrays (none attached here)
+            check("load restores the saved scene", sceneHash(a.getScene()) == savedScene);
+            long[] again = new long[30];
+            run(a, busA, 30, 60, again);
+            check("same kernel: continuation after load == original run", java.util.Arrays.equals(original, again));
+            check("rollback never crosses the load", a.rollbackTo(present) == -1
+                    && a.rollbackTo(a.getHistoryFrameCount() - 5) == 5
+                    && a.getLastStateHash() == original[29]);
+        } finally {
+            a.closeBatch();
+        }
+
+        VolcanEventDispatcher busB = VolcanEventDispatcher.createDefault(10);
+        EngineKernel b = EngineKernel.createBatchKernel(busB, new SectorMemoryVault(16));
+        b.getSystemRegistry().registerGameSystem(new DriftSystem());
+        try {
+            b.loadCheckpoint(file);
+            check("fresh kernel: scene restored", sceneHash(b.getScene()) == savedScene);
+            long[] restarted = new long[30];
+            run(b, busB, 30, 60, restarted);
+            check("fresh kernel: continuation == original run", java.util.Arrays.equals(original, restarted));
+        } finally {
+            b.closeBatch();
+        }
+
+        VolcanEventDispatcher busC = VolcanEventDispatcher.createDefault(10);
+        EngineKernel c = EngineKernel.createBatchKernel(busC, new SectorMemoryVault(8)); // Other layout
+        try {
+            boolean refused = false;
+            try {
+                c.loadCheckpoint(file);
+            } catch (IOException expected) {
+                refused = true;
+            }
+            check("kernel with another sector count refuses", refused);
+        } finally {
+            c.closeBatch();
+        }
+
+        // Legacy single-step rewinds (SYS_ENGINE_ROLLBACK 0) stop at the load, like rollbackTo
+        VolcanEventDispatcher busD = VolcanEventDispatcher.createDefault(10);
+        EngineKernel d = EngineKernel.createBatchKernel(busD, new SectorMemoryVault(16));
+        d.getSystemRegistry().registerGameSystem(new DriftSystem());
+        VolcanEventDispatcher busE = VolcanEventDispatcher.createDefault(10);
+        EngineKernel e = EngineKernel.createBatchKernel(busE, new SectorMemoryVault(16));
+        e.getSystemRegistry().registerGameSystem(new DriftSystem());
+        try {
+            run(d, busD, 0, 10, null); // Pre-load history of another world
+            d.loadCheckpoint(file);
+            for (int i = 0; i < 3; i++) {
+                busD.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.SYS_ENGINE_ROLLBACK, 0));
+            }
+            d.step(DT);
+            e.loadCheckpoint(file);
+            e.step(DT);
+            check("legacy rollback never crosses the load", d.getLastStateHash() == e.getLastStateHash());
+        } finally {
+            d.closeBatch();
+            e.closeBatch();
+        }
+    }
+
+    /** Steps frames [from, to) with inputs that depend only on the frame index. */
+    private static void run(EngineKernel kernel, VolcanEventDispatcher bus, int from, int to, long[] hashes) {
+        for (int f = from; f < to; f++) {
+            if (f % 4 == 0) bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_KEY_DOWN, f));
+            kernel.step(DT);
+            if (hashes != null) hashes[f - from] = kernel.getLastStateHash();
+        }
+    }
+
+    private static void restoreThroughput(Path dir) throws IOException {
+        SectorMemoryVault vault = new SectorMemoryVault(BENCH_SECTORS);
+        try {
+            fill(vault.getSegment(), 9);
+            long hash = WorldStateHasher.hashRegion(vault.getSegment());
+            WorldCheckpoint checkpoint = new WorldCheckpoint().addSectors("sectors", vault);
+            Path file = dir.resolve("big.vck");
+            long t0 = System.nanoTime();
+            long bytes = checkpoint.save(file, 0);
+            long saveNs = System.nanoTime() - t0;
+
+            vault.getSegment().fill((byte) 0);
+            checkpoint.restore(file, false); // Warm the page cache like a restart right after a save
+            vault.getSegment().fill((byte) 0);
+            t0 = System.nanoTime();
+            checkpoint.restore(file, false);
+            long restoreNs = System.nanoTime() - t0;
+            vault.getSegment().fill((byte) 0);
+            t0 = System.nanoTime();
+            checkpoint.restore(file, true);
+            long verifiedNs = System.nanoTime() - t0;
+
+            System.out.printf("[INFO] %d MB: save %.0f ms (fsync), restore %.0f ms (%.1f GB/s), verified %.0f ms%n",
+                    bytes >> 20, saveNs / 1e6, restoreNs / 1e6, (double) bytes / restoreNs, verifiedNs / 1e6);
+            check("restored bit for bit", WorldStateHasher.hashRegion(vault.getSegment()) == hash);
+            check("256 MB restore < " + MAX_RESTORE_MS + " ms", restoreNs / 1_000_000 < MAX_RESTORE_MS);
+        } finally {
+            vault.close();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /** Spawns, parents and destroys entities so the free list and the maps are not identity. */
+    private static void populate(VolcanScene scene, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        while (scene.getActiveEntityCount() > 0) {
+            scene.destroyEntity(scene.getLogicalId(0));
+        }
+        VolcanEntity[] entities = new VolcanEntity[ENTITIES / 2];
+        for (int i = 0; i < entities.length; i++) {
+            entities[i] = scene.spawnEntity();
+            entities[i].setPosition(random.nextDouble() * 100, random.nextDouble() * 100, random.nextDouble());
+            entities[i].setVelocity((float) random.nextDouble(), (float) random.nextDouble(), 0f);
+            if (i > 0 && random.nextInt(3) == 0) entities[i].setParent(entities[random.nextInt(i)]);
+        }
+        for (int i = 0; i < entities.length; i += 7) {
+            scene.destroyEntity(entities[i].getId());
+        }
+        scene.topologicalSort();
+    }
+
+    private static long sceneHash(VolcanScene scene) {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment ids = arena.allocate(scene.getIdMapBytes(), 8);
+            scene.exportIdMaps(ids);
+            long h = WorldStateHasher.hashRegion(ids);
+            h ^= WorldStateHasher.hashRegion(scene.getSoA().globalPosX) * 31;
+            h ^= WorldStateHasher.hashRegion(scene.getSoA().velY) * 17;
+            h ^= WorldStateHasher.hashRegion(scene.getSoA().parentIdx) * 13;
+            return h;
+        }
+    }
+
+    private static void fill(MemorySegment seg, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long longs = seg.byteSize() / 8;
+        for (long i = 0; i < longs; i++) seg.setAtIndex(ValueLayout.JAVA_LONG, i, random.nextLong());
+        for (long i = longs * 8; i < seg.byteSize(); i++) seg.set(ValueLayout.JAVA_BYTE, i, (byte) random.nextInt());
+    }
+
+    private static void patch(Path file, long offset, byte value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { value }), offset);
+        }
+    }
+
+    private static void deleteAll(Path dir) {
+        if (dir == null) return;
+        try (var files = Files.list(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) Files.deleteIfExists(file);
+            Files.deleteIfExists(dir);
+        } catch (IOException ignored) {
+            // Temp dir: the OS cleans it up
+        }
+    }
+}
@@ -0,0 +1,336 @@
+// Reading Order: 11011101
+//  221
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.core.ConcurrentSectorMap;
+import sv.volcan.kernel.AllocationAuditor;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates ConcurrentSectorMap: map semantics against HashMap, backward-shift
+ * removal, resizes under load, single winner per contended key, and reads that never miss a
+ * stable key while writers insert, remove and resize around it.
+ * WHY: A concurrent open-addressing table fails silently: a lost key just looks absent.
+ * TECHNIQUE: Random operations replayed against a HashMap model. Writer threads churn disjoint
+ * key ranges (each keeps its own model) starting from a tiny table, so resizes and shifts run
+ * constantly, while reader threads look up a set of keys that never change. A remover parked
+ * after each step of a shift in turn (the private shiftObserver, set by reflection) must not
+ * hold up, or mislead, a reader.
+ * GUARANTEES: Same answers as HashMap; no false negative for a live key under concurrency;
+ * get() answers while a remover is parked mid-shift; 0 bytes allocated per get.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = false,
+    notes = "Validates ConcurrentSectorMap"
+)
+public class ConcurrentSectorMapTest {
+
+    private static final int WRITERS = 3;
+    private static final int READERS = 2;
+    private static final int OPS_PER_WRITER = 300_000;
+    private static final int STABLE_KEYS = 2_000;
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: CONCURRENT SECTOR MAP");
+        System.out.println("=======================================================");
+
+        try {
+            basics();
+            againstHashMap();
+            contendedInsert();
+            concurrentChurn();
+            parkedRemover();
+            zeroGc();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] NO KEY LOST UNDER CONCURRENT WRITES AND RESIZES");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] CONCURRENT SECTOR MAP INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void basics() {
+        ConcurrentSectorMap<String> map = new ConcurrentSectorMap<>(4);
+        check("empty get", map.get(7) == null && !map.containsKey(7));
+        check("putIfAbsent inserts", map.putIfAbsent(7, "a") == null && "a".equals(map.get(7)));
+        check("putIfAbsent keeps the first value", "a".equals(map.putIfAbsent(7, "b")) && "a".equals(map.get(7)));
+        check("negative and zero keys", map.putIfAbsent(-1, "n") == null && map.putIfAbsent(0, "z") == null
+                && "n".equals(map.get(-1)) && "z".equals(map.get(0)));
+        check("remove returns the value", "a".equals(map.remove(7)) && map.get(7) == null && map.remove(7) == null);
+        check("size", map.size() == 2);
+        check("sentinel key rejected", throwsIae(() -> map.putIfAbsent(Long.MIN_VALUE, "x")));
+        check("null value rejected", throwsIae(() -> map.putIfAbsent(1, null)));
+
+        ConcurrentSectorMap<Long> growing = new ConcurrentSectorMap<>(2);
+        for (long k = 0; k < 50_000; k++) growing.putIfAbsent(k * 7919, k);
+        boolean all = true;
+        for (long k = 0; k < 50_000; k++) all &= Long.valueOf(k).equals(growing.get(k * 7919));
+        check("50,000 keys through repeated resizes", all && growing.size() == 50_000 && growing.capacity() >= 65536);
+    }
+
+    private static void againstHashMap() {
+        ConcurrentSectorMap<Long> map = new ConcurrentSectorMap<>(8);
+        HashMap<Long, Long> model = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(44);
+        boolean same = true;
+        for (int op = 0; op < 400_000 && same; op++) {
+            long key = random.nextLong(4096) - 2048; // Dense range: long collision chains
+            int kind = random.nextInt(10);
+            if (kind < 4) {
+                Long value = (long) op;
+                same = eq(map.putIfAbsent(key, value), model.putIfAbsent(key, value));
+            } else if (kind < 7) {
+                same = eq(map.remove(key), model.remove(key));
+            } else {
+                same = eq(map.get(key), model.get(key));
+            }
+        }
+        for (long key = -2048; key < 2048 && same; key++) same = eq(map.get(key), model.get(key));
+        check("400,000 random operations match HashMap", same && map.size() == model.size());
+    }
+
+    private static void contendedInsert() throws InterruptedException {
+        int keys = 20_000;
+        int threads = 4;
+        ConcurrentSectorMap<Integer> map = new ConcurrentSectorMap<>(16);
+        AtomicInteger winners = new AtomicInteger();
+        AtomicBoolean consistent = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            Integer mine = t;
+            workers[t] = new Thread(() -> {
+                await(start);
+                for (long k = 0; k < keys; k++) {
+                    Integer existing = map.putIfAbsent(k, mine);
+                    if (existing == null) {
+                        winners.incrementAndGet();
+                    } else if (!existing.equals(map.get(k))) {
+                        consistent.set(false);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) worker.join();
+        boolean allThere = true;
+        for (long k = 0; k < keys; k++) allThere &= map.get(k) != null;
+        check("one winner per contended key", winners.get() == keys && map.size() == keys);
+        check("losers see the winner's value", consistent.get() && allThere);
+    }
+
+    private static void concurrentChurn() throws InterruptedException {
+        ConcurrentSectorMap<Long> map = new ConcurrentSectorMap<>(16);
+        for (long k = 0; k < STABLE_KEYS; k++) map.putIfAbsent(stableKey(k), k);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicBoolean writersOk = new AtomicBoolean(true);
+        AtomicLong misses = new AtomicLong();
+        AtomicLong reads = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+
+        Thread[] writers = new Thread[WRITERS];
+        for (int w = 0; w < WRITERS; w++) {
+            long base = (w + 1L) << 40;
+            int seed = w;
+            writers[w] = new Thread(() -> {
+                await(start);
+                HashMap<Long, Long> model = new HashMap<>();
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int op = 0; op < OPS_PER_WRITER; op++) {
+                    long key = base + random.nextLong(3000);
+                    Long value = (long) op;
+                    boolean same = random.nextInt(3) != 0
+                            ? eq(map.putIfAbsent(key, value), model.putIfAbsent(key, value))
+                            : eq(map.remove(key), model.remove(key));
+                    if (!same) {
+                        writersOk.set(false);
+                        return;
+                    }
+                }
+                for (Long key : model.keySet()) {
+                    if (!model.get(key).equals(map.get(key))) writersOk.set(false);
+                }
+            });
+        }
+        Thread[] readers = new Thread[READERS];
+        for (int r = 0; r < READERS; r++) {
+            readers[r] = new Thread(() -> {
+                await(start);
+                long local = 0;
+                long localMisses = 0;
+                while (running.get()) {
+                    for (long k = 0; k < STABLE_KEYS; k++) {
+                        Long value = map.get(stableKey(k));
+                        if (value == null || value != k) localMisses++;
+                        local++;
+                    }
+                }
+                reads.addAndGet(local);
+                misses.addAndGet(localMisses);
+            });
+        }
+        for (Thread t : writers) t.start();
+        for (Thread t : readers) t.start();
+        start.countDown();
+        for (Thread t : writers) t.join();
+        running.set(false);
+        for (Thread t : readers) t.join();
+
+        System.out.printf("[INFO] %d concurrent reads during %d writes, final capacity %d%n",
+                reads.get(), (long) WRITERS * OPS_PER_WRITER, map.capacity());
+        check("writers match their HashMap models", writersOk.get());
+        check("no stable key missed during churn (" + misses.get() + " misses)", misses.get() == 0 && reads.get() > 0);
+    }
+
+    private static void zeroGc() {
+        ConcurrentSectorMap<Long> map = new ConcurrentSectorMap<>(4096);
+        for (long k = 0; k < 2000; k++) map.putIfAbsent(k, k);
+        long sink = 0;
+        for (int round = 0; round < 200; round++) sink += lookups(map); // C2 warm-up
+        long before = AllocationAuditor.threadAllocatedBytes();
+        long t0 = System.nanoTime();
+        for (int round = 0; round < 500; round++) sink += lookups(map);
+        long ns = System.nanoTime() - t0;
+        long allocated = AllocationAuditor.threadAllocatedBytes() - before;
+        System.out.printf("[INFO] %.1f ns per get, %d bytes allocated (sink %d)%n", ns / (500.0 * 4000), allocated, sink);
+        check("zero GC on get", allocated == 0);
+    }
+
+    private static long lookups(ConcurrentSectorMap<Long> map) {
+        long found = 0;
+        for (long k = 0; k < 4000; k++) {
+            if (map.get(k) != null) found++;
+        }
+        return found;
+    }
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    /**
+     * Parks a remover after each step of its backward shift in turn and looks every key up from
+     * another thread meanwhile. A get() that waited for the remover would time out.
+     */
+    private static void parkedRemover() throws Exception {
+        Field observerField = ConcurrentSectorMap.class.getDeclaredField("shiftObserver");
+        observerField.setAccessible(true);
+        long[] keys = new long[10];
+        for (int i = 0; i < keys.length; i++) keys[i] = i + 1;
+
+        // The removal with the longest shift among ten keys in a 16-slot table
+        long victim = -1;
+        int maxSteps = 0;
+        for (long k : keys) {
+            ConcurrentSectorMap<Long> map = filled(keys);
+            int[] steps = new int[1];
+            observerField.set(map, (Runnable) () -> steps[0]++);
+            map.remove(k);
+            if (steps[0] > maxSteps) {
+                maxSteps = steps[0];
+                victim = k;
+            }
+        }
+        check("a removal shifts entries (" + maxSteps + " steps)", maxSteps > 3); // 3 steps move nothing
+
+        boolean answered = true;
+        boolean correct = true;
+        for (int park = 0; park < maxSteps; park++) {
+            ConcurrentSectorMap<Long> map = filled(keys);
+            CountDownLatch parked = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            int target = park;
+            int[] steps = new int[1];
+            observerField.set(map, (Runnable) () -> {
+                if (steps[0]++ == target) {
+                    parked.countDown();
+                    await(release);
+                }
+            });
+            long removed = victim;
+            Thread remover = new Thread(() -> map.remove(removed), "ParkedRemover");
+            remover.start();
+            await(parked);
+
+            AtomicInteger wrong = new AtomicInteger();
+            Thread reader = new Thread(() -> {
+                for (long k : keys) {
+                    Long value = map.get(k);
+                    if (k == removed ? value != null : !eq(value, k * 10)) wrong.incrementAndGet();
+                }
+            }, "Reader");
+            reader.setDaemon(true); // Left spinning if get() waits: released with the remover
+            reader.start();
+            reader.join(5_000);
+            answered &= !reader.isAlive();
+            correct &= wrong.get() == 0;
+
+            release.countDown();
+            remover.join();
+            for (long k : keys) correct &= eq(map.get(k), k == removed ? null : k * 10);
+        }
+        check("get() answers with the remover parked after each of " + maxSteps + " shift steps", answered);
+        check("parked mid-shift: removed key absent, every other key found", correct);
+    }
+
+    private static ConcurrentSectorMap<Long> filled(long[] keys) {
+        ConcurrentSectorMap<Long> map = new ConcurrentSectorMap<>(16);
+        for (long k : keys) map.putIfAbsent(k, k * 10);
+        return map;
+    }
+
+    private static long stableKey(long k) {
+        return k * 0x9E3779B97F4A7C15L >>> 8;
+    }
+
+    private static boolean eq(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean throwsIae(Runnable action) {
+        try {
+            action.run();
+            return false;
+        } catch (IllegalArgumentException expected) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+// Reading Order: 10111100
+//  188
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.kernel.CpuPlacement;
+import sv.volcan.kernel.CpuTopology;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates sysfs topology parsing and the COMPACT / SPREAD placement policies.
+ * WHY: A wrong sibling or L3 mapping silently puts two workers on one physical core, or a worker
+ * on the kernel's core, which is exactly the jitter placement exists to remove.
+ * TECHNIQUE: Writes a fake /sys/devices/system/cpu for a 2-socket box (2 L3 domains, 4 cores each,
+ * 2-way SMT, Linux numbering: cpu N and N+8 are siblings) and checks the computed orders.
+ * GUARANTEES: The kernel core and its sibling are never assigned; primaries precede siblings;
+ * housekeeping lands outside the kernel's L3; NONE pins nothing; within() never leaves the free set.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = false,
+    notes = "Validates topology-aware thread placement"
+)
+public class CpuPlacementTest {
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: CPU TOPOLOGY & THREAD PLACEMENT");
+        System.out.println("=======================================================");
+
+        Path root = null;
+        try {
+            root = writeFixture();
+            CpuTopology topology = CpuTopology.read(root);
+            System.out.println("[TEST] Fixture: " + topology);
+
+            check("cpulist parsing", Arrays.equals(CpuTopology.parseCpuList("0-2,5,7-8"), new int[] {0, 1, 2, 5, 7, 8})
+                    && CpuTopology.parseCpuList("garbage").length == 0);
+            check("topology shape", topology.getCpuCount() == 16 && topology.getPhysicalCoreCount() == 8
+                    && topology.getL3DomainCount() == 2 && topology.getNodeCount() == 2);
+            check("siblings", topology.coreOf(9) == 1 && !topology.isSmtPrimary(9) && topology.areSiblings(3, 11));
+            check("L3 / node", topology.l3Of(10) == topology.l3Of(0) && topology.l3Of(4) != topology.l3Of(0)
+                    && topology.nodeOf(12) == 1 && topology.nodeOf(8) == 0);
+
+            CpuPlacement compact = new CpuPlacement(topology, CpuPlacement.Policy.COMPACT, 1, -1);
+            int[] all = compact.workerCores(14);
+            System.out.println("[TEST] COMPACT: " + Arrays.toString(all) + " | housekeeping " + compact.housekeepingCore());
+            check("compact keeps kernel L3 primaries first", Arrays.equals(compact.workerCores(3), new int[] {0, 2, 3}));
+            check("compact then other node primaries", Arrays.equals(Arrays.copyOfRange(all, 3, 7), new int[] {4, 5, 6, 7}));
+            check("kernel core and sibling never assigned", Arrays.stream(all).noneMatch(c -> c == 1 || c == 9));
+            check("housekeeping outside kernel L3", compact.housekeepingCore() == 7);
+
+            CpuPlacement spread = new CpuPlacement(topology, CpuPlacement.Policy.SPREAD, 1, -1);
+            System.out.println("[TEST] SPREAD: " + Arrays.toString(spread.workerCores(14)));
+            check("spread alternates L3 domains", Arrays.equals(spread.workerCores(4), new int[] {0, 4, 2, 5}));
+            check("spread wraps instead of using kernel core",
+                    Arrays.stream(spread.workerCores(40)).noneMatch(c -> c == 1 || c == 9));
+
+            CpuPlacement none = new CpuPlacement(topology, CpuPlacement.Policy.NONE, 1, -1);
+            check("NONE pins nothing", Arrays.stream(none.workerCores(4)).allMatch(c -> c == -1)
+                    && none.housekeepingCore() == -1 && !CpuPlacement.pinSelf(-1));
+            check("explicit housekeeping core", new CpuPlacement(topology, CpuPlacement.Policy.COMPACT, 1, 3).housekeepingCore() == 3);
+
+            // A world host hands each pool only the cores other kernels and pools left free
+            CpuPlacement remaining = compact.within(new int[] {11, 4, 3, 0});
+            check("workers restricted to the host's free cores", Arrays.equals(remaining.workerCores(5), new int[] {0, 3, 4, 11, 0}));
+            check("no free core leaves workers unpinned", Arrays.stream(compact.within(new int[0]).workerCores(3)).allMatch(c -> c == -1));
+
+            CpuTopology host = CpuTopology.detect();
+            System.out.println("[TEST] This machine: " + host);
+            check("host topology readable", host.getCpuCount() >= 1);
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        } finally {
+            deleteTree(root);
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] TOPOLOGY PARSED; WORKERS AVOID THE KERNEL CORE AND SMT SIBLINGS");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] THREAD PLACEMENT INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    /** cpu N / N+8 siblings; cores 0-3 share L3 A (node 0), cores 4-7 share L3 B (node 1). */
+    private static Path writeFixture() throws IOException {
+        Path root = Files.createTempDirectory("volcan-sysfs-cpu");
+        Files.writeString(root.resolve("online"), "0-15\n");
+        for (int cpu = 0; cpu < 16; cpu++) {
+            int core = cpu % 8;
+            boolean socketB = core >= 4;
+            Path dir = root.resolve("cpu" + cpu);
+            Files.createDirectories(dir.resolve("topology"));
+            Files.writeString(dir.resolve("topology").resolve("thread_siblings_list"), core + "," + (core + 8) + "\n");
+            Files.writeString(dir.resolve("topology").resolve("physical_package_id"), (socketB ? "1" : "0") + "\n");
+            Path l1 = Files.createDirectories(dir.resolve("cache").resolve("index0"));
+            Files.writeString(l1.resolve("level"), "1\n");
+            Files.writeString(l1.resolve("shared_cpu_list"), core + "," + (core + 8) + "\n");
+            Path l3 = Files.createDirectories(dir.resolve("cache").resolve("index1"));
+            Files.writeString(l3.resolve("level"), "3\n");
+            Files.writeString(l3.resolve("shared_cpu_list"), socketB ? "4-7,12-15\n" : "0-3,8-11\n");
+            Files.createDirectories(dir.resolve(socketB ? "node1" : "node0"));
+        }
+        return root;
+    }
+
+    private static void deleteTree(Path root) {
+        if (root == null) return;
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,321 @@
+// Reading Order: 11001010
+//  202
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.core.systems.PartitionedSystem;
+import sv.volcan.ecs.SceneKinematicsSystem;
+import sv.volcan.ecs.VolcanScene;
+import sv.volcan.kernel.DeterministicSystemExecutor;
+import sv.volcan.kernel.SystemRegistry;
+import sv.volcan.scene.VolcanTransformSoA;
+import sv.volcan.state.StateAccessTracker;
+import sv.volcan.state.WorldStateFrame;
+import sv.volcan.state.WorldStateHasher;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+import java.util.List;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates deterministic parallel mode: bit-exact frames, frame hashes and the write tracker.
+ * WHY: Lockstep and replay compare runs byte for byte. A float sum merged in completion order,
+ * or two unordered systems writing the same cell, is enough to make two runs diverge.
+ * TECHNIQUE: The same three systems (range-partitioned integration, a range-partitioned float
+ * reduction, a whole-world damping pass) run sequentially and twice in deterministic mode on
+ * separate registries. The per-frame hashes of the three runs must match. SceneKinematicsSystem
+ * runs as a partitioned system next to its own cursor path on an identical scene. Then systems
+ * with known races run one frame with volcan.kernel.access.tracking=true.
+ * GUARANTEES: Identical hash sequences; the partitioned scene kinematics give the same bits as
+ * the cursor path; unordered shared writes and cross-range writes
+ * reported; ordered writes and disjoint ranges not reported.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates reproducible parallel execution"
+)
+public class DeterministicParallelTest {
+
+    private static final int ENTITIES = 100_003;   // 25 ranges of 4096, the last one partial
+    private static final int FRAMES = 120;
+    private static final float DT = 1f / 60f;
+    private static final long OFFSET_ENERGY = 0;   // double
+    private static final long OFFSET_COUNTER = 8;  // int
+    private static final int STATE_BYTES = 64;
+
+    /** Off-heap world shared by the systems of one run. */
+    private static final class World {
+        final Arena arena = Arena.ofShared();
+        final MemorySegment posX = arena.allocate((long) ENTITIES * Float.BYTES, 64);
+        final MemorySegment velX = arena.allocate((long) ENTITIES * Float.BYTES, 64);
+        final WorldStateFrame state = new WorldStateFrame(arena, arena.allocate(STATE_BYTES), 0L);
+
+        World() {
+            for (int i = 0; i < ENTITIES; i++) {
+                posX.setAtIndex(ValueLayout.JAVA_FLOAT, i, (i % 977) * 0.37f);
+                velX.setAtIndex(ValueLayout.JAVA_FLOAT, i, ((i * 31) % 211 - 105) * 0.013f);
+            }
+        }
+    }
+
+    private static final int REGION_POS = StateAccessTracker.region("posX");
+    private static final int REGION_VEL = StateAccessTracker.region("velX");
+
+    private static final class Integrate implements PartitionedSystem {
+        private final World w;
+
+        Integrate(World w) { this.w = w; }
+
+        @Override public int getEntityCount() { return ENTITIES; }
+
+        @Override
+        public void updateRange(WorldStateFrame state, float dt, int rangeIndex, int from, int to) {
+            if (StateAccessTracker.ENABLED) StateAccessTracker.recordWrite(REGION_POS, (long) from * 4, (long) (to - from) * 4);
+            for (int i = from; i < to; i++) {
+                float p = w.posX.getAtIndex(ValueLayout.JAVA_FLOAT, i);
+                w.posX.setAtIndex(ValueLayout.JAVA_FLOAT, i, p + w.velX.getAtIndex(ValueLayout.JAVA_FLOAT, i) * dt);
+            }
+        }
+
+        @Override public String getName() { return "Integrate"; }
+    }
+
+    /** Float reduction: the result depends on the order the partials are added in. */
+    private static final class Energy implements PartitionedSystem {
+        private final World w;
+        private final float[] partial = new float[PartitionedSystem.rangeCount(ENTITIES, 4096)];
+
+        Energy(World w) { this.w = w; }
+
+        @Override public int getEntityCount() { return ENTITIES; }
+        @Override public int getRangeSize() { return 4096; }
+
+        @Override
+        public void updateRange(WorldStateFrame state, float dt, int rangeIndex, int from, int to) {
+            float sum = 0f;
+            for (int i = from; i < to; i++) {
+                float v = w.velX.getAtIndex(ValueLayout.JAVA_FLOAT, i);
+                sum += 0.5f * v * v + w.posX.getAtIndex(ValueLayout.JAVA_FLOAT, i) * 1e-3f;
+            }
+            partial[rangeIndex] = sum;
+        }
+
+        @Override
+        public void mergeRanges(WorldStateFrame state, int rangeCount) {
+            float total = 0f;
+            for (int r = 0; r < rangeCount; r++) total += partial[r];
+            state.writeDouble(OFFSET_ENERGY, total);
+        }
+
+        @Override public String getName() { return "Energy"; }
+        @Override public String[] getDependencies() { return new String[] {"Integrate"}; }
+    }
+
+    /** Whole-world pass fed by the reduction: any drift in the sum reaches every entity. */
+    private static final class Damping implements GameSystem {
+        private final World w;
+
+        Damping(World w) { this.w = w; }
+
+        @Override
+        public void update(WorldStateFrame state, float dt) {
+            if (StateAccessTracker.ENABLED) StateAccessTracker.recordWrite(REGION_VEL, 0, (long) ENTITIES * 4);
+            float k = 1f - (float) (state.readDouble(OFFSET_ENERGY) * 1e-9);
+            for (int i = 0; i < ENTITIES; i++) {
+                w.velX.setAtIndex(ValueLayout.JAVA_FLOAT, i, w.velX.getAtIndex(ValueLayout.JAVA_FLOAT, i) * k);
+            }
+        }
+
+        @Override public String getName() { return "Damping"; }
+        @Override public String[] getDependencies() { return new String[] {"Energy"}; }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: DETERMINISTIC PARALLEL MODE");
+        System.out.println("=======================================================");
+
+        try {
+            bitExactRuns();
+            sceneKinematics();
+            accessTracker();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] PARALLEL RUNS ARE BIT-EXACT AND RACES ARE REPORTED");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] DETERMINISTIC MODE INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void bitExactRuns() {
+        long[] sequential = run(false);
+        long[] parallelA = run(true);
+        long[] parallelB = run(true);
+        System.out.printf("[TEST] Final hash: sequential %016x | deterministic %016x | %016x%n",
+                sequential[FRAMES - 1], parallelA[FRAMES - 1], parallelB[FRAMES - 1]);
+        check("two deterministic runs hash identically every frame", Arrays.equals(parallelA, parallelB));
+        check("deterministic mode matches sequential execution", Arrays.equals(sequential, parallelA));
+        check("state evolves (hashes differ between frames)", sequential[0] != sequential[FRAMES - 1]);
+    }
+
+    /** Runs FRAMES frames and returns the hash of every frame. */
+    private static long[] run(boolean deterministic) {
+        World w = new World();
+        SystemRegistry registry = new SystemRegistry();
+        registry.registerGameSystem(new Integrate(w));
+        registry.registerGameSystem(new Energy(w));
+        registry.registerGameSystem(new Damping(w));
+        registry.buildDependencyGraph();
+        DeterministicSystemExecutor executor = null;
+        if (deterministic) {
+            registry.enableDeterministicMode();
+            executor = registry.getDeterministicExecutor();
+            executor.addHashedSegment(w.posX);
+            executor.addHashedSegment(w.velX);
+        }
+        long[] hashes = new long[FRAMES];
+        try {
+            for (int f = 0; f < FRAMES; f++) {
+                registry.executeGameSystems(w.state, DT);
+                hashes[f] = executor != null ? executor.getLastFrameHash()
+                        : WorldStateHasher.hash(WorldStateHasher.hash(WorldStateHasher.hash(w.state.getRawSegment()), w.posX), w.velX);
+            }
+        } finally {
+            registry.shutdown();
+            w.arena.close();
+        }
+        return hashes;
+    }
+
+    /** SceneKinematicsSystem on the pool (ranges + ordered merge) against its own cursor path. */
+    private static void sceneKinematics() {
+        VolcanScene cursorScene = kinematicsScene();
+        VolcanScene rangedScene = kinematicsScene();
+        cursorScene.getSoA().getKinematicsCursor().setSliceNs(0L); // Whole array every frame
+        SceneKinematicsSystem cursorPath = new SceneKinematicsSystem(cursorScene);
+        World w = new World();
+        SystemRegistry registry = new SystemRegistry();
+        registry.registerGameSystem(new SceneKinematicsSystem(rangedScene));
+        registry.buildDependencyGraph();
+        registry.enableDeterministicMode();
+        try {
+            for (int f = 0; f < 60; f++) {
+                cursorPath.update(w.state, DT);
+                registry.executeGameSystems(w.state, DT);
+            }
+            VolcanTransformSoA a = cursorScene.getSoA();
+            VolcanTransformSoA b = rangedScene.getSoA();
+            check("scene kinematics: partitioned run matches the cursor path bit for bit",
+                    a.localPosX.mismatch(b.localPosX) == -1 && a.globalPosX.mismatch(b.globalPosX) == -1
+                            && a.globalPosY.mismatch(b.globalPosY) == -1 && a.posZ.mismatch(b.posZ) == -1);
+            check("scene kinematics: entities moved", a.globalPosX.get(ValueLayout.JAVA_DOUBLE, 8L) != 1.0);
+        } finally {
+            registry.shutdown();
+            w.arena.close();
+            cursorScene.destroy();
+            rangedScene.destroy();
+        }
+    }
+
+    /** Moving entities; every third one is parented, some to a higher index. */
+    private static VolcanScene kinematicsScene() {
+        VolcanScene scene = new VolcanScene(ENTITIES);
+        VolcanTransformSoA soa = scene.getSoA();
+        for (int i = 0; i < ENTITIES; i++) {
+            soa.setEntity(i, i, (i % 97) * 0.5, -i * 0.25,
+                    ((i * 31) % 211 - 105) * 0.013f, (i % 13) * 0.1f, -0.3f);
+        }
+        for (int i = 3; i < ENTITIES - 5; i += 3) scene.setParent(i, (i % 2 == 0) ? i - 1 : i + 5);
+        return scene;
+    }
+
+    private static final class SharedWriter implements GameSystem {
+        private final String name;
+        private final String[] deps;
+
+        SharedWriter(String name, String... deps) {
+            this.name = name;
+            this.deps = deps;
+        }
+
+        @Override
+        public void update(WorldStateFrame state, float dt) {
+            state.writeDouble(OFFSET_ENERGY, state.readDouble(OFFSET_ENERGY) + 1.0);
+        }
+
+        @Override public String getName() { return name; }
+        @Override public String[] getDependencies() { return deps; }
+    }
+
+    /** Every range bumps one shared counter: a cross-range race. */
+    private static final class ShardedCounter implements PartitionedSystem {
+        @Override public int getEntityCount() { return 3 * 4096; }
+        @Override public int getRangeSize() { return 4096; }
+
+        @Override
+        public void updateRange(WorldStateFrame state, float dt, int rangeIndex, int from, int to) {
+            state.writeInt(OFFSET_COUNTER, state.readInt(OFFSET_COUNTER) + (to - from));
+        }
+
+        @Override public String getName() { return "ShardedCounter"; }
+    }
+
+    private static void accessTracker() {
+        check("tracker enabled (-Dvolcan.kernel.access.tracking=true)", StateAccessTracker.ENABLED);
+        if (!StateAccessTracker.ENABLED) return;
+
+        World w = new World();
+        SystemRegistry registry = new SystemRegistry();
+        registry.registerGameSystem(new SharedWriter("ScoreA"));
+        registry.registerGameSystem(new SharedWriter("ScoreB"));              // Unordered with ScoreA
+        registry.registerGameSystem(new SharedWriter("ScoreC", "ScoreA", "ScoreB")); // Ordered with both
+        registry.registerGameSystem(new ShardedCounter());
+        registry.registerGameSystem(new Integrate(w));                         // Disjoint ranges: clean
+        registry.buildDependencyGraph();
+        registry.enableDeterministicMode();
+        try {
+            registry.executeGameSystems(w.state, DT);
+            DeterministicSystemExecutor executor = registry.getDeterministicExecutor();
+            List<String> conflicts = executor.getAccessTracker().getConflicts();
+            conflicts.forEach(c -> System.out.println("[TEST] conflict " + c));
+
+            check("unordered systems writing one cell reported", contains(conflicts, "ScoreA <> ScoreB"));
+            check("ordered systems not reported", !contains(conflicts, "ScoreC"));
+            check("cross-range write reported", contains(conflicts, "ShardedCounter[range 0] <> ShardedCounter[range 1]"));
+            check("disjoint ranges not reported", !contains(conflicts, "Integrate"));
+            check("conflict count matches", executor.getLastConflicts() == conflicts.size() && conflicts.size() > 0);
+        } finally {
+            registry.shutdown();
+            w.arena.close();
+        }
+    }
+
+    private static boolean contains(List<String> conflicts, String fragment) {
+        for (String c : conflicts) {
+            if (c.contains(fragment)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,323 @@
+// Reading Order: 11010011
+//  211
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.bus.VolcanEventDispatcher;
+import sv.volcan.bus.VolcanSignalCommands;
+import sv.volcan.bus.VolcanSignalPacker;
+import sv.volcan.core.VolcanTimeControlUnit;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.EngineKernel;
+import sv.volcan.memory.DirtyRegionTracker;
+import sv.volcan.memory.SectorMemoryVault;
+import sv.volcan.scene.VolcanTransformSoA;
+import sv.volcan.state.VolcanStateLayout;
+import sv.volcan.state.VolcanStateVault;
+import sv.volcan.state.WorldStateFrame;
+import sv.volcan.state.WorldStateHasher;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates the dirty-region write barrier and the captures that trust it.
+ * WHY: A region the barrier misses is a change the snapshot never sees: the rollback restores a
+ * world that never existed. The tracker only pays off if it is a superset of the writes, always.
+ * TECHNIQUE: Tracker alone (merging, overflow of the output, cursor, concurrent marks), then a
+ * 10 MB world captured twice per frame, by a history fed the dirty set and by the full scan:
+ * every frame must restore identically while the hinted capture reads a few percent of the
+ * world. Incremental vault snapshots, SoA barriers and a batch kernel replaying its history
+ * close the loop. Run with -Dvolcan.memory.dirty.tracking=true.
+ * GUARANTEES: Dirty ranges cover every write; hinted history == full-scan history, bit for bit;
+ * a hinted capture of a world touched at 1% scans < 5% of it.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = true,
+    offHeap = true,
+    notes = "Validates DirtyRegionTracker and dirty-hinted rollback capture"
+)
+public class DirtyTrackingTest {
+
+    private static final long WORLD_BYTES = 10L * 1024 * 1024;
+    private static final int FRAMES = 200;
+    private static final int HISTORY = 120;
+    private static final long HISTORY_BYTES = 128L * 1024 * 1024;
+    private static final long HOT_BYTES = WORLD_BYTES / 100; // 1% rewritten every frame
+    private static final float DT = 1f / 60f;
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: DIRTY-REGION TRACKING");
+        System.out.println("=======================================================");
+
+        try {
+            if (!DirtyRegionTracker.ENABLED) {
+                throw new IllegalStateException("run with -Dvolcan.memory.dirty.tracking=true");
+            }
+            trackerRanges();
+            concurrentMarks();
+            hintedCapture();
+            storesAndSoA();
+            kernelReplay();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] DIRTY RANGES COVER EVERY WRITE; HINTED CAPTURE BIT-EXACT");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] DIRTY-REGION TRACKING INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void trackerRanges() {
+        DirtyRegionTracker t = new DirtyRegionTracker(64 * 1000 + 10, 64);
+        check("fresh tracker is clean", t.nextDirty(0) == -1 && t.collectDirtyRanges(new long[8]) == 0);
+
+        t.mark(70);          // Region 1
+        t.mark(64 * 2 + 63); // Region 2: merges with 1
+        t.markRange(64 * 10 + 5, 200);
+        t.mark(64 * 1000 + 9); // Partial last region
+        t.mark(64 * 700);      // Word 10: past a clean stretch of words
+        long[] out = new long[8];
+        int n = t.collectDirtyRanges(out);
+        check("ranges merged, ordered, clamped", n == 4
+                && out[0] == 64 && out[1] == 64 * 3
+                && out[2] == 64 * 10 && out[3] == 64 * 14
+                && out[4] == 64 * 700 && out[5] == 64 * 701
+                && out[6] == 64 * 1000 && out[7] == 64 * 1000 + 10);
+        check("dirty size", t.getDirtySize() == 64 * 2 + 64 * 4 + 64 + 10);
+        check("cursor", t.nextDirty(200) == 64 * 10 && t.nextClean(64 * 10 + 7) == 64 * 14
+                && t.nextDirty(64 * 1000 + 3) == 64 * 1000 + 3 && t.isDirty(64 * 12) && !t.isDirty(64 * 14));
+
+        long[] small = new long[4];
+        n = t.collectDirtyRanges(small);
+        check("overflow widens the last range (superset)", n == 2 && small[0] == 64 && small[1] == 64 * 3
+                && small[2] == 64 * 10 && small[3] == 64 * 1000 + 10);
+
+        t.clear();
+        check("clear forgets every mark", t.nextDirty(0) == -1 && t.getDirtySize() == 0);
+        t.markAll();
+        check("markAll covers the extent", t.collectDirtyRanges(out) == 1 && out[0] == 0 && out[1] == 64 * 1000 + 10);
+    }
+
+    private static void concurrentMarks() throws InterruptedException {
+        int threads = 4;
+        int perThread = 50_000;
+        DirtyRegionTracker t = new DirtyRegionTracker(64L * threads * perThread, 64);
+        Thread[] workers = new Thread[threads];
+        for (int w = 0; w < threads; w++) {
+            final int id = w;
+            workers[w] = new Thread(() -> {
+                // Interleaved regions: neighbours share bitmap words with the other threads
+                for (int i = 0; i < perThread; i++) {
+                    t.mark(64L * (i * threads + id));
+                }
+            });
+            workers[w].start();
+        }
+        for (Thread w : workers) w.join();
+        long[] out = new long[2];
+        check("concurrent marks: no bit lost", t.getDirtySize() == 64L * threads * perThread
+                && t.collectDirtyRanges(out) == 1 && out[1] == 64L * threads * perThread);
+    }
+
+    /** Hot 1% rewritten every frame + a few sparse writes, each marked like a typed write. */
+    private static long mutate(MemorySegment world, DirtyRegionTracker dirty, int frame, long seed) {
+        for (long off = 0; off < HOT_BYTES; off += 64) {
+            world.set(ValueLayout.JAVA_LONG, off, world.get(ValueLayout.JAVA_LONG, off) + frame);
+            dirty.mark(off);
+        }
+        for (int i = 0; i < 16; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            long off = Long.remainderUnsigned(seed, WORLD_BYTES / 8) * 8;
+            world.set(ValueLayout.JAVA_LONG, off, (i & 1) == 0 ? seed : 0L);
+            dirty.mark(off);
+        }
+        return seed;
+    }
+
+    private static void hintedCapture() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment world = arena.allocate(WORLD_BYTES + 24, 64); // Tail bytes too
+            MemorySegment scratch = arena.allocate(world.byteSize(), 64);
+            DirtyRegionTracker dirty = DirtyRegionTracker.fromConfig(world.byteSize());
+            VolcanTimeControlUnit hinted = new VolcanTimeControlUnit(arena, world.byteSize(), HISTORY, 30, HISTORY_BYTES);
+            VolcanTimeControlUnit full = new VolcanTimeControlUnit(arena, world.byteSize(), HISTORY, 30, HISTORY_BYTES);
+            long[] hashes = new long[FRAMES];
+            long seed = 11;
+            long hintedNs = 0;
+            long fullNs = 0;
+            long deltaScanned = 0;
+            int deltas = 0;
+            for (int f = 0; f < FRAMES; f++) {
+                seed = mutate(world, dirty, f, seed);
+                world.set(ValueLayout.JAVA_BYTE, world.byteSize() - 1, (byte) f); // Unmarked tail: always stored
+                hashes[f] = WorldStateHasher.hash(world);
+                if (f == 150) {
+                    // Rewind 10 frames and diverge: the state is the newest kept frame again
+                    hinted.restore(139, world);
+                    hinted.discardFrom(140);
+                    full.discardFrom(140);
+                    dirty.clear();
+                    seed = mutate(world, dirty, -f, seed);
+                    hashes[f] = WorldStateHasher.hash(world);
+                }
+                long t0 = System.nanoTime();
+                hinted.capture(world, dirty);
+                long t1 = System.nanoTime();
+                full.capture(world);
+                long t2 = System.nanoTime();
+                if (f > 20 && hinted.getLastCaptureBytes() < world.byteSize()) {
+                    hintedNs += t1 - t0;
+                    fullNs += t2 - t1;
+                    deltaScanned += hinted.getLastScannedBytes();
+                    deltas++;
+                }
+            }
+            long last = hinted.getFrameCount() - 1;
+            boolean exact = true;
+            for (long f = hinted.getOldestAvailableFrame(); f <= last; f++) {
+                long expected = f < 140 ? hashes[(int) f] : hashes[(int) f + 10];
+                exact &= hinted.restore(f, scratch) && WorldStateHasher.hash(scratch) == expected;
+                exact &= full.restore(f, scratch) && WorldStateHasher.hash(scratch) == expected;
+            }
+            check("hinted history restores every frame bit-exact", exact);
+
+            double scannedPct = 100.0 * deltaScanned / deltas / world.byteSize();
+            System.out.printf("[BENCH] delta capture: hinted %.3f ms (scans %.2f%% of the world), full scan %.3f ms%n",
+                    hintedNs / 1e6 / deltas, scannedPct, fullNs / 1e6 / deltas);
+            check("hinted capture scans < 5% of a world touched at 1%", scannedPct < 5.0);
+        }
+    }
+
+    private static void storesAndSoA() {
+        try (Arena arena = Arena.ofConfined()) {
+            VolcanStateVault vault = new VolcanStateVault(arena, 64 * 1024);
+            MemorySegment copy = arena.allocate(vault.getRawSegment().byteSize(), 64);
+            check("first incremental snapshot copies everything",
+                    vault.snapshotDirtyTo(copy) == vault.getRawSegment().byteSize());
+            vault.write(5, 42);
+            vault.writeLong(40_000, -7L);
+            vault.write(65_000, 9);
+            long copied = vault.snapshotDirtyTo(copy);
+            check("incremental vault snapshot == full snapshot (" + copied + " bytes copied)",
+                    copied == 3 * 64 && copy.mismatch(vault.getRawSegment()) == -1 && vault.snapshotDirtyTo(copy) == 0);
+            check("snapshot leaves the history tracker alone", vault.getDirtyTracker().getDirtySize() == 3 * 64
+                    && vault.getDirtyTracker().isDirty(20) && vault.getDirtyTracker().isDirty(65_000 * 4));
+            vault.write(6, 1);
+            vault.getDirtyTracker().clear(); // The history capture does not hide writes from the snapshot
+            check("history clear leaves the snapshot marks", vault.snapshotDirtyTo(copy) == 64
+                    && copy.mismatch(vault.getRawSegment()) == -1);
+            vault.getRawSegment().set(ValueLayout.JAVA_INT, 100, 3); // Behind the barrier, like a restore
+            vault.invalidateSnapshot();
+            check("invalidateSnapshot recopies everything", vault.snapshotDirtyTo(copy) == vault.getRawSegment().byteSize()
+                    && copy.mismatch(vault.getRawSegment()) == -1);
+
+            WorldStateFrame frame = new WorldStateFrame(arena, copy, 0L);
+            frame.writeFloat(4096, 1f);
+            frame.writeDouble(64 * 100 + 8, 2.0);
+            check("WorldStateFrame typed writes marked", frame.getDirtyTracker().getDirtySize() == 128
+                    && frame.getDirtyTracker().isDirty(4096) && frame.getDirtyTracker().isDirty(64 * 100));
+        }
+
+        SectorMemoryVault sectors = new SectorMemoryVault(1);
+        try {
+            sectors.writeLong(128, 1L);
+            sectors.writeInt(8192, 2);
+            sectors.copyFrom(1000, new byte[100], 0, 100); // Lines 15..17
+            long[] out = new long[6];
+            int n = sectors.getDirtyTracker().collectDirtyRanges(out);
+            check("SectorMemoryVault writes marked", n == 3 && out[0] == 128 && out[2] == 960 && out[3] == 1152
+                    && out[4] == 8192);
+        } finally {
+            sectors.close();
+        }
+
+        VolcanTransformSoA soa = new VolcanTransformSoA(1024);
+        try {
+            DirtyRegionTracker t = soa.getDirtyTracker();
+            soa.setEntity(100, 1, 2, 3, 0, 0, 0);
+            soa.swap(3, 900);
+            check("SoA setEntity / swap mark their entities", t.isDirty(100) && t.isDirty(3) && t.isDirty(900)
+                    && !t.isDirty(500));
+            t.clear();
+            sv.volcan.scene.VolcanKinematicsSystem.update(soa, DT, 0, 0, 0);
+            check("kinematics marks the entities it moved", t.getDirtySize() == soa.getCapacity());
+        } finally {
+            soa.destroy();
+        }
+    }
+
+    /**
+     * Writes 8 of 31 lines (bytes 2112+, unused by VolcanStateLayout) through the typed API; which ones moves every step (a counter kept in
+     * the state) and with the inputs, so consecutive frames touch different lines.
+     */
+    private static final class ScatterSystem implements GameSystem {
+        private static final long COUNTER = 2048;
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            int step = state.readInt(COUNTER) + 1;
+            state.writeInt(COUNTER, step);
+            int input = state.readInt(VolcanStateLayout.INPUT_LAST_SIGNAL) + state.readInt(VolcanStateLayout.INPUT_MOUSE_X);
+            for (int i = 0; i < 8; i++) {
+                long offset = 2112 + Math.floorMod(i * 7 + input + step * 5, 31) * 64L;
+                state.writeLong(offset, state.readLong(offset) * 31 + i + input);
+            }
+        }
+
+        @Override public String getName() { return "Scatter"; }
+    }
+
+    private static void kernelReplay() {
+        VolcanEventDispatcher bus = VolcanEventDispatcher.createDefault(10);
+        EngineKernel kernel = EngineKernel.createBatchKernel(bus, new SectorMemoryVault(16));
+        kernel.getSystemRegistry().registerGameSystem(new ScatterSystem());
+        try {
+            long[] hashes = new long[200];
+            for (int f = 0; f < 100; f++) {
+                if (f % 5 == 0) bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_KEY_DOWN, f));
+                kernel.step(DT);
+                hashes[f] = WorldStateHasher.hash(kernel.getCurrentState().getRawSegment());
+            }
+            check("systems ran through the typed API", kernel.getCurrentState().readInt(ScatterSystem.COUNTER) == 100);
+            long before = hashes[99];
+            boolean replay = kernel.rollbackTo(kernel.getHistoryFrameCount() - 20) == 20
+                    && WorldStateHasher.hash(kernel.getCurrentState().getRawSegment()) == before;
+            replay &= kernel.rollbackTo(kernel.getHistoryFrameCount() - 8) == 8
+                    && WorldStateHasher.hash(kernel.getCurrentState().getRawSegment()) == before;
+            check("kernel replay over hinted histories is exact", replay);
+
+            // Legacy one-frame rewind, then live frames: the next captures rescan everything
+            bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.SYS_ENGINE_ROLLBACK, 0));
+            kernel.step(DT);
+            long afterLegacy = WorldStateHasher.hash(kernel.getCurrentState().getRawSegment());
+            kernel.step(DT);
+            long present = WorldStateHasher.hash(kernel.getCurrentState().getRawSegment());
+            // Frame captured right after the rewind must restore exactly: the barrier did not see the rewind
+            check("replay after a legacy rewind is exact", kernel.rollbackTo(kernel.getHistoryFrameCount() - 1) == 1
+                    && WorldStateHasher.hash(kernel.getCurrentState().getRawSegment()) == present
+                    && afterLegacy != present);
+        } finally {
+            kernel.closeBatch();
+        }
+    }
+}
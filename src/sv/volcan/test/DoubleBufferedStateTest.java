@@ -0,0 +1,242 @@
+// Reading Order: 11100010
+//  226
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.bus.VolcanEventDispatcher;
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.AllocationAuditor;
+import sv.volcan.kernel.EngineKernel;
+import sv.volcan.memory.SectorMemoryVault;
+import sv.volcan.state.WorldStateFrame;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates the double-buffered WorldStateFrame: reads see the previous tick,
+ * publish() copies only what was written, and a kernel's result no longer depends on the order
+ * of systems that read each other's output.
+ * WHY: The point of the mode is dropping DAG edges; if a system could still see a same-tick
+ * write, the result would silently depend on scheduling.
+ * TECHNIQUE: Three systems with no declared dependencies read each other's slots. Run in both
+ * registration orders and on the fork-join executor, they must give the same world, equal to
+ * a plain Java model of the previous-tick semantics; a single-buffered frame gives different
+ * results for the two orders. rollbackTo must reproduce the same frames.
+ * GUARANTEES: Order-independent results with double buffering; publish cost proportional to
+ * the written regions; 0 bytes allocated per publish.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates double-buffered WorldStateFrame"
+)
+public class DoubleBufferedStateTest {
+
+    private static final long X = 2048;      // Position (Integrate writes)
+    private static final long V = 2048 + 64;  // Velocity (Damp writes, reads X)
+    private static final long Y = 2048 + 128; // Observer output (reads X and V)
+    private static final int FRAMES = 50;
+    private static final float DT = 1f / 60f;
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: DOUBLE-BUFFERED WORLD STATE");
+        System.out.println("=======================================================");
+
+        try {
+            if (!VolcanEngineConfig.KERNEL_STATE_DOUBLE_BUFFER) {
+                throw new IllegalStateException("run with -Dvolcan.kernel.state.double.buffer=true");
+            }
+            frameSemantics();
+            orderIndependence();
+            kernels();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] SYSTEMS READ THE PREVIOUS TICK, ORDER-INDEPENDENT");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] DOUBLE-BUFFERED STATE INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void frameSemantics() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment source = arena.allocate(64 * 1024, 64);
+            WorldStateFrame frame = new WorldStateFrame(arena, source, 0, true);
+            check("double-buffered frame", frame.isDoubleBuffered() && frame.getReadSegment() != frame.getRawSegment());
+
+            frame.writeLong(X, 42);
+            frame.writeInt(V, 7);
+            check("write not visible before publish", frame.readLong(X) == 0 && frame.readInt(V) == 0);
+            check("write lands in the raw (back) segment", frame.getRawSegment().get(java.lang.foreign.ValueLayout.JAVA_LONG, X) == 42);
+            long copied = frame.publish();
+            check("publish makes it readable", frame.readLong(X) == 42 && frame.readInt(V) == 7);
+            check("publish copies only the written regions (" + copied + " bytes)", copied == 2L * VolcanEngineConfig.MEMORY_DIRTY_GRANULARITY);
+            check("second publish copies nothing", frame.publish() == 0);
+
+            frame.getRawSegment().set(java.lang.foreign.ValueLayout.JAVA_LONG, 8192, 5);
+            frame.markWritten(8192, 8);
+            frame.publish();
+            check("markWritten publishes raw writes", frame.readLong(8192) == 5);
+
+            frame.getRawSegment().fill((byte) 1);
+            frame.invalidateFront();
+            check("invalidateFront republishes everything", frame.publish() == source.byteSize()
+                    && frame.getReadSegment().mismatch(frame.getRawSegment()) == -1);
+
+            long sink = 0;
+            for (int round = 0; round < 200; round++) sink += churn(frame, round); // C2 warm-up
+            long before = AllocationAuditor.threadAllocatedBytes();
+            for (int round = 0; round < 200; round++) sink += churn(frame, round);
+            long allocated = AllocationAuditor.threadAllocatedBytes() - before;
+            System.out.println("[INFO] Allocated over 200,000 write + publish: " + allocated + " bytes (sink " + sink + ")");
+            check("zero GC on write + publish", allocated == 0);
+
+            WorldStateFrame single = new WorldStateFrame(arena, source, 0);
+            single.writeLong(X, 9);
+            check("single-buffered frame reads its own writes", !single.isDoubleBuffered() && single.readLong(X) == 9
+                    && single.publish() == 0 && single.getReadSegment() == single.getRawSegment());
+        }
+    }
+
+    private static long churn(WorldStateFrame frame, int round) {
+        long copied = 0;
+        for (int i = 0; i < 1000; i++) {
+            frame.writeLong(X + ((i + round) & 63) * 64, i);
+            copied += frame.publish();
+        }
+        return copied;
+    }
+
+    /** Direct system calls: single buffering depends on the order, double buffering does not. */
+    private static void orderIndependence() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment source = arena.allocate(64 * 1024, 64);
+            long[] singleAB = runDirect(new WorldStateFrame(arena, source, 0, false), false);
+            long[] singleBA = runDirect(new WorldStateFrame(arena, source, 0, false), true);
+            long[] doubleAB = runDirect(new WorldStateFrame(arena, source, 0, true), false);
+            long[] doubleBA = runDirect(new WorldStateFrame(arena, source, 0, true), true);
+            long[] model = model(FRAMES);
+            check("single buffer: order changes the result", !java.util.Arrays.equals(singleAB, singleBA));
+            check("double buffer: same result in both orders", java.util.Arrays.equals(doubleAB, doubleBA));
+            check("double buffer matches the previous-tick model", java.util.Arrays.equals(doubleAB, model));
+        }
+    }
+
+    private static long[] runDirect(WorldStateFrame frame, boolean reversed) {
+        frame.writeLong(V, 3);
+        GameSystem[] systems = reversed
+                ? new GameSystem[] { new Observe(), new Damp(), new Integrate() }
+                : new GameSystem[] { new Integrate(), new Damp(), new Observe() };
+        for (int f = 0; f < FRAMES; f++) {
+            frame.publish();
+            for (GameSystem system : systems) system.update(frame, DT);
+        }
+        frame.publish();
+        return new long[] { frame.readLong(X), frame.readLong(V), frame.readLong(Y) };
+    }
+
+    private static void kernels() {
+        long[] ab = runKernel(false, false, -1);
+        long[] ba = runKernel(true, false, -1);
+        long[] forkJoin = runKernel(false, true, -1);
+        long[] rolledBack = runKernel(false, false, 30);
+        check("kernel: registration order does not matter", java.util.Arrays.equals(ab, ba));
+        check("kernel: fork-join executor, no dependencies, same world", java.util.Arrays.equals(ab, forkJoin));
+        check("kernel: matches the previous-tick model", java.util.Arrays.equals(ab, model(FRAMES)));
+        check("kernel: rollbackTo(30) resimulates the same frames", java.util.Arrays.equals(ab, rolledBack));
+    }
+
+    /** X, V, Y of the back buffer after FRAMES kernel steps (and an optional rollback). */
+    private static long[] runKernel(boolean reversed, boolean forkJoin, int rollbackTo) {
+        VolcanEventDispatcher bus = VolcanEventDispatcher.createDefault(10);
+        EngineKernel kernel = EngineKernel.createBatchKernel(bus, new SectorMemoryVault(16));
+        try {
+            WorldStateFrame state = kernel.getCurrentState();
+            state.writeLong(V, 3);
+            var registry = kernel.getSystemRegistry();
+            GameSystem[] systems = reversed
+                    ? new GameSystem[] { new Observe(), new Damp(), new Integrate() }
+                    : new GameSystem[] { new Integrate(), new Damp(), new Observe() };
+            for (GameSystem system : systems) registry.registerGameSystem(system);
+            if (forkJoin) {
+                registry.buildDependencyGraph();
+                registry.enableForkJoinMode();
+            }
+            for (int f = 0; f < FRAMES; f++) kernel.step(DT);
+            if (rollbackTo >= 0) {
+                check("rollback accepted", kernel.rollbackTo(rollbackTo) == FRAMES - rollbackTo);
+            }
+            MemorySegment raw = state.getRawSegment();
+            return new long[] { raw.get(java.lang.foreign.ValueLayout.JAVA_LONG, X),
+                    raw.get(java.lang.foreign.ValueLayout.JAVA_LONG, V),
+                    raw.get(java.lang.foreign.ValueLayout.JAVA_LONG, Y) };
+        } finally {
+            kernel.closeBatch();
+        }
+    }
+
+    /** Previous-tick semantics in plain Java. */
+    private static long[] model(int frames) {
+        long x = 0, v = 3, y = 0;
+        for (int f = 0; f < frames; f++) {
+            long nx = x + v;
+            long nv = v / 2 + (x & 7);
+            long ny = x * 31 + v;
+            x = nx;
+            v = nv;
+            y = ny;
+        }
+        return new long[] { x, v, y };
+    }
+
+    // -------------------------------------------------------------------------
+    // SYSTEMS (no declared dependencies)
+    // -------------------------------------------------------------------------
+
+    private static final class Integrate implements GameSystem {
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            state.writeLong(X, state.readLong(X) + state.readLong(V));
+        }
+
+        @Override public String getName() { return "Integrate"; }
+    }
+
+    private static final class Damp implements GameSystem {
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            state.writeLong(V, state.readLong(V) / 2 + (state.readLong(X) & 7));
+        }
+
+        @Override public String getName() { return "Damp"; }
+    }
+
+    private static final class Observe implements GameSystem {
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            state.writeLong(Y, state.readLong(X) * 31 + state.readLong(V));
+        }
+
+        @Override public String getName() { return "Observe"; }
+    }
+}
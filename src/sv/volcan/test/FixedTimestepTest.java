@@ -0,0 +1,212 @@
+// Reading Order: 11000000
+//  192
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.bus.VolcanEventDispatcher;
+import sv.volcan.bus.VolcanSignalCommands;
+import sv.volcan.bus.VolcanSignalPacker;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.EngineKernel;
+import sv.volcan.kernel.TimeKeeper;
+import sv.volcan.memory.SectorMemoryVault;
+import sv.volcan.state.VolcanStateLayout;
+import sv.volcan.state.WorldStateFrame;
+import sv.volcan.scene.VolcanKinematicsSystem;
+import sv.volcan.scene.VolcanTransformSoA;
+
+import java.lang.foreign.ValueLayout;
+import java.util.SplittableRandom;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates the fixed-step accumulator and render-state interpolation.
+ * WHY: With a variable deltaTime the same second of play integrates differently at 30 and at
+ * 240 FPS. The accumulator must make the simulation depend only on elapsed time.
+ * TECHNIQUE: Feeds the same total wall time as a steady 30 FPS stream and as random frame
+ * lengths into two TimeKeepers and integrates the same SoA with the resulting steps. Checks the
+ * spiral-of-death cap with a 1 s hitch and the published lerp against a scalar reference.
+ * GUARANTEES: Bitwise-identical positions for both frame-rate patterns; at most maxSubSteps per
+ * frame; alpha in [0, 1); no signal is lost when several arrive before a step runs.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates fixed-step simulation with interpolated publishing"
+)
+public class FixedTimestepTest {
+
+    private static final int HZ = 60;
+    private static final int ENTITIES = 1000; // Not a multiple of any SIMD width: exercises the tail
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: FIXED TIMESTEP & INTERPOLATION");
+        System.out.println("=======================================================");
+
+        try {
+            accumulatorAndCap();
+            frameRateIndependence();
+            interpolation();
+            signalQueue();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] SIMULATION IS FRAME-RATE INDEPENDENT");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] FIXED TIMESTEP INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void accumulatorAndCap() {
+        TimeKeeper time = new TimeKeeper();
+        time.setFixedStep(HZ, 4);
+        long step = time.getFixedStepNs();
+
+        check("one step per step-length frame", time.accumulate(step) == 1 && time.getInterpolationAlpha() == 0.0f);
+        check("short frame runs no step", time.accumulate(step / 2) == 0
+                && Math.abs(time.getInterpolationAlpha() - 0.5f) < 1e-3f);
+        check("remainder carries over", time.accumulate(step / 2) == 1);
+
+        int hitch = time.accumulate(1_000_000_000L); // Clamped to 250 ms = 15 steps
+        System.out.println("[TEST] 1s hitch: " + hitch + " steps, dropped " + time.getDroppedSteps()
+                + ", alpha " + time.getInterpolationAlpha());
+        check("spiral-of-death cap", hitch == 4 && time.getDroppedSteps() == 11
+                && time.getInterpolationAlpha() >= 0.0f && time.getInterpolationAlpha() < 1.0f);
+
+        time.setFixedStep(0, 4);
+        check("disabled = one variable step", !time.isFixedStep() && time.accumulate(step / 3) == 1);
+    }
+
+    private static void frameRateIndependence() {
+        int simulatedSteps = 2 * HZ;
+
+        TimeKeeper steady = new TimeKeeper();
+        steady.setFixedStep(HZ, 5);
+        long step = steady.getFixedStepNs();
+        long total = simulatedSteps * step;
+
+        TimeKeeper jittery = new TimeKeeper();
+        jittery.setFixedStep(HZ, 5);
+
+        VolcanTransformSoA a = newWorld();
+        VolcanTransformSoA b = newWorld();
+        try {
+            int stepsA = 0;
+            for (long t = 0; t < total; t += 2 * step) { // 30 FPS
+                stepsA += run(a, steady.accumulate(2 * step), steady.getFixedDeltaTime());
+            }
+
+            SplittableRandom random = new SplittableRandom(42);
+            int stepsB = 0;
+            long elapsed = 0;
+            while (elapsed < total) { // 240+ FPS with jitter and the odd 40 ms hitch
+                long frame = random.nextInt(10) == 0 ? 40_000_000L : 1_000_000L + random.nextLong(5_000_000L);
+                frame = Math.min(frame, total - elapsed);
+                elapsed += frame;
+                stepsB += run(b, jittery.accumulate(frame), jittery.getFixedDeltaTime());
+            }
+            System.out.println("[TEST] 2s simulated: " + stepsA + " steps at 30 FPS, " + stepsB + " steps jittery");
+
+            boolean identical = stepsA == simulatedSteps && stepsB == simulatedSteps;
+            for (int i = 0; i < ENTITIES && identical; i++) {
+                identical = a.globalPosX.getAtIndex(ValueLayout.JAVA_DOUBLE, i) == b.globalPosX.getAtIndex(ValueLayout.JAVA_DOUBLE, i)
+                        && a.globalPosY.getAtIndex(ValueLayout.JAVA_DOUBLE, i) == b.globalPosY.getAtIndex(ValueLayout.JAVA_DOUBLE, i);
+            }
+            check("same simulated time gives identical state", identical);
+        } finally {
+            a.destroy();
+            b.destroy();
+        }
+    }
+
+    private static void interpolation() {
+        TimeKeeper time = new TimeKeeper();
+        time.setFixedStep(HZ, 5);
+        long step = time.getFixedStepNs();
+        VolcanTransformSoA soa = newWorld();
+        try {
+            run(soa, time.accumulate(step + step / 4), time.getFixedDeltaTime());
+            float alpha = time.getInterpolationAlpha();
+            VolcanKinematicsSystem.interpolate(soa, alpha, 10.0, 0.0, 0.0);
+
+            boolean blended = true;
+            for (int i = 0; i < ENTITIES; i++) {
+                double prev = soa.prevGlobalPosX().getAtIndex(ValueLayout.JAVA_DOUBLE, i);
+                double cur = soa.globalPosX.getAtIndex(ValueLayout.JAVA_DOUBLE, i);
+                float expected = (float) (prev + (cur - prev) * alpha - 10.0);
+                blended &= prev != cur && Math.abs(soa.posX.getAtIndex(ValueLayout.JAVA_FLOAT, i) - expected) < 1e-4f;
+            }
+            System.out.println("[TEST] alpha after 1.25 steps: " + alpha);
+            check("alpha is the leftover fraction", Math.abs(alpha - 0.25f) < 1e-3f);
+            check("published positions blend prev/current", blended);
+        } finally {
+            soa.destroy();
+        }
+    }
+
+    /** Signals routed before a step runs (a frame with 0 steps, or a burst) latch one per step. */
+    private static void signalQueue() {
+        VolcanEventDispatcher bus = VolcanEventDispatcher.createDefault(10);
+        EngineKernel kernel = EngineKernel.createBatchKernel(bus, new SectorMemoryVault(16));
+        try {
+            kernel.getTimeKeeper().setFixedStep(HZ, 5);
+            int[] seen = new int[5];
+            int[] steps = {0};
+            kernel.getSystemRegistry().registerGameSystem(new GameSystem() {
+                @Override
+                public void update(WorldStateFrame state, float deltaTime) {
+                    seen[steps[0]++] = state.readInt(VolcanStateLayout.INPUT_LAST_SIGNAL);
+                }
+
+                @Override
+                public String getName() { return "SignalProbe"; }
+            });
+            bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_KEY_DOWN, 11));
+            bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_KEY_DOWN, 12));
+            bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_KEY_UP, 13));
+            for (int f = 0; f < 4; f++) kernel.step(1f / HZ);
+            System.out.println("[TEST] Signal seen per step: " + java.util.Arrays.toString(seen));
+            check("each queued signal reaches its own step", seen[0] == 11 && seen[1] == 12 && seen[2] == 13 && seen[3] == 13);
+
+            steps[0] = 0;
+            check("rollback replays the queue", kernel.rollbackTo(1) == 3 && seen[0] == 12 && seen[1] == 13 && seen[2] == 13);
+        } finally {
+            kernel.closeBatch();
+        }
+    }
+
+    private static VolcanTransformSoA newWorld() {
+        VolcanTransformSoA soa = new VolcanTransformSoA(ENTITIES);
+        soa.enableInterpolation();
+        for (int i = 0; i < ENTITIES; i++) {
+            soa.setEntity(i, i, -i, 0.0, 3.0f + i % 7, 60.0f, 0.0f);
+        }
+        soa.getKinematicsCursor().setSliceNs(0L); // Whole array every step
+        return soa;
+    }
+
+    private static int run(VolcanTransformSoA soa, int steps, float dt) {
+        for (int s = 0; s < steps; s++) {
+            soa.capturePrevious();
+            VolcanKinematicsSystem.update(soa, dt, 0.0, 0.0, 0.0);
+        }
+        return steps;
+    }
+}
@@ -0,0 +1,235 @@
+// Reading Order: 11000010
+//  194
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.ForkJoinSystemExecutor;
+import sv.volcan.kernel.ParallelSystemExecutor;
+import sv.volcan.kernel.SystemDependencyGraph;
+import sv.volcan.kernel.SystemRegistry;
+import sv.volcan.kernel.SystemSchedule;
+import sv.volcan.kernel.VolcanTaskDispatcher;
+import sv.volcan.kernel.VolcanTaskGraph;
+import sv.volcan.state.WorldStateFrame;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.util.concurrent.TimeUnit;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates the fork-join layer executor against the layer and DAG executors.
+ * WHY: Chaining layers through CountedCompleter completion removes the spin barrier, but a
+ * mis-wired completer would start a layer before the previous one ended, or never finish a frame.
+ * TECHNIQUE: Systems record their start/end time; every system must start after all of its
+ * dependencies ended, every frame. Then 4..256 chained systems in 4 layers run on all three
+ * executors and on a plain sequential loop; the resulting worlds must be byte-identical.
+ * GUARANTEES: Layer order, multi-rate schedules, exception isolation, hot-swap on the shared pool,
+ * and the same result as the layer and DAG executors.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = false,
+    notes = "Validates barrier-free fork-join layer execution"
+)
+public class ForkJoinExecutorTest {
+
+    private static final int FRAMES = 200;
+    private static final long CHAIN_BASE = 4096; // Byte offset of the ChainSystem slots
+
+    private static final class TimedSystem implements GameSystem {
+        private final String name;
+        private final String[] deps;
+        private final long busyNs;
+        private final boolean throwing;
+        volatile long startNs;
+        volatile long endNs;
+        volatile int runs;
+
+        TimedSystem(String name, long busyNs, boolean throwing, String... deps) {
+            this.name = name;
+            this.busyNs = busyNs;
+            this.throwing = throwing;
+            this.deps = deps;
+        }
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            startNs = System.nanoTime();
+            long end = startNs + busyNs;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            runs++;
+            endNs = System.nanoTime();
+            if (throwing) throw new IllegalStateException("boom");
+        }
+
+        @Override public String getName() { return name; }
+        @Override public String[] getDependencies() { return deps; }
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: FORK-JOIN LAYER EXECUTOR");
+        System.out.println("=======================================================");
+
+        try {
+            layerOrderAndHotSwap();
+            compareExecutors();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] LAYERS CHAINED WITHOUT BARRIERS, ORDER PRESERVED");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] FORK-JOIN EXECUTOR INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void layerOrderAndHotSwap() throws Exception {
+        TimedSystem input = new TimedSystem("Input", 20_000L, false);
+        TimedSystem physics = new TimedSystem("Physics", 50_000L, false, "Input");
+        TimedSystem ai = new TimedSystem("AI", 30_000L, true, "Input");        // Throws every frame
+        TimedSystem audio = new TimedSystem("Audio", 10_000L, false, "Input");
+        TimedSystem slow = new TimedSystem("HalfRate", 10_000L, false, "Input");
+        TimedSystem render = new TimedSystem("RenderPrep", 10_000L, false, "Physics", "AI");
+
+        SystemRegistry registry = new SystemRegistry();
+        registry.registerGameSystem(input);
+        registry.registerGameSystem(physics);
+        registry.registerGameSystem(ai);
+        registry.registerGameSystem(audio);
+        registry.registerGameSystem(slow, SystemSchedule.everyNTicks(2, 0));
+        registry.registerGameSystem(render);
+        registry.buildDependencyGraph();
+        registry.enableForkJoinMode();
+        check("fork-join mode active", registry.isForkJoinMode() && !registry.isDAGMode() && !registry.isParallelMode());
+
+        boolean ordered = true;
+        for (int f = 0; f < FRAMES; f++) {
+            registry.executeGameSystems(null, 1f / 60f);
+            long inputEnd = input.endNs;
+            ordered &= physics.startNs >= inputEnd && ai.startNs >= inputEnd && audio.startNs >= inputEnd;
+            ordered &= render.startNs >= physics.endNs && render.startNs >= ai.endNs;
+        }
+        check("dependencies end before dependents start", ordered);
+        check("every system ran every frame", input.runs == FRAMES && physics.runs == FRAMES
+                && render.runs == FRAMES && ai.runs == FRAMES);
+        check("multi-rate schedule honoured", slow.runs == FRAMES / 2);
+        check("profiler attached", registry.getProfiler() == registry.getForkJoinExecutor().getProfiler()
+                && registry.getProfiler().getSystemCount() == 6);
+
+        TimedSystem late = new TimedSystem("Late", 5_000L, false, "RenderPrep");
+        check("hot-register staged", registry.hotRegisterGameSystem(late).get(5, TimeUnit.SECONDS));
+        boolean lateOrdered = true;
+        for (int f = 0; f < 50; f++) {
+            registry.executeGameSystems(null, 1f / 60f);
+            lateOrdered &= late.startNs >= render.endNs;
+        }
+        System.out.println("[TEST] Hot-swapped system runs: " + late.runs);
+        check("hot-swapped topology runs on the same pool", late.runs == 50 && lateOrdered
+                && registry.getForkJoinExecutor().getProfiler().getSystemCount() == 7);
+        registry.shutdown();
+    }
+
+    /** The three executors and a plain layer-by-layer loop must produce the same world. */
+    private static void compareExecutors() {
+        for (int systems : new int[] {4, 16, 64, 256}) {
+            SystemDependencyGraph graph = layeredGraph(systems);
+            GameSystem[][] layers = graph.getExecutionLayers();
+
+            ParallelSystemExecutor layer = new ParallelSystemExecutor(layers);
+            ForkJoinSystemExecutor forkJoin = new ForkJoinSystemExecutor(layers);
+            VolcanTaskGraph taskGraph = new VolcanTaskGraph();
+            taskGraph.compile(graph);
+            VolcanTaskDispatcher dag = new VolcanTaskDispatcher(taskGraph);
+            try (Arena arena = Arena.ofShared()) { // Written by the worker threads
+                MemorySegment sequential = run(arena, (state, dt) -> {
+                    for (GameSystem[] systemsInLayer : layers) {
+                        for (GameSystem system : systemsInLayer) system.update(state, dt);
+                    }
+                });
+                boolean sameLayer = sequential.mismatch(run(arena, layer::execute)) == -1;
+                boolean sameForkJoin = sequential.mismatch(run(arena, forkJoin::execute)) == -1;
+                boolean sameDag = sequential.mismatch(run(arena, dag::execute)) == -1;
+                check(systems + " systems: layer / fork-join / DAG match the sequential world",
+                        sameLayer && sameForkJoin && sameDag);
+            } finally {
+                layer.shutdown();
+                forkJoin.shutdown();
+                dag.shutdown();
+            }
+        }
+    }
+
+    private interface Frame {
+        void run(WorldStateFrame state, float deltaTime);
+    }
+
+    /** World after FRAMES frames of {@code frame}, starting from zero. */
+    private static MemorySegment run(Arena arena, Frame frame) {
+        MemorySegment world = arena.allocate(CHAIN_BASE + 256 * 8, 64);
+        WorldStateFrame state = new WorldStateFrame(arena, world, 0);
+        for (int i = 0; i < FRAMES; i++) frame.run(state, 1f / 60f);
+        return state.getRawSegment();
+    }
+
+    /** {@code systems} spread over 4 layers; each system depends on its twin in the previous layer. */
+    private static SystemDependencyGraph layeredGraph(int systems) {
+        SystemDependencyGraph graph = new SystemDependencyGraph();
+        int width = systems / 4;
+        for (int layer = 0; layer < 4; layer++) {
+            for (int i = 0; i < width; i++) {
+                ChainSystem system = new ChainSystem(layer, i, width);
+                graph.addSystem(system, system.getDependencies());
+            }
+        }
+        graph.validate();
+        return graph;
+    }
+
+    /**
+     * Folds its twin of the previous layer (layer 0: its own last value) into its own slot:
+     * running before that twin finished changes the result.
+     */
+    private static final class ChainSystem implements GameSystem {
+        private final String name;
+        private final String[] deps;
+        private final long slot;
+        private final long input;
+        private final int id;
+
+        ChainSystem(int layer, int i, int width) {
+            this.name = "S" + layer + "_" + i;
+            this.deps = layer == 0 ? new String[0] : new String[] {"S" + (layer - 1) + "_" + i};
+            this.id = layer * width + i;
+            this.slot = CHAIN_BASE + 8L * id;
+            this.input = layer == 0 ? slot : slot - 8L * width;
+        }
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            state.writeLong(slot, state.readLong(input) * 31 + id + 1);
+        }
+
+        @Override public String getName() { return name; }
+        @Override public String[] getDependencies() { return deps; }
+    }
+}
@@ -0,0 +1,191 @@
+// Reading Order: 10111111
+//  191
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.bus.VolcanAtomicBus;
+import sv.volcan.kernel.FrameBudget;
+import sv.volcan.kernel.MetricsPacker;
+import sv.volcan.kernel.WorkCursor;
+import sv.volcan.scene.VolcanKinematicsSystem;
+import sv.volcan.scene.VolcanTransformSoA;
+
+import java.lang.foreign.ValueLayout;
+import java.util.Arrays;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates cooperative preemption: deferral, resumption and deferred-work reports.
+ * WHY: Cutting a system at its deadline is only safe if the cut work comes back next frame with
+ * its elapsed time; otherwise overload silently freezes the tail of the entity array.
+ * TECHNIQUE: A synthetic workload spins per chunk so a tight slice defers most of it; the test
+ * tracks which chunks ran in which frame. A 1 ns slice on the kinematics cursor degrades it to one
+ * chunk per frame, after which every entity must still have integrated exactly frames * dt.
+ * GUARANTEES: Every chunk runs at least once per full rotation; framesSinceLastRun adds up to the
+ * frame count; an unbounded budget never defers.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates frame-budget deferral and resumption"
+)
+public class FrameBudgetTest {
+
+    private static final int CHUNKS = 10;
+    private static final long CHUNK_WORK_NS = 400_000L;
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: FRAME BUDGET & DEFERRED WORK");
+        System.out.println("=======================================================");
+
+        try {
+            sliceDefersAndResumes();
+            frameDeadlineCapsSlice();
+            unboundedNeverDefers();
+            kinematicsCatchesUp();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] DEFERRED WORK RESUMES NEXT FRAME WITHOUT LOSING TIME");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] FRAME BUDGET INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void sliceDefersAndResumes() {
+        FrameBudget budget = new FrameBudget(1_000_000_000L, 0);
+        WorkCursor cursor = new WorkCursor("Synthetic", 1_000_000L); // ~3 chunks per frame
+        budget.register(cursor);
+        VolcanAtomicBus bus = new VolcanAtomicBus(6);
+
+        long[] runs = new long[CHUNKS];
+        long[] catchUp = new long[CHUNKS];
+        long[] lastFrame = new long[CHUNKS];
+        int firstChunkFrame2 = -1;
+        int lastChunkFrame1 = -1;
+        int frames = 12;
+        for (int frame = 1; frame <= frames; frame++) {
+            budget.beginFrame(System.nanoTime());
+            cursor.begin((long) CHUNKS * WorkCursor.CHUNK);
+            boolean first = true;
+            while (cursor.next()) {
+                int chunk = (int) (cursor.from() / WorkCursor.CHUNK);
+                if (frame == 1) lastChunkFrame1 = chunk;
+                if (frame == 2 && first) firstChunkFrame2 = chunk;
+                first = false;
+                runs[chunk]++;
+                catchUp[chunk] += cursor.framesSinceLastRun();
+                lastFrame[chunk] = frame;
+                spin(CHUNK_WORK_NS);
+            }
+            budget.endFrame();
+            if (frame == 1) {
+                check("first frame deferred", cursor.getLastDeferredItems() > 0
+                        && budget.getLastDeferredItems() == cursor.getLastDeferredItems());
+                budget.publish(bus);
+                long metric = bus.poll();
+                check("deferred work published", MetricsPacker.getMetricType(metric) == MetricsPacker.TYPE_DEFERRED_WORK
+                        && MetricsPacker.unpackProfileIndex(metric) == 0
+                        && MetricsPacker.unpackDeferredItems(metric) == cursor.getLastDeferredItems()
+                        && "Synthetic".equals(budget.getCursorName(0)));
+            }
+        }
+        System.out.println("[TEST] Slice 1ms: runs per chunk " + Arrays.toString(runs)
+                + " | frames with deferral " + budget.getFramesWithDeferral());
+
+        check("resumes where it stopped", firstChunkFrame2 == (lastChunkFrame1 + 1) % CHUNKS);
+        boolean allRan = true;
+        boolean timeConserved = true;
+        for (int c = 0; c < CHUNKS; c++) {
+            allRan &= runs[c] > 0;
+            timeConserved &= catchUp[c] == lastFrame[c];
+        }
+        check("every chunk ran", allRan);
+        check("framesSinceLastRun sums to elapsed frames", timeConserved);
+        check("deferral counted", budget.getFramesWithDeferral() > 0 && cursor.getFramesDeferred() > 0);
+    }
+
+    private static void frameDeadlineCapsSlice() {
+        FrameBudget budget = new FrameBudget(1_000_000L, 0);
+        WorkCursor cursor = new WorkCursor("Unsliced", 0); // Only the frame deadline applies
+        budget.register(cursor);
+        budget.beginFrame(System.nanoTime());
+        cursor.begin((long) CHUNKS * WorkCursor.CHUNK);
+        int ran = 0;
+        while (cursor.next()) {
+            ran++;
+            spin(CHUNK_WORK_NS);
+        }
+        budget.endFrame();
+        System.out.println("[TEST] Frame deadline 1ms: " + ran + " chunks");
+        check("frame deadline stops an unsliced cursor", ran < CHUNKS && cursor.getLastDeferredItems() > 0);
+    }
+
+    private static void unboundedNeverDefers() {
+        FrameBudget budget = FrameBudget.unbounded();
+        WorkCursor cursor = new WorkCursor("Batch", 1L); // Slice ignored under an unbounded budget
+        budget.register(cursor);
+        budget.beginFrame(System.nanoTime());
+        cursor.begin((long) CHUNKS * WorkCursor.CHUNK);
+        int ran = 0;
+        while (cursor.next()) {
+            ran++;
+            spin(CHUNK_WORK_NS / 4);
+        }
+        budget.endFrame();
+        check("unbounded budget processes everything", ran == CHUNKS && budget.getLastDeferredItems() == 0);
+    }
+
+    private static void kinematicsCatchesUp() {
+        int entities = 5 * WorkCursor.CHUNK - 100; // Last chunk exercises the scalar tail
+        VolcanTransformSoA soa = new VolcanTransformSoA(entities);
+        try {
+            for (int i = 0; i < entities; i++) {
+                soa.setEntity(i, 0.0, 0.0, 0.0, 1.0f, 2.0f, 0.0f);
+            }
+            WorkCursor cursor = soa.getKinematicsCursor();
+            cursor.setSliceNs(1L); // Guaranteed progress only: one chunk per frame
+            int frames = 10;       // Two rotations of 5 chunks, then one unsliced frame
+            for (int f = 0; f < frames; f++) {
+                VolcanKinematicsSystem.update(soa, 1.0f, 0.0, 0.0, 0.0);
+            }
+            cursor.setSliceNs(0L); // Load drops: one full pass catches every chunk up
+            VolcanKinematicsSystem.update(soa, 1.0f, 0.0, 0.0, 0.0);
+            frames++;
+            boolean exact = true;
+            for (int i = 0; i < entities; i++) {
+                exact &= soa.globalPosX.getAtIndex(ValueLayout.JAVA_DOUBLE, i) == frames
+                        && soa.globalPosY.getAtIndex(ValueLayout.JAVA_DOUBLE, i) == 2.0 * frames
+                        && soa.posX.getAtIndex(ValueLayout.JAVA_FLOAT, i) == frames;
+            }
+            System.out.println("[TEST] Kinematics at one chunk/frame: deferred passes " + cursor.getFramesDeferred());
+            check("deferred entities integrate the full elapsed time", exact && cursor.getFramesDeferred() == frames - 1);
+        } finally {
+            soa.destroy();
+        }
+    }
+
+    private static void spin(long ns) {
+        long end = System.nanoTime() + ns;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
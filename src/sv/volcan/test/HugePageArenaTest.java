@@ -0,0 +1,244 @@
+// Reading Order: 11011011
+//  219
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.memory.HugePageArena;
+import sv.volcan.memory.SectorMemoryVault;
+import sv.volcan.physics.VolcanColliderSoA;
+import sv.volcan.scene.VolcanTransformSoA;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates HugePageArena: 2 MB alignment, huge-page advice, pre-fault, small
+ * allocations delegated, unmapping on close, and the vault/SoAs built on it.
+ * WHY: A region that silently lost its advice (or its alignment) still works, only slower, so
+ * nothing else in the suite would notice.
+ * TECHNIQUE: Reads /proc/self/smaps for the mapping of each big allocation: the "hg" VmFlag is
+ * the kernel's record of MADV_HUGEPAGE, Rss shows what the pre-fault brought in. AnonHugePages
+ * and first-touch timings are printed, not checked (they depend on free memory). Needs
+ * volcan.memory.huge.pages for the vault/SoA checks.
+ * GUARANTEES: Zeroed, writable, 2 MB-aligned memory from big allocations; plain arena
+ * behaviour for small ones; nothing left mapped after close().
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates HugePageArena"
+)
+public class HugePageArenaTest {
+
+    private static final long MB = 1024L * 1024;
+    private static final boolean LINUX = HugePageArena.isSupported();
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: HUGE PAGE ARENA");
+        System.out.println("=======================================================");
+        System.out.println("[INFO] Native mmap/madvise: " + LINUX + ", THP: " + thpMode());
+
+        try {
+            if (!VolcanEngineConfig.MEMORY_HUGE_PAGES) {
+                throw new IllegalStateException("run with -Dvolcan.memory.huge.pages=true");
+            }
+            bigAllocation();
+            smallAllocation();
+            prefault();
+            closeUnmaps();
+            engineRegions();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] BIG REGIONS 2 MB-ALIGNED AND ADVISED");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] HUGE PAGE ARENA INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void bigAllocation() throws IOException {
+        try (HugePageArena arena = new HugePageArena(Arena.ofShared(), false)) {
+            long size = 5 * MB + 123;
+            MemorySegment segment = arena.allocate(size, 64);
+            check("Big allocation 2 MB aligned", segment.address() % HugePageArena.HUGE_PAGE_SIZE == 0);
+            check("Big allocation exact size", segment.byteSize() == size);
+
+            boolean zero = true;
+            for (long offset = 0; offset < size; offset += 4096) {
+                zero &= segment.get(ValueLayout.JAVA_BYTE, offset) == 0;
+            }
+            zero &= segment.get(ValueLayout.JAVA_BYTE, size - 1) == 0;
+            check("Big allocation zero-filled", zero);
+
+            for (long offset = 0; offset + 8 <= size; offset += 4096) {
+                segment.set(ValueLayout.JAVA_LONG_UNALIGNED, offset, offset ^ 0x5A5A5A5AL);
+            }
+            boolean readBack = true;
+            for (long offset = 0; offset + 8 <= size; offset += 4096) {
+                readBack &= segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offset) == (offset ^ 0x5A5A5A5AL);
+            }
+            check("Big allocation read/write", readBack);
+
+            if (LINUX) {
+                List<String> mapping = smapsEntry(segment.address());
+                check("Mapping advised for huge pages (VmFlags hg)", mapping != null && vmFlags(mapping).contains(" hg"));
+                check("Alignment slack unmapped (mapping is 6 MB)", field(mapping, "Size") == 6 * 1024);
+                System.out.println("[INFO] AnonHugePages after touch: " + field(mapping, "AnonHugePages") + " kB");
+                check("Arena counts mapped bytes", arena.getMappedBytes() == 6 * MB);
+            }
+        }
+    }
+
+    private static void smallAllocation() {
+        try (HugePageArena arena = new HugePageArena(Arena.ofShared(), true)) {
+            MemorySegment small = arena.allocate(1000, 64);
+            check("Small allocation delegated (size, alignment)", small.byteSize() == 1000 && small.address() % 64 == 0);
+            small.set(ValueLayout.JAVA_INT, 996, 42);
+            check("Small allocation usable", small.get(ValueLayout.JAVA_INT, 996) == 42);
+            check("Small allocation not mapped", arena.getMappedBytes() == 0);
+        }
+    }
+
+    private static void prefault() throws IOException {
+        long size = 8 * MB;
+        long lazyNs;
+        long prefaultNs;
+        long allocNs;
+        try (HugePageArena arena = new HugePageArena(Arena.ofShared(), false)) {
+            MemorySegment segment = arena.allocate(size, 64);
+            if (LINUX) {
+                check("Lazy mapping not resident before touch", field(smapsEntry(segment.address()), "Rss") < size / 1024 / 2);
+            }
+            lazyNs = touch(segment);
+        }
+        try (HugePageArena arena = new HugePageArena(Arena.ofShared(), true)) {
+            long start = System.nanoTime();
+            MemorySegment segment = arena.allocate(size, 64);
+            allocNs = System.nanoTime() - start;
+            if (LINUX) {
+                check("Pre-faulted mapping resident at allocation", field(smapsEntry(segment.address()), "Rss") >= size / 1024);
+            }
+            prefaultNs = touch(segment);
+            boolean zero = true;
+            for (long offset = 0; offset < size; offset += 4096) {
+                zero &= segment.get(ValueLayout.JAVA_BYTE, offset + 8) == 0;
+            }
+            check("Pre-fault keeps contents zero", zero);
+        }
+        System.out.printf("[INFO] First touch of 8 MB: lazy %.2f ms, pre-faulted %.2f ms (pre-fault at allocation %.2f ms)%n",
+                lazyNs / 1e6, prefaultNs / 1e6, allocNs / 1e6);
+
+        try (Arena plain = Arena.ofConfined()) {
+            MemorySegment segment = plain.allocate(64 * 1024, 4096);
+            segment.set(ValueLayout.JAVA_INT, 128, 7);
+            HugePageArena.prefault(segment);
+            check("prefault() on an existing segment keeps data", segment.get(ValueLayout.JAVA_INT, 128) == 7);
+        }
+    }
+
+    private static void closeUnmaps() throws IOException {
+        HugePageArena arena = new HugePageArena(Arena.ofShared(), false);
+        MemorySegment segment = arena.allocate(4 * MB, 64);
+        long address = segment.address();
+        arena.close();
+        check("Scope dead after close", !arena.scope().isAlive() && !segment.scope().isAlive());
+        if (LINUX) {
+            check("Region unmapped after close", smapsEntry(address) == null);
+        }
+    }
+
+    private static void engineRegions() {
+        SectorMemoryVault vault = new SectorMemoryVault(64); // 4 MB
+        long vaultAddress = vault.getSegment().address();
+        vault.close();
+        check("Vault on a 2 MB boundary", vaultAddress % HugePageArena.HUGE_PAGE_SIZE == 0);
+
+        VolcanTransformSoA transforms = new VolcanTransformSoA(1_000_000);
+        check("Transform SoA column on a 2 MB boundary", transforms.posX.address() % HugePageArena.HUGE_PAGE_SIZE == 0);
+        transforms.destroy();
+
+        VolcanColliderSoA colliders = new VolcanColliderSoA(1_000_000);
+        check("Collider SoA column on a 2 MB boundary", colliders.radius.address() % HugePageArena.HUGE_PAGE_SIZE == 0);
+        colliders.destroy();
+    }
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    private static long touch(MemorySegment segment) {
+        long start = System.nanoTime();
+        for (long offset = 0; offset < segment.byteSize(); offset += 4096) {
+            segment.set(ValueLayout.JAVA_BYTE, offset, (byte) 1);
+        }
+        return System.nanoTime() - start;
+    }
+
+    /** The smaps lines of the mapping containing {@code address}, or null. */
+    private static List<String> smapsEntry(long address) throws IOException {
+        List<String> lines = Files.readAllLines(Path.of("/proc/self/smaps"));
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (!line.matches("[0-9a-f]+-[0-9a-f]+ .*")) continue; // Mapping header
+            int dash = line.indexOf('-');
+            int space = line.indexOf(' ');
+            long start = Long.parseUnsignedLong(line.substring(0, dash), 16);
+            long end = Long.parseUnsignedLong(line.substring(dash + 1, space), 16);
+            if (address >= start && address < end) {
+                int j = i + 1;
+                while (j < lines.size() && !lines.get(j).startsWith("VmFlags")) j++;
+                return lines.subList(i, Math.min(j + 1, lines.size()));
+            }
+        }
+        return null;
+    }
+
+    private static long field(List<String> mapping, String name) {
+        if (mapping == null) return -1;
+        for (String line : mapping) {
+            if (line.startsWith(name + ":")) {
+                return Long.parseLong(line.substring(name.length() + 1).replace("kB", "").trim());
+            }
+        }
+        return -1;
+    }
+
+    private static String vmFlags(List<String> mapping) {
+        for (String line : mapping) {
+            if (line.startsWith("VmFlags:")) return line.substring("VmFlags:".length()) + " ";
+        }
+        return "";
+    }
+
+    private static String thpMode() {
+        try {
+            return Files.readString(Path.of("/sys/kernel/mm/transparent_hugepage/enabled")).trim();
+        } catch (IOException e) {
+            return "n/a";
+        }
+    }
+}
@@ -0,0 +1,160 @@
+// Reading Order: 10111001
+//  185
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.EngineKernel;
+import sv.volcan.kernel.VolcanWorldHost;
+import sv.volcan.state.WorldStateFrame;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * RESPONSIBILITY: Validates several live worlds in one JVM (shared and partitioned DAG workers).
+ * WHY: A hosted world must never halt the JVM, close the process logger, stop another world's
+ * control plane or run another world's systems.
+ * TECHNIQUE: Worlds run a fan-out / fan-in DAG counting into a per-world counter. One world is
+ * stopped while the others keep running; then the host closes everything. Runs WITHOUT the
+ * nohalt property: a standalone-style shutdown would kill the process before the verdict.
+ * GUARANTEES: Per world, runs == frames * nodes. Surviving worlds keep advancing after a sibling
+ * stops. The shared pool ends with no dispatcher attached.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates isolated multi-world hosting"
+)
+public class MultiWorldHostTest {
+
+    private static final int WORLDS = 4;
+    private static final int WIDTH = 4;
+    private static final int NODES = WIDTH + 2;
+
+    private static final class CountingSystem implements GameSystem {
+        private final String name;
+        private final String[] deps;
+        private final AtomicLong runs;
+
+        CountingSystem(String name, AtomicLong runs, String... deps) {
+            this.name = name;
+            this.runs = runs;
+            this.deps = deps;
+        }
+
+        @Override public void update(WorldStateFrame state, float deltaTime) { runs.incrementAndGet(); }
+        @Override public String getName() { return name; }
+        @Override public String[] getDependencies() { return deps; }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: MULTI-WORLD HOST (ONE JVM)");
+        System.out.println("=======================================================");
+
+        try {
+            boolean ok = runShared();
+            ok &= runPartitioned();
+
+            if (ok) {
+                System.out.println("\n[PASSED] WORLDS ISOLATED; STOPPING ONE LEFT THE OTHERS AND THE JVM RUNNING");
+                System.exit(0);
+            } else {
+                System.err.println("\n[FAILED] MULTI-WORLD ISOLATION BROKEN");
+                System.exit(1);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static boolean runShared() {
+        VolcanWorldHost host = VolcanWorldHost.shared(2, -1, true);
+        EngineKernel[] kernels = new EngineKernel[WORLDS];
+        AtomicLong[] runs = new AtomicLong[WORLDS];
+        for (int w = 0; w < WORLDS; w++) {
+            runs[w] = new AtomicLong();
+            kernels[w] = host.createWorld(16);
+            configure(kernels[w], runs[w]);
+        }
+        boolean ok = host.getSharedPool().getAttachedCount() == WORLDS;
+        host.startAll();
+        LockSupport.parkNanos(400_000_000L);
+
+        // Stop world 0 alone: the others must keep ticking
+        host.stop(kernels[0]);
+        long[] framesAtStop = new long[WORLDS];
+        for (int w = 1; w < WORLDS; w++) framesAtStop[w] = kernels[w].getTotalFrames();
+        LockSupport.parkNanos(300_000_000L);
+        boolean survivorsAdvanced = true;
+        for (int w = 1; w < WORLDS; w++) {
+            survivorsAdvanced &= kernels[w].getTotalFrames() > framesAtStop[w];
+        }
+        int attachedAfterStop = host.getSharedPool().getAttachedCount();
+        host.close();
+
+        for (int w = 0; w < WORLDS; w++) {
+            long frames = kernels[w].getTotalFrames();
+            boolean exact = frames > 0 && runs[w].get() == frames * NODES;
+            System.out.println("[TEST] Shared world " + kernels[w].getWorldId() + ": frames=" + frames
+                    + " runs=" + runs[w].get() + (exact ? "" : " (Expected: " + frames * NODES + ")"));
+            ok &= exact;
+        }
+        System.out.println("[TEST] Survivors advanced after sibling stop: " + survivorsAdvanced
+                + " | attached after stop: " + attachedAfterStop + " | after close: "
+                + host.getSharedPool().getAttachedCount());
+        return ok && survivorsAdvanced && attachedAfterStop == WORLDS - 1
+                && host.getSharedPool().getAttachedCount() == 0 && host.getWorldCount() == 0;
+    }
+
+    private static boolean runPartitioned() {
+        VolcanWorldHost host = VolcanWorldHost.partitioned(1, -1, false);
+        EngineKernel a = host.createWorld(16);
+        EngineKernel b = host.createWorld(16);
+        AtomicLong runsA = new AtomicLong();
+        AtomicLong runsB = new AtomicLong();
+        configure(a, runsA);
+        configure(b, runsB);
+        host.startAll();
+        LockSupport.parkNanos(300_000_000L);
+
+        int partitionWorkers = 0;
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.isAlive() && t.getName().startsWith("VolcanWorld-") && t.getName().contains("-Worker-")) {
+                partitionWorkers++;
+            }
+        }
+        host.close();
+
+        boolean ok = a.getTotalFrames() > 0 && runsA.get() == a.getTotalFrames() * NODES
+                && b.getTotalFrames() > 0 && runsB.get() == b.getTotalFrames() * NODES;
+        System.out.println("[TEST] Partitioned: frames=" + a.getTotalFrames() + "/" + b.getTotalFrames()
+                + " runs=" + runsA.get() + "/" + runsB.get() + " | partition workers: " + partitionWorkers);
+        return ok && partitionWorkers == 2;
+    }
+
+    private static void configure(EngineKernel kernel, AtomicLong runs) {
+        var registry = kernel.getSystemRegistry();
+        registry.registerGameSystem(new CountingSystem("Source", runs));
+        String[] fanIn = new String[WIDTH];
+        for (int i = 0; i < WIDTH; i++) {
+            fanIn[i] = "Wide" + i;
+            registry.registerGameSystem(new CountingSystem(fanIn[i], runs, "Source"));
+        }
+        registry.registerGameSystem(new CountingSystem("Sink", runs, fanIn));
+        registry.buildDependencyGraph();
+        registry.enableDAGMode();
+    }
+}
@@ -0,0 +1,193 @@
+// Reading Order: 11010001
+//  209
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.bus.VolcanEventDispatcher;
+import sv.volcan.bus.VolcanSignalCommands;
+import sv.volcan.bus.VolcanSignalPacker;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.AllocationAuditor;
+import sv.volcan.kernel.EngineKernel;
+import sv.volcan.memory.SectorMemoryVault;
+import sv.volcan.state.VolcanStateLayout;
+import sv.volcan.state.WorldStateFrame;
+import sv.volcan.state.WorldStateHasher;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates multi-frame rollback and resimulation of the kernel (rollback netcode).
+ * WHY: A late input must change the present exactly as if it had arrived on time; anything less
+ * and two peers diverge. And the whole replay has to fit in the frame that received the input.
+ * TECHNIQUE: Two batch kernels run the same input stream. The reference gets one input on time;
+ * the other gets it late through InputJournal.insert and rewinds with rollbackTo, or with a
+ * SYS_ENGINE_ROLLBACK signal carrying the frame count. World hashes must match. A cheap world
+ * checks the warm replay path allocates nothing. The cost of a rollback is measured by
+ * RollbackBenchmark (JMH), not here.
+ * GUARANTEES: Late input == on-time input, bit for bit; a replay without new input changes
+ * nothing; frames outside the history are refused; resimulation is GC-free.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates rollbackTo(frame): snapshot restore + journaled input replay"
+)
+public class RollbackResimulationTest {
+
+    private static final float DT = 1f / 60f;
+    private static final int PARTICLES = 128;
+    private static final long PARTICLE_BASE = 2048; // Slots 512+: unused by VolcanStateLayout
+    private static final int REPLAY_FRAMES = 8;
+
+    /** Steers 128 particles with the latched inputs; 'iterations' sets the cost of a step. */
+    private static final class ParticleSystem implements GameSystem {
+        private final int iterations;
+
+        ParticleSystem(int iterations) {
+            this.iterations = iterations;
+        }
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            float pull = state.readInt(VolcanStateLayout.INPUT_LAST_SIGNAL) * 0.01f;
+            float targetX = state.readInt(VolcanStateLayout.INPUT_MOUSE_X);
+            for (int it = 0; it < iterations; it++) {
+                for (int p = 0; p < PARTICLES; p++) {
+                    long base = PARTICLE_BASE + p * 16L;
+                    float x = state.readFloat(base);
+                    float v = state.readFloat(base + 4);
+                    v += ((targetX - x) * 0.001f + pull - v * 0.01f) * deltaTime;
+                    state.writeFloat(base, x + v * deltaTime);
+                    state.writeFloat(base + 4, v);
+                }
+            }
+        }
+
+        @Override public String getName() { return "Particles"; }
+    }
+
+    private static final class World {
+        final VolcanEventDispatcher bus = VolcanEventDispatcher.createDefault(10);
+        final EngineKernel kernel = EngineKernel.createBatchKernel(bus, new SectorMemoryVault(16));
+
+        World(int iterations) {
+            kernel.getSystemRegistry().registerGameSystem(new ParticleSystem(iterations));
+        }
+
+        /** Scripted inputs of frame f, then one step. */
+        void step(int f) {
+            if (f % 7 == 0) bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_KEY_DOWN, f % 13));
+            if (f % 11 == 0) bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_MOUSE_MOVE, (f * 3) << 16 | f));
+            kernel.step(DT);
+        }
+
+        long hash() {
+            return WorldStateHasher.hash(kernel.getCurrentState().getRawSegment());
+        }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: ROLLBACK & RESIMULATION");
+        System.out.println("=======================================================");
+
+        try {
+            lateInputMatchesOnTime();
+            zeroAllocation();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] LATE INPUTS RESIMULATE BIT-EXACT");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] ROLLBACK RESIMULATION INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void lateInputMatchesOnTime() {
+        World live = new World(1);
+        World late = new World(1);
+        long lateInput = VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_MOUSE_CLICK, 42);
+        try {
+            int f = 0;
+            for (; f < 100; f++) {
+                if (f == 92) live.bus.dispatchAuto(lateInput); // On time
+                live.step(f);
+                late.step(f);
+            }
+            check("the on-time input changes the world", live.hash() != late.hash());
+
+            long before = late.hash();
+            check("replay without new input changes nothing",
+                    late.kernel.rollbackTo(late.kernel.getHistoryFrameCount() - REPLAY_FRAMES) == REPLAY_FRAMES
+                            && late.hash() == before);
+
+            check("late input journaled", late.kernel.getInputJournal().insert(92, lateInput));
+            int replayed = late.kernel.rollbackTo(92);
+            check("rollbackTo(92) resimulates 8 frames", replayed == REPLAY_FRAMES);
+            check("late input == on-time input", late.hash() == live.hash());
+
+            for (; f < 110; f++) {
+                live.step(f);
+                late.step(f);
+            }
+            check("worlds stay equal after the rollback", late.hash() == live.hash());
+
+            // Same through the bus: payload = frames to rewind, applied before this frame's systems
+            long click = VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_MOUSE_CLICK, 7);
+            live.bus.dispatchAuto(click);
+            live.step(f++);
+            live.step(f++);
+            late.step(f - 2);
+            check("second late input journaled", late.kernel.getInputJournal().insert(late.kernel.getHistoryFrameCount() - 1, click));
+            late.bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.SYS_ENGINE_ROLLBACK, 1));
+            late.step(f - 1);
+            check("SYS_ENGINE_ROLLBACK(n) resimulates the late input", late.hash() == live.hash());
+
+            long present = late.kernel.getHistoryFrameCount();
+            check("frames older than the history refused", late.kernel.rollbackTo(present - 61) == -1
+                    && late.hash() == live.hash());
+            check("present frame is a no-op", late.kernel.rollbackTo(present) == 0);
+        } finally {
+            live.kernel.closeBatch();
+            late.kernel.closeBatch();
+        }
+    }
+
+    /** Cheap world, so the replay path gets JIT-compiled before it is measured. */
+    private static void zeroAllocation() {
+        World world = new World(1);
+        try {
+            for (int f = 0; f < 100; f++) {
+                world.step(f);
+            }
+            long target = world.kernel.getHistoryFrameCount() - REPLAY_FRAMES;
+            for (int r = 0; r < 20_000; r++) {
+                world.kernel.rollbackTo(target);
+            }
+            long before = AllocationAuditor.threadAllocatedBytes();
+            for (int r = 0; r < 1_000; r++) {
+                world.kernel.rollbackTo(target);
+            }
+            long bytes = AllocationAuditor.threadAllocatedBytes() - before;
+            check("resimulation allocates nothing once warm (" + bytes + " bytes / 1000 rollbacks)", bytes == 0);
+        } finally {
+            world.kernel.closeBatch();
+        }
+    }
+}
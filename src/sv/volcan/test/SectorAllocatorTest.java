@@ -0,0 +1,379 @@
+// Reading Order: 11011001
+//  217
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.bus.VolcanEventDispatcher;
+import sv.volcan.core.VolcanSectorManager;
+import sv.volcan.kernel.AllocationAuditor;
+import sv.volcan.kernel.EngineKernel;
+import sv.volcan.memory.SectorAllocator;
+import sv.volcan.memory.SectorMemoryVault;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates SectorAllocator: size classes, slabs, whole sectors, exhaustion,
+ * misuse, concurrent allocation with cross-thread frees, and the zero-GC hot path.
+ * WHY: An allocator that hands the same block out twice corrupts two subsystems at once, and
+ * the symptom shows up far from the cause.
+ * TECHNIQUE: Every live block is stamped with its owner over its whole length and checked on
+ * free: a block handed out twice, or a link written into a live block, breaks a stamp. Four
+ * threads allocate random sizes and pass a share of their blocks to a neighbour to free. Then
+ * 200 platform threads exit without flushing, and 2000 virtual threads allocate and free.
+ * GUARANTEES: No overlap between live blocks; occupancy back to zero after everything is
+ * freed; caches of exited threads reclaimed, none for virtual threads; 0 bytes allocated per
+ * allocate/free pair after warm-up.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = true,
+    offHeap = true,
+    notes = "Validates SectorAllocator"
+)
+public class SectorAllocatorTest {
+
+    private static final int THREADS = 4;
+    private static final int OPS_PER_THREAD = 200_000;
+    private static final int WINDOW = 512;
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: SECTOR ALLOCATOR");
+        System.out.println("=======================================================");
+
+        try {
+            sizeClasses();
+            singleThread();
+            wholeSectorsAndExhaustion();
+            misuse();
+            concurrent();
+            shortLivedThreads();
+            zeroGc();
+            kernelAndSectorManager();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] NO BLOCK HANDED OUT TWICE; OCCUPANCY EXACT");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] SECTOR ALLOCATOR INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void sizeClasses() {
+        SectorMemoryVault vault = new SectorMemoryVault(4);
+        try {
+            SectorAllocator a = new SectorAllocator(vault);
+            int sector = vault.getSectorSize();
+            check("size classes", a.sizeClassOf(1) == 0 && a.sizeClassOf(16) == 0 && a.sizeClassOf(17) == 1
+                    && a.sizeClassOf(sector / 2) == a.getSizeClassCount() - 1
+                    && a.sizeClassOf(sector / 2 + 1) == -1 && a.sizeClassOf(sector) == -1
+                    && a.blockSize(a.getSizeClassCount() - 1) == sector / 2);
+            check("out-of-range sizes rejected", throwsIae(() -> a.sizeClassOf(0))
+                    && throwsIae(() -> a.sizeClassOf(sector + 1L)));
+        } finally {
+            vault.close();
+        }
+    }
+
+    private static void singleThread() {
+        SectorMemoryVault vault = new SectorMemoryVault(256);
+        try {
+            SectorAllocator a = new SectorAllocator(vault, 2, 250);
+            SplittableRandom random = new SplittableRandom(1);
+            long[] offsets = new long[5000];
+            long[] sizes = new long[5000];
+            boolean aligned = true;
+            for (int i = 0; i < offsets.length; i++) {
+                sizes[i] = 1 + random.nextInt(i % 50 == 0 ? 40_000 : 600);
+                offsets[i] = a.allocateOffset(sizes[i]);
+                int c = a.sizeClassOf(sizes[i]);
+                long align = c < 0 ? vault.getSectorSize() : a.blockSize(c);
+                aligned &= offsets[i] >= 2L * vault.getSectorSize() && offsets[i] < 252L * vault.getSectorSize()
+                        && (offsets[i] & (align - 1)) == 0
+                        && (offsets[i] / vault.getSectorSize()) == ((offsets[i] + sizes[i] - 1) / vault.getSectorSize());
+                stamp(vault.getSegment(), offsets[i], sizes[i], i);
+            }
+            check("blocks aligned to their class, inside the managed sectors", aligned);
+            boolean intact = true;
+            for (int i = 0; i < offsets.length; i++) intact &= stampIntact(vault.getSegment(), offsets[i], sizes[i], i);
+            check("no two live blocks overlap", intact);
+            System.out.printf("[INFO] %d blocks: used %d KB, reserved %d KB, occupancy %.0f%%%n", offsets.length,
+                    a.getUsedBytes() / 1024, a.getReservedBytes() / 1024, a.getOccupancy() * 100);
+            check("occupancy stats", a.getUsedBytes() > 0 && a.getUsedBytes() <= a.getReservedBytes()
+                    && a.getFreeSectors() == 250 - a.getReservedBytes() / vault.getSectorSize());
+
+            for (int i = 0; i < offsets.length; i += 2) a.free(offsets[i]);
+            for (int i = 0; i < offsets.length; i += 2) {
+                offsets[i] = a.allocateOffset(sizes[i]);
+                stamp(vault.getSegment(), offsets[i], sizes[i], i);
+            }
+            intact = true;
+            for (int i = 0; i < offsets.length; i++) intact &= stampIntact(vault.getSegment(), offsets[i], sizes[i], i);
+            check("freed blocks reused without overlap", intact);
+
+            for (long offset : offsets) a.free(offset);
+            long live = 0;
+            for (int c = 0; c < a.getSizeClassCount(); c++) live += a.getLiveBlocks(c);
+            check("everything freed: 0 live blocks, 0 whole sectors", live == 0 && a.getWholeSectors() == 0
+                    && a.getUsedBytes() == 0);
+
+            MemorySegment segment = a.allocate(100);
+            check("segment API: slice of the vault", segment.byteSize() == 100
+                    && segment.address() >= vault.getAddress() && segment.address() < vault.getAddress() + vault.getTotalSize());
+            a.free(segment);
+        } finally {
+            vault.close();
+        }
+    }
+
+    private static void wholeSectorsAndExhaustion() {
+        SectorMemoryVault vault = new SectorMemoryVault(8);
+        try {
+            SectorAllocator a = new SectorAllocator(vault, 0, 8);
+            MemorySegment[] sectors = new MemorySegment[8];
+            for (int i = 0; i < 8; i++) sectors[i] = a.allocateSector();
+            check("every sector handed out once", distinct(sectors) && a.allocateSector() == null
+                    && a.getFreeSectors() == 0 && a.allocateOffset(16) == -1);
+            boolean oom = false;
+            try {
+                a.allocate(64);
+            } catch (OutOfMemoryError expected) {
+                oom = true;
+            }
+            check("exhausted vault: OutOfMemoryError like Arena.allocate", oom);
+            for (MemorySegment sector : sectors) a.free(sector);
+            check("freed sectors are reusable", a.getFreeSectors() == 8 && a.allocateOffset(16) >= 0);
+
+            SectorAllocator empty = new SectorAllocator(vault, 8, 0);
+            check("allocator over zero sectors is always exhausted", empty.allocateOffset(10) == -1);
+        } finally {
+            vault.close();
+        }
+    }
+
+    private static void misuse() {
+        SectorMemoryVault vault = new SectorMemoryVault(8);
+        try {
+            SectorAllocator a = new SectorAllocator(vault, 1, 6);
+            long block = a.allocateOffset(64);
+            long sector = a.allocateSectorOffset();
+            check("offset outside the allocator rejected", throwsIae(() -> a.free(0)) && throwsIae(() -> a.free(7L * vault.getSectorSize())));
+            check("misaligned block rejected", throwsIae(() -> a.free(block + 8)));
+            check("offset inside a whole sector rejected", throwsIae(() -> a.free(sector + 64)));
+            a.free(sector);
+            check("double free of a sector rejected", throwsIae(() -> a.free(sector)));
+            check("free sector is not a block", throwsIae(() -> a.free(sector + 128)));
+            check("bad ranges rejected", throwsIae(() -> new SectorAllocator(vault, 4, 5)));
+        } finally {
+            vault.close();
+        }
+    }
+
+    private static void concurrent() throws InterruptedException {
+        SectorMemoryVault vault = new SectorMemoryVault(1024); // 64 MB
+        try {
+            SectorAllocator a = new SectorAllocator(vault);
+            MemorySegment memory = vault.getSegment();
+            List<ConcurrentLinkedQueue<long[]>> handoff = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) handoff.add(new ConcurrentLinkedQueue<>());
+            AtomicBoolean corrupted = new AtomicBoolean();
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                final int id = t;
+                Thread worker = new Thread(() -> {
+                    try {
+                        start.await();
+                        SplittableRandom random = new SplittableRandom(100 + id);
+                        long[] offsets = new long[WINDOW];
+                        long[] sizes = new long[WINDOW];
+                        long[] tags = new long[WINDOW];
+                        for (int op = 0; op < OPS_PER_THREAD; op++) {
+                            int slot = random.nextInt(WINDOW);
+                            if (sizes[slot] != 0) {
+                                if (!stampIntact(memory, offsets[slot], sizes[slot], tags[slot])) corrupted.set(true);
+                                if (random.nextInt(4) == 0) {
+                                    handoff.get((id + 1) % THREADS).add(new long[] { offsets[slot], sizes[slot], tags[slot] });
+                                } else {
+                                    a.free(offsets[slot]);
+                                }
+                            }
+                            sizes[slot] = 1 + random.nextInt(random.nextInt(64) == 0 ? 50_000 : 1024);
+                            tags[slot] = ((long) id << 40) | op;
+                            offsets[slot] = a.allocateOffset(sizes[slot]);
+                            if (offsets[slot] < 0) throw new IllegalStateException("vault exhausted");
+                            stamp(memory, offsets[slot], sizes[slot], tags[slot]);
+                            for (long[] foreign; (foreign = handoff.get(id).poll()) != null; ) {
+                                if (!stampIntact(memory, foreign[0], foreign[1], foreign[2])) corrupted.set(true);
+                                a.free(foreign[0]); // Cross-thread free
+                            }
+                        }
+                        for (int slot = 0; slot < WINDOW; slot++) {
+                            if (sizes[slot] == 0) continue;
+                            if (!stampIntact(memory, offsets[slot], sizes[slot], tags[slot])) corrupted.set(true);
+                            a.free(offsets[slot]);
+                        }
+                        a.flushThreadCache();
+                    } catch (Exception e) {
+                        e.printStackTrace();
+                        corrupted.set(true);
+                    } finally {
+                        done.countDown();
+                    }
+                }, "alloc-" + t);
+                worker.start();
+            }
+            long t0 = System.nanoTime();
+            start.countDown();
+            done.await();
+            long ns = System.nanoTime() - t0;
+            for (ConcurrentLinkedQueue<long[]> queue : handoff) {
+                for (long[] foreign; (foreign = queue.poll()) != null; ) {
+                    if (!stampIntact(memory, foreign[0], foreign[1], foreign[2])) corrupted.set(true);
+                    a.free(foreign[0]);
+                }
+            }
+            System.out.printf("[INFO] %d threads x %d ops: %.0f ns/op, %d sectors reserved%n", THREADS, OPS_PER_THREAD,
+                    (double) ns / (THREADS * (long) OPS_PER_THREAD), a.getReservedBytes() / vault.getSectorSize());
+            check("concurrent: no block handed out twice, no link in a live block", !corrupted.get());
+            check("concurrent: all freed (cross-thread frees balance)", a.getUsedBytes() == 0 && a.getWholeSectors() == 0);
+        } finally {
+            vault.close();
+        }
+    }
+
+    /** Exited threads never flush: their caches must come back anyway; virtual threads get none. */
+    private static void shortLivedThreads() throws InterruptedException {
+        SectorMemoryVault vault = new SectorMemoryVault(16);
+        try {
+            SectorAllocator a = new SectorAllocator(vault);
+            for (int t = 0; t < 200; t++) {
+                Thread thread = new Thread(() -> a.free(a.allocateOffset(48)), "short-" + t);
+                thread.start();
+                thread.join();
+            }
+            int afterPlatform = a.getThreadCacheCount();
+            Thread[] virtual = new Thread[2000];
+            for (int t = 0; t < virtual.length; t++) {
+                virtual[t] = Thread.ofVirtual().start(() -> {
+                    long offset = a.allocateOffset(48);
+                    a.free(a.allocateOffset(100));
+                    a.free(offset);
+                });
+            }
+            for (Thread thread : virtual) thread.join();
+            System.out.printf("[INFO] 200 exited platform threads: %d cache(s) registered; 2000 virtual threads: %d%n",
+                    afterPlatform, a.getThreadCacheCount());
+            check("caches of exited threads reclaimed", afterPlatform <= 2);
+            check("virtual threads register no cache", a.getThreadCacheCount() == afterPlatform);
+            check("one slab per size class despite 2200 threads", a.getSlabSectors(a.sizeClassOf(48)) == 1
+                    && a.getSlabSectors(a.sizeClassOf(100)) == 1);
+            check("short-lived threads: all freed", a.getUsedBytes() == 0);
+        } finally {
+            vault.close();
+        }
+    }
+
+    private static void zeroGc() {
+        SectorMemoryVault vault = new SectorMemoryVault(64);
+        try {
+            SectorAllocator a = new SectorAllocator(vault);
+            long[] offsets = new long[200];
+            for (int round = 0; round < 200; round++) churn(a, offsets, round); // C2 warm-up
+            long before = AllocationAuditor.threadAllocatedBytes();
+            long t0 = System.nanoTime();
+            for (int round = 0; round < 500; round++) churn(a, offsets, round);
+            long ns = System.nanoTime() - t0;
+            long allocated = AllocationAuditor.threadAllocatedBytes() - before;
+            System.out.printf("[INFO] Single thread: %.1f ns per allocate+free, %d bytes allocated%n",
+                    (double) ns / (500 * offsets.length), allocated);
+            check("zero GC on the hot path", allocated == 0);
+        } finally {
+            vault.close();
+        }
+    }
+
+    private static void churn(SectorAllocator a, long[] offsets, int round) {
+        for (int i = 0; i < offsets.length; i++) offsets[i] = a.allocateOffset(8 + ((i * 37 + round) & 1023));
+        for (int i = offsets.length - 1; i >= 0; i--) a.free(offsets[i]);
+    }
+
+    private static void kernelAndSectorManager() {
+        VolcanEventDispatcher bus = VolcanEventDispatcher.createDefault(10);
+        EngineKernel kernel = EngineKernel.createBatchKernel(bus, new SectorMemoryVault(16));
+        try {
+            SectorAllocator a = kernel.getSectorAllocator();
+            check("kernel allocator leaves sector 0 to the boot probe", a.getSectorCount() == 15
+                    && a.allocateOffset(32) >= 65536);
+            VolcanSectorManager manager = new VolcanSectorManager(a);
+            long whole = a.getWholeSectors();
+            manager.updateLocation(0, 1000f, 1000f, kernel.getCurrentState());
+            manager.updateLocation(0, 5000f, 1000f, kernel.getCurrentState());
+            check("new spatial sectors get vault memory", a.getWholeSectors() == whole + 2);
+        } finally {
+            kernel.closeBatch();
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // HELPERS
+    // -------------------------------------------------------------------------
+
+    private static void stamp(MemorySegment memory, long offset, long size, long tag) {
+        for (long i = 0; i + 8 <= size; i += 8) memory.set(ValueLayout.JAVA_LONG_UNALIGNED, offset + i, tag ^ i);
+        for (long i = size & ~7L; i < size; i++) memory.set(ValueLayout.JAVA_BYTE, offset + i, (byte) tag);
+    }
+
+    private static boolean stampIntact(MemorySegment memory, long offset, long size, long tag) {
+        for (long i = 0; i + 8 <= size; i += 8) {
+            if (memory.get(ValueLayout.JAVA_LONG_UNALIGNED, offset + i) != (tag ^ i)) return false;
+        }
+        for (long i = size & ~7L; i < size; i++) {
+            if (memory.get(ValueLayout.JAVA_BYTE, offset + i) != (byte) tag) return false;
+        }
+        return true;
+    }
+
+    private static boolean distinct(MemorySegment[] segments) {
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i] == null) return false;
+            for (int j = 0; j < i; j++) {
+                if (segments[i].address() == segments[j].address()) return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean throwsIae(Runnable action) {
+        try {
+            action.run();
+            return false;
+        } catch (IllegalArgumentException expected) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+// Reading Order: 11010101
+//  213
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.bus.VolcanAtomicBus;
+import sv.volcan.bus.VolcanEventDispatcher;
+import sv.volcan.bus.VolcanSignalCommands;
+import sv.volcan.bus.VolcanSignalPacker;
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.EngineKernel;
+import sv.volcan.kernel.MetricsPacker;
+import sv.volcan.memory.DirtyRegionTracker;
+import sv.volcan.memory.SectorMemoryVault;
+import sv.volcan.state.StateDigest;
+import sv.volcan.state.VolcanStateLayout;
+import sv.volcan.state.WorldStateFrame;
+import sv.volcan.state.WorldStateHasher;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.SplittableRandom;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates the striped region hash and the incremental frame digest.
+ * WHY: A desync detector that is slow gets switched off, and one that is wrong reports phantom
+ * desyncs (or, worse, misses real ones).
+ * TECHNIQUE: The SIMD path against the scalar reference over every short length, odd offsets
+ * and block boundaries; single-bit avalanche; throughput over 64 MB and over 1 MB in cache (the
+ * batch size of a frame digest); the incremental digest
+ * against a fresh digest after scattered marked writes; two batch kernels fed the same inputs
+ * publishing the same hashes on the admin bus, and a third fed one different input diverging.
+ * Run with -Dvolcan.memory.dirty.tracking=true -Dvolcan.kernel.state.hash.interval=1.
+ * GUARANTEES: hashRegion == hashRegionScalar for every length/offset; incremental == full;
+ * equal inputs => equal published hashes.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates WorldStateHasher.hashRegion and StateDigest"
+)
+public class StateHashTest {
+
+    private static final long BENCH_BYTES = 64L * 1024 * 1024;
+    private static final double MIN_GBPS = 2.0; // Lenient: 64 MB is memory-bound on shared CI hosts
+    private static final long CACHED_BYTES = 1L << 20; // Digest-sized batch, cache-resident
+    private static final double MIN_CACHED_GBPS = 10.0; // 512-bit path; 256-bit / scalar: MIN_GBPS
+    private static final float DT = 1f / 60f;
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: STATE HASH");
+        System.out.println("=======================================================");
+
+        try {
+            if (!DirtyRegionTracker.ENABLED) {
+                throw new IllegalStateException("run with -Dvolcan.memory.dirty.tracking=true");
+            }
+            vectorMatchesScalar();
+            avalanche();
+            throughput();
+            incrementalDigest();
+            lockstepKernels();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] STATE HASH DETERMINISTIC, INCREMENTAL == FULL");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] STATE HASH INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    private static void vectorMatchesScalar() {
+        System.out.println("[INFO] Vectorized: " + WorldStateHasher.VECTORIZED);
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment seg = arena.allocate(8192 + 64, 64);
+            fill(seg, 42);
+            boolean same = true;
+            for (int length = 0; length <= 2100 && same; length++) {
+                for (int offset = 0; offset < 3; offset++) {
+                    same &= WorldStateHasher.hashRegion(7, seg, offset, length)
+                            == WorldStateHasher.hashRegionScalar(7, seg, offset, length);
+                }
+            }
+            for (int length : new int[] { 1023, 1024, 1025, 1088, 2047, 2048, 4096, 8191, 8192 }) {
+                same &= WorldStateHasher.hashRegion(1, seg, 5, length)
+                        == WorldStateHasher.hashRegionScalar(1, seg, 5, length);
+            }
+            check("SIMD == scalar (every length to 2100, odd offsets, block edges)", same);
+
+            long a = WorldStateHasher.hashRegion(1, seg, 0, 4096);
+            check("seed and length are hashed", a != WorldStateHasher.hashRegion(2, seg, 0, 4096)
+                    && a != WorldStateHasher.hashRegion(1, seg, 0, 4095)
+                    && WorldStateHasher.hashRegion(1, seg, 0, 0) != WorldStateHasher.hashRegion(2, seg, 0, 0));
+        }
+    }
+
+    private static void avalanche() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment seg = arena.allocate(4096, 64);
+            fill(seg, 3);
+            long base = WorldStateHasher.hashRegion(seg);
+            int minDiff = 64;
+            long totalDiff = 0;
+            int flips = 0;
+            for (long bit = 0; bit < 4096 * 8; bit += 37) {
+                flip(seg, bit);
+                int diff = Long.bitCount(base ^ WorldStateHasher.hashRegion(seg));
+                flip(seg, bit);
+                minDiff = Math.min(minDiff, diff);
+                totalDiff += diff;
+                flips++;
+            }
+            double mean = (double) totalDiff / flips;
+            System.out.printf("[INFO] Single-bit flips: %d, mean %.1f / 64 bits changed, min %d%n", flips, mean, minDiff);
+            check("every single-bit flip changes the hash", minDiff > 0);
+            check("avalanche (~32 of 64 bits change)", mean > 28 && mean < 36);
+        }
+    }
+
+    private static void throughput() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment seg = arena.allocate(BENCH_BYTES, 4096);
+            fill(seg, 9);
+            long sink = 0;
+            for (int i = 0; i < 20; i++) sink += WorldStateHasher.hashRegion(i, seg, 0, 1 << 20); // C2 warm-up
+            double best = 0;
+            for (int run = 0; run < 5; run++) {
+                long t0 = System.nanoTime();
+                sink += WorldStateHasher.hashRegion(seg);
+                long ns = System.nanoTime() - t0;
+                best = Math.max(best, (double) BENCH_BYTES / ns);
+            }
+            double cached = 0;
+            for (int run = 0; run < 50; run++) {
+                long t0 = System.nanoTime();
+                sink += WorldStateHasher.hashRegion(run, seg, 0, CACHED_BYTES);
+                long ns = System.nanoTime() - t0;
+                cached = Math.max(cached, (double) CACHED_BYTES / ns);
+            }
+            System.out.printf("[INFO] hashRegion (%s): %.1f GB/s best of 5 over 64 MB, %.1f GB/s over 1 MB in cache "
+                    + "(sink %x)%n", WorldStateHasher.WIDE ? "512-bit" : WorldStateHasher.VECTORIZED ? "256-bit" : "scalar",
+                    best, cached, sink & 0xF);
+            check("64 MB hash == scalar reference",
+                    WorldStateHasher.hashRegion(seg) == WorldStateHasher.hashRegionScalar(WorldStateHasher.SEED, seg, 0, BENCH_BYTES));
+            check("throughput > " + MIN_GBPS + " GB/s", best > MIN_GBPS);
+            double minCached = WorldStateHasher.WIDE ? MIN_CACHED_GBPS : MIN_GBPS;
+            check("in-cache throughput > " + minCached + " GB/s", cached > minCached);
+        }
+    }
+
+    private static void incrementalDigest() {
+        try (Arena arena = Arena.ofConfined()) {
+            long bytes = 4L * 1024 * 1024;
+            MemorySegment a = arena.allocate(bytes, 64);
+            MemorySegment b = arena.allocate(100_000, 64); // Partial last region, never tracked
+            fill(a, 1);
+            fill(b, 2);
+            DirtyRegionTracker tracker = new DirtyRegionTracker(bytes, 64);
+            StateDigest digest = new StateDigest();
+            digest.add(a, tracker, 0, true);
+            digest.add(b);
+            digest.digest();
+
+            SplittableRandom random = new SplittableRandom(5);
+            boolean match = true;
+            long hashedMax = 0;
+            for (int frame = 0; frame < 50; frame++) {
+                for (int w = 0; w < 40; w++) {
+                    long offset = random.nextLong(bytes / 8) * 8;
+                    a.set(ValueLayout.JAVA_LONG, offset, random.nextLong());
+                    tracker.mark(offset);
+                }
+                b.set(ValueLayout.JAVA_INT, random.nextLong(100_000 / 4) * 4, frame);
+                long incremental = digest.digest();
+                hashedMax = Math.max(hashedMax, digest.getLastHashedBytes());
+                match &= incremental == fresh(a, b);
+            }
+            check("incremental digest == fresh digest (50 frames)", match);
+            System.out.printf("[INFO] Hashed per frame: <= %d KB of %d KB%n", hashedMax / 1024, digest.getTotalBytes() / 1024);
+            check("only stale regions are rehashed", hashedMax <= 40L * StateDigest.DEFAULT_REGION_BYTES + 100_000);
+            check("tracker cleared by its only consumer", tracker.nextDirty(0) == -1);
+
+            long before = digest.digest();
+            a.set(ValueLayout.JAVA_BYTE, bytes / 2, (byte) 0x5A); // Unmarked write
+            check("unmarked write is invisible (the contract)", digest.digest() == before);
+            digest.invalidate();
+            check("invalidate() picks it up", digest.digest() == fresh(a, b) && digest.getLastDigest() != before);
+        }
+    }
+
+    private static long fresh(MemorySegment a, MemorySegment b) {
+        StateDigest d = new StateDigest();
+        d.add(a);
+        d.add(b);
+        return d.digest();
+    }
+
+    /** Deterministic writes driven by the state and the inputs (vault and world state both move). */
+    private static final class DriftSystem implements GameSystem {
+        private static final long BASE = 2048;
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            int input = state.readInt(VolcanStateLayout.INPUT_LAST_SIGNAL);
+            for (int i = 0; i < 4; i++) {
+                long offset = BASE + ((i * 13L + input) & 31) * 64;
+                state.writeLong(offset, state.readLong(offset) * 31 + i + input);
+            }
+        }
+
+        @Override public String getName() { return "Drift"; }
+    }
+
+    private static void lockstepKernels() {
+        check("interval configured", sv.volcan.config.VolcanEngineConfig.KERNEL_STATE_HASH_INTERVAL == 1);
+        long[] peerA = runPeer(-1);
+        long[] peerB = runPeer(-1);
+        long[] desync = runPeer(30);
+        boolean published = peerA[0] != 0;
+        boolean equal = true;
+        for (int f = 0; f < peerA.length; f++) equal &= peerA[f] == peerB[f] && peerA[f] != 0;
+        check("every frame hash published", published && equal);
+        check("peers with equal inputs agree", equal);
+        boolean before = true;
+        for (int f = 0; f < 30; f++) before &= desync[f] == peerA[f];
+        check("diverging input changes the hash from that frame on", before && desync[31] != peerA[31]
+                && desync[59] != peerA[59]);
+    }
+
+    /** Runs 60 frames, returning the 44-bit hashes published per frame (history frames 0..59). */
+    private static long[] runPeer(int divergeAt) {
+        VolcanEventDispatcher bus = VolcanEventDispatcher.createDefault(10);
+        EngineKernel kernel = EngineKernel.createBatchKernel(bus, new SectorMemoryVault(16));
+        kernel.getSystemRegistry().registerGameSystem(new DriftSystem());
+        long[] published = new long[60];
+        try {
+            for (int f = 0; f < 60; f++) {
+                int key = f == divergeAt ? 999 : f;
+                if (f % 3 == 0 || f == divergeAt) bus.dispatchAuto(VolcanSignalPacker.pack(VolcanSignalCommands.INPUT_KEY_DOWN, key));
+                kernel.step(DT);
+                drain(kernel.getAdminMetricsBus(), published);
+            }
+            check("last hash matches the kernel", (kernel.getLastStateHash() >>> 20) == published[59]);
+            StateDigest digest = kernel.getStateDigest();
+            digest.invalidate();
+            check("kernel's incremental hash == full rehash", digest.digest() == kernel.getLastStateHash());
+        } finally {
+            kernel.closeBatch();
+        }
+        return published;
+    }
+
+    private static void drain(VolcanAtomicBus admin, long[] published) {
+        for (long packet = admin.poll(); packet != -1L; packet = admin.poll()) {
+            if ((packet & (0xFL << 60)) != MetricsPacker.TYPE_STATE_HASH) continue;
+            long frame = MetricsPacker.unpackStateHashFrame(packet);
+            if (frame < published.length) {
+                published[(int) frame] = MetricsPacker.unpackStateHashBits(packet);
+            }
+        }
+    }
+
+    private static void fill(MemorySegment seg, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long longs = seg.byteSize() / 8;
+        for (long i = 0; i < longs; i++) seg.setAtIndex(ValueLayout.JAVA_LONG, i, random.nextLong());
+    }
+
+    private static void flip(MemorySegment seg, long bit) {
+        byte b = seg.get(ValueLayout.JAVA_BYTE, bit >>> 3);
+        seg.set(ValueLayout.JAVA_BYTE, bit >>> 3, (byte) (b ^ (1 << (bit & 7))));
+    }
+}
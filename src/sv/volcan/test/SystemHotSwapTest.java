@@ -0,0 +1,140 @@
+// Reading Order: 10101110
+//  174
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.SystemRegistry;
+import sv.volcan.kernel.SystemSchedule;
+import sv.volcan.state.WorldStateFrame;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RESPONSIBILITY: Validates hot add/remove of systems on a running DAG kernel loop.
+ * WHY: Live-ops feature toggles must not pause the loop nor corrupt the graph mid-frame.
+ * TECHNIQUE: The main thread keeps ticking the SystemRegistry in DAG mode while a control thread
+ * hot-registers a dependent system, then hot-unregisters it. Invalid topologies must be rejected.
+ * GUARANTEES: The new system starts running within a few frames, stops after removal, and the
+ * base systems never miss a frame.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = false,
+    notes = "Validates off-thread DAG recompilation with frame-boundary swap"
+)
+public class SystemHotSwapTest {
+
+    private static final class CountingSystem implements GameSystem {
+        private final String name;
+        private final String[] deps;
+        volatile int runs = 0;
+
+        CountingSystem(String name, String... deps) {
+            this.name = name;
+            this.deps = deps;
+        }
+
+        @Override public void update(WorldStateFrame state, float deltaTime) { runs++; }
+        @Override public String getName() { return name; }
+        @Override public String[] getDependencies() { return deps; }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: HOT SYSTEM ADD/REMOVE (DAG SWAP)");
+        System.out.println("=======================================================");
+
+        try {
+            SystemRegistry registry = new SystemRegistry();
+            CountingSystem input = new CountingSystem("Input");
+            CountingSystem physics = new CountingSystem("Physics", "Input");
+            registry.registerGameSystem(input);
+            registry.registerGameSystem(physics);
+            registry.buildDependencyGraph();
+            registry.enableDAGMode();
+
+            CountingSystem feature = new CountingSystem("LiveOpsFeature", "Physics");
+            CountingSystem orphan = new CountingSystem("Orphan", "DoesNotExist");
+
+            int frames = 0;
+
+            // 1. Hot-add while the loop runs
+            CompletableFuture<Boolean> added = registry.hotRegisterGameSystem(feature, SystemSchedule.everyTick());
+            frames += tickUntil(registry, added);
+            for (int i = 0; i < 10; i++, frames++) registry.executeGameSystems(null, 1f / 60f);
+            boolean featureRan = feature.runs > 0;
+
+            // Boot-time registration after the first stage: later hot-swaps must keep it
+            CountingSystem late = new CountingSystem("LateBoot", "Input");
+            registry.registerGameSystem(late);
+
+            // 2. Invalid topology must be rejected without touching the live graph
+            CompletableFuture<Boolean> rejected = registry.hotRegisterGameSystem(orphan);
+            frames += tickUntil(registry, rejected);
+            CompletableFuture<Boolean> blockedRemoval = registry.hotUnregisterGameSystem("Physics");
+            frames += tickUntil(registry, blockedRemoval);
+
+            // 3. Hot-remove and verify the system stops
+            CompletableFuture<Boolean> removed = registry.hotUnregisterGameSystem("LiveOpsFeature");
+            frames += tickUntil(registry, removed);
+            registry.executeGameSystems(null, 1f / 60f); // Frame boundary adopts the new graph
+            frames++;
+            int runsAfterRemoval = feature.runs;
+            int lateRunsBefore = late.runs;
+            for (int i = 0; i < 10; i++, frames++) registry.executeGameSystems(null, 1f / 60f);
+
+            registry.getTaskDispatcher().shutdown();
+
+            System.out.println("[TEST] Frames executed: " + frames);
+            System.out.println("[TEST] Hot-add accepted: " + added.get() + " | feature runs: " + runsAfterRemoval);
+            System.out.println("[TEST] Orphan rejected: " + !rejected.get() + " | Physics removal blocked: " + !blockedRemoval.get());
+            System.out.println("[TEST] Hot-remove accepted: " + removed.get() + " | runs after removal: " + (feature.runs - runsAfterRemoval));
+            System.out.println("[TEST] Base systems: Input=" + input.runs + " Physics=" + physics.runs + " (Expected: " + frames + ")");
+            System.out.println("[TEST] Late boot registration kept by later swaps: " + (late.runs - lateRunsBefore)
+                    + " runs in the last 10 frames (Expected: 10)");
+
+            boolean ok = added.get() && featureRan
+                    && !rejected.get() && orphan.runs == 0
+                    && !blockedRemoval.get()
+                    && removed.get() && feature.runs == runsAfterRemoval
+                    && input.runs == frames && physics.runs == frames
+                    && late.runs - lateRunsBefore == 10
+                    && registry.getGameSystemCount() == 3;
+
+            if (ok) {
+                System.out.println("\n[PASSED] HOT-SWAP ADOPTED AT FRAME BOUNDARY WITHOUT PAUSING THE LOOP");
+                System.exit(0);
+            } else {
+                System.err.println("\n[FAILED] HOT-SWAP TOPOLOGY MISMATCH");
+                System.exit(1);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    /** Keeps the loop running until the off-thread compile completes. Returns frames executed. */
+    private static int tickUntil(SystemRegistry registry, CompletableFuture<Boolean> pending) throws Exception {
+        int frames = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!pending.isDone() && System.nanoTime() < deadline) {
+            registry.executeGameSystems(null, 1f / 60f);
+            frames++;
+        }
+        pending.get(1, TimeUnit.SECONDS);
+        return frames;
+    }
+}
@@ -0,0 +1,51 @@
+// Reading Order: 11100011
+//  227
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+/**
+ * RESPONSIBILITY: Shared pass/fail bookkeeping for the certification tests.
+ * WHY: Every test printed "[TEST] label: OK/FAIL" and folded the result into its own flag; one
+ * helper keeps the output format identical across tests.
+ * TECHNIQUE: One process-wide flag. Each test runs in its own JVM (test.bat), so it never mixes
+ * results of two tests.
+ * GUARANTEES: A single failed check (or an unexpected exception reported through fail()) fails
+ * the test.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = false,
+    notes = "Shared check helper for certification tests"
+)
+final class TestChecks {
+
+    private static boolean ok = true;
+
+    private TestChecks() {
+    }
+
+    /** Prints "[TEST] label: OK|FAIL" and records the result. */
+    static void check(String label, boolean condition) {
+        System.out.println("[TEST] " + label + ": " + (condition ? "OK" : "FAIL"));
+        ok &= condition;
+    }
+
+    /** Marks the test as failed (e.g. after an unexpected exception). */
+    static void fail() {
+        ok = false;
+    }
+
+    static boolean passed() {
+        return ok;
+    }
+}
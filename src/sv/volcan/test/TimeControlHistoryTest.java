@@ -0,0 +1,208 @@
+// Reading Order: 11001111
+//  207
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.core.VolcanTimeControlUnit;
+import sv.volcan.state.WorldStateHasher;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates the delta-compressed rollback history of VolcanTimeControlUnit.
+ * WHY: A rollback that restores almost the right bytes is worse than none: the resimulation
+ * diverges silently. The compression is only worth it if it is exact for every frame kept.
+ * TECHNIQUE: A 10 MB world at 240 Hz: each frame rewrites a hot set of lines and scatters a few
+ * writes elsewhere. The hash of every frame is kept; any frame in the window is restored into a
+ * scratch segment and hashed again. Also checks the single-step legacy rollback, truncation
+ * and re-capture, frames that left the window, a frame size that is not a multiple of 64,
+ * memory / bytes written against full copies, and the footprint of the default ring.
+ * GUARANTEES: Restored frames hash identically; 4 s of 240 Hz history fits in a fraction of full
+ * copies; the default ring is under half of full copies and still holds a window of sparse frames.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates keyframe + XOR delta rollback history"
+)
+public class TimeControlHistoryTest {
+
+    private static final long WORLD_BYTES = 10L * 1024 * 1024;
+    private static final int HZ = 240;
+    private static final int HISTORY = 4 * HZ;
+    private static final int FRAMES = HISTORY + HZ;   // One second past the window
+    private static final int KEYFRAME_INTERVAL = HZ / 2;
+    private static final long HISTORY_BYTES = 256L * 1024 * 1024;
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: DELTA ROLLBACK HISTORY");
+        System.out.println("=======================================================");
+
+        try {
+            bigWorld();
+            smallOddWorld();
+            defaultRing();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] EVERY FRAME IN THE WINDOW RESTORES BIT-EXACT");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] ROLLBACK HISTORY INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    /** Hot set of lines rewritten every frame + sparse writes anywhere (deterministic LCG). */
+    private static long mutate(MemorySegment world, int frame, long seed, int sparseWrites) {
+        long size = world.byteSize();
+        long hot = Math.min(size / 8, 64 * 1024) & ~7L; // First 64 KB: transforms of moving entities
+        for (long off = 0; off + 8 <= hot; off += 64) {
+            world.set(ValueLayout.JAVA_LONG_UNALIGNED, off, world.get(ValueLayout.JAVA_LONG_UNALIGNED, off) + frame);
+        }
+        for (int i = 0; i < sparseWrites; i++) {
+            seed = seed * 6364136223846793005L + 1442695040888963407L;
+            long off = Long.remainderUnsigned(seed, size);
+            world.set(ValueLayout.JAVA_BYTE, off, (byte) (seed >>> 56));
+        }
+        return seed;
+    }
+
+    private static void bigWorld() {
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment world = arena.allocate(WORLD_BYTES, 64);
+            MemorySegment scratch = arena.allocate(WORLD_BYTES, 64);
+            VolcanTimeControlUnit history = new VolcanTimeControlUnit(arena, WORLD_BYTES, HISTORY, KEYFRAME_INTERVAL, HISTORY_BYTES);
+            long[] hashes = new long[FRAMES];
+            long seed = 42;
+            long captureNs = 0;
+            for (int f = 0; f < FRAMES; f++) {
+                seed = mutate(world, f, seed, 8);
+                hashes[f] = WorldStateHasher.hash(world);
+                long t0 = System.nanoTime();
+                long frame = history.capture(world);
+                captureNs += System.nanoTime() - t0;
+                if (frame != f) throw new IllegalStateException("frame numbering " + frame + " != " + f);
+            }
+
+            long oldest = history.getOldestAvailableFrame();
+            int restored = 0;
+            boolean exact = true;
+            for (long f = FRAMES - 1; f >= oldest; f -= 37) {
+                exact &= history.restore(f, scratch) && WorldStateHasher.hash(scratch) == hashes[(int) f];
+                restored++;
+            }
+            exact &= history.restore(oldest, scratch) && WorldStateHasher.hash(scratch) == hashes[(int) oldest];
+
+            long fullCopies = WORLD_BYTES * HISTORY;
+            System.out.printf("[TEST] %d MB world, %d frames @ %d Hz: reserved %d MB (full copies %d MB), "
+                    + "written %.1f MB/s of history vs %.0f MB/s, capture %.2f ms avg%n",
+                    WORLD_BYTES >> 20, HISTORY, HZ, history.getReservedBytes() >> 20, fullCopies >> 20,
+                    history.getTotalCaptureBytes() / (double) FRAMES * HZ / 1e6, WORLD_BYTES * (double) HZ / 1e6,
+                    captureNs / 1e6 / FRAMES);
+            check("window covers the configured history", oldest == FRAMES - HISTORY);
+            check(restored + " sampled frames restore bit-exact", exact);
+            check("frames older than the window are gone", !history.isAvailable(oldest - 1) && !history.restore(0, scratch));
+            check("history memory < 1/10 of full copies", history.getReservedBytes() * 10 < fullCopies);
+            check("bytes written < 1/10 of full copies", history.getTotalCaptureBytes() * 10 < WORLD_BYTES * (long) FRAMES);
+        }
+    }
+
+    /** Odd frame size (tail bytes), legacy rollback, truncation and re-capture. */
+    private static void smallOddWorld() {
+        long size = 4096 + 37;
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment world = arena.allocate(size, 64);
+            MemorySegment scratch = arena.allocate(size, 64);
+            VolcanTimeControlUnit history = new VolcanTimeControlUnit(arena, size, 60, 100); // Room for full copies
+            long[] hashes = new long[200];
+            long seed = 7;
+            for (int f = 0; f < 100; f++) {
+                seed = mutate(world, f, seed, 32);
+                world.set(ValueLayout.JAVA_BYTE, size - 1, (byte) f); // The tail changes every frame
+                hashes[f] = WorldStateHasher.hash(world);
+                history.capture(world);
+            }
+
+            history.rollback(world);
+            boolean legacy = WorldStateHasher.hash(world) == hashes[99];
+            history.rollback(world);
+            legacy &= WorldStateHasher.hash(world) == hashes[98] && history.getFrameCount() == 98;
+            check("legacy rollback walks back one frame per call", legacy);
+
+            // Truncate at 75 and re-simulate a different future from frame 74
+            history.restore(74, world);
+            history.discardFrom(75);
+            for (int f = 75; f < 130; f++) {
+                seed = mutate(world, f * 3, seed, 32);
+                world.set(ValueLayout.JAVA_BYTE, size - 1, (byte) -f);
+                hashes[f] = WorldStateHasher.hash(world);
+                if (history.capture(world) != f) throw new IllegalStateException("numbering after discard");
+            }
+            boolean exact = true;
+            for (long f = history.getOldestAvailableFrame(); f < 130; f++) {
+                exact &= history.restore(f, scratch) && WorldStateHasher.hash(scratch) == hashes[(int) f];
+            }
+            check("tail bytes and re-captured frames restore bit-exact", exact);
+            check("full window kept after truncation", history.getOldestAvailableFrame() == 130 - 60);
+        }
+    }
+
+    /** Default ring: sized for the deltas, not for a keyframe per frame. */
+    private static void defaultRing() {
+        long size = 256 * 1024;
+        int frames = 60;
+        try (Arena arena = Arena.ofConfined()) {
+            MemorySegment world = arena.allocate(size, 64);
+            MemorySegment scratch = arena.allocate(size, 64);
+            VolcanTimeControlUnit history = new VolcanTimeControlUnit(arena, size, frames);
+            long fullCopies = VolcanTimeControlUnit.historyBytes(size, frames, VolcanTimeControlUnit.DEFAULT_KEYFRAME_INTERVAL, 100);
+            long[] hashes = new long[2 * frames];
+            long seed = 11;
+            for (int f = 0; f < hashes.length; f++) {
+                seed = mutate(world, f, seed, 16);
+                hashes[f] = WorldStateHasher.hash(world);
+                history.capture(world);
+            }
+            boolean exact = true;
+            for (long f = history.getOldestAvailableFrame(); f < hashes.length; f++) {
+                exact &= history.restore(f, scratch) && WorldStateHasher.hash(scratch) == hashes[(int) f];
+            }
+            System.out.printf("[TEST] Default ring: %d KB for %d frames of %d KB (full copies %d KB)%n",
+                    history.getReservedBytes() >> 10, frames, size >> 10, fullCopies >> 10);
+            check("default ring < 1/2 of full copies", history.getReservedBytes() * 2 < fullCopies);
+            check("default ring keeps the whole window of sparse frames",
+                    history.getOldestAvailableFrame() == hashes.length - frames);
+            check("default ring frames restore bit-exact", exact);
+
+            // Every frame rewritten: the ring wraps sooner, memory stays the same, kept frames stay exact
+            long reserved = history.getReservedBytes();
+            for (int f = 0; f < frames; f++) {
+                world.fill((byte) f);
+                history.capture(world);
+            }
+            long newest = history.getFrameCount() - 1;
+            check("full rewrites shorten the window, not the memory", history.getReservedBytes() == reserved
+                    && history.getOldestAvailableFrame() > newest - frames + 1
+                    && history.restore(newest, scratch) && scratch.get(ValueLayout.JAVA_BYTE, size - 1) == (byte) (frames - 1));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+// Reading Order: 10110010
+//  178
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.SystemRegistry;
+import sv.volcan.kernel.VolcanTraceRecorder;
+import sv.volcan.state.WorldStateFrame;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * RESPONSIBILITY: Validates the kernel trace recorder and its Chrome trace-event JSON export.
+ * WHY: A spike capture is only useful if every DAG node, kernel phase and bus drain shows up on the
+ * right thread track, and if the ring keeps the newest events when it wraps.
+ * TECHNIQUE: Runs a small DAG for a number of frames, records phase events from the test thread,
+ * wraps the ring once, dumps synchronously and asynchronously, and inspects the JSON text.
+ * GUARANTEES: Every node appears once per frame; wrapped rings export the newest RING_EVENTS - 1 events.
+ * Requires -Dvolcan.kernel.trace.enabled=true.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = true,
+    notes = "Validates per-thread trace rings and Chrome trace JSON dump"
+)
+public class TraceRecorderTest {
+
+    private static final int FRAMES = 32;
+
+    private static final class NamedSystem implements GameSystem {
+        private final String name;
+        private final String[] deps;
+
+        NamedSystem(String name, String... deps) {
+            this.name = name;
+            this.deps = deps;
+        }
+
+        @Override public void update(WorldStateFrame state, float deltaTime) { }
+        @Override public String getName() { return name; }
+        @Override public String[] getDependencies() { return deps; }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: KERNEL TRACE RECORDER");
+        System.out.println("=======================================================");
+
+        if (!VolcanTraceRecorder.ENABLED) {
+            System.err.println("[FAILED] Run with -Dvolcan.kernel.trace.enabled=true");
+            System.exit(1);
+        }
+
+        try {
+            SystemRegistry registry = new SystemRegistry();
+            registry.registerGameSystem(new NamedSystem("TraceInput"));
+            registry.registerGameSystem(new NamedSystem("TracePhysics", "TraceInput"));
+            registry.registerGameSystem(new NamedSystem("TraceAudio"));
+            registry.buildDependencyGraph();
+            registry.enableDAGMode();
+
+            VolcanTraceRecorder.Ring ring = VolcanTraceRecorder.currentThreadRing();
+            for (int i = 0; i < FRAMES; i++) {
+                long t0 = System.nanoTime();
+                registry.executeGameSystems(null, 1f / 60f);
+                long t1 = System.nanoTime();
+                ring.record(VolcanTraceRecorder.EV_SYSTEMS_EXECUTION, t0, t1);
+                ring.record(VolcanTraceRecorder.EV_BUS_DRAIN, t1, t1 + 100, i);
+            }
+            registry.getTaskDispatcher().shutdown();
+
+            Path dir = Files.createTempDirectory("volcan-trace");
+            Path file = dir.resolve("trace.json");
+            int events = VolcanTraceRecorder.dumpChromeTrace(file);
+            String json = Files.readString(file);
+
+            int physics = count(json, "\"name\":\"TracePhysics\"");
+            int input = count(json, "\"name\":\"TraceInput\"");
+            int phases = count(json, "\"name\":\"phaseSystemsExecution\"");
+            int drains = count(json, "\"name\":\"busDrain\"");
+            boolean hasThreadTrack = json.contains("\"ph\":\"M\"") && json.contains("\"name\":\"main\"");
+            System.out.println("[TEST] Events dumped: " + events + " | TracePhysics=" + physics
+                    + " TraceInput=" + input + " phases=" + phases + " drains=" + drains);
+
+            boolean ok = physics == FRAMES && input == FRAMES && phases == FRAMES && drains == FRAMES
+                    && hasThreadTrack && json.startsWith("{") && json.trim().endsWith("]}");
+
+            // Wrap the ring: only the newest RING_EVENTS survive, oldest overwritten.
+            // The exporter conservatively drops the slot a concurrent writer may be filling.
+            long before = ring.getRecordedCount();
+            for (int i = 0; i < VolcanTraceRecorder.RING_EVENTS + 10; i++) {
+                ring.record(VolcanTraceRecorder.EV_FRAME, i, i + 1);
+            }
+            int frameEvents = count(dumpToString(dir.resolve("wrapped.json")), "\"name\":\"frame\"");
+            System.out.println("[TEST] Wrapped ring: recorded " + (ring.getRecordedCount() - before)
+                    + " frame events, exported " + frameEvents + " (Expected: >= " + (VolcanTraceRecorder.RING_EVENTS - 1) + ")");
+            ok &= frameEvents >= VolcanTraceRecorder.RING_EVENTS - 1 && frameEvents <= VolcanTraceRecorder.RING_EVENTS;
+
+            // Async on-demand dump (the path used by SYS_TRACE_DUMP and spike detection)
+            boolean started = VolcanTraceRecorder.requestDump();
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (VolcanTraceRecorder.isDumpInFlight() && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            Path asyncDump = VolcanTraceRecorder.getLastDump();
+            boolean asyncOk = started && asyncDump != null && Files.size(asyncDump) > 0;
+            System.out.println("[TEST] Async dump: " + asyncDump);
+            if (asyncDump != null) Files.deleteIfExists(asyncDump);
+            ok &= asyncOk;
+
+            // Exited workers released their rings; the dumps above exported and dropped them
+            long ringDeadline = System.nanoTime() + 5_000_000_000L;
+            while (VolcanTraceRecorder.getRingCount() > 1 && System.nanoTime() < ringDeadline) {
+                VolcanTraceRecorder.dumpChromeTrace(dir.resolve("drain.json"));
+                Thread.sleep(5);
+            }
+            Thread shortLived = new Thread(() -> VolcanTraceRecorder.currentThreadRing().record(VolcanTraceRecorder.EV_FRAME, 0, 1));
+            shortLived.start();
+            shortLived.join();
+            int beforePrune = VolcanTraceRecorder.getRingCount();
+            // Registering retires rings of dead owners; this thread then releases its own ring
+            Thread.startVirtualThread(() -> VolcanTraceRecorder.release(VolcanTraceRecorder.currentThreadRing())).join();
+            VolcanTraceRecorder.dumpChromeTrace(dir.resolve("pruned.json"));
+            int rings = VolcanTraceRecorder.getRingCount();
+            System.out.println("[TEST] Rings after worker shutdown + dump: " + rings + " (Expected: 1, main)"
+                    + " | before pruning a dead thread: " + beforePrune);
+            ok &= rings == 1 && beforePrune == 2;
+
+            if (ok) {
+                System.out.println("\n[PASSED] TRACE RINGS EXPORT EVERY NODE, PHASE AND DRAIN");
+                System.exit(0);
+            } else {
+                System.err.println("\n[FAILED] TRACE EXPORT IS INCOMPLETE");
+                System.exit(1);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static String dumpToString(Path file) throws Exception {
+        VolcanTraceRecorder.dumpChromeTrace(file);
+        return Files.readString(file);
+    }
+
+    private static int count(String haystack, String needle) {
+        int n = 0;
+        for (int i = haystack.indexOf(needle); i >= 0; i = haystack.indexOf(needle, i + needle.length())) n++;
+        return n;
+    }
+}
@@ -0,0 +1,120 @@
+// Reading Order: 10110100
+//  180
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.SystemDependencyGraph;
+import sv.volcan.kernel.TimeKeeper;
+import sv.volcan.kernel.VolcanTaskDispatcher;
+import sv.volcan.kernel.VolcanTaskGraph;
+import sv.volcan.kernel.WorkerIdlePolicy;
+import sv.volcan.state.WorldStateFrame;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * RESPONSIBILITY: Validates the spin -> yield -> park worker idle policy of the DAG dispatcher.
+ * WHY: Wake coalescing skips unparks while a worker spins. A lost wake-up would not deadlock (the
+ * main thread helps), but it would serialize the frame, so every node must still run every frame.
+ * TECHNIQUE: A wide DAG (fan-out / fan-in) runs back to back under each policy, then idles past
+ * the park threshold: all workers must end up parked, releasing their cores.
+ * GUARANTEES: Exact node counts for PARK_IMMEDIATELY and spinning policies; no spinning worker
+ * after the idle window.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = false,
+    notes = "Validates hybrid worker idle policy and wake coalescing"
+)
+public class WorkerIdlePolicyTest {
+
+    private static final int FRAMES = 2_000;
+    private static final int WIDTH = 16;
+
+    private static final class CountingSystem implements GameSystem {
+        private final String name;
+        private final String[] deps;
+        private final AtomicInteger runs;
+
+        CountingSystem(String name, AtomicInteger runs, String... deps) {
+            this.name = name;
+            this.runs = runs;
+            this.deps = deps;
+        }
+
+        @Override public void update(WorldStateFrame state, float deltaTime) { runs.incrementAndGet(); }
+        @Override public String getName() { return name; }
+        @Override public String[] getDependencies() { return deps; }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: WORKER IDLE POLICY (SPIN/YIELD/PARK)");
+        System.out.println("=======================================================");
+
+        boolean ok = WorkerIdlePolicy.forMode(TimeKeeper.EngineMode.DEBUG_LOCK) == WorkerIdlePolicy.PARK_IMMEDIATELY
+                && WorkerIdlePolicy.forMode(TimeKeeper.EngineMode.UNBOUNDED_RAW).getSpinNs() > 0;
+
+        ok &= runScenario("PARK_IMMEDIATELY", WorkerIdlePolicy.PARK_IMMEDIATELY);
+        ok &= runScenario("SPIN 50us/YIELD 200us", new WorkerIdlePolicy(50_000, 200_000));
+
+        if (ok) {
+            System.out.println("\n[PASSED] EVERY NODE RAN EVERY FRAME; IDLE WORKERS PARKED");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] WORKER IDLE POLICY LOST WORK OR KEPT SPINNING");
+            System.exit(1);
+        }
+    }
+
+    private static boolean runScenario(String label, WorkerIdlePolicy policy) {
+        AtomicInteger runs = new AtomicInteger();
+        SystemDependencyGraph dependencies = new SystemDependencyGraph();
+        dependencies.addSystem(new CountingSystem("Source", runs));
+        String[] fanIn = new String[WIDTH];
+        for (int i = 0; i < WIDTH; i++) {
+            fanIn[i] = "Wide" + i;
+            dependencies.addSystem(new CountingSystem(fanIn[i], runs, "Source"), "Source");
+        }
+        dependencies.addSystem(new CountingSystem("Sink", runs, fanIn), fanIn);
+        dependencies.validate();
+
+        VolcanTaskGraph graph = new VolcanTaskGraph();
+        graph.compile(dependencies);
+        VolcanTaskDispatcher dispatcher = new VolcanTaskDispatcher(graph, policy);
+
+        long start = System.nanoTime();
+        for (int f = 0; f < FRAMES; f++) {
+            dispatcher.execute(null, 1f / 60f);
+        }
+        long elapsedNs = System.nanoTime() - start;
+        int expected = FRAMES * (WIDTH + 2);
+
+        // Idle well past the park threshold, then every worker must be parked (WAITING)
+        LockSupport.parkNanos(policy.getParkAfterNs() + 50_000_000L);
+        int spinning = 0;
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.getName().startsWith("VolcanDAG-Worker-") && t.isAlive()
+                    && t.getState() == Thread.State.RUNNABLE) {
+                spinning++;
+            }
+        }
+        dispatcher.shutdown();
+
+        System.out.println("[TEST] " + label + ": runs=" + runs.get() + " (Expected: " + expected + ") | "
+                + (elapsedNs / FRAMES) + " ns/frame | runnable workers after idle: " + spinning);
+        return runs.get() == expected && spinning == 0;
+    }
+}
@@ -0,0 +1,172 @@
+// Reading Order: 11001100
+//  204
+// SPDX-FileCopyrightText: 2026 Marvin Alexander Flores Canales
+// SPDX-License-Identifier: LGPL-3.0-or-later
+package sv.volcan.test;
+
+import sv.volcan.config.VolcanEngineConfig;
+import sv.volcan.core.AAACertified;
+
+import sv.volcan.core.systems.GameSystem;
+import sv.volcan.kernel.DagWorkerPool;
+import sv.volcan.kernel.SystemDependencyGraph;
+import sv.volcan.kernel.VolcanTaskDispatcher;
+import sv.volcan.kernel.VolcanTaskGraph;
+import sv.volcan.kernel.WorkerIdlePolicy;
+import sv.volcan.kernel.WorkerScaler;
+import sv.volcan.state.WorldStateFrame;
+
+import static sv.volcan.test.TestChecks.check;
+
+/**
+ * RESPONSIBILITY: Validates adaptive DAG worker sizing.
+ * WHY: Parking workers a chain-shaped graph cannot use frees cores, but only if the pool grows
+ * back at once when the graph widens and no frame ever loses a node.
+ * TECHNIQUE: The scaler is fed synthetic windows (chain, saturated, partial) to check the
+ * grow-fast / shrink-slow rule. Then a real 4-worker pool runs a 3-system chain until the scaler
+ * parks the surplus, and is forced back to full size; every system must run every frame.
+ * Run with -Dvolcan.kernel.worker.adaptive=true (off by default).
+ * GUARANTEES: Shrink after SHRINK_WINDOWS windows, grow in one; dormant workers leave the wake
+ * rotation and come back on demand.
+ *
+ * @author Marvin Alexander Flores Canales
+ * @since 4.5.0
+ */
+@AAACertified(
+    date = "2026-10-19",
+    maxLatencyNs = 0,
+    minThroughput = 0,
+    alignment = 0,
+    lockFree = false,
+    offHeap = false,
+    notes = "Validates parallelism-driven worker pool sizing"
+)
+public class WorkerScalingTest {
+
+    private static final int WINDOW = 10;
+
+    private static final class ChainSystem implements GameSystem {
+        private final String name;
+        private final String[] deps;
+        volatile int runs;
+
+        ChainSystem(String name, String... deps) {
+            this.name = name;
+            this.deps = deps;
+        }
+
+        @Override
+        public void update(WorldStateFrame state, float deltaTime) {
+            long end = System.nanoTime() + 100_000L;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            runs++;
+        }
+
+        @Override public String getName() { return name; }
+        @Override public String[] getDependencies() { return deps; }
+    }
+
+    public static void main(String[] args) {
+        System.out.println("=======================================================");
+        System.out.println("  AAA+ CERTIFICATION: ADAPTIVE WORKER POOL SIZING");
+        System.out.println("=======================================================");
+
+        try {
+            scalerRules();
+            poolParksSurplusWorkers();
+        } catch (Exception e) {
+            e.printStackTrace();
+            TestChecks.fail();
+        }
+
+        if (TestChecks.passed()) {
+            System.out.println("\n[PASSED] WORKER COUNT FOLLOWS MEASURED PARALLELISM");
+            System.exit(0);
+        } else {
+            System.err.println("\n[FAILED] ADAPTIVE SIZING INCORRECT");
+            System.exit(1);
+        }
+    }
+
+    /** Feeds one window with the given achieved parallelism. */
+    private static int window(WorkerScaler scaler, double parallelism) {
+        int active = scaler.getActiveWorkers();
+        for (int f = 0; f < WINDOW; f++) {
+            active = scaler.onFrame((long) (parallelism * 1_000_000L), 1_000_000L);
+        }
+        return active;
+    }
+
+    private static void scalerRules() {
+        WorkerScaler chain = new WorkerScaler(7, 1, WINDOW);
+        int afterOne = window(chain, 1.0);
+        int afterTwo = window(chain, 1.0);
+        System.out.println("[TEST] Chain: " + afterOne + " -> " + afterTwo + " workers (parallelism "
+                + chain.getLastParallelism() + ")");
+        check("one low window does not shrink", afterOne == 7);
+        check("sustained chain shrinks to one worker", afterTwo == 1);
+
+        // 1 worker + kernel saturated at ~2 threads: doubles each window until demand is met
+        int step1 = window(chain, 1.9);
+        int step2 = window(chain, 2.9);
+        int step3 = window(chain, 4.2);
+        System.out.println("[TEST] Widening graph: " + step1 + " -> " + step2 + " -> " + step3);
+        check("saturation grows in a single window", step1 == 2 && step2 == 4);
+        check("unsaturated target = ceil(p * headroom) - 1", step3 == 5);
+        check("never above the pool size", window(chain, 8.0) == 7 && window(chain, 8.0) == 7);
+
+        WorkerScaler floor = new WorkerScaler(7, 3, WINDOW);
+        window(floor, 0.2);
+        check("minimum respected", window(floor, 0.2) == 3);
+    }
+
+    private static void poolParksSurplusWorkers() throws Exception {
+        if (!VolcanEngineConfig.KERNEL_WORKER_ADAPTIVE) { // Node timings feed the scaler only then
+            throw new IllegalStateException("run with -Dvolcan.kernel.worker.adaptive=true");
+        }
+        DagWorkerPool pool = new DagWorkerPool(4, new WorkerIdlePolicy(20_000L, 50_000L), "Scaling-Worker-");
+        pool.setScaler(new WorkerScaler(4, 1, WINDOW));
+
+        ChainSystem a = new ChainSystem("A");
+        ChainSystem b = new ChainSystem("B", "A");
+        ChainSystem c = new ChainSystem("C", "B");
+        SystemDependencyGraph graph = new SystemDependencyGraph();
+        graph.addSystem(a, a.getDependencies());
+        graph.addSystem(b, b.getDependencies());
+        graph.addSystem(c, c.getDependencies());
+        graph.validate();
+        VolcanTaskGraph taskGraph = new VolcanTaskGraph();
+        taskGraph.compile(graph);
+        VolcanTaskDispatcher dispatcher = new VolcanTaskDispatcher(taskGraph, pool);
+
+        int frames = 4 * WINDOW;
+        for (int f = 0; f < frames; f++) {
+            dispatcher.execute(null, 1f / 60f);
+        }
+        int dormant = awaitDormant(pool, 3);
+        System.out.println("[TEST] Chain of 3: active " + pool.getActiveWorkers() + ", dormant " + dormant
+                + ", parallelism " + String.format("%.2f", pool.getScaler().getLastParallelism()));
+        check("chain keeps one worker", pool.getActiveWorkers() == 1);
+        check("surplus workers in deep sleep", dormant == 3);
+
+        pool.setScaler(null); // Fixed size: everyone back
+        for (int f = 0; f < WINDOW; f++) {
+            dispatcher.execute(null, 1f / 60f);
+        }
+        check("workers reactivated", pool.getActiveWorkers() == 4 && awaitDormant(pool, 0) == 0);
+        check("no node lost while resizing", a.runs == frames + WINDOW && b.runs == frames + WINDOW
+                && c.runs == frames + WINDOW);
+        dispatcher.shutdown();
+        pool.shutdown();
+    }
+
+    private static int awaitDormant(DagWorkerPool pool, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (pool.getDormantCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        return pool.getDormantCount();
+    }
+}
@@ -113,6 +113,81 @@ if %ERRORLEVEL% NEQ 0 goto :test_failed
 call :run_test "21/21" "Scene Graph Hierarchy" "sv.volcan.test.SceneGraphHierarchyTest" ""
 if %ERRORLEVEL% NEQ 0 goto :test_failed
 
+call :run_test "22/22" "Multi-Rate System Scheduling" "sv.volcan.test.SystemScheduleTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "23/23" "Hot System Add/Remove" "sv.volcan.test.SystemHotSwapTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "24/24" "Per-System Profiling" "sv.volcan.test.SystemProfilerTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "25/25" "Kernel Trace Recorder" "sv.volcan.test.TraceRecorderTest" "-Dvolcan.kernel.trace.enabled=true -Dvolcan.kernel.trace.dir=bin/traces"
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "26/26" "Worker Idle Policy" "sv.volcan.test.WorkerIdlePolicyTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "27/27" "Headless Batch Simulation" "sv.volcan.test.BatchSimulationTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "28/28" "Multi-World Host" "sv.volcan.test.MultiWorldHostTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "29/29" "CPU Topology Placement" "sv.volcan.test.CpuPlacementTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "30/30" "Frame Budget Watchdog" "sv.volcan.test.FrameBudgetTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "31/31" "Fixed Timestep Interpolation" "sv.volcan.test.FixedTimestepTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "32/32" "Fork-Join Layer Executor" "sv.volcan.test.ForkJoinExecutorTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "33/33" "Async Lane for Blocking Systems" "sv.volcan.test.AsyncSystemLaneTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "34/34" "Deterministic Parallel Mode" "sv.volcan.test.DeterministicParallelTest" "-Dvolcan.kernel.access.tracking=true"
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "35/35" "Adaptive Worker Pool Sizing" "sv.volcan.test.WorkerScalingTest" "-Dvolcan.kernel.worker.adaptive=true"
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "36/36" "Frame Loop Allocation Audit" "sv.volcan.test.AllocationAuditTest" "-Dvolcan.kernel.alloc.audit=true"
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "37/37" "Delta Rollback History" "sv.volcan.test.TimeControlHistoryTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "38/38" "Rollback Resimulation" "sv.volcan.test.RollbackResimulationTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "39/39" "Dirty-Region Tracking" "sv.volcan.test.DirtyTrackingTest" "-Dvolcan.memory.dirty.tracking=true"
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "40/40" "State Hash" "sv.volcan.test.StateHashTest" "-Dvolcan.memory.dirty.tracking=true -Dvolcan.kernel.state.hash.interval=1"
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "41/41" "World Checkpoints" "sv.volcan.test.CheckpointTest" "-Dvolcan.memory.dirty.tracking=true -Dvolcan.kernel.state.hash.interval=1"
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "42/42" "Sector Allocator" "sv.volcan.test.SectorAllocatorTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "43/43" "Huge Page Arena" "sv.volcan.test.HugePageArenaTest" "-Dvolcan.memory.huge.pages=true"
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "44/44" "Concurrent Sector Map" "sv.volcan.test.ConcurrentSectorMapTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "45/45" "Primitive Sector Maps" "sv.volcan.test.SectorPrimitiveMapTest" ""
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
+call :run_test "46/46" "Double-Buffered State" "sv.volcan.test.DoubleBufferedStateTest" "-Dvolcan.kernel.state.double.buffer=true"
+if %ERRORLEVEL% NEQ 0 goto :test_failed
+
 echo.
 echo ==============================================
 echo  ALL AAA+ TESTS PASSED SUCCESSFULLY!